@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BulkRequestParser#parse} on an NDJSON bulk body of log like documents, mostly {@code index} actions with some
+ * {@code create} and partial {@code update} actions, the way a log shipper sends them. The score is bulk requests per second, run with
+ * {@code -prof gc} and divide {@code gc.alloc.rate.norm} by {@code bulkSize} to get the bytes allocated per document.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class BulkRequestParserBenchmark {
+
+    private static final String[] HOSTS = { "web-01", "web-02", "web-03", "api-01", "api-02" };
+    private static final String[] PATHS = { "/", "/search", "/cart", "/checkout", "/api/v1/items", "/api/v1/users" };
+    private static final int[] STATUSES = { 200, 200, 200, 200, 201, 301, 404, 500 };
+
+    @Param({ "100", "1000" })
+    int bulkSize;
+
+    /**
+     * Whether the action/metadata lines are read by the reused metadata parser or by an xcontent parser per line.
+     */
+    @Param({ "true", "false" })
+    boolean reuseMetadataParser;
+
+    private BulkRequestParser parser;
+    private BytesReference data;
+
+    @Setup
+    public void setUp() throws IOException {
+        parser = new BulkRequestParser(reuseMetadataParser);
+        Random random = new Random(42);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < bulkSize; i++) {
+            final String id = String.format(Locale.ROOT, "%020d", i);
+            final int action = random.nextInt(10);
+            if (action < 8) {
+                line(out, "{\"index\":{\"_index\":\"logs\",\"_id\":\"" + id + "\"}}");
+                line(out, document(random));
+            } else if (action < 9) {
+                line(out, "{\"create\":{\"_index\":\"logs\",\"_id\":\"" + id + "\"}}");
+                line(out, document(random));
+            } else {
+                line(out, "{\"update\":{\"_index\":\"logs\",\"_id\":\"" + id + "\",\"retry_on_conflict\":3}}");
+                line(out, "{\"doc\":{\"status\":" + STATUSES[random.nextInt(STATUSES.length)] + "}}");
+            }
+        }
+        data = new BytesArray(out.toByteArray());
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws IOException {
+        parser.parse(
+            data,
+            null,
+            null,
+            null,
+            null,
+            null,
+            true,
+            XContentType.JSON,
+            blackhole::consume,
+            blackhole::consume,
+            blackhole::consume
+        );
+    }
+
+    private static void line(ByteArrayOutputStream out, String line) throws IOException {
+        out.write(line.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+    }
+
+    private static String document(Random random) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        builder.field("@timestamp", 1_700_000_000_000L + random.nextInt(86_400_000));
+        builder.field("host", HOSTS[random.nextInt(HOSTS.length)]);
+        builder.startObject("http");
+        builder.field("method", random.nextInt(5) == 0 ? "POST" : "GET");
+        builder.field("path", PATHS[random.nextInt(PATHS.length)]);
+        builder.field("status", STATUSES[random.nextInt(STATUSES.length)]);
+        builder.field("bytes", random.nextInt(100_000));
+        builder.endObject();
+        builder.field("client_ip", "10.0." + random.nextInt(256) + "." + random.nextInt(256));
+        builder.field("user_agent", "Mozilla/5.0 (X11; Linux x86_64) Gecko/20100101 Firefox/" + (100 + random.nextInt(30)) + ".0");
+        builder.array("tags", "production", random.nextBoolean() ? "eu-west" : "us-east");
+        builder.field("message", "request handled in " + random.nextInt(2_000) + "ms");
+        return BytesReference.bytes(builder.endObject()).utf8ToString();
+    }
+}
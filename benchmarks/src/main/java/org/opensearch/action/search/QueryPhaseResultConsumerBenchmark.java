@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.query.QuerySearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Measures how the coordinating node consumes and reduces the query phase results of many shards through
+ * {@link QueryPhaseResultConsumer}, including the partial reduces triggered by {@code batched_reduce_size}.
+ * <p>
+ * Run with {@code -prof gc} to also report the allocation rate, e.g.
+ * {@code gradlew -p benchmarks run --args ' QueryPhaseResultConsumerBenchmark -prof gc'}.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class QueryPhaseResultConsumerBenchmark {
+    private final SearchModule searchModule = new SearchModule(Settings.EMPTY, emptyList());
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(searchModule.getNamedWriteables());
+    private final SearchPhaseController controller = new SearchPhaseController(
+        namedWriteableRegistry,
+        req -> SyntheticShardResults.reduceContextBuilder()
+    );
+
+    @Param({ "5", "64", "512" })
+    private int batchedReduceSize;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newFixedThreadPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public SearchPhaseController.ReducedQueryPhase reduceAggs(SyntheticShardResults shardResults) throws Exception {
+        return consumeAndReduce(shardResults.aggsRequest(batchedReduceSize), shardResults.numShards, shardResults::aggsResult);
+    }
+
+    @Benchmark
+    public SearchPhaseController.ReducedQueryPhase reduceSortedTopHits(SyntheticShardResults shardResults) throws Exception {
+        return consumeAndReduce(shardResults.topHitsRequest(batchedReduceSize), shardResults.numShards, shardResults::topHitsResult);
+    }
+
+    private SearchPhaseController.ReducedQueryPhase consumeAndReduce(
+        SearchRequest request,
+        int numShards,
+        IntFunction<QuerySearchResult> shardResult
+    ) throws Exception {
+        QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+            request,
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            controller,
+            SearchProgressListener.NOOP,
+            namedWriteableRegistry,
+            numShards,
+            exc -> {}
+        );
+        CountDownLatch latch = new CountDownLatch(numShards);
+        for (int i = 0; i < numShards; i++) {
+            consumer.consumeResult(shardResult.apply(i), latch::countDown);
+        }
+        latch.await();
+        return consumer.reduce();
+    }
+}
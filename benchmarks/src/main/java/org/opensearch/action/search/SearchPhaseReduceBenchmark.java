@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TopDocs;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.query.QuerySearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Measures the final reduce of the coordinating node in one go, without any partial reduce: the top level reduce of the
+ * aggregations, the merge of top docs sorted on a field, and both of them through
+ * {@link SearchPhaseController#reducedQueryPhase}.
+ * <p>
+ * Run with {@code -prof gc} to also report the allocation rate, e.g.
+ * {@code gradlew -p benchmarks run --args ' SearchPhaseReduceBenchmark -prof gc'}.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class SearchPhaseReduceBenchmark {
+    private final SearchModule searchModule = new SearchModule(Settings.EMPTY, emptyList());
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(searchModule.getNamedWriteables());
+    private final InternalAggregation.ReduceContextBuilder reduceContextBuilder = SyntheticShardResults.reduceContextBuilder();
+    private final SearchPhaseController controller = new SearchPhaseController(namedWriteableRegistry, req -> reduceContextBuilder);
+
+    @Benchmark
+    public InternalAggregations topLevelReduce(SyntheticShardResults shardResults) {
+        return InternalAggregations.topLevelReduce(shardResults.aggs, reduceContextBuilder.forFinalReduction());
+    }
+
+    @Benchmark
+    public TopDocs mergeSortedTopDocs(SyntheticShardResults shardResults) {
+        return SearchPhaseController.mergeTopDocs(new ArrayList<>(shardResults.topDocs), shardResults.topHitsSize, 0);
+    }
+
+    @Benchmark
+    public SearchPhaseController.ReducedQueryPhase reducedQueryPhase(SyntheticShardResults shardResults) {
+        List<QuerySearchResult> results = new ArrayList<>(shardResults.numShards);
+        List<InternalAggregations> aggs = new ArrayList<>(shardResults.numShards);
+        List<TopDocs> topDocs = new ArrayList<>(shardResults.numShards);
+        SearchPhaseController.TopDocsStats topDocsStats = new SearchPhaseController.TopDocsStats(
+            SearchContext.DEFAULT_TRACK_TOTAL_HITS_UP_TO
+        );
+        for (int i = 0; i < shardResults.numShards; i++) {
+            QuerySearchResult result = shardResults.topHitsResult(i);
+            result.aggregations(shardResults.aggs.get(i));
+            aggs.add(result.consumeAggs().expand());
+            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            topDocs.add(result.consumeTopDocs().topDocs);
+            results.add(result);
+        }
+        return controller.reducedQueryPhase(results, aggs, topDocs, topDocsStats, 0, false, reduceContextBuilder, true);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.sort.SortOrder;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthesizes the query phase results of many shards as the coordinating node receives them: a
+ * {@code date_histogram > terms > percentiles} aggregation tree and top hits sorted on a long field.
+ * <p>
+ * Percentiles are picked from a pool of pre-built digests rather than built per bucket, otherwise a few thousand shards would
+ * need gigabytes of heap before the benchmark even starts. Reducing digests never modifies them so sharing them is safe.
+ */
+@State(Scope.Benchmark)
+public class SyntheticShardResults {
+
+    static final String SORT_FIELD = "timestamp";
+
+    private static final int HISTOGRAM_BUCKETS = 24;
+    private static final int TERMS_SIZE = 10;
+    private static final int TERMS_CARDINALITY = 50;
+    private static final int PERCENTILES_POOL_SIZE = 64;
+    private static final double[] PERCENTS = new double[] { 1, 5, 25, 50, 75, 95, 99 };
+    private static final long START_MILLIS = 1_600_000_000_000L;
+
+    @Param({ "1600172297" })
+    long seed;
+
+    @Param({ "1000", "4000" })
+    int numShards;
+
+    @Param({ "100" })
+    int topHitsSize;
+
+    List<InternalAggregations> aggs;
+    List<TopFieldDocs> topDocs;
+
+    private final Index index = new Index("index", "index");
+
+    @Setup
+    public void setup() {
+        Random random = new Random(seed);
+        BytesRef[] dict = new BytesRef[TERMS_CARDINALITY];
+        for (int i = 0; i < dict.length; i++) {
+            dict[i] = new BytesRef("host-" + i);
+        }
+        InternalTDigestPercentiles[] percentiles = new InternalTDigestPercentiles[PERCENTILES_POOL_SIZE];
+        for (int i = 0; i < percentiles.length; i++) {
+            TDigestState state = new TDigestState(100);
+            for (int j = 0; j < 200; j++) {
+                state.add(Math.abs(random.nextGaussian() * 100));
+            }
+            percentiles[i] = new InternalTDigestPercentiles("percentiles", PERCENTS, state, false, DocValueFormat.RAW, null);
+        }
+        aggs = new ArrayList<>(numShards);
+        topDocs = new ArrayList<>(numShards);
+        for (int shard = 0; shard < numShards; shard++) {
+            aggs.add(InternalAggregations.from(Collections.singletonList(newDateHistogram(random, dict, percentiles))));
+            TopFieldDocs shardTopDocs = newTopDocs(random);
+            SearchPhaseController.setShardIndex(shardTopDocs, shard);
+            topDocs.add(shardTopDocs);
+        }
+    }
+
+    private InternalDateHistogram newDateHistogram(Random random, BytesRef[] dict, InternalTDigestPercentiles[] percentiles) {
+        List<InternalDateHistogram.Bucket> buckets = new ArrayList<>(HISTOGRAM_BUCKETS);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            long key = START_MILLIS + TimeUnit.HOURS.toMillis(i);
+            InternalAggregations subAggs = InternalAggregations.from(Collections.singletonList(newTerms(random, dict, percentiles)));
+            buckets.add(new InternalDateHistogram.Bucket(key, random.nextInt(10000), false, DocValueFormat.RAW, subAggs));
+        }
+        return new InternalDateHistogram("histogram", buckets, BucketOrder.key(true), 1, 0, null, DocValueFormat.RAW, false, null);
+    }
+
+    private StringTerms newTerms(Random random, BytesRef[] dict, InternalTDigestPercentiles[] percentiles) {
+        int[] ords = random.ints(0, dict.length).distinct().limit(TERMS_SIZE).sorted().toArray();
+        List<StringTerms.Bucket> buckets = new ArrayList<>(ords.length);
+        for (int ord : ords) {
+            InternalAggregations subAggs = InternalAggregations.from(
+                Collections.singletonList(percentiles[random.nextInt(percentiles.length)])
+            );
+            buckets.add(new StringTerms.Bucket(dict[ord], random.nextInt(1000), subAggs, false, 0L, DocValueFormat.RAW));
+        }
+        return new StringTerms(
+            "terms",
+            BucketOrder.key(true),
+            BucketOrder.count(false),
+            null,
+            DocValueFormat.RAW,
+            TERMS_SIZE,
+            false,
+            0,
+            buckets,
+            0,
+            new TermsAggregator.BucketCountThresholds(1, 0, TERMS_SIZE, TERMS_SIZE)
+        );
+    }
+
+    private TopFieldDocs newTopDocs(Random random) {
+        long[] values = random.longs(topHitsSize, START_MILLIS, START_MILLIS + TimeUnit.DAYS.toMillis(1)).sorted().toArray();
+        FieldDoc[] docs = new FieldDoc[topHitsSize];
+        for (int i = 0; i < topHitsSize; i++) {
+            // sorted descending on the sort field
+            docs[i] = new FieldDoc(random.nextInt(1_000_000), Float.NaN, new Object[] { values[topHitsSize - 1 - i] });
+        }
+        SortField[] sortFields = new SortField[] { new SortField(SORT_FIELD, SortField.Type.LONG, true) };
+        return new TopFieldDocs(new TotalHits(10_000, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), docs, sortFields);
+    }
+
+    /**
+     * A request with a {@code date_histogram > terms > percentiles} aggregation and no hits.
+     */
+    SearchRequest aggsRequest(int batchedReduceSize) {
+        SearchRequest request = new SearchRequest();
+        request.source(
+            new SearchSourceBuilder().size(0)
+                .aggregation(
+                    AggregationBuilders.dateHistogram("histogram")
+                        .field(SORT_FIELD)
+                        .calendarInterval(DateHistogramInterval.HOUR)
+                        .subAggregation(
+                            AggregationBuilders.terms("terms").field("host").subAggregation(AggregationBuilders.percentiles("percentiles"))
+                        )
+                )
+        );
+        request.setBatchedReduceSize(batchedReduceSize);
+        return request;
+    }
+
+    /**
+     * A request for top hits sorted on a long field and no aggregations.
+     */
+    SearchRequest topHitsRequest(int batchedReduceSize) {
+        SearchRequest request = new SearchRequest();
+        request.source(new SearchSourceBuilder().size(topHitsSize).sort(SORT_FIELD, SortOrder.DESC));
+        request.setBatchedReduceSize(batchedReduceSize);
+        return request;
+    }
+
+    /**
+     * A fresh result for the given shard as the coordinating node consumes results, with aggregations but no hits.
+     */
+    QuerySearchResult aggsResult(int shard) {
+        QuerySearchResult result = newResult(shard, 0);
+        TopDocs noHits = new TopDocs(new TotalHits(10_000, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO), new ScoreDoc[0]);
+        result.topDocs(new TopDocsAndMaxScore(noHits, Float.NaN), new DocValueFormat[] { DocValueFormat.RAW });
+        result.aggregations(aggs.get(shard));
+        return result;
+    }
+
+    /**
+     * A fresh result for the given shard as the coordinating node consumes results, with sorted hits but no aggregations.
+     */
+    QuerySearchResult topHitsResult(int shard) {
+        QuerySearchResult result = newResult(shard, topHitsSize);
+        result.topDocs(new TopDocsAndMaxScore(topDocs.get(shard), Float.NaN), new DocValueFormat[] { DocValueFormat.RAW });
+        return result;
+    }
+
+    private QuerySearchResult newResult(int shard, int size) {
+        QuerySearchResult result = new QuerySearchResult();
+        result.setShardIndex(shard);
+        result.from(0);
+        result.size(size);
+        result.setSearchShardTarget(new SearchShardTarget("node", new ShardId(index, shard), null, OriginalIndices.NONE));
+        return result;
+    }
+
+    static InternalAggregation.ReduceContextBuilder reduceContextBuilder() {
+        return new InternalAggregation.ReduceContextBuilder() {
+            @Override
+            public InternalAggregation.ReduceContext forPartialReduction() {
+                return InternalAggregation.ReduceContext.forPartialReduction(null, null, () -> PipelineAggregator.PipelineTree.EMPTY);
+            }
+
+            @Override
+            public InternalAggregation.ReduceContext forFinalReduction() {
+                final MultiBucketConsumerService.MultiBucketConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+                    Integer.MAX_VALUE,
+                    new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                );
+                return InternalAggregation.ReduceContext.forFinalReduction(
+                    null,
+                    null,
+                    bucketConsumer,
+                    PipelineAggregator.PipelineTree.EMPTY
+                );
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DocumentMapper#parse} for documents that only contain mapped fields, which is the path served by the compiled
+ * parse plan. The mapping is made of {@code fields / 10} objects holding ten keyword and long fields each, similar to a log
+ * mapping, and the documents address the fields either with dotted names or with nested JSON objects. {@code fields} covers small
+ * and wide mappings, and {@code groupType} maps the groups as {@code nested} to add the cost of the extra Lucene document per group.
+ * Dotted names cannot address fields of nested objects, so nested groups are always sent as JSON objects. Run with {@code -prof gc}
+ * to report {@code gc.alloc.rate.norm}, the bytes allocated per parsed document.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class DocumentParserBenchmark {
+
+    private static final int FIELDS_PER_GROUP = 10;
+    private static final int NUM_DOCS = 128;
+
+    @Param({ "10", "50", "400" })
+    int fields;
+
+    @Param({ "dotted", "objects" })
+    String sourceFormat;
+
+    @Param({ "object", "nested" })
+    String groupType;
+
+    private IndexAnalyzers indexAnalyzers;
+    private DocumentMapper documentMapper;
+    private SourceToParse[] documents;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(MapperService.INDEX_MAPPING_TOTAL_FIELDS_LIMIT_SETTING.getKey(), 10_000)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark").settings(settings).build(), Settings.EMPTY);
+        NamedAnalyzer defaultAnalyzer = new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer());
+        indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", defaultAnalyzer),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        documentMapper = mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(BytesReference.bytes(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+
+        Random random = new Random(42);
+        documents = new SourceToParse[NUM_DOCS];
+        for (int i = 0; i < NUM_DOCS; i++) {
+            documents[i] = new SourceToParse(
+                "benchmark",
+                Integer.toString(i),
+                BytesReference.bytes(document(random)),
+                XContentType.JSON
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        indexAnalyzers.close();
+    }
+
+    @Benchmark
+    public Object parse() {
+        final SourceToParse source = documents[next];
+        next = (next + 1) % NUM_DOCS;
+        return documentMapper.parse(source);
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject(MapperService.SINGLE_MAPPING_NAME);
+        builder.startObject("properties");
+        for (int group = 0; group < fields / FIELDS_PER_GROUP; group++) {
+            builder.startObject("group" + group);
+            if (groupType.equals("nested")) {
+                builder.field("type", "nested");
+            }
+            builder.startObject("properties");
+            for (int field = 0; field < FIELDS_PER_GROUP; field++) {
+                builder.startObject("field" + field).field("type", field % 2 == 0 ? "keyword" : "long").endObject();
+            }
+            builder.endObject().endObject();
+        }
+        return builder.endObject().endObject().endObject();
+    }
+
+    private XContentBuilder document(Random random) throws IOException {
+        final boolean objects = sourceFormat.equals("objects") || groupType.equals("nested");
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (int group = 0; group < fields / FIELDS_PER_GROUP; group++) {
+            if (objects) {
+                builder.startObject("group" + group);
+            }
+            for (int field = 0; field < FIELDS_PER_GROUP; field++) {
+                final String name = objects ? "field" + field : "group" + group + ".field" + field;
+                if (field % 2 == 0) {
+                    builder.field(name, "value-" + random.nextInt(1000));
+                } else {
+                    builder.field(name, random.nextLong());
+                }
+            }
+            if (objects) {
+                builder.endObject();
+            }
+        }
+        return builder.endObject();
+    }
+}
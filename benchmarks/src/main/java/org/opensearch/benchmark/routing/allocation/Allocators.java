@@ -32,6 +32,7 @@
 package org.opensearch.benchmark.routing.allocation;
 
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterManagerMetrics;
 import org.opensearch.cluster.ClusterModule;
 import org.opensearch.cluster.EmptyClusterInfoService;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -49,6 +50,7 @@ import org.opensearch.common.util.set.Sets;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.gateway.GatewayAllocator;
 import org.opensearch.snapshots.EmptySnapshotsInfoService;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -89,13 +91,18 @@ public final class Allocators {
     }
 
     public static AllocationService createAllocationService(Settings settings, ClusterSettings clusterSettings) {
-        return new AllocationService(
+        AllocationService allocationService = new AllocationService(
             defaultAllocationDeciders(settings, clusterSettings),
-            NoopGatewayAllocator.INSTANCE,
             new BalancedShardsAllocator(settings),
             EmptyClusterInfoService.INSTANCE,
-            EmptySnapshotsInfoService.INSTANCE
+            EmptySnapshotsInfoService.INSTANCE,
+            settings,
+            new ClusterManagerMetrics(NoopMetricsRegistry.INSTANCE)
         );
+        allocationService.setExistingShardsAllocators(
+            Collections.singletonMap(GatewayAllocator.ALLOCATOR_NAME, NoopGatewayAllocator.INSTANCE)
+        );
+        return allocationService;
     }
 
     public static AllocationDeciders defaultAllocationDeciders(Settings settings, ClusterSettings clusterSettings) {
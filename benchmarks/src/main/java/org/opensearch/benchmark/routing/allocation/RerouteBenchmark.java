@@ -14,9 +14,11 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.FailedShard;
 import org.opensearch.common.logging.LogConfigurator;
 import org.opensearch.common.settings.Settings;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -34,6 +36,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
@@ -55,8 +58,17 @@ public class RerouteBenchmark {
     public int numShards = 10;
     public int numReplicas = 1;
 
+    /**
+     * Whether reroutes derive their routing nodes from the previous ones, see {@link AllocationService#INCREMENTAL_ROUTING_NODES_SETTING}.
+     */
+    @Param({ "false", "true" })
+    public boolean incrementalRoutingNodes;
+
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private AllocationService startedClusterAllocationService;
+    private ClusterState startedClusterState;
+    private Random random;
 
     @Setup
     public void setUp() throws Exception {
@@ -87,6 +99,22 @@ public class RerouteBenchmark {
             .routingTable(routingTable)
             .nodes(setUpClusterNodes(numNodes))
             .build();
+
+        // allocate all shards, unthrottled and without rebalancing so that the cluster stays balanced as shards fail and recover
+        startedClusterAllocationService = Allocators.createAllocationService(
+            Settings.builder()
+                .put("cluster.routing.allocation.awareness.attributes", "zone")
+                .put("cluster.routing.allocation.node_concurrent_recoveries", totalShardCount)
+                .put("cluster.routing.allocation.node_initial_primaries_recoveries", totalShardCount)
+                .put("cluster.routing.rebalance.enable", "none")
+                .put(AllocationService.INCREMENTAL_ROUTING_NODES_SETTING.getKey(), incrementalRoutingNodes)
+                .build()
+        );
+        startedClusterState = startedClusterAllocationService.reroute(initialClusterState, "reroute");
+        while (startedClusterState.routingTable().shardsWithState(INITIALIZING).isEmpty() == false) {
+            startedClusterState = startInitializingShardsAndReroute(startedClusterAllocationService, startedClusterState);
+        }
+        random = new Random(42);
     }
 
     @Benchmark
@@ -98,6 +126,7 @@ public class RerouteBenchmark {
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
                 .put("cluster.routing.allocation.load_awareness.skew_factor", "50")
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
+                .put(AllocationService.INCREMENTAL_ROUTING_NODES_SETTING.getKey(), incrementalRoutingNodes)
                 .build()
         );
         clusterState = allocationService.reroute(clusterState, "reroute");
@@ -107,6 +136,29 @@ public class RerouteBenchmark {
         return clusterState;
     }
 
+    /**
+     * Fails a started replica of the fully allocated cluster and starts its new copy, which is two reroutes of the whole cluster that
+     * change a single shard each, like the shard failed and shard started batches of a cluster in steady state.
+     */
+    @Benchmark
+    public ClusterState measureFailedReplicaRecovery() throws Exception {
+        final IndexShardRoutingTable shardRoutingTable = startedClusterState.routingTable()
+            .shardRoutingTable("test_" + (1 + random.nextInt(numIndices)), random.nextInt(numShards));
+        final ShardRouting replica = shardRoutingTable.replicaShards().get(0);
+        if (replica.started()) {
+            startedClusterState = startedClusterAllocationService.applyFailedShards(
+                startedClusterState,
+                List.of(new FailedShard(replica, "benchmark", null, false)),
+                List.of()
+            );
+        }
+        startedClusterState = startedClusterAllocationService.applyStartedShards(
+            startedClusterState,
+            startedClusterState.routingTable().shardRoutingTable(shardRoutingTable.shardId()).getAllInitializingShards()
+        );
+        return startedClusterState;
+    }
+
     private int toInt(String v) {
         return Integer.valueOf(v.trim());
     }
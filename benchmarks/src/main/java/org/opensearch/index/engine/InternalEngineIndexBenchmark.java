@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TieredMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.Version;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.env.ShardLock;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.ParseContext;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.mapper.VersionFieldMapper;
+import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.node.Node;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures {@link InternalEngine#index} on the primary against an in-memory Lucene directory, either appending documents with auto
+ * generated ids, which skips the version lookup, or updating documents picked at random among {@code numIds} ids, which goes through
+ * the live version map and deletes the previous copy. The translog lives in a temporary directory and is not fsynced per operation,
+ * like with an async durability. Every {@code refreshInterval} operations the benchmark refreshes, advances the global checkpoint and
+ * flushes when the translog is over its flush threshold, like a shard does after its writes. Run with {@code -prof gc} to report
+ * {@code gc.alloc.rate.norm}, the bytes allocated per indexed document.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class InternalEngineIndexBenchmark {
+
+    private static final long PRIMARY_TERM = 1L;
+    private static final String[] HOSTS = { "web-01", "web-02", "web-03", "api-01", "api-02" };
+
+    @Param({ "append_only", "update" })
+    String workload;
+
+    /**
+     * Number of distinct ids the update workload writes to.
+     */
+    @Param({ "100000" })
+    int numIds;
+
+    @Param({ "10000" })
+    int refreshInterval;
+
+    private Path tempDir;
+    private ThreadPool threadPool;
+    private Store store;
+    private InternalEngine engine;
+    private final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+    private final SplittableRandom random = new SplittableRandom(42);
+    private String[] ids;
+    private BytesReference[] sources;
+    private long operations;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("engine-benchmark");
+        final Path translogPath = Files.createDirectories(tempDir.resolve("translog"));
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("benchmark").settings(settings).build(), Settings.EMPTY);
+        ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+
+        threadPool = new ThreadPool(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "benchmark").build());
+        store = new Store(shardId, indexSettings, new ByteBuffersDirectory(), new ShardLock(shardId) {
+            @Override
+            protected void closeInternal() {}
+        });
+        store.createEmpty(indexSettings.getIndexVersionCreated().luceneVersion);
+        final String translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, PRIMARY_TERM);
+        store.associateIndexWithNewTranslog(translogUUID);
+
+        EngineConfig config = new EngineConfig.Builder().shardId(shardId)
+            .threadPool(threadPool)
+            .indexSettings(indexSettings)
+            .store(store)
+            .mergePolicy(new TieredMergePolicy())
+            .analyzer(new StandardAnalyzer())
+            .similarity(new BM25Similarity())
+            .codecService(new CodecService(null, indexSettings, LogManager.getLogger(InternalEngineIndexBenchmark.class)))
+            .queryCache(IndexSearcher.getDefaultQueryCache())
+            .queryCachingPolicy(IndexSearcher.getDefaultQueryCachingPolicy())
+            .translogConfig(new TranslogConfig(shardId, translogPath, indexSettings, BigArrays.NON_RECYCLING_INSTANCE, "", false))
+            .flushMergesAfter(TimeValue.timeValueMinutes(5))
+            .externalRefreshListener(Collections.emptyList())
+            .internalRefreshListener(Collections.emptyList())
+            .circuitBreakerService(new NoneCircuitBreakerService())
+            .globalCheckpointSupplier(globalCheckpoint::get)
+            .retentionLeasesSupplier(() -> RetentionLeases.EMPTY)
+            .primaryTermSupplier(() -> PRIMARY_TERM)
+            .tombstoneDocSupplier(tombstoneDocSupplier())
+            .build();
+        engine = new InternalEngine(config);
+        engine.translogManager().skipTranslogRecovery();
+
+        ids = new String[numIds];
+        for (int i = 0; i < numIds; i++) {
+            ids[i] = String.format(Locale.ROOT, "%020d", i);
+        }
+        sources = new BytesReference[128];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new BytesArray(
+                String.format(
+                    Locale.ROOT,
+                    "{\"host\":\"%s\",\"bytes\":%d,\"message\":\"request handled in %dms\"}",
+                    HOSTS[i % HOSTS.length],
+                    random.nextInt(100_000),
+                    random.nextInt(2_000)
+                )
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            IOUtils.close(engine, store);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+            IOUtils.rm(tempDir);
+        }
+    }
+
+    @Benchmark
+    public Object index() throws IOException {
+        final boolean appendOnly = workload.equals("append_only");
+        final String id = appendOnly ? UUIDs.base64UUID() : ids[random.nextInt(ids.length)];
+        final int sourceIndex = random.nextInt(sources.length);
+        final ParsedDocument doc = document(id, sourceIndex);
+        final Engine.IndexResult result = engine.index(
+            new Engine.Index(
+                new Term(IdFieldMapper.NAME, Uid.encodeId(id)),
+                doc,
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                PRIMARY_TERM,
+                Versions.MATCH_ANY,
+                VersionType.INTERNAL,
+                Engine.Operation.Origin.PRIMARY,
+                System.nanoTime(),
+                appendOnly ? System.currentTimeMillis() : IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+                false,
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                0
+            )
+        );
+        if (++operations % refreshInterval == 0) {
+            engine.refresh("benchmark");
+            engine.translogManager().syncTranslog();
+            globalCheckpoint.set(engine.getPersistedLocalCheckpoint());
+            if (engine.shouldPeriodicallyFlush()) {
+                engine.flush(false, true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the document the way {@link org.opensearch.index.mapper.DocumentMapper#parse} would for a mapping with a keyword, a
+     * long and a text field, without the cost of parsing the source.
+     */
+    private ParsedDocument document(String id, int sourceIndex) {
+        final BytesReference source = sources[sourceIndex];
+        final String host = HOSTS[sourceIndex % HOSTS.length];
+        final long bytes = sourceIndex * 797L;
+        final ParseContext.Document document = new ParseContext.Document();
+        document.add(new Field(IdFieldMapper.NAME, Uid.encodeId(id), IdFieldMapper.Defaults.FIELD_TYPE));
+        final NumericDocValuesField version = new NumericDocValuesField(VersionFieldMapper.NAME, 0);
+        document.add(version);
+        final SeqNoFieldMapper.SequenceIDFields seqID = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
+        document.add(seqID.seqNo);
+        document.add(seqID.seqNoDocValue);
+        document.add(seqID.primaryTerm);
+        document.add(new StringField("host", host, Field.Store.NO));
+        document.add(new SortedSetDocValuesField("host", new BytesRef(host)));
+        document.add(new LongPoint("bytes", bytes));
+        document.add(new NumericDocValuesField("bytes", bytes));
+        document.add(new TextField("message", source.utf8ToString(), Field.Store.NO));
+        final BytesRef ref = source.toBytesRef();
+        document.add(new StoredField(SourceFieldMapper.NAME, ref.bytes, ref.offset, ref.length));
+        return new ParsedDocument(version, seqID, id, null, List.of(document), source, MediaTypeRegistry.JSON, null);
+    }
+
+    private static EngineConfig.TombstoneDocSupplier tombstoneDocSupplier() {
+        return new EngineConfig.TombstoneDocSupplier() {
+            @Override
+            public ParsedDocument newDeleteTombstoneDoc(String id) {
+                final ParseContext.Document document = new ParseContext.Document();
+                document.add(new Field(IdFieldMapper.NAME, Uid.encodeId(id), IdFieldMapper.Defaults.FIELD_TYPE));
+                return tombstone(id, document, new BytesArray("{}"));
+            }
+
+            @Override
+            public ParsedDocument newNoopTombstoneDoc(String reason) {
+                final ParseContext.Document document = new ParseContext.Document();
+                final byte[] bytes = reason.getBytes(StandardCharsets.UTF_8);
+                document.add(new StoredField(SourceFieldMapper.NAME, bytes, 0, bytes.length));
+                return tombstone(null, document, null);
+            }
+
+            private ParsedDocument tombstone(String id, ParseContext.Document document, BytesReference source) {
+                final NumericDocValuesField version = new NumericDocValuesField(VersionFieldMapper.NAME, 0);
+                document.add(version);
+                final SeqNoFieldMapper.SequenceIDFields seqID = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
+                document.add(seqID.seqNo);
+                document.add(seqID.seqNoDocValue);
+                document.add(seqID.primaryTerm);
+                seqID.tombstoneField.setLongValue(1);
+                document.add(seqID.tombstoneField);
+                return new ParsedDocument(version, seqID, id, null, List.of(document), source, MediaTypeRegistry.JSON, null);
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares the default live version map, keyed locks and concurrent hash maps, with the striped one under an update-heavy workload
+ * where many indexing threads lock uids, look up their current version and put a new one, with periodic refreshes rotating the
+ * maps. Run with {@code -t} to change the number of threads and {@code -prof gc} to compare allocation rates.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(32)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean striped;
+
+    @Param({ "1000", "1000000" })
+    public int numIds;
+
+    /**
+     * Number of operations between two refreshes across all threads.
+     */
+    @Param({ "100000" })
+    public int refreshInterval;
+
+    private LiveVersionMap versionMap;
+    private BytesRef[] uids;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        versionMap = new LiveVersionMap(striped);
+        versionMap.enforceSafeAccess();
+        uids = new BytesRef[numIds];
+        for (int i = 0; i < numIds; i++) {
+            uids[i] = new BytesRef(String.format(Locale.ROOT, "%020d", i));
+        }
+    }
+
+    /**
+     * Per thread state.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public Object update(ThreadState state) {
+        final BytesRef uid = uids[state.random.nextInt(uids.length)];
+        final long seqNo = this.seqNo.incrementAndGet();
+        final VersionValue previous;
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            previous = versionMap.getUnderLock(uid);
+            final long version = previous == null ? 1 : previous.version + 1;
+            if (seqNo % 10 == 0) {
+                versionMap.putDeleteUnderLock(uid, new DeleteVersionValue(version, seqNo, 1, seqNo));
+            } else {
+                versionMap.putIndexUnderLock(uid, new IndexVersionValue(null, version, seqNo, 1));
+            }
+        }
+        maybeRefresh(seqNo);
+        return previous;
+    }
+
+    @Benchmark
+    public Object lookup(ThreadState state) {
+        final BytesRef uid = uids[state.random.nextInt(uids.length)];
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            return versionMap.getUnderLock(uid);
+        }
+    }
+
+    private void maybeRefresh(long seqNo) {
+        if (seqNo % refreshInterval == 0) {
+            try {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(true);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            versionMap.pruneTombstones(Long.MAX_VALUE, seqNo - refreshInterval);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.io.stream.BufferedChecksumStreamOutput;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TranslogWriter#add} and {@link TranslogWriter#sync} the way {@link Translog#add} drives them: each operation is
+ * serialized with its size and checksum and appended to the current generation, and the writer is synced every {@code opsPerSync}
+ * operations, from a sync per request with the default request durability to a sync per large bulk. {@code compressed} switches
+ * to the ZSTD block format. The writer rolls to a new generation every {@code 64mb} to bound the disk usage, so point the temporary
+ * directory to the disk under test. Run with {@code -prof gc} to report {@code gc.alloc.rate.norm}, the bytes allocated per
+ * operation.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class TranslogWriterBenchmark {
+
+    private static final long PRIMARY_TERM = 1L;
+    private static final long ROLL_SIZE_IN_BYTES = 64L * 1024 * 1024;
+
+    @Param({ "1", "100", "10000" })
+    int opsPerSync;
+
+    @Param({ "false", "true" })
+    boolean compressed;
+
+    private final ShardId shardId = new ShardId(new Index("benchmark", "_na_"), 0);
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Path translogPath;
+    private String translogUUID;
+    private TranslogWriter writer;
+    private byte[][] sources;
+    private long seqNo;
+
+    @Setup
+    public void setUp() throws IOException {
+        translogPath = Files.createTempDirectory("translog-benchmark");
+        translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, PRIMARY_TERM);
+        writer = newWriter(2);
+        sources = new byte[128][];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = String.format(
+                Locale.ROOT,
+                "{\"@timestamp\":%d,\"host\":\"web-%02d\",\"http\":{\"method\":\"GET\",\"path\":\"/api/v1/items/%d\",\"status\":200,"
+                    + "\"bytes\":%d},\"message\":\"request handled in %dms\"}",
+                1_700_000_000_000L + random.nextInt(86_400_000),
+                random.nextInt(10),
+                random.nextInt(100_000),
+                random.nextInt(100_000),
+                random.nextInt(2_000)
+            ).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            IOUtils.close(writer);
+        } finally {
+            IOUtils.rm(translogPath);
+        }
+    }
+
+    @Benchmark
+    public Object add() throws IOException {
+        final long seqNo = this.seqNo++;
+        final Translog.Index operation = new Translog.Index(
+            UUIDs.base64UUID(),
+            seqNo,
+            PRIMARY_TERM,
+            sources[random.nextInt(sources.length)]
+        );
+        final Translog.Location location;
+        try (ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(BigArrays.NON_RECYCLING_INSTANCE)) {
+            out.skip(Integer.BYTES);
+            Translog.writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+            final long end = out.position();
+            out.seek(0);
+            out.writeInt((int) (end - Integer.BYTES));
+            out.seek(end);
+            location = writer.add(out.bytes(), seqNo);
+        }
+        if ((seqNo + 1) % opsPerSync == 0) {
+            writer.sync();
+            if (writer.sizeInBytes() >= ROLL_SIZE_IN_BYTES) {
+                roll();
+            }
+        }
+        return location;
+    }
+
+    private void roll() throws IOException {
+        final long generation = writer.getGeneration();
+        IOUtils.close(writer.closeIntoReader());
+        Files.delete(translogPath.resolve(Translog.getFilename(generation)));
+        writer = newWriter(generation + 1);
+    }
+
+    private TranslogWriter newWriter(long generation) throws IOException {
+        return TranslogWriter.create(
+            shardId,
+            translogUUID,
+            generation,
+            translogPath.resolve(Translog.getFilename(generation)),
+            FileChannel::open,
+            TranslogConfig.DEFAULT_BUFFER_SIZE,
+            generation,
+            SequenceNumbers.NO_OPS_PERFORMED,
+            () -> SequenceNumbers.NO_OPS_PERFORMED,
+            () -> generation,
+            PRIMARY_TERM,
+            new TragicExceptionHolder(),
+            seqNo -> {},
+            BigArrays.NON_RECYCLING_INSTANCE,
+            false,
+            TranslogOperationHelper.DEFAULT,
+            compressed
+        );
+    }
+}
@@ -32,6 +32,8 @@
 
 package org.opensearch.core.xcontent;
 
+import org.opensearch.core.common.bytes.BytesReference;
+
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
@@ -122,6 +124,15 @@ public interface XContentGenerator extends Closeable, Flushable {
      */
     void writeRawField(String name, InputStream value, MediaType mediaType) throws IOException;
 
+    /**
+     * Writes a raw field with the value taken from the given bytes
+     */
+    default void writeRawField(String name, BytesReference value, MediaType mediaType) throws IOException {
+        try (InputStream stream = value.streamInput()) {
+            writeRawField(name, stream, mediaType);
+        }
+    }
+
     /**
      * Writes a raw value taken from the bytes in the stream
      */
@@ -30,6 +30,7 @@ import org.opensearch.plugins.CachePlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.PluginInfo;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.metrics.Sum;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.hamcrest.OpenSearchAssertions;
 import org.opensearch.transport.client.Client;
@@ -50,6 +51,7 @@ import java.util.stream.Stream;
 import static org.opensearch.common.cache.settings.CacheSettings.INVALID_SEGMENT_COUNT_EXCEPTION_MESSAGE;
 import static org.opensearch.indices.IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING;
 import static org.opensearch.search.aggregations.AggregationBuilders.dateHistogram;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
@@ -681,6 +683,85 @@ public class TieredSpilloverCacheIT extends TieredSpilloverCacheBaseIT {
         );
     }
 
+    public void testPerSegmentAggregationsAcrossRefresh() throws Exception {
+        int onHeapCacheSizeInBytes = 1000; // Keep it low so that some of the per-segment partials spill onto disk.
+        internalCluster().startNode(Settings.builder().put(defaultSettings(onHeapCacheSizeInBytes + "b", 1)).build());
+        Client client = client();
+        assertAcked(
+            client.admin()
+                .indices()
+                .prepareCreate("index")
+                .setMapping("n", "type=long")
+                .setSettings(
+                    Settings.builder()
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING.getKey(), true)
+                        .put(IndicesRequestCache.INDEX_CACHE_REQUEST_PER_SEGMENT_AGGREGATIONS_SETTING.getKey(), true)
+                        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                        .put("index.refresh_interval", -1)
+                )
+                .get()
+        );
+        // A zero threshold still makes the disk tier policy read the took time of every value that spills onto disk.
+        ClusterUpdateSettingsRequest updateSettingsRequest = new ClusterUpdateSettingsRequest().transientSettings(
+            Settings.builder()
+                .put(
+                    TieredSpilloverCacheSettings.TOOK_TIME_DISK_TIER_POLICY_CONCRETE_SETTINGS_MAP.get(CacheType.INDICES_REQUEST_CACHE)
+                        .getKey(),
+                    new TimeValue(0, TimeUnit.MILLISECONDS)
+                )
+                .build()
+        );
+        assertAcked(internalCluster().client().admin().cluster().updateSettings(updateSettingsRequest).get());
+
+        long expectedSum = 0;
+        int expectedHits = 0;
+        for (int segment = 0; segment < 2; segment++) {
+            int numberOfDocs = randomIntBetween(1, 10);
+            for (int i = 0; i < numberOfDocs; i++) {
+                long value = randomIntBetween(0, 1000);
+                client.prepareIndex("index").setSource("n", value).get();
+                expectedSum += value;
+            }
+            expectedHits += numberOfDocs;
+            refresh("index");
+        }
+        assertPerSegmentSum(client, expectedHits, expectedSum);
+        RequestCacheStats requestCacheStats = getRequestCacheStats(client, "index");
+        assertEquals(0, requestCacheStats.getHitCount());
+        long lastMissCount = requestCacheStats.getMissCount();
+        assertThat(lastMissCount, greaterThan(0L));
+
+        // Repeating the request is served from the cache
+        assertPerSegmentSum(client, expectedHits, expectedSum);
+        requestCacheStats = getRequestCacheStats(client, "index");
+        long lastHitCount = requestCacheStats.getHitCount();
+        assertEquals(lastMissCount, lastHitCount);
+        assertEquals(lastMissCount, requestCacheStats.getMissCount());
+
+        // After a refresh only the new segment is aggregated, the partials of the unchanged segments come from the cache
+        int numberOfDocs = randomIntBetween(1, 10);
+        for (int i = 0; i < numberOfDocs; i++) {
+            long value = randomIntBetween(0, 1000);
+            client.prepareIndex("index").setSource("n", value).get();
+            expectedSum += value;
+        }
+        expectedHits += numberOfDocs;
+        refresh("index");
+        assertPerSegmentSum(client, expectedHits, expectedSum);
+        requestCacheStats = getRequestCacheStats(client, "index");
+        assertThat(requestCacheStats.getHitCount(), greaterThan(lastHitCount));
+        assertThat(requestCacheStats.getMissCount(), greaterThan(lastMissCount));
+    }
+
+    private void assertPerSegmentSum(Client client, long expectedHits, long expectedSum) {
+        SearchResponse resp = client.prepareSearch("index").setRequestCache(true).setSize(0).addAggregation(sum("sum").field("n")).get();
+        assertSearchResponse(resp);
+        OpenSearchAssertions.assertHitCount(resp, expectedHits);
+        Sum sum = resp.getAggregations().get("sum");
+        assertEquals(expectedSum, sum.getValue(), 0d);
+    }
+
     private RequestCacheStats getRequestCacheStats(Client client, String indexName) {
         return client.admin().indices().prepareStats(indexName).setRequestCache(true).get().getTotal().getRequestCache();
     }
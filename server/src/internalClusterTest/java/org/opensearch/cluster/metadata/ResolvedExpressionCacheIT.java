@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.action.admin.cluster.node.stats.NodeStats;
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsRequest;
+import org.opensearch.action.admin.cluster.node.stats.NodesStatsResponse;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 1)
+public class ResolvedExpressionCacheIT extends OpenSearchIntegTestCase {
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal))
+            .put(IndexNameExpressionResolver.RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING.getKey(), 100)
+            .build();
+    }
+
+    public void testResolvedExpressionCacheStatsInNodeStats() {
+        createIndex("logs-1", "logs-2");
+        client().prepareIndex("logs-1").setId("1").setSource("field", "value").get();
+        client().prepareIndex("logs-2").setId("1").setSource("field", "value").get();
+        refresh("logs-*");
+        ensureGreen("logs-*");
+
+        final String nodeName = internalCluster().getNodeNames()[0];
+        final ResolvedExpressionCacheStats before = resolvedExpressionCacheStats(nodeName);
+
+        assertHitCount(client(nodeName).prepareSearch("logs-*").get(), 2);
+        final ResolvedExpressionCacheStats afterFirstSearch = resolvedExpressionCacheStats(nodeName);
+        assertThat(afterFirstSearch.getMisses(), greaterThan(before.getMisses()));
+
+        assertHitCount(client(nodeName).prepareSearch("logs-*").get(), 2);
+        final ResolvedExpressionCacheStats afterSecondSearch = resolvedExpressionCacheStats(nodeName);
+        assertThat(afterSecondSearch.getHits(), greaterThan(afterFirstSearch.getHits()));
+
+        // the section is only reported when asked for
+        final NodesStatsResponse withoutMetric = client().admin().cluster().prepareNodesStats(nodeName).clear().get();
+        assertThat(withoutMetric.getNodes().size(), equalTo(1));
+        assertNull(withoutMetric.getNodes().get(0).getResolvedExpressionCacheStats());
+    }
+
+    private static ResolvedExpressionCacheStats resolvedExpressionCacheStats(String nodeName) {
+        final NodesStatsResponse response = client().admin()
+            .cluster()
+            .prepareNodesStats(nodeName)
+            .clear()
+            .addMetric(NodesStatsRequest.Metric.RESOLVED_EXPRESSIONS_CACHE.metricName())
+            .get();
+        assertThat(response.getNodes().size(), equalTo(1));
+        final NodeStats nodeStats = response.getNodes().get(0);
+        assertNotNull(nodeStats.getResolvedExpressionCacheStats());
+        return nodeStats.getResolvedExpressionCacheStats();
+    }
+}
@@ -286,6 +286,7 @@ import org.opensearch.action.search.GetAllPitsAction;
 import org.opensearch.action.search.GetSearchPipelineAction;
 import org.opensearch.action.search.GetSearchPipelineTransportAction;
 import org.opensearch.action.search.MultiSearchAction;
+import org.opensearch.action.search.PitExportAction;
 import org.opensearch.action.search.PutSearchPipelineAction;
 import org.opensearch.action.search.PutSearchPipelineTransportAction;
 import org.opensearch.action.search.SearchAction;
@@ -297,6 +298,7 @@ import org.opensearch.action.search.TransportCreatePitAction;
 import org.opensearch.action.search.TransportDeletePitAction;
 import org.opensearch.action.search.TransportGetAllPitsAction;
 import org.opensearch.action.search.TransportMultiSearchAction;
+import org.opensearch.action.search.TransportPitExportAction;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.search.TransportSearchScrollAction;
 import org.opensearch.action.support.ActionFilters;
@@ -500,6 +502,7 @@ import org.opensearch.rest.action.search.RestExplainAction;
 import org.opensearch.rest.action.search.RestGetAllPitsAction;
 import org.opensearch.rest.action.search.RestGetSearchPipelineAction;
 import org.opensearch.rest.action.search.RestMultiSearchAction;
+import org.opensearch.rest.action.search.RestPitExportAction;
 import org.opensearch.rest.action.search.RestPutSearchPipelineAction;
 import org.opensearch.rest.action.search.RestSearchAction;
 import org.opensearch.rest.action.search.RestSearchScrollAction;
@@ -770,6 +773,7 @@ public class ActionModule extends AbstractModule {
         actions.register(SearchAction.INSTANCE, TransportSearchAction.class);
         if (FeatureFlags.isEnabled(FeatureFlags.STREAM_TRANSPORT)) {
             actions.register(StreamSearchAction.INSTANCE, StreamTransportSearchAction.class);
+            actions.register(PitExportAction.INSTANCE, TransportPitExportAction.class);
         }
         actions.register(SearchScrollAction.INSTANCE, TransportSearchScrollAction.class);
         actions.register(MultiSearchAction.INSTANCE, TransportMultiSearchAction.class);
@@ -1076,6 +1080,9 @@ public class ActionModule extends AbstractModule {
         registerHandler.accept(new RestDeletePitAction());
         registerHandler.accept(new RestGetAllPitsAction(nodesInCluster));
         registerHandler.accept(new RestPitSegmentsAction(nodesInCluster));
+        if (FeatureFlags.isEnabled(FeatureFlags.STREAM_TRANSPORT)) {
+            registerHandler.accept(new RestPitExportAction());
+        }
         registerHandler.accept(new RestDeleteDecommissionStateAction());
 
         // Search pipelines API
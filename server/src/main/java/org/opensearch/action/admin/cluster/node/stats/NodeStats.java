@@ -34,6 +34,7 @@ package org.opensearch.action.admin.cluster.node.stats;
 
 import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.metadata.ResolvedExpressionCacheStats;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.routing.WeightedRoutingStats;
@@ -51,7 +52,11 @@ import org.opensearch.index.SegmentReplicationRejectionStats;
 import org.opensearch.index.stats.IndexingPressureStats;
 import org.opensearch.index.stats.ShardIndexingPressureStats;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats;
+import org.opensearch.indices.IndexingBufferStats;
 import org.opensearch.indices.NodeIndicesStats;
+import org.opensearch.indices.NodeMergeCoordinatorStats;
+import org.opensearch.indices.RefreshSchedulerStats;
+import org.opensearch.indices.TranslogSyncCoordinatorStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.monitor.jvm.JvmStats;
@@ -192,6 +197,21 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
     @Nullable
     private AnalyticsBackendNativeMemoryStats nativeMemoryStats;
 
+    @Nullable
+    private TranslogSyncCoordinatorStats translogSyncCoordinatorStats;
+
+    @Nullable
+    private NodeMergeCoordinatorStats mergeCoordinatorStats;
+
+    @Nullable
+    private RefreshSchedulerStats refreshSchedulerStats;
+
+    @Nullable
+    private IndexingBufferStats indexingBufferStats;
+
+    @Nullable
+    private ResolvedExpressionCacheStats resolvedExpressionCacheStats;
+
     public NodeStats(StreamInput in) throws IOException {
         super(in);
         timestamp = in.readVLong();
@@ -300,6 +320,19 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         } else {
             totalEstimatedNativeBytes = -1L;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            translogSyncCoordinatorStats = in.readOptionalWriteable(TranslogSyncCoordinatorStats::new);
+            mergeCoordinatorStats = in.readOptionalWriteable(NodeMergeCoordinatorStats::new);
+            refreshSchedulerStats = in.readOptionalWriteable(RefreshSchedulerStats::new);
+            indexingBufferStats = in.readOptionalWriteable(IndexingBufferStats::new);
+            resolvedExpressionCacheStats = in.readOptionalWriteable(ResolvedExpressionCacheStats::new);
+        } else {
+            translogSyncCoordinatorStats = null;
+            mergeCoordinatorStats = null;
+            refreshSchedulerStats = null;
+            indexingBufferStats = null;
+            resolvedExpressionCacheStats = null;
+        }
     }
 
     public NodeStats(
@@ -337,7 +370,12 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         @Nullable RemoteStoreNodeStats remoteStoreNodeStats,
         @Nullable NativeAllocatorPoolStats nativeAllocatorStats,
         @Nullable AnalyticsBackendNativeMemoryStats nativeMemoryStats,
-        long totalEstimatedNativeBytes
+        long totalEstimatedNativeBytes,
+        @Nullable TranslogSyncCoordinatorStats translogSyncCoordinatorStats,
+        @Nullable NodeMergeCoordinatorStats mergeCoordinatorStats,
+        @Nullable RefreshSchedulerStats refreshSchedulerStats,
+        @Nullable IndexingBufferStats indexingBufferStats,
+        @Nullable ResolvedExpressionCacheStats resolvedExpressionCacheStats
     ) {
         super(node);
         this.timestamp = timestamp;
@@ -374,6 +412,11 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         this.nativeAllocatorStats = nativeAllocatorStats;
         this.nativeMemoryStats = nativeMemoryStats;
         this.totalEstimatedNativeBytes = totalEstimatedNativeBytes;
+        this.translogSyncCoordinatorStats = translogSyncCoordinatorStats;
+        this.mergeCoordinatorStats = mergeCoordinatorStats;
+        this.refreshSchedulerStats = refreshSchedulerStats;
+        this.indexingBufferStats = indexingBufferStats;
+        this.resolvedExpressionCacheStats = resolvedExpressionCacheStats;
     }
 
     public long getTimestamp() {
@@ -576,6 +619,31 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         return nativeMemoryStats;
     }
 
+    @Nullable
+    public TranslogSyncCoordinatorStats getTranslogSyncCoordinatorStats() {
+        return translogSyncCoordinatorStats;
+    }
+
+    @Nullable
+    public NodeMergeCoordinatorStats getMergeCoordinatorStats() {
+        return mergeCoordinatorStats;
+    }
+
+    @Nullable
+    public RefreshSchedulerStats getRefreshSchedulerStats() {
+        return refreshSchedulerStats;
+    }
+
+    @Nullable
+    public IndexingBufferStats getIndexingBufferStats() {
+        return indexingBufferStats;
+    }
+
+    @Nullable
+    public ResolvedExpressionCacheStats getResolvedExpressionCacheStats() {
+        return resolvedExpressionCacheStats;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -650,6 +718,13 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_7_0)) {
             out.writeLong(totalEstimatedNativeBytes);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(translogSyncCoordinatorStats);
+            out.writeOptionalWriteable(mergeCoordinatorStats);
+            out.writeOptionalWriteable(refreshSchedulerStats);
+            out.writeOptionalWriteable(indexingBufferStats);
+            out.writeOptionalWriteable(resolvedExpressionCacheStats);
+        }
     }
 
     @Override
@@ -770,6 +845,21 @@ public class NodeStats extends BaseNodeResponse implements ToXContentFragment {
         if (getRemoteStoreNodeStats() != null) {
             getRemoteStoreNodeStats().toXContent(builder, params);
         }
+        if (getTranslogSyncCoordinatorStats() != null) {
+            getTranslogSyncCoordinatorStats().toXContent(builder, params);
+        }
+        if (getMergeCoordinatorStats() != null) {
+            getMergeCoordinatorStats().toXContent(builder, params);
+        }
+        if (getRefreshSchedulerStats() != null) {
+            getRefreshSchedulerStats().toXContent(builder, params);
+        }
+        if (getIndexingBufferStats() != null) {
+            getIndexingBufferStats().toXContent(builder, params);
+        }
+        if (getResolvedExpressionCacheStats() != null) {
+            getResolvedExpressionCacheStats().toXContent(builder, params);
+        }
         // total_estimated_bytes ≈ RssAnon - JVM heap committed - JVM non-heap committed.
         // Always emit so operators see the per-node value even when no plugin contributes
         // an inner stats block. The value is captured on the data node in NodeService.stats()
@@ -227,7 +227,12 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         CACHE_STATS("caches"),
         REMOTE_STORE("remote_store"),
         NATIVE_ALLOCATOR("native_allocator"),
-        NATIVE_MEMORY("native_memory");
+        NATIVE_MEMORY("native_memory"),
+        TRANSLOG_SYNC_COORDINATOR("translog_sync_coordinator"),
+        MERGE_COORDINATOR("merge_coordinator"),
+        REFRESH_SCHEDULER("refresh_scheduler"),
+        INDEXING_BUFFER("indexing_buffer"),
+        RESOLVED_EXPRESSIONS_CACHE("resolved_expressions_cache");
 
         private String metricName;
 
@@ -133,7 +133,12 @@ public class TransportNodesStatsAction extends TransportNodesAction<
             NodesStatsRequest.Metric.CACHE_STATS.containedIn(metrics),
             NodesStatsRequest.Metric.REMOTE_STORE.containedIn(metrics),
             NodesStatsRequest.Metric.NATIVE_ALLOCATOR.containedIn(metrics),
-            NodesStatsRequest.Metric.NATIVE_MEMORY.containedIn(metrics)
+            NodesStatsRequest.Metric.NATIVE_MEMORY.containedIn(metrics),
+            NodesStatsRequest.Metric.TRANSLOG_SYNC_COORDINATOR.containedIn(metrics),
+            NodesStatsRequest.Metric.MERGE_COORDINATOR.containedIn(metrics),
+            NodesStatsRequest.Metric.REFRESH_SCHEDULER.containedIn(metrics),
+            NodesStatsRequest.Metric.INDEXING_BUFFER.containedIn(metrics),
+            NodesStatsRequest.Metric.RESOLVED_EXPRESSIONS_CACHE.containedIn(metrics)
         );
     }
 
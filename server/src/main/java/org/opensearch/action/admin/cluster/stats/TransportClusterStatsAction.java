@@ -202,6 +202,11 @@ public class TransportClusterStatsAction extends TransportNodesAction<
             false,
             false,
             false,
+            false,
+            false,
+            false,
+            false,
+            false,
             false
         );
         List<ShardStats> shardsStats = new ArrayList<>();
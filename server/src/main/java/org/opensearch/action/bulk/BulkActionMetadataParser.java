@@ -0,0 +1,462 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.seqno.SequenceNumbers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses the JSON action/metadata lines of a bulk request without creating an xcontent parser per line. One instance is reused for
+ * all the lines of a bulk request: the values of the last parsed line are kept in fields, and the index, routing, pipeline and op
+ * type strings are interned across the lines so that a bulk writing to a handful of indices only creates a handful of strings.
+ * <p>
+ * Only the common shape of a metadata line is handled: an object holding the action and an object of ASCII string, integer and
+ * boolean parameters. Whenever a line goes beyond that, for instance with escape sequences, {@code _source} filtering, {@code null}
+ * values, unknown or duplicated parameters or malformed JSON, {@link #parse} returns {@code false} and the line must be parsed with
+ * an xcontent parser instead, which also produces the error messages for invalid lines.
+ *
+ * @opensearch.internal
+ */
+final class BulkActionMetadataParser {
+
+    private static final byte[] INDEX = bytes("_index");
+    private static final byte[] ID = bytes("_id");
+    private static final byte[] ROUTING = bytes("routing");
+    private static final byte[] OP_TYPE = bytes("op_type");
+    private static final byte[] VERSION = bytes("version");
+    private static final byte[] VERSION_TYPE = bytes("version_type");
+    private static final byte[] IF_SEQ_NO = bytes("if_seq_no");
+    private static final byte[] IF_PRIMARY_TERM = bytes("if_primary_term");
+    private static final byte[] RETRY_ON_CONFLICT = bytes("retry_on_conflict");
+    private static final byte[] PIPELINE = bytes("pipeline");
+    private static final byte[] REQUIRE_ALIAS = bytes("require_alias");
+    private static final byte[][] PARAMETERS = {
+        INDEX,
+        ID,
+        ROUTING,
+        OP_TYPE,
+        VERSION,
+        VERSION_TYPE,
+        IF_SEQ_NO,
+        IF_PRIMARY_TERM,
+        RETRY_ON_CONFLICT,
+        PIPELINE,
+        REQUIRE_ALIAS };
+
+    private static final String[] ACTIONS = { "create", "delete", "index", "update" };
+    private static final byte[][] ACTION_BYTES = { bytes("create"), bytes("delete"), bytes("index"), bytes("update") };
+
+    // open addressing table of the interned strings, kept at most half full
+    private String[] interned = new String[64];
+    private int internedCount;
+
+    private byte[] scratch = new byte[256];
+    private byte[] buffer;
+    private int position;
+    private int end;
+
+    private String action;
+    private String index;
+    private String id;
+    private String routing;
+    private String opType;
+    private long version;
+    private VersionType versionType;
+    private long ifSeqNo;
+    private long ifPrimaryTerm;
+    private int retryOnConflict;
+    private String pipeline;
+    private Boolean requireAlias;
+    // bit set of the parameters of the line, to leave duplicates to the xcontent parser that rejects them
+    private int seen;
+
+    /**
+     * Parses the metadata line made of the bytes {@code [from, to)} of {@code data}. Returns {@code false} if the line must be
+     * parsed with an xcontent parser, in which case the values of this parser are undefined.
+     */
+    boolean parse(BytesReference data, int from, int to) {
+        if (data instanceof BytesArray) {
+            final BytesArray array = (BytesArray) data;
+            buffer = array.array();
+            position = array.offset() + from;
+            end = array.offset() + to;
+        } else {
+            final int length = to - from;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                scratch[i] = data.get(from + i);
+            }
+            buffer = scratch;
+            position = 0;
+            end = length;
+        }
+        reset();
+        try {
+            return parseLine();
+        } finally {
+            buffer = null;
+        }
+    }
+
+    private void reset() {
+        action = null;
+        index = null;
+        id = null;
+        routing = null;
+        opType = null;
+        version = Versions.MATCH_ANY;
+        versionType = VersionType.INTERNAL;
+        ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
+        ifPrimaryTerm = SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
+        retryOnConflict = 0;
+        pipeline = null;
+        requireAlias = null;
+        seen = 0;
+    }
+
+    private boolean parseLine() {
+        if (consume('{') == false || peek() != '"') {
+            return false;
+        }
+        final int actionStart = position + 1;
+        final int actionLength = skipString();
+        if (actionLength < 0) {
+            return false;
+        }
+        for (int i = 0; i < ACTIONS.length; i++) {
+            if (matches(actionStart, actionLength, ACTION_BYTES[i])) {
+                action = ACTIONS[i];
+                break;
+            }
+        }
+        if (action == null || consume(':') == false || consume('{') == false) {
+            return false;
+        }
+        if (peek() == '}') {
+            // like the xcontent parser, nothing after the parameters of the action is read
+            return true;
+        }
+        while (true) {
+            if (peek() != '"') {
+                return false;
+            }
+            final int nameStart = position + 1;
+            final int nameLength = skipString();
+            if (nameLength < 0 || consume(':') == false || parseParameter(nameStart, nameLength) == false) {
+                return false;
+            }
+            final int next = peek();
+            if (next == '}') {
+                return true;
+            } else if (next != ',') {
+                return false;
+            }
+            position++;
+            skipWhitespace();
+        }
+    }
+
+    private boolean parseParameter(int nameStart, int nameLength) {
+        int parameter = -1;
+        for (int i = 0; i < PARAMETERS.length; i++) {
+            if (matches(nameStart, nameLength, PARAMETERS[i])) {
+                parameter = i;
+                break;
+            }
+        }
+        if (parameter < 0 || (seen & (1 << parameter)) != 0) {
+            return false;
+        }
+        seen |= 1 << parameter;
+        final byte[] name = PARAMETERS[parameter];
+        if (name == REQUIRE_ALIAS) {
+            if (consumeLiteral("true")) {
+                requireAlias = Boolean.TRUE;
+            } else if (consumeLiteral("false")) {
+                requireAlias = Boolean.FALSE;
+            } else {
+                return false;
+            }
+            return true;
+        }
+        if (name == VERSION || name == IF_SEQ_NO || name == IF_PRIMARY_TERM || name == RETRY_ON_CONFLICT) {
+            final int maxDigits = name == RETRY_ON_CONFLICT ? 9 : 18;
+            final boolean negative = peek() == '-';
+            if (negative) {
+                position++;
+            }
+            final int digitsStart = position;
+            long value = 0;
+            while (position < end && buffer[position] >= '0' && buffer[position] <= '9') {
+                value = value * 10 + (buffer[position++] - '0');
+            }
+            final int digits = position - digitsStart;
+            // JSON does not allow leading zeros, so leave numbers like 01 for the regular parser to reject
+            if (digits == 0 || digits > maxDigits || (digits > 1 && buffer[digitsStart] == '0')) {
+                return false;
+            }
+            // anything following the digits, like a fraction or an exponent, fails on the next separator
+            value = negative ? -value : value;
+            if (name == VERSION) {
+                version = value;
+            } else if (name == IF_SEQ_NO) {
+                ifSeqNo = value;
+            } else if (name == IF_PRIMARY_TERM) {
+                ifPrimaryTerm = value;
+            } else {
+                retryOnConflict = (int) value;
+            }
+            return true;
+        }
+        if (peek() != '"') {
+            return false;
+        }
+        final int valueStart = position + 1;
+        final int valueLength = skipString();
+        if (valueLength < 0) {
+            return false;
+        }
+        if (name == ID) {
+            id = new String(buffer, valueStart, valueLength, StandardCharsets.ISO_8859_1);
+        } else if (name == VERSION_TYPE) {
+            versionType = VersionType.fromString(intern(buffer, valueStart, valueLength));
+        } else {
+            final String value = intern(buffer, valueStart, valueLength);
+            if (name == INDEX) {
+                index = value;
+            } else if (name == ROUTING) {
+                routing = value;
+            } else if (name == OP_TYPE) {
+                opType = value;
+            } else {
+                pipeline = value;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skips the string starting at the current position and the whitespace after it, and returns the length of its content or
+     * {@code -1} if it is not a plain ASCII string.
+     */
+    private int skipString() {
+        final int start = ++position;
+        while (position < end) {
+            final byte b = buffer[position];
+            if (b == '"') {
+                final int length = position - start;
+                position++;
+                skipWhitespace();
+                return length;
+            } else if (b == '\\' || b < 0x20) {
+                // escape sequences, control characters and non-ASCII bytes, which are negative
+                return -1;
+            }
+            position++;
+        }
+        return -1;
+    }
+
+    private boolean consume(char c) {
+        skipWhitespace();
+        if (position < end && buffer[position] == c) {
+            position++;
+            skipWhitespace();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeLiteral(String literal) {
+        if (end - position < literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (buffer[position + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        position += literal.length();
+        return true;
+    }
+
+    private int peek() {
+        skipWhitespace();
+        return position < end ? buffer[position] : -1;
+    }
+
+    private void skipWhitespace() {
+        while (position < end) {
+            final byte b = buffer[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    private boolean matches(int start, int length, byte[] expected) {
+        if (length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the interned string made of the ASCII bytes {@code [start, start + length)} of {@code bytes}, creating it on first use.
+     * The hash of the bytes is the same as the {@link #hash(String)} of the string since they are ASCII.
+     */
+    private String intern(byte[] bytes, int start, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[start + i];
+        }
+        final int mask = interned.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            final String candidate = interned[slot];
+            if (candidate == null) {
+                final String value = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+                add(slot, value);
+                return value;
+            }
+            if (candidate.length() == length && sameChars(candidate, bytes, start)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Returns the interned instance of {@code value}, so that the strings read by an xcontent parser for the lines this parser
+     * could not handle are shared with the ones it read itself.
+     */
+    String intern(String value) {
+        final int mask = interned.length - 1;
+        for (int slot = hash(value) & mask;; slot = (slot + 1) & mask) {
+            final String candidate = interned[slot];
+            if (candidate == null) {
+                add(slot, value);
+                return value;
+            }
+            if (candidate.equals(value)) {
+                return candidate;
+            }
+        }
+    }
+
+    private void add(int slot, String value) {
+        interned[slot] = value;
+        if (++internedCount * 2 > interned.length) {
+            final String[] previous = interned;
+            interned = new String[previous.length * 2];
+            final int mask = interned.length - 1;
+            for (String string : previous) {
+                if (string != null) {
+                    int newSlot = hash(string) & mask;
+                    while (interned[newSlot] != null) {
+                        newSlot = (newSlot + 1) & mask;
+                    }
+                    interned[newSlot] = string;
+                }
+            }
+        }
+    }
+
+    private static int hash(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash;
+    }
+
+    private static boolean sameChars(String value, byte[] bytes, int start) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    String action() {
+        return action;
+    }
+
+    /**
+     * The index of the line, {@code null} if the line does not set it.
+     */
+    String index() {
+        return index;
+    }
+
+    String id() {
+        return id;
+    }
+
+    /**
+     * The routing of the line, {@code null} if the line does not set it.
+     */
+    String routing() {
+        return routing;
+    }
+
+    String opType() {
+        return opType;
+    }
+
+    long version() {
+        return version;
+    }
+
+    VersionType versionType() {
+        return versionType;
+    }
+
+    long ifSeqNo() {
+        return ifSeqNo;
+    }
+
+    long ifPrimaryTerm() {
+        return ifPrimaryTerm;
+    }
+
+    int retryOnConflict() {
+        return retryOnConflict;
+    }
+
+    /**
+     * The pipeline of the line, {@code null} if the line does not set it.
+     */
+    String pipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Whether the line requires an alias, {@code null} if the line does not set it.
+     */
+    Boolean requireAlias() {
+        return requireAlias;
+    }
+}
@@ -34,12 +34,14 @@ package org.opensearch.action.bulk;
 
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.Version;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.common.Nullable;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.ReplicatedParsedDocument;
 
 import java.io.IOException;
 
@@ -48,7 +50,12 @@ import java.io.IOException;
  *
  * @opensearch.internal
  */
-public record BulkItemRequest(int id, DocWriteRequest<?> request, BulkItemResponse primaryResponse) implements Writeable, Accountable {
+public record BulkItemRequest(
+    int id,
+    DocWriteRequest<?> request,
+    BulkItemResponse primaryResponse,
+    @Nullable ReplicatedParsedDocument replicatedDocument
+) implements Writeable, Accountable {
 
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(BulkItemRequest.class);
 
@@ -56,7 +63,12 @@ public record BulkItemRequest(int id, DocWriteRequest<?> request, BulkItemRespon
      * @param shardId the shard id
      */
     BulkItemRequest(@Nullable ShardId shardId, StreamInput in) throws IOException {
-        this(in.readVInt(), DocWriteRequest.readDocumentRequest(shardId, in), readPrimaryResponse(shardId, in));
+        this(
+            in.readVInt(),
+            DocWriteRequest.readDocumentRequest(shardId, in),
+            readPrimaryResponse(shardId, in),
+            in.getVersion().onOrAfter(Version.V_3_8_0) ? in.readOptionalWriteable(ReplicatedParsedDocument::new) : null
+        );
     }
 
     private static BulkItemResponse readPrimaryResponse(ShardId shardId, StreamInput in) throws IOException {
@@ -75,6 +87,10 @@ public record BulkItemRequest(int id, DocWriteRequest<?> request, BulkItemRespon
         this(id, request, null);
     }
 
+    public BulkItemRequest(int id, DocWriteRequest<?> request, BulkItemResponse primaryResponse) {
+        this(id, request, primaryResponse, null);
+    }
+
     public String index() {
         assert request.indices().length == 1;
         return request.indices()[0];
@@ -85,16 +101,22 @@ public record BulkItemRequest(int id, DocWriteRequest<?> request, BulkItemRespon
         out.writeVInt(id);
         DocWriteRequest.writeDocumentRequest(out, request);
         out.writeOptionalWriteable(primaryResponse);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(replicatedDocument);
+        }
     }
 
     public void writeThin(StreamOutput out) throws IOException {
         out.writeVInt(id);
         DocWriteRequest.writeDocumentRequestThin(out, request);
         out.writeOptionalWriteable((o, resp) -> resp.writeThin(o), primaryResponse);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(replicatedDocument);
+        }
     }
 
     @Override
     public long ramBytesUsed() {
-        return SHALLOW_SIZE + request.ramBytesUsed();
+        return SHALLOW_SIZE + request.ramBytesUsed() + (replicatedDocument == null ? 0 : replicatedDocument.length());
     }
 }
@@ -35,15 +35,19 @@ package org.opensearch.action.bulk;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.ReplicatedParsedDocument;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -92,6 +96,8 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int retryCounter;
     private final BulkItemResponse[] primaryResponses;
+    private ReplicatedParsedDocument replicatedDocument;
+    private ReplicatedParsedDocument[] replicatedDocuments;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -121,6 +127,7 @@ class BulkPrimaryExecutionContext {
         retryCounter = 0;
         requestToExecute = null;
         executionResult = null;
+        replicatedDocument = null;
         assert assertInvariants(ItemProcessingState.INITIAL);
     }
 
@@ -130,7 +137,7 @@ class BulkPrimaryExecutionContext {
     }
 
     public BulkShardRequest getBulkShardRequest() {
-        return request.setPrimaryResponses(primaryResponses);
+        return request.setPrimaryResponses(primaryResponses, replicatedDocuments);
     }
 
     /** returns the result of the request that has been executed on the shard */
@@ -172,6 +179,30 @@ class BulkPrimaryExecutionContext {
         return currentIndex < request.items().length;
     }
 
+    /**
+     * returns the run of index requests with auto-generated ids that starts at the current item. None of them has been sent before,
+     * so they can be appended without looking up existing documents, see {@link IndexShard#applyAppendOnlyIndexOperationsOnPrimary}.
+     */
+    public List<IndexRequest> getAppendOnlyRun() {
+        assert assertInvariants(ItemProcessingState.INITIAL);
+        final List<IndexRequest> run = new ArrayList<>();
+        for (int i = currentIndex; i < request.items().length; i++) {
+            if (primaryResponses[i] != null || isAborted(request.items()[i].primaryResponse())) {
+                break;
+            }
+            final DocWriteRequest<?> item = request.items()[i].request();
+            if (item.opType() == DocWriteRequest.OpType.UPDATE || item.opType() == DocWriteRequest.OpType.DELETE) {
+                break;
+            }
+            final IndexRequest indexRequest = (IndexRequest) item;
+            if (indexRequest.getAutoGeneratedTimestamp() == IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP || indexRequest.isRetry()) {
+                break;
+            }
+            run.add(indexRequest);
+        }
+        return run;
+    }
+
     /** returns the name of the index the current request used */
     public String getConcreteIndex() {
         return getCurrentItem().index();
@@ -212,6 +243,12 @@ class BulkPrimaryExecutionContext {
         return (T) requestToExecute;
     }
 
+    /** sets the parsed document replicas can index instead of parsing the source of the request to execute */
+    public void setReplicatedDocument(ReplicatedParsedDocument replicatedDocument) {
+        assert assertInvariants(ItemProcessingState.TRANSLATED);
+        this.replicatedDocument = replicatedDocument;
+    }
+
     /** indicates that the current operation can not be completed and needs to wait for a new mapping from the cluster-manager */
     public void markAsRequiringMappingUpdate() {
         assert assertInvariants(ItemProcessingState.TRANSLATED);
@@ -226,6 +263,7 @@ class BulkPrimaryExecutionContext {
         currentItemState = ItemProcessingState.INITIAL;
         requestToExecute = null;
         executionResult = null;
+        replicatedDocument = null;
         retryCounter++;
         assertInvariants(ItemProcessingState.INITIAL);
     }
@@ -338,6 +376,12 @@ class BulkPrimaryExecutionContext {
             request.items()[currentIndex] = new BulkItemRequest(request.items()[currentIndex].id(), requestToExecute);
         }
         primaryResponses[currentIndex] = translatedResponse;
+        if (translatedResponse.isFailed() == false && replicatedDocument != null) {
+            if (replicatedDocuments == null) {
+                replicatedDocuments = new ReplicatedParsedDocument[request.items().length];
+            }
+            replicatedDocuments[currentIndex] = replicatedDocument;
+        }
         currentItemState = ItemProcessingState.COMPLETED;
         assertInvariants(ItemProcessingState.COMPLETED);
         advance();
@@ -53,11 +53,8 @@ import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
 
@@ -83,6 +80,20 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
+    private final boolean reuseMetadataParser;
+
+    public BulkRequestParser() {
+        this(true);
+    }
+
+    /**
+     * @param reuseMetadataParser whether JSON action/metadata lines are read with a {@link BulkActionMetadataParser} reused across
+     *                            the lines rather than with an xcontent parser per line
+     */
+    BulkRequestParser(boolean reuseMetadataParser) {
+        this.reuseMetadataParser = reuseMetadataParser;
+    }
+
     private static int findNextMarker(byte marker, int from, BytesReference data) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
@@ -136,10 +147,12 @@ public final class BulkRequestParser {
         int line = 0;
         int from = 0;
         byte marker = xContent.streamSeparator();
-        // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
-        // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
-        // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
-        final Map<String, String> stringDeduplicator = new HashMap<>();
+        // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. The metadata parser
+        // interns the strings parsed for these parameters, so that the lines it reads itself share a single instance per distinct
+        // value. The strings read by an xcontent parser are still instantiated, but they are deduplicated to reduce their lifetime to
+        // the lifetime of this parse call instead of the lifetime of the full bulk request.
+        final BulkActionMetadataParser metadataParser = new BulkActionMetadataParser();
+        final boolean reuseMetadataParser = this.reuseMetadataParser && MediaTypeRegistry.JSON == mediaType;
         while (true) {
             int nextMarker = findNextMarker(marker, from, data);
             if (nextMarker == -1) {
@@ -147,120 +160,134 @@ public final class BulkRequestParser {
             }
             line++;
 
-            // now parse the action
-            try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
-                // move pointers
-                from = nextMarker + 1;
+            String action;
+            String index = defaultIndex;
+            String id = null;
+            String routing = defaultRouting;
+            FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
+            String opType = null;
+            long version = Versions.MATCH_ANY;
+            VersionType versionType = VersionType.INTERNAL;
+            long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
+            long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
+            int retryOnConflict = 0;
+            String pipeline = defaultPipeline;
+            boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
 
-                // Move to START_OBJECT
-                XContentParser.Token token = parser.nextToken();
-                if (token == null) {
-                    continue;
+            if (reuseMetadataParser && metadataParser.parse(data, from, nextMarker)) {
+                from = nextMarker + 1;
+                action = metadataParser.action();
+                if (metadataParser.index() != null) {
+                    if (allowExplicitIndex == false) {
+                        throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                    }
+                    index = metadataParser.index();
                 }
-                if (token != XContentParser.Token.START_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
+                id = metadataParser.id();
+                if (metadataParser.routing() != null) {
+                    routing = metadataParser.routing();
                 }
-                // Move to FIELD_NAME, that's the action
-                token = parser.nextToken();
-                if (token != XContentParser.Token.FIELD_NAME) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.FIELD_NAME
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
+                opType = metadataParser.opType();
+                version = metadataParser.version();
+                versionType = metadataParser.versionType();
+                ifSeqNo = metadataParser.ifSeqNo();
+                ifPrimaryTerm = metadataParser.ifPrimaryTerm();
+                retryOnConflict = metadataParser.retryOnConflict();
+                if (metadataParser.pipeline() != null) {
+                    pipeline = metadataParser.pipeline();
                 }
-                String action = parser.currentName();
-                if (action == null || VALID_ACTIONS.contains(action) == false) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected one of [create, delete, index, update] but found ["
-                            + action
-                            + "]"
-                    );
+                if (metadataParser.requireAlias() != null) {
+                    requireAlias = metadataParser.requireAlias();
                 }
+            } else {
+                // now parse the action
+                try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+                    // move pointers
+                    from = nextMarker + 1;
 
-                String index = defaultIndex;
-                String id = null;
-                String routing = defaultRouting;
-                FetchSourceContext fetchSourceContext = defaultFetchSourceContext;
-                String opType = null;
-                long version = Versions.MATCH_ANY;
-                VersionType versionType = VersionType.INTERNAL;
-                long ifSeqNo = SequenceNumbers.UNASSIGNED_SEQ_NO;
-                long ifPrimaryTerm = UNASSIGNED_PRIMARY_TERM;
-                int retryOnConflict = 0;
-                String pipeline = defaultPipeline;
-                boolean requireAlias = defaultRequireAlias != null && defaultRequireAlias;
+                    // Move to START_OBJECT
+                    XContentParser.Token token = parser.nextToken();
+                    if (token == null) {
+                        continue;
+                    }
+                    if (token != XContentParser.Token.START_OBJECT) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.START_OBJECT
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
+                    }
+                    // Move to FIELD_NAME, that's the action
+                    token = parser.nextToken();
+                    if (token != XContentParser.Token.FIELD_NAME) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.FIELD_NAME
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
+                    }
+                    action = parser.currentName();
+                    if (action == null || VALID_ACTIONS.contains(action) == false) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected one of [create, delete, index, update] but found ["
+                                + action
+                                + "]"
+                        );
+                    }
 
-                // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
-                // or START_OBJECT which will have another set of parameters
-                token = parser.nextToken();
+                    // at this stage, next token can either be END_OBJECT (and use default index with auto generated id)
+                    // or START_OBJECT which will have another set of parameters
+                    token = parser.nextToken();
 
-                if (token == XContentParser.Token.START_OBJECT) {
-                    String currentFieldName = null;
-                    while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
-                        if (token == XContentParser.Token.FIELD_NAME) {
-                            currentFieldName = parser.currentName();
-                        } else if (token.isValue()) {
-                            if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
-                                if (allowExplicitIndex == false) {
-                                    throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                    if (token == XContentParser.Token.START_OBJECT) {
+                        String currentFieldName = null;
+                        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                            if (token == XContentParser.Token.FIELD_NAME) {
+                                currentFieldName = parser.currentName();
+                            } else if (token.isValue()) {
+                                if (INDEX.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    if (allowExplicitIndex == false) {
+                                        throw new IllegalArgumentException("explicit index in bulk is not allowed");
+                                    }
+                                    index = metadataParser.intern(parser.text());
+                                } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    id = parser.text();
+                                } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    routing = metadataParser.intern(parser.text());
+                                } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    opType = parser.text();
+                                } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    version = parser.longValue();
+                                } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    versionType = VersionType.fromString(parser.text());
+                                } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifSeqNo = parser.longValue();
+                                } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    ifPrimaryTerm = parser.longValue();
+                                } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    retryOnConflict = parser.intValue();
+                                } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    pipeline = metadataParser.intern(parser.text());
+                                } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                                } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    requireAlias = parser.booleanValue();
+                                } else {
+                                    throw new IllegalArgumentException(
+                                        "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
+                                    );
                                 }
-                                index = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (ID.match(currentFieldName, parser.getDeprecationHandler())) {
-                                id = parser.text();
-                            } else if (ROUTING.match(currentFieldName, parser.getDeprecationHandler())) {
-                                routing = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (OP_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                opType = parser.text();
-                            } else if (VERSION.match(currentFieldName, parser.getDeprecationHandler())) {
-                                version = parser.longValue();
-                            } else if (VERSION_TYPE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                versionType = VersionType.fromString(parser.text());
-                            } else if (IF_SEQ_NO.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifSeqNo = parser.longValue();
-                            } else if (IF_PRIMARY_TERM.match(currentFieldName, parser.getDeprecationHandler())) {
-                                ifPrimaryTerm = parser.longValue();
-                            } else if (RETRY_ON_CONFLICT.match(currentFieldName, parser.getDeprecationHandler())) {
-                                retryOnConflict = parser.intValue();
-                            } else if (PIPELINE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                pipeline = stringDeduplicator.computeIfAbsent(parser.text(), Function.identity());
-                            } else if (SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (REQUIRE_ALIAS.match(currentFieldName, parser.getDeprecationHandler())) {
-                                requireAlias = parser.booleanValue();
-                            } else {
-                                throw new IllegalArgumentException(
-                                    "Action/metadata line [" + line + "] contains an unknown parameter [" + currentFieldName + "]"
-                                );
-                            }
-                        } else if (token == XContentParser.Token.START_ARRAY) {
-                            throw new IllegalArgumentException(
-                                "Malformed action/metadata line ["
-                                    + line
-                                    + "], expected a simple value for field ["
-                                    + currentFieldName
-                                    + "] but found ["
-                                    + token
-                                    + "]"
-                            );
-                        } else if (token == XContentParser.Token.START_OBJECT
-                            && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
-                                fetchSourceContext = FetchSourceContext.fromXContent(parser);
-                            } else if (token != XContentParser.Token.VALUE_NULL) {
+                            } else if (token == XContentParser.Token.START_ARRAY) {
                                 throw new IllegalArgumentException(
                                     "Malformed action/metadata line ["
                                         + line
@@ -270,115 +297,129 @@ public final class BulkRequestParser {
                                         + token
                                         + "]"
                                 );
-                            }
+                            } else if (token == XContentParser.Token.START_OBJECT
+                                && SOURCE.match(currentFieldName, parser.getDeprecationHandler())) {
+                                    fetchSourceContext = FetchSourceContext.fromXContent(parser);
+                                } else if (token != XContentParser.Token.VALUE_NULL) {
+                                    throw new IllegalArgumentException(
+                                        "Malformed action/metadata line ["
+                                            + line
+                                            + "], expected a simple value for field ["
+                                            + currentFieldName
+                                            + "] but found ["
+                                            + token
+                                            + "]"
+                                    );
+                                }
+                        }
+                    } else if (token != XContentParser.Token.END_OBJECT) {
+                        throw new IllegalArgumentException(
+                            "Malformed action/metadata line ["
+                                + line
+                                + "], expected "
+                                + XContentParser.Token.START_OBJECT
+                                + " or "
+                                + XContentParser.Token.END_OBJECT
+                                + " but found ["
+                                + token
+                                + "]"
+                        );
                     }
-                } else if (token != XContentParser.Token.END_OBJECT) {
-                    throw new IllegalArgumentException(
-                        "Malformed action/metadata line ["
-                            + line
-                            + "], expected "
-                            + XContentParser.Token.START_OBJECT
-                            + " or "
-                            + XContentParser.Token.END_OBJECT
-                            + " but found ["
-                            + token
-                            + "]"
-                    );
                 }
+            }
 
-                if ("delete".equals(action)) {
-                    deleteRequestConsumer.accept(
-                        new DeleteRequest(index).id(id)
-                            .routing(routing)
-                            .version(version)
-                            .versionType(versionType)
-                            .setIfSeqNo(ifSeqNo)
-                            .setIfPrimaryTerm(ifPrimaryTerm)
-                    );
-                } else {
-                    nextMarker = findNextMarker(marker, from, data);
-                    if (nextMarker == -1) {
-                        break;
-                    }
-                    line++;
+            if ("delete".equals(action)) {
+                deleteRequestConsumer.accept(
+                    new DeleteRequest(index).id(id)
+                        .routing(routing)
+                        .version(version)
+                        .versionType(versionType)
+                        .setIfSeqNo(ifSeqNo)
+                        .setIfPrimaryTerm(ifPrimaryTerm)
+                );
+            } else {
+                nextMarker = findNextMarker(marker, from, data);
+                if (nextMarker == -1) {
+                    break;
+                }
+                line++;
 
-                    // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
-                    // of index request.
-                    if ("index".equals(action)) {
-                        if (opType == null) {
-                            indexRequestConsumer.accept(
-                                new IndexRequest(index).id(id)
-                                    .routing(routing)
-                                    .version(version)
-                                    .versionType(versionType)
-                                    .setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo)
-                                    .setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
-                                    .setRequireAlias(requireAlias)
-                            );
-                        } else {
-                            indexRequestConsumer.accept(
-                                new IndexRequest(index).id(id)
-                                    .routing(routing)
-                                    .version(version)
-                                    .versionType(versionType)
-                                    .create("create".equals(opType))
-                                    .setPipeline(pipeline)
-                                    .setIfSeqNo(ifSeqNo)
-                                    .setIfPrimaryTerm(ifPrimaryTerm)
-                                    .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
-                                    .setRequireAlias(requireAlias)
-                            );
-                        }
-                    } else if ("create".equals(action)) {
+                // we use internalAdd so we don't fork here, this allows us not to copy over the big byte array to small chunks
+                // of index request.
+                if ("index".equals(action)) {
+                    if (opType == null) {
                         indexRequestConsumer.accept(
                             new IndexRequest(index).id(id)
                                 .routing(routing)
                                 .version(version)
                                 .versionType(versionType)
-                                .create(true)
                                 .setPipeline(pipeline)
                                 .setIfSeqNo(ifSeqNo)
                                 .setIfPrimaryTerm(ifPrimaryTerm)
                                 .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                                 .setRequireAlias(requireAlias)
                         );
-                    } else if ("update".equals(action)) {
-                        if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
-                            throw new IllegalArgumentException(
-                                "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
-                            );
-                        }
-                        UpdateRequest updateRequest = new UpdateRequest().index(index)
-                            .id(id)
+                    } else {
+                        indexRequestConsumer.accept(
+                            new IndexRequest(index).id(id)
+                                .routing(routing)
+                                .version(version)
+                                .versionType(versionType)
+                                .create("create".equals(opType))
+                                .setPipeline(pipeline)
+                                .setIfSeqNo(ifSeqNo)
+                                .setIfPrimaryTerm(ifPrimaryTerm)
+                                .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
+                                .setRequireAlias(requireAlias)
+                        );
+                    }
+                } else if ("create".equals(action)) {
+                    indexRequestConsumer.accept(
+                        new IndexRequest(index).id(id)
                             .routing(routing)
-                            .retryOnConflict(retryOnConflict)
+                            .version(version)
+                            .versionType(versionType)
+                            .create(true)
+                            .setPipeline(pipeline)
                             .setIfSeqNo(ifSeqNo)
                             .setIfPrimaryTerm(ifPrimaryTerm)
+                            .source(sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType), mediaType)
                             .setRequireAlias(requireAlias)
-                            .routing(routing);
-                        try (
-                            XContentParser sliceParser = createParser(
-                                sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
-                                xContent
-                            )
-                        ) {
-                            updateRequest.fromXContent(sliceParser);
-                        }
-                        if (fetchSourceContext != null) {
-                            updateRequest.fetchSource(fetchSourceContext);
-                        }
-                        IndexRequest upsertRequest = updateRequest.upsertRequest();
-                        if (upsertRequest != null) {
-                            upsertRequest.setPipeline(pipeline);
-                        }
-
-                        updateRequestConsumer.accept(updateRequest);
+                    );
+                } else if ("update".equals(action)) {
+                    if (version != Versions.MATCH_ANY || versionType != VersionType.INTERNAL) {
+                        throw new IllegalArgumentException(
+                            "Update requests do not support versioning. " + "Please use `if_seq_no` and `if_primary_term` instead"
+                        );
                     }
-                    // move pointers
-                    from = nextMarker + 1;
+                    UpdateRequest updateRequest = new UpdateRequest().index(index)
+                        .id(id)
+                        .routing(routing)
+                        .retryOnConflict(retryOnConflict)
+                        .setIfSeqNo(ifSeqNo)
+                        .setIfPrimaryTerm(ifPrimaryTerm)
+                        .setRequireAlias(requireAlias)
+                        .routing(routing);
+                    try (
+                        XContentParser sliceParser = createParser(
+                            sliceTrimmingCarriageReturn(data, from, nextMarker, mediaType),
+                            xContent
+                        )
+                    ) {
+                        updateRequest.fromXContent(sliceParser);
+                    }
+                    if (fetchSourceContext != null) {
+                        updateRequest.fetchSource(fetchSourceContext);
+                    }
+                    IndexRequest upsertRequest = updateRequest.upsertRequest();
+                    if (upsertRequest != null) {
+                        upsertRequest.setPipeline(pipeline);
+                    }
+
+                    updateRequestConsumer.accept(updateRequest);
                 }
+                // move pointers
+                from = nextMarker + 1;
             }
         }
     }
@@ -36,9 +36,11 @@ import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.action.support.replication.ReplicatedWriteRequest;
 import org.opensearch.action.support.replication.ReplicationRequest;
+import org.opensearch.common.Nullable;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.mapper.ReplicatedParsedDocument;
 
 import java.io.IOException;
 import java.util.HashSet;
@@ -69,16 +71,29 @@ public class BulkShardRequest extends ReplicatedWriteRequest<BulkShardRequest> i
     }
 
     BulkShardRequest setPrimaryResponses(BulkItemResponse[] primaryResponses) {
+        return setPrimaryResponses(primaryResponses, null);
+    }
+
+    /**
+     * Same as {@link #setPrimaryResponses(BulkItemResponse[])}, also attaching the documents parsed on the primary, if any.
+     */
+    BulkShardRequest setPrimaryResponses(BulkItemResponse[] primaryResponses, @Nullable ReplicatedParsedDocument[] replicatedDocuments) {
         if (primaryResponses == null || primaryResponses.length != items.length) {
             throw new IllegalArgumentException("Primary responses must have same length as BulkItemRequests");
         }
+        assert replicatedDocuments == null || replicatedDocuments.length == items.length;
         BulkItemRequest[] newRequests = new BulkItemRequest[items.length];
         for (int i = 0; i < items.length; i++) {
             BulkItemRequest request = items[i];
             if (request == null) {
                 newRequests[i] = null;
             } else {
-                newRequests[i] = new BulkItemRequest(request.id(), request.request(), primaryResponses[i]);
+                newRequests[i] = new BulkItemRequest(
+                    request.id(),
+                    request.request(),
+                    primaryResponses[i],
+                    replicatedDocuments == null ? null : replicatedDocuments[i]
+                );
             }
         }
         BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, getRefreshPolicy(), newRequests);
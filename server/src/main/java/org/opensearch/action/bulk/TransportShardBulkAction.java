@@ -68,6 +68,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
@@ -85,6 +86,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
 import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.engine.Engine;
@@ -92,6 +94,7 @@ import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.mapper.MapperException;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ReplicatedParsedDocument;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.remote.RemoteStorePressureService;
 import org.opensearch.index.seqno.SequenceNumbers;
@@ -113,6 +116,7 @@ import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.transport.NoNodeAvailableException;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -480,6 +484,9 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             protected void doRun() throws Exception {
                 long startTime = System.nanoTime();
                 while (context.hasMoreOperationsToExecute()) {
+                    if (executeAppendOnlyRun(context)) {
+                        continue;
+                    }
                     if (executeBulkItemRequest(
                         context,
                         updateHelper,
@@ -587,6 +594,30 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return super.checkPrimaryLimits(request, rerouteWasLocal, localRerouteInitiatedByNodeClient);
     }
 
+    /**
+     * Executes the run of index requests with auto-generated ids starting at the current item with a single write to Lucene and the
+     * translog, if enabled through {@link IndexSettings#INDEX_APPEND_ONLY_BATCH_ENABLED_SETTING}. Each item is still completed on its
+     * own, so per-item failures are reported as usual.
+     * @return {@code true} if at least one item was completed, {@code false} if the current item must go through
+     *         {@link #executeBulkItemRequest}
+     */
+    static boolean executeAppendOnlyRun(BulkPrimaryExecutionContext context) throws Exception {
+        final IndexShard primary = context.getPrimary();
+        if (primary.indexSettings().isAppendOnlyBatchEnabled() == false) {
+            return false;
+        }
+        final List<IndexRequest> run = context.getAppendOnlyRun();
+        if (run.size() < 2) {
+            return false;
+        }
+        final List<Engine.IndexResult> results = primary.applyAppendOnlyIndexOperationsOnPrimary(run);
+        for (Engine.IndexResult result : results) {
+            context.setRequestToExecute(context.getCurrent());
+            onComplete(result, context, null);
+        }
+        return results.isEmpty() == false;
+    }
+
     /**
      * Executes bulk item requests and handles request execution exceptions.
      * @return {@code true} if request completed on this thread and the listener was invoked, {@code false} if the request triggered
@@ -659,22 +690,29 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
+            final SourceToParse sourceToParse = new SourceToParse(
+                request.index(),
+                request.id(),
+                request.source(),
+                request.getContentType(),
+                request.routing(),
+                request.extraFieldValues()
+            );
+            if (primary.indexSettings().shouldReplicateParsedDocuments()) {
+                sourceToParse.captureReplicatedDocument();
+            }
             result = primary.applyIndexOperationOnPrimary(
                 version,
                 request.versionType(),
-                new SourceToParse(
-                    request.index(),
-                    request.id(),
-                    request.source(),
-                    request.getContentType(),
-                    request.routing(),
-                    request.extraFieldValues()
-                ),
+                sourceToParse,
                 request.ifSeqNo(),
                 request.ifPrimaryTerm(),
                 request.getAutoGeneratedTimestamp(),
                 request.isRetry()
             );
+            if (result.getResultType() == Engine.Result.Type.SUCCESS) {
+                context.setReplicatedDocument(sourceToParse.replicatedDocument());
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -892,7 +930,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                     continue; // ignore replication as it's a noop
                 }
                 assert response.getResponse().getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO;
-                operationResult = performOpOnReplica(response.getResponse(), item.request(), replica);
+                operationResult = performOpOnReplica(response.getResponse(), item.request(), item.replicatedDocument(), replica);
             }
             assert operationResult != null : "operation result must never be null";
             location = syncOperationResultOrThrow(operationResult, location);
@@ -903,6 +941,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     private static Engine.Result performOpOnReplica(
         DocWriteResponse primaryResponse,
         DocWriteRequest<?> docWriteRequest,
+        @Nullable ReplicatedParsedDocument replicatedDocument,
         IndexShard replica
     ) throws Exception {
         final Engine.Result result;
@@ -919,6 +958,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                     indexRequest.routing(),
                     indexRequest.extraFieldValues()
                 );
+                sourceToParse.replicatedDocument(replicatedDocument);
                 result = replica.applyIndexOperationOnReplica(
                     primaryResponse.getId(),
                     primaryResponse.getSeqNo(),
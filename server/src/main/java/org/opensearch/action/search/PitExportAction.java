@@ -0,0 +1,26 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Transport action for exporting a point in time over the stream transport
+ *
+ * @opensearch.internal
+ */
+public class PitExportAction extends ActionType<PitExportResponse> {
+
+    public static final PitExportAction INSTANCE = new PitExportAction();
+    public static final String NAME = "indices:data/read/point_in_time/export";
+
+    private PitExportAction() {
+        super(NAME, PitExportResponse::new);
+    }
+}
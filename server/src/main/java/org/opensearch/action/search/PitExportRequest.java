@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to export all the documents of a point in time that match a query. Shards stream their matches in index order, so the
+ * request supports neither sorting nor anything that needs a query phase, like aggregations or suggestions.
+ *
+ * @opensearch.internal
+ */
+public class PitExportRequest extends ActionRequest {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    public static final int DEFAULT_MAX_CONCURRENT_SHARD_REQUESTS = 1;
+
+    private final String pitId;
+    @Nullable
+    private SearchSourceBuilder source;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int maxConcurrentShardRequests = DEFAULT_MAX_CONCURRENT_SHARD_REQUESTS;
+    @Nullable
+    private TimeValue keepAlive;
+    @Nullable
+    private CheckedConsumer<PitExportChunk, Exception> chunkConsumer;
+
+    public PitExportRequest(String pitId) {
+        this.pitId = Objects.requireNonNull(pitId, "pit id must not be null");
+    }
+
+    public PitExportRequest(StreamInput in) throws IOException {
+        super(in);
+        pitId = in.readString();
+        source = in.readOptionalWriteable(SearchSourceBuilder::new);
+        batchSize = in.readVInt();
+        maxConcurrentShardRequests = in.readVInt();
+        keepAlive = in.readOptionalTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(pitId);
+        out.writeOptionalWriteable(source);
+        out.writeVInt(batchSize);
+        out.writeVInt(maxConcurrentShardRequests);
+        out.writeOptionalTimeValue(keepAlive);
+    }
+
+    public String getPitId() {
+        return pitId;
+    }
+
+    /**
+     * The query and the fields to load for every exported document. Defaults to all the documents with their {@code _source}.
+     */
+    @Nullable
+    public SearchSourceBuilder source() {
+        return source;
+    }
+
+    public PitExportRequest source(@Nullable SearchSourceBuilder source) {
+        this.source = source;
+        return this;
+    }
+
+    /**
+     * The maximum number of hits that a shard sends at once, which bounds the memory used per shard. Defaults to
+     * {@value #DEFAULT_BATCH_SIZE}.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public PitExportRequest setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * The number of shards exported at the same time. Defaults to {@value #DEFAULT_MAX_CONCURRENT_SHARD_REQUESTS}, which exports
+     * one shard after the other.
+     */
+    public int getMaxConcurrentShardRequests() {
+        return maxConcurrentShardRequests;
+    }
+
+    public PitExportRequest setMaxConcurrentShardRequests(int maxConcurrentShardRequests) {
+        this.maxConcurrentShardRequests = maxConcurrentShardRequests;
+        return this;
+    }
+
+    /**
+     * The consumer that the exported chunks are handed to as they arrive, see {@link StreamPitExportService#export}. It is not
+     * serialized, so it is only set on requests executed on the node that consumes the export.
+     */
+    @Nullable
+    public CheckedConsumer<PitExportChunk, Exception> getChunkConsumer() {
+        return chunkConsumer;
+    }
+
+    public PitExportRequest setChunkConsumer(@Nullable CheckedConsumer<PitExportChunk, Exception> chunkConsumer) {
+        this.chunkConsumer = chunkConsumer;
+        return this;
+    }
+
+    /**
+     * The keep alive to extend the point in time with while it is being exported, if any.
+     */
+    @Nullable
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    public PitExportRequest setKeepAlive(@Nullable TimeValue keepAlive) {
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (batchSize <= 0) {
+            validationException = addValidationError("[batch_size] must be positive but was [" + batchSize + "]", validationException);
+        }
+        if (maxConcurrentShardRequests <= 0) {
+            validationException = addValidationError(
+                "[max_concurrent_shard_requests] must be positive but was [" + maxConcurrentShardRequests + "]",
+                validationException
+            );
+        }
+        if (source != null) {
+            if (source.aggregations() != null) {
+                validationException = addValidationError("[aggs] are not supported in an export", validationException);
+            }
+            if (source.sorts() != null && source.sorts().isEmpty() == false) {
+                validationException = addValidationError("[sort] is not supported in an export", validationException);
+            }
+            if (source.searchAfter() != null) {
+                validationException = addValidationError("[search_after] is not supported in an export", validationException);
+            }
+            if (source.collapse() != null) {
+                validationException = addValidationError("[collapse] is not supported in an export", validationException);
+            }
+            if (source.suggest() != null) {
+                validationException = addValidationError("[suggest] is not supported in an export", validationException);
+            }
+            if (source.rescores() != null && source.rescores().isEmpty() == false) {
+                validationException = addValidationError("[rescore] is not supported in an export", validationException);
+            }
+            if (source.pointInTimeBuilder() != null) {
+                validationException = addValidationError(
+                    "[pit] must not be set in the source, the point in time to export is given by the request",
+                    validationException
+                );
+            }
+        }
+        return validationException;
+    }
+
+    @Override
+    public String getDescription() {
+        return "pit_id[" + pitId + "], batch_size[" + batchSize + "], source[" + (source == null ? "" : source.toString()) + "]";
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, getDescription(), parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Response of a point in time export. The exported hits went to the chunk consumer of the request as they arrived, see
+ * {@link PitExportRequest#getChunkConsumer()}, so the response only sums the export up.
+ *
+ * @opensearch.internal
+ */
+public class PitExportResponse extends ActionResponse implements StatusToXContentObject {
+
+    private final long exportedHits;
+    private final long tookInMillis;
+
+    public PitExportResponse(long exportedHits, long tookInMillis) {
+        this.exportedHits = exportedHits;
+        this.tookInMillis = tookInMillis;
+    }
+
+    public PitExportResponse(StreamInput in) throws IOException {
+        super(in);
+        exportedHits = in.readVLong();
+        tookInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(exportedHits);
+        out.writeVLong(tookInMillis);
+    }
+
+    /**
+     * The number of hits handed to the chunk consumer.
+     */
+    public long getExportedHits() {
+        return exportedHits;
+    }
+
+    public TimeValue getTook() {
+        return new TimeValue(tookInMillis);
+    }
+
+    @Override
+    public RestStatus status() {
+        return RestStatus.OK;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("took", tookInMillis);
+        builder.field("exported_hits", exportedHits);
+        builder.endObject();
+        return builder;
+    }
+}
@@ -44,8 +44,8 @@ import java.util.function.BiFunction;
 
 /**
  * A wrapper of search action listeners (search results) that unwraps the query
- * result to get the piggybacked queue size and service time EWMA, adding those
- * values to the coordinating nodes' {@link ResponseCollectorService}.
+ * result to get the piggybacked queue size, service time EWMA and resource usage,
+ * adding those values to the coordinating nodes' {@link ResponseCollectorService}.
  *
  * @opensearch.internal
  */
@@ -95,6 +95,9 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
                 collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
             }
+            if (queryResult.nodeResourceUsageStats() != null) {
+                collector.addNodeResourceUsageStatistics(queryResult.nodeResourceUsageStats());
+            }
         }
         listener.onResponse(response);
     }
@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.search.fetch.ShardPitExportRequest;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.Transport;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exports all the documents of a point in time that match a query over the stream transport. Every shard executes the query once
+ * and streams its matches in index order, in chunks of bounded size, instead of paying a query phase per page like scroll does.
+ * Chunks are handed to the consumer as they arrive, one at a time, and a shard is only asked for its next chunk once the consumer
+ * is done with the previous one, so a slow consumer throttles the shards instead of piling hits up in memory.
+ *
+ * @opensearch.internal
+ */
+public class StreamPitExportService {
+
+    private static final Logger logger = LogManager.getLogger(StreamPitExportService.class);
+
+    private final StreamSearchTransportService searchTransportService;
+    private final ClusterService clusterService;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    public StreamPitExportService(
+        StreamSearchTransportService searchTransportService,
+        ClusterService clusterService,
+        NamedWriteableRegistry namedWriteableRegistry
+    ) {
+        this.searchTransportService = searchTransportService;
+        this.clusterService = clusterService;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Exports the point in time of the request. {@code chunkConsumer} is called for every chunk of hits, never concurrently, and
+     * {@code listener} is notified once all shards have been exported or on the first failure, after which no more chunks are
+     * consumed.
+     *
+     * @param task the task of the export, the shard requests are sent as its children
+     */
+    public void export(
+        Task task,
+        PitExportRequest request,
+        CheckedConsumer<PitExportChunk, Exception> chunkConsumer,
+        ActionListener<Void> listener
+    ) {
+        final ActionRequestValidationException validationException = request.validate();
+        if (validationException != null) {
+            listener.onFailure(validationException);
+            return;
+        }
+        final List<ShardExport> shardExports;
+        try {
+            shardExports = buildShardExports(request);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        if (shardExports.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        new ExportRun(task, shardExports, chunkConsumer, listener).start(request.getMaxConcurrentShardRequests());
+    }
+
+    private List<ShardExport> buildShardExports(PitExportRequest request) {
+        final SearchContextId searchContextId = SearchContextId.decode(namedWriteableRegistry, request.getPitId());
+        final DiscoveryNodes nodes = clusterService.state().nodes();
+        final SearchRequest searchRequest = new SearchRequest().source(request.source()).allowPartialSearchResults(false);
+        final long nowInMillis = System.currentTimeMillis();
+        final int numShards = searchContextId.shards().size();
+        final List<ShardExport> shardExports = new ArrayList<>(numShards);
+        for (Map.Entry<ShardId, SearchContextIdForNode> entry : searchContextId.shards().entrySet()) {
+            final ShardId shardId = entry.getKey();
+            final SearchContextIdForNode perNode = entry.getValue();
+            if (Strings.isEmpty(perNode.getClusterAlias()) == false) {
+                throw new IllegalArgumentException("export does not support points in time spanning remote clusters");
+            }
+            final DiscoveryNode node = nodes.get(perNode.getNode());
+            if (node == null) {
+                throw new SearchContextMissingException(perNode.getSearchContextId());
+            }
+            final AliasFilter aliasFilter = searchContextId.aliasFilter().getOrDefault(shardId.getIndex().getUUID(), AliasFilter.EMPTY);
+            final ShardSearchRequest shardRequest = new ShardSearchRequest(
+                new OriginalIndices(new String[] { shardId.getIndexName() }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+                searchRequest,
+                shardId,
+                numShards,
+                aliasFilter,
+                1.0f,
+                nowInMillis,
+                null,
+                Strings.EMPTY_ARRAY,
+                perNode.getSearchContextId(),
+                request.getKeepAlive()
+            );
+            shardExports.add(new ShardExport(node, new ShardPitExportRequest(shardRequest, request.getBatchSize())));
+        }
+        return shardExports;
+    }
+
+    /**
+     * A shard to export and the node holding its reader context.
+     *
+     * @opensearch.internal
+     */
+    private record ShardExport(DiscoveryNode node, ShardPitExportRequest request) {}
+
+    /**
+     * The state of a single export, which keeps at most a given number of shards streaming at the same time.
+     *
+     * @opensearch.internal
+     */
+    private final class ExportRun {
+        private final Task task;
+        private final Queue<ShardExport> pending;
+        private final CheckedConsumer<PitExportChunk, Exception> chunkConsumer;
+        private final ActionListener<Void> listener;
+        private final AtomicInteger remaining;
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        ExportRun(
+            Task task,
+            List<ShardExport> shardExports,
+            CheckedConsumer<PitExportChunk, Exception> chunkConsumer,
+            ActionListener<Void> listener
+        ) {
+            this.task = task;
+            this.pending = new ArrayDeque<>(shardExports);
+            this.chunkConsumer = chunkConsumer;
+            this.listener = listener;
+            this.remaining = new AtomicInteger(shardExports.size());
+        }
+
+        void start(int maxConcurrentShardRequests) {
+            final int concurrency = Math.min(maxConcurrentShardRequests, pending.size());
+            for (int i = 0; i < concurrency; i++) {
+                exportNext();
+            }
+        }
+
+        private void exportNext() {
+            final ShardExport shardExport;
+            synchronized (pending) {
+                if (failure.get() != null) {
+                    return;
+                }
+                shardExport = pending.poll();
+            }
+            if (shardExport == null) {
+                return;
+            }
+            final ShardId shardId = shardExport.request().shardId();
+            final ActionListener<Void> shardListener = ActionListener.wrap(ignored -> onShardDone(), e -> onShardFailure(shardId, e));
+            try {
+                final Transport.Connection connection = searchTransportService.getConnection(null, shardExport.node());
+                searchTransportService.sendExecuteExport(connection, shardExport.request(), task, this::consume, shardListener);
+            } catch (Exception e) {
+                shardListener.onFailure(e);
+            }
+        }
+
+        private void consume(PitExportChunk chunk) throws Exception {
+            if (task instanceof CancellableTask cancellableTask && cancellableTask.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + cancellableTask.getReasonCancelled());
+            }
+            // serializes the consumer calls across the shards that stream concurrently
+            synchronized (this) {
+                final Exception e = failure.get();
+                if (e != null) {
+                    throw new IllegalStateException("export already failed", e);
+                }
+                chunkConsumer.accept(chunk);
+            }
+        }
+
+        private void onShardDone() {
+            if (remaining.decrementAndGet() == 0) {
+                listener.onResponse(null);
+            } else {
+                exportNext();
+            }
+        }
+
+        private void onShardFailure(ShardId shardId, Exception e) {
+            if (failure.compareAndSet(null, e)) {
+                logger.debug("failed to export shard " + shardId, e);
+                listener.onFailure(e);
+            }
+        }
+    }
+}
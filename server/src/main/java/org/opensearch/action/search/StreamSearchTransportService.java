@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.support.StreamSearchChannelListener;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -21,11 +22,14 @@ import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.PitExportChunk;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
+import org.opensearch.search.fetch.ShardPitExportRequest;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.StreamTransportResponseHandler;
 import org.opensearch.transport.StreamTransportService;
@@ -55,6 +59,8 @@ public class StreamSearchTransportService extends SearchTransportService {
         this.transportService = transportService;
     }
 
+    public static final String EXPORT_ACTION_NAME = "indices:data/read/search[phase/export]";
+
     public static final Setting<Boolean> STREAM_SEARCH_ENABLED = Setting.boolSetting(
         "stream.search.enabled",
         false,
@@ -131,6 +137,19 @@ public class StreamSearchTransportService extends SearchTransportService {
                 ThreadPool.Names.STREAM_SEARCH
             )
         );
+        transportService.registerRequestHandler(
+            EXPORT_ACTION_NAME,
+            ThreadPool.Names.SAME,
+            false,
+            true,
+            AdmissionControlActionType.SEARCH,
+            ShardPitExportRequest::new,
+            (request, channel, task) -> searchService.executeExportPhase(
+                request,
+                (SearchShardTask) task,
+                new StreamSearchChannelListener<>(channel, EXPORT_ACTION_NAME, request)
+            )
+        );
     }
 
     @Override
@@ -371,4 +390,58 @@ public class StreamSearchTransportService extends SearchTransportService {
             transportHandler
         );
     }
+
+    /**
+     * Streams the hits of a shard of a point in time. Each chunk is handed to {@code chunkConsumer} on the thread reading the stream
+     * and the next chunk is only pulled once the consumer returns, so a slow consumer throttles the shard.
+     */
+    public void sendExecuteExport(
+        Transport.Connection connection,
+        final ShardPitExportRequest request,
+        Task task,
+        CheckedConsumer<PitExportChunk, Exception> chunkConsumer,
+        final ActionListener<Void> listener
+    ) {
+        StreamTransportResponseHandler<PitExportChunk> transportHandler = new StreamTransportResponseHandler<>() {
+            @Override
+            public void handleStreamResponse(StreamTransportResponse<PitExportChunk> response) {
+                try {
+                    PitExportChunk chunk;
+                    while ((chunk = response.nextResponse()) != null) {
+                        chunkConsumer.accept(chunk);
+                    }
+                    response.close();
+                } catch (Exception e) {
+                    response.cancel("Client error during export phase", e);
+                    listener.onFailure(e);
+                    return;
+                }
+                listener.onResponse(null);
+            }
+
+            @Override
+            public void handleException(TransportException e) {
+                listener.onFailure(e);
+            }
+
+            @Override
+            public String executor() {
+                return ThreadPool.Names.STREAM_SEARCH;
+            }
+
+            @Override
+            public PitExportChunk read(StreamInput in) throws IOException {
+                return new PitExportChunk(in);
+            }
+        };
+
+        transportService.sendChildRequest(
+            connection,
+            EXPORT_ACTION_NAME,
+            request,
+            task,
+            TransportRequestOptions.builder().withType(TransportRequestOptions.Type.STREAM).build(),
+            transportHandler
+        );
+    }
 }
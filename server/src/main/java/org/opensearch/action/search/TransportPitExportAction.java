@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.TransportIndicesResolvingAction;
+import org.opensearch.cluster.metadata.OptionallyResolvedIndices;
+import org.opensearch.cluster.metadata.ResolvedIndices;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transport action for exporting a point in time, see {@link StreamPitExportService}. Each exported chunk is handed to the chunk
+ * consumer of the request as it arrives, and the next one is only pulled once the consumer returns, so the coordinating node does
+ * not hold on to the exported hits. As the consumer cannot be serialized, the export must be executed on the node that consumes it.
+ *
+ * @opensearch.internal
+ */
+public class TransportPitExportAction extends HandledTransportAction<PitExportRequest, PitExportResponse>
+    implements
+        TransportIndicesResolvingAction<PitExportRequest> {
+
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    @Nullable
+    private final StreamPitExportService exportService;
+
+    @Inject
+    public TransportPitExportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        NamedWriteableRegistry namedWriteableRegistry,
+        @Nullable StreamSearchTransportService searchTransportService
+    ) {
+        super(PitExportAction.NAME, transportService, actionFilters, PitExportRequest::new);
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        this.exportService = searchTransportService == null
+            ? null
+            : new StreamPitExportService(searchTransportService, clusterService, namedWriteableRegistry);
+    }
+
+    @Override
+    protected void doExecute(Task task, PitExportRequest request, ActionListener<PitExportResponse> listener) {
+        if (exportService == null) {
+            listener.onFailure(new IllegalStateException("stream transport must be enabled to export a point in time"));
+            return;
+        }
+        final CheckedConsumer<PitExportChunk, Exception> chunkConsumer = request.getChunkConsumer();
+        if (chunkConsumer == null) {
+            listener.onFailure(new IllegalArgumentException("a point in time can only be exported to a chunk consumer on the local node"));
+            return;
+        }
+        final long startNanos = System.nanoTime();
+        final AtomicLong exportedHits = new AtomicLong();
+        exportService.export(task, request, chunk -> {
+            exportedHits.addAndGet(chunk.getHits().getHits().length);
+            chunkConsumer.accept(chunk);
+        },
+            ActionListener.map(
+                listener,
+                ignored -> new PitExportResponse(exportedHits.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+            )
+        );
+    }
+
+    @Override
+    public OptionallyResolvedIndices resolveIndices(PitExportRequest request) {
+        return ResolvedIndices.of(SearchContextId.decode(namedWriteableRegistry, request.getPitId()).getActualIndices());
+    }
+}
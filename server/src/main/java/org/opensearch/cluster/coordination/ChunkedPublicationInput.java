@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ListenableFuture;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The chunks of an incoming chunked publication, read as one stream while they arrive so that the state is deserialized
+ * incrementally. A chunk is acknowledged once the chunks buffered ahead of the reader fit in {@code maxBufferedBytes}, and the sender
+ * only sends the next chunk after the acknowledgement, which bounds the memory held for the publication.
+ *
+ * @opensearch.internal
+ */
+final class ChunkedPublicationInput extends InputStream {
+
+    private final String publicationId;
+    private final long maxBufferedBytes;
+    private final TimeValue chunkTimeout;
+    private final ListenableFuture<PublishWithJoinResponse> response = new ListenableFuture<>();
+
+    private final ArrayDeque<BytesReference> chunks = new ArrayDeque<>();
+    private int nextSequence;
+    private long bufferedBytes;
+    private long receivedBytes;
+    private boolean lastChunkReceived;
+    private Exception failure;
+    private ActionListener<Void> pendingAcknowledgement;
+
+    // only accessed by the reading thread
+    private BytesReference currentChunk;
+    private StreamInput current;
+
+    ChunkedPublicationInput(String publicationId, long maxBufferedBytes, TimeValue chunkTimeout) {
+        this.publicationId = publicationId;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.chunkTimeout = chunkTimeout;
+    }
+
+    String getPublicationId() {
+        return publicationId;
+    }
+
+    /**
+     * Completed with the response to the publication once the state is deserialized and handled.
+     */
+    ListenableFuture<PublishWithJoinResponse> response() {
+        return response;
+    }
+
+    /**
+     * Adds the next chunk of the publication, the listener is completed once the sender may send the following chunk.
+     */
+    void append(int sequence, BytesReference chunk, boolean last, ActionListener<Void> listener) {
+        final boolean acknowledge;
+        synchronized (this) {
+            if (failure != null) {
+                listener.onFailure(failure);
+                return;
+            }
+            if (sequence != nextSequence || lastChunkReceived) {
+                listener.onFailure(
+                    new IllegalStateException(
+                        "expected chunk [" + nextSequence + "] of publication [" + publicationId + "] but got chunk [" + sequence + "]"
+                    )
+                );
+                return;
+            }
+            assert pendingAcknowledgement == null : "the next chunk was sent before the previous one was acknowledged";
+            nextSequence++;
+            chunks.add(chunk);
+            bufferedBytes += chunk.length();
+            receivedBytes += chunk.length();
+            lastChunkReceived = last;
+            acknowledge = bufferedBytes <= maxBufferedBytes;
+            if (acknowledge == false) {
+                pendingAcknowledgement = listener;
+            }
+            notifyAll();
+        }
+        if (acknowledge) {
+            listener.onResponse(null);
+        }
+    }
+
+    /**
+     * Fails the publication, the reader and the next chunks get the given failure.
+     */
+    void fail(Exception e) {
+        final ActionListener<Void> listener;
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = e;
+            chunks.clear();
+            bufferedBytes = 0;
+            listener = pendingAcknowledgement;
+            pendingAcknowledgement = null;
+            notifyAll();
+        }
+        if (listener != null) {
+            listener.onFailure(e);
+        }
+    }
+
+    synchronized long getReceivedBytes() {
+        return receivedBytes;
+    }
+
+    /**
+     * Reads and drops the rest of the stream, such as the trailer of the compression, until the last chunk arrived.
+     */
+    void readToEnd() throws IOException {
+        final byte[] buffer = new byte[8192];
+        while (read(buffer, 0, buffer.length) != -1) {
+            // drop
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            if (current != null) {
+                final int read = current.read(b, off, len);
+                if (read > 0) {
+                    return read;
+                }
+                releaseCurrentChunk();
+            }
+            if (nextChunk() == false) {
+                return -1;
+            }
+        }
+    }
+
+    private boolean nextChunk() throws IOException {
+        final long timeoutNanos = chunkTimeout.nanos();
+        final long startNanos = System.nanoTime();
+        synchronized (this) {
+            while (chunks.isEmpty()) {
+                if (failure != null) {
+                    throw new IOException("publication [" + publicationId + "] failed", failure);
+                }
+                if (lastChunkReceived) {
+                    return false;
+                }
+                final long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+                if (remainingNanos <= 0) {
+                    final OpenSearchTimeoutException e = new OpenSearchTimeoutException(
+                        "timed out after [{}] waiting for chunk [{}] of publication [{}]",
+                        chunkTimeout,
+                        nextSequence,
+                        publicationId
+                    );
+                    failure = e;
+                    throw e;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(
+                        "interrupted while waiting for chunk [" + nextSequence + "] of publication [" + publicationId + "]",
+                        e
+                    );
+                }
+            }
+            currentChunk = chunks.poll();
+        }
+        current = currentChunk.streamInput();
+        return true;
+    }
+
+    private void releaseCurrentChunk() {
+        final ActionListener<Void> listener;
+        synchronized (this) {
+            if (failure == null) {
+                bufferedBytes -= currentChunk.length();
+            }
+            listener = bufferedBytes <= maxBufferedBytes ? pendingAcknowledgement : null;
+            if (listener != null) {
+                pendingAcknowledgement = null;
+            }
+        }
+        currentChunk = null;
+        current = null;
+        if (listener != null) {
+            listener.onResponse(null);
+        }
+    }
+
+    /**
+     * Does not fail the publication, the decompressing stream on top closes this stream before {@link #readToEnd()}.
+     */
+    @Override
+    public void close() {}
+
+    @Override
+    public String toString() {
+        return "ChunkedPublicationInput{publicationId=" + publicationId + '}';
+    }
+}
@@ -25,6 +25,7 @@ import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.transport.BytesTransportRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * A helper class to utilize the compressed stream.
@@ -59,4 +60,20 @@ public final class CompressedStreamUtils {
         in.setVersion(request.version());
         return new NamedWriteableAwareStreamInput(in, namedWriteableRegistry);
     }
+
+    /**
+     * Like {@link #decompressBytes} for bytes that are read from a stream while they arrive, the compression is detected from the
+     * first bytes.
+     */
+    public static StreamInput decompressStream(
+        BytesReference firstBytes,
+        InputStream stream,
+        Version version,
+        NamedWriteableRegistry namedWriteableRegistry
+    ) throws IOException {
+        final Compressor compressor = CompressorRegistry.compressor(firstBytes);
+        final StreamInput in = new InputStreamStreamInput(compressor != null ? compressor.threadLocalInputStream(stream) : stream);
+        in.setVersion(version);
+        return new NamedWriteableAwareStreamInput(in, namedWriteableRegistry);
+    }
 }
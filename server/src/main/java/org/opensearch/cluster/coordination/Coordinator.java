@@ -276,6 +276,7 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
             configuredHostsResolver
         );
         this.publicationHandler = new PublicationTransportHandler(
+            settings,
             transportService,
             namedWriteableRegistry,
             this::handlePublishRequest,
@@ -957,6 +958,7 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
             stats.add(remoteClusterStateService.getDiffDownloadStats());
         }
         clusterStateStats.setPersistenceStats(stats);
+        clusterStateStats.setDeduplicationStats(publicationHandler.indexMetadataDeduplicationStats());
         return new DiscoveryStats(new PendingClusterStateStats(0, 0, 0), publicationHandler.stats(), clusterStateStats);
     }
 
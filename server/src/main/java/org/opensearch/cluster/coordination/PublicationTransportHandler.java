@@ -36,18 +36,29 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.coordination.PersistedStateRegistry.PersistedStateType;
+import org.opensearch.cluster.metadata.IndexMetadataDeduplicationStats;
+import org.opensearch.cluster.metadata.IndexMetadataDeduplicator;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.TriConsumer;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.gateway.GatewayMetaState.RemotePersistedState;
 import org.opensearch.gateway.remote.ClusterMetadataManifest;
@@ -68,6 +79,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 /**
  * Transport handler for publication
@@ -81,6 +93,42 @@ public class PublicationTransportHandler {
     public static final String PUBLISH_STATE_ACTION_NAME = "internal:cluster/coordination/publish_state";
     public static final String PUBLISH_REMOTE_STATE_ACTION_NAME = "internal:cluster/coordination/publish_remote_state";
     public static final String COMMIT_STATE_ACTION_NAME = "internal:cluster/coordination/commit_state";
+    public static final String PUBLISH_STATE_CHUNK_ACTION_NAME = "internal:cluster/coordination/publish_state_chunk";
+    public static final String PUBLISH_STATE_LAST_CHUNK_ACTION_NAME = "internal:cluster/coordination/publish_state_last_chunk";
+
+    /**
+     * Whether cluster states and diffs larger than {@link #CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING} are sent in chunks to the nodes that
+     * support it. Each chunk is sent once the previous one is acknowledged and the receiver deserializes the state while the chunks
+     * arrive, instead of both sides holding the whole message.
+     */
+    public static final Setting<Boolean> CHUNKED_PUBLICATION_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.publish.chunked.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.publish.chunked.chunk_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(64, ByteSizeUnit.KB),
+        new ByteSizeValue(64, ByteSizeUnit.MB),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * How many bytes of an incoming chunked publication a node buffers ahead of the deserialization before it holds back the
+     * acknowledgement of the chunks, per node that publishes.
+     */
+    public static final Setting<ByteSizeValue> CHUNKED_PUBLICATION_MAX_BUFFERED_SIZE_SETTING = Setting.byteSizeSetting(
+        "cluster.publish.chunked.max_buffered_size",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        new ByteSizeValue(0, ByteSizeUnit.BYTES),
+        new ByteSizeValue(Long.MAX_VALUE, ByteSizeUnit.BYTES),
+        Setting.Property.NodeScope
+    );
+
+    // the first version that receives chunked publications
+    static final Version CHUNKED_PUBLICATION_VERSION = Version.V_3_8_0;
 
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
@@ -95,6 +143,9 @@ public class PublicationTransportHandler {
     // TODO: look into these and check how to get rid of them
     private final AtomicReference<PublishRequest> currentPublishRequestToSelf = new AtomicReference<>();
 
+    // shares the settings and mappings of the index metadata of the states published to this node
+    private final IndexMetadataDeduplicator indexMetadataDeduplicator = new IndexMetadataDeduplicator();
+
     private final AtomicLong fullClusterStateReceivedCount = new AtomicLong();
     private final AtomicLong incompatibleClusterStateDiffReceivedCount = new AtomicLong();
     private final AtomicLong compatibleClusterStateDiffReceivedCount = new AtomicLong();
@@ -106,7 +157,32 @@ public class PublicationTransportHandler {
         .build();
     private final RemoteClusterStateService remoteClusterStateService;
 
+    private final boolean chunkedPublication;
+    private final int chunkSize;
+    private final long maxBufferedChunkBytes;
+    private final TimeValue chunkTimeout;
+    // the incoming chunked publication of each node that publishes to this node
+    private final Map<String, ChunkedPublicationInput> incomingChunkedPublications = ConcurrentCollections.newConcurrentMap();
+
+    public PublicationTransportHandler(
+        TransportService transportService,
+        NamedWriteableRegistry namedWriteableRegistry,
+        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
+        TriConsumer<ApplyCommitRequest, Consumer<ClusterState>, ActionListener<Void>> handleApplyCommit,
+        RemoteClusterStateService remoteClusterStateService
+    ) {
+        this(
+            Settings.EMPTY,
+            transportService,
+            namedWriteableRegistry,
+            handlePublishRequest,
+            handleApplyCommit,
+            remoteClusterStateService
+        );
+    }
+
     public PublicationTransportHandler(
+        Settings settings,
         TransportService transportService,
         NamedWriteableRegistry namedWriteableRegistry,
         Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
@@ -117,6 +193,11 @@ public class PublicationTransportHandler {
         this.namedWriteableRegistry = namedWriteableRegistry;
         this.handlePublishRequest = handlePublishRequest;
         this.remoteClusterStateService = remoteClusterStateService;
+        this.chunkedPublication = CHUNKED_PUBLICATION_ENABLED_SETTING.get(settings);
+        this.chunkSize = Math.toIntExact(CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING.get(settings).getBytes());
+        this.maxBufferedChunkBytes = CHUNKED_PUBLICATION_MAX_BUFFERED_SIZE_SETTING.get(settings).getBytes();
+        // a publication that waits longer than this for a chunk has failed on the cluster-manager anyway
+        this.chunkTimeout = Coordinator.PUBLISH_TIMEOUT_SETTING.get(settings);
 
         transportService.registerRequestHandler(
             PUBLISH_STATE_ACTION_NAME,
@@ -144,6 +225,35 @@ public class PublicationTransportHandler {
             ApplyCommitRequest::new,
             (request, channel, task) -> handleApplyCommit.apply(request, this::updateLastSeen, transportCommitCallback(channel))
         );
+
+        transportService.registerRequestHandler(
+            PUBLISH_STATE_CHUNK_ACTION_NAME,
+            ThreadPool.Names.GENERIC,
+            false,
+            false,
+            PublishChunkRequest::new,
+            (request, channel, task) -> handleIncomingPublishChunk(
+                request,
+                false,
+                ActionListener.map(
+                    new ChannelActionListener<>(channel, PUBLISH_STATE_CHUNK_ACTION_NAME, request),
+                    ignored -> TransportResponse.Empty.INSTANCE
+                )
+            )
+        );
+
+        transportService.registerRequestHandler(
+            PUBLISH_STATE_LAST_CHUNK_ACTION_NAME,
+            ThreadPool.Names.GENERIC,
+            false,
+            false,
+            PublishChunkRequest::new,
+            (request, channel, task) -> handleIncomingPublishChunk(
+                request,
+                true,
+                new ChannelActionListener<>(channel, PUBLISH_STATE_LAST_CHUNK_ACTION_NAME, request)
+            )
+        );
     }
 
     private ActionListener<Void> transportCommitCallback(TransportChannel channel) {
@@ -170,6 +280,10 @@ public class PublicationTransportHandler {
         };
     }
 
+    public IndexMetadataDeduplicationStats indexMetadataDeduplicationStats() {
+        return indexMetadataDeduplicator.stats();
+    }
+
     public PublishClusterStateStats stats() {
         return new PublishClusterStateStats(
             fullClusterStateReceivedCount.get(),
@@ -179,7 +293,14 @@ public class PublicationTransportHandler {
     }
 
     private PublishWithJoinResponse handleIncomingPublishRequest(BytesTransportRequest request) throws IOException {
-        try (StreamInput in = CompressedStreamUtils.decompressBytes(request, namedWriteableRegistry)) {
+        return handleIncomingPublishRequest(
+            CompressedStreamUtils.decompressBytes(request, namedWriteableRegistry),
+            () -> request.bytes().length()
+        );
+    }
+
+    private PublishWithJoinResponse handleIncomingPublishRequest(StreamInput stream, LongSupplier size) throws IOException {
+        try (StreamInput in = indexMetadataDeduplicator.wrap(stream, namedWriteableRegistry)) {
             ClusterState incomingState;
             if (in.readBoolean()) {
                 // Close early to release resources used by the de-compression as early as possible
@@ -190,7 +311,7 @@ public class PublicationTransportHandler {
                     throw e;
                 }
                 fullClusterStateReceivedCount.incrementAndGet();
-                logger.debug("received full cluster state version [{}] with size [{}]", incomingState.version(), request.bytes().length());
+                logger.debug("received full cluster state version [{}] with size [{}]", incomingState.version(), size.getAsLong());
                 final PublishWithJoinResponse response = acceptState(incomingState, null);
                 lastSeenClusterState.set(incomingState);
                 return response;
@@ -220,7 +341,7 @@ public class PublicationTransportHandler {
                         "received diff cluster state version [{}] with uuid [{}], diff size [{}]",
                         incomingState.version(),
                         incomingState.stateUUID(),
-                        request.bytes().length()
+                        size.getAsLong()
                     );
                     final PublishWithJoinResponse response = acceptState(incomingState, null);
                     lastSeenClusterState.compareAndSet(lastSeen, incomingState);
@@ -230,6 +351,52 @@ public class PublicationTransportHandler {
         }
     }
 
+    /**
+     * Appends the chunk to the incoming chunked publication of the source node, the first chunk starts deserializing the state on a
+     * generic thread. The listener of the last chunk is completed with the response to the publication.
+     */
+    // package private for testing
+    void handleIncomingPublishChunk(PublishChunkRequest request, boolean last, ActionListener<PublishWithJoinResponse> listener) {
+        final ChunkedPublicationInput publication;
+        if (request.getSequence() == 0) {
+            publication = new ChunkedPublicationInput(request.getPublicationId(), maxBufferedChunkBytes, chunkTimeout);
+            final ChunkedPublicationInput superseded = incomingChunkedPublications.put(request.getSourceNodeId(), publication);
+            if (superseded != null) {
+                superseded.fail(new IllegalStateException("publication [" + superseded.getPublicationId() + "] was superseded"));
+            }
+            transportService.getThreadPool().generic().execute(() -> readChunkedPublication(request, publication));
+        } else {
+            publication = incomingChunkedPublications.get(request.getSourceNodeId());
+            if (publication == null || publication.getPublicationId().equals(request.getPublicationId()) == false) {
+                listener.onFailure(new IllegalStateException("publication [" + request.getPublicationId() + "] is not in progress"));
+                return;
+            }
+        }
+        publication.append(request.getSequence(), request.bytes(), last, ActionListener.wrap(ignored -> {
+            if (last) {
+                publication.response().addListener(listener, OpenSearchExecutors.newDirectExecutorService());
+            } else {
+                listener.onResponse(null);
+            }
+        }, listener::onFailure));
+    }
+
+    private void readChunkedPublication(PublishChunkRequest firstChunk, ChunkedPublicationInput publication) {
+        try {
+            final PublishWithJoinResponse response = handleIncomingPublishRequest(
+                CompressedStreamUtils.decompressStream(firstChunk.bytes(), publication, firstChunk.version(), namedWriteableRegistry),
+                publication::getReceivedBytes
+            );
+            publication.readToEnd();
+            publication.response().onResponse(response);
+        } catch (Exception e) {
+            publication.fail(e);
+            publication.response().onFailure(e);
+        } finally {
+            incomingChunkedPublications.remove(firstChunk.getSourceNodeId(), publication);
+        }
+    }
+
     // package private for testing
     PublishWithJoinResponse handleIncomingRemotePublishRequest(RemotePublishRequest request) throws IOException, IllegalStateException {
         boolean applyFullState = false;
@@ -582,7 +749,6 @@ public class PublicationTransportHandler {
             ActionListener<PublishWithJoinResponse> listener
         ) {
             try {
-                final BytesTransportRequest request = new BytesTransportRequest(bytes, destination.getVersion());
                 final Consumer<TransportException> transportExceptionHandler = exp -> {
                     if (retryWithFullClusterStateOnFailure && exp.unwrapCause() instanceof IncompatibleClusterStateVersionException) {
                         logger.debug("resending full cluster state to node {} reason {}", destination, exp.getDetailedMessage());
@@ -615,7 +781,15 @@ public class PublicationTransportHandler {
                         return ThreadPool.Names.GENERIC;
                     }
                 };
-                transportService.sendRequest(destination, PUBLISH_STATE_ACTION_NAME, request, stateRequestOptions, responseHandler);
+                if (chunkedPublication
+                    && bytes.length() > chunkSize
+                    && destination.getVersion().onOrAfter(CHUNKED_PUBLICATION_VERSION)
+                    && destination.equals(discoveryNodes.getLocalNode()) == false) {
+                    sendChunk(destination, UUIDs.randomBase64UUID(), bytes, 0, responseHandler);
+                } else {
+                    final BytesTransportRequest request = new BytesTransportRequest(bytes, destination.getVersion());
+                    transportService.sendRequest(destination, PUBLISH_STATE_ACTION_NAME, request, stateRequestOptions, responseHandler);
+                }
             } catch (Exception e) {
                 logger.warn(() -> new ParameterizedMessage("error sending cluster state to {}", destination), e);
                 listener.onFailure(e);
@@ -623,6 +797,61 @@ public class PublicationTransportHandler {
         }
     }
 
+    /**
+     * Sends the chunk of the serialized state with the given sequence number, and the next chunk once the destination acknowledged it.
+     * The last chunk is answered with the response to the publication.
+     */
+    private void sendChunk(
+        DiscoveryNode destination,
+        String publicationId,
+        BytesReference bytes,
+        int sequence,
+        TransportResponseHandler<PublishWithJoinResponse> responseHandler
+    ) {
+        final int from = sequence * chunkSize;
+        final int length = Math.min(chunkSize, bytes.length() - from);
+        final PublishChunkRequest request = new PublishChunkRequest(
+            transportService.getLocalNode().getId(),
+            publicationId,
+            sequence,
+            bytes.slice(from, length),
+            destination.getVersion()
+        );
+        if (from + length == bytes.length()) {
+            logger.trace("sending last chunk [{}] of publication [{}] to [{}]", sequence, publicationId, destination);
+            transportService.sendRequest(destination, PUBLISH_STATE_LAST_CHUNK_ACTION_NAME, request, stateRequestOptions, responseHandler);
+            return;
+        }
+        transportService.sendRequest(
+            destination,
+            PUBLISH_STATE_CHUNK_ACTION_NAME,
+            request,
+            stateRequestOptions,
+            new TransportResponseHandler<TransportResponse.Empty>() {
+
+                @Override
+                public TransportResponse.Empty read(StreamInput in) {
+                    return TransportResponse.Empty.INSTANCE;
+                }
+
+                @Override
+                public void handleResponse(TransportResponse.Empty response) {
+                    sendChunk(destination, publicationId, bytes, sequence + 1, responseHandler);
+                }
+
+                @Override
+                public void handleException(TransportException exp) {
+                    responseHandler.handleException(exp);
+                }
+
+                @Override
+                public String executor() {
+                    return ThreadPool.Names.GENERIC;
+                }
+            }
+        );
+    }
+
     /**
      * An extension of {@code PublicationContext} to support remote cluster state publication
      *
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.Version;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * One chunk of the serialized and compressed cluster state or diff sent by a chunked publication. The chunks of a publication share
+ * its id and are numbered from zero.
+ *
+ * @opensearch.internal
+ */
+public class PublishChunkRequest extends TransportRequest {
+
+    private final String sourceNodeId;
+    private final String publicationId;
+    private final int sequence;
+    private final BytesReference bytes;
+    private final Version version;
+
+    public PublishChunkRequest(String sourceNodeId, String publicationId, int sequence, BytesReference bytes, Version version) {
+        this.sourceNodeId = sourceNodeId;
+        this.publicationId = publicationId;
+        this.sequence = sequence;
+        this.bytes = bytes;
+        this.version = version;
+    }
+
+    public PublishChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        this.sourceNodeId = in.readString();
+        this.publicationId = in.readString();
+        this.sequence = in.readVInt();
+        this.bytes = in.readBytesReference();
+        this.version = in.getVersion();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(sourceNodeId);
+        out.writeString(publicationId);
+        out.writeVInt(sequence);
+        out.writeBytesReference(bytes);
+    }
+
+    public String getSourceNodeId() {
+        return sourceNodeId;
+    }
+
+    public String getPublicationId() {
+        return publicationId;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public BytesReference bytes() {
+        return bytes;
+    }
+
+    /**
+     * The version that the state in the chunks was serialized for.
+     */
+    public Version version() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "PublishChunkRequest{"
+            + "sourceNodeId="
+            + sourceNodeId
+            + ", publicationId="
+            + publicationId
+            + ", sequence="
+            + sequence
+            + ", length="
+            + bytes.length()
+            + '}';
+    }
+}
@@ -35,6 +35,7 @@ package org.opensearch.cluster.metadata;
 import org.opensearch.Version;
 import org.opensearch.action.admin.indices.rollover.RolloverInfo;
 import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.cluster.AbstractDiffable;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.Diffable;
 import org.opensearch.cluster.DiffableUtils;
@@ -99,7 +100,6 @@ import static org.opensearch.cluster.metadata.Metadata.CONTEXT_MODE_PARAM;
 import static org.opensearch.cluster.node.DiscoveryNodeFilters.IP_VALIDATOR;
 import static org.opensearch.cluster.node.DiscoveryNodeFilters.OpType.AND;
 import static org.opensearch.cluster.node.DiscoveryNodeFilters.OpType.OR;
-import static org.opensearch.common.settings.Settings.readSettingsFromStream;
 import static org.opensearch.common.settings.Settings.writeSettingsToStream;
 
 /**
@@ -1697,7 +1697,10 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         private static final DiffableUtils.DiffableValueReader<String, AliasMetadata> ALIAS_METADATA_DIFF_VALUE_READER =
             new DiffableUtils.DiffableValueReader<>(AliasMetadata::new, AliasMetadata::readDiffFrom);
         private static final DiffableUtils.DiffableValueReader<String, MappingMetadata> MAPPING_DIFF_VALUE_READER =
-            new DiffableUtils.DiffableValueReader<>(MappingMetadata::new, MappingMetadata::readDiffFrom);
+            new DiffableUtils.DiffableValueReader<>(
+                IndexMetadataDeduplicator::readMapping,
+                in -> AbstractDiffable.readDiffFrom(IndexMetadataDeduplicator::readMapping, in)
+            );
         private static final DiffableUtils.DiffableValueReader<String, DiffableStringMap> CUSTOM_DIFF_VALUE_READER =
             new DiffableUtils.DiffableValueReader<>(DiffableStringMap::readFrom, DiffableStringMap::readDiffFrom);
         private static final DiffableUtils.DiffableValueReader<String, RolloverInfo> ROLLOVER_INFO_DIFF_VALUE_READER =
@@ -1711,7 +1714,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             settingsVersion = in.readVLong();
             aliasesVersion = in.readVLong();
             state = State.fromId(in.readByte());
-            settings = Settings.readSettingsFromStream(in);
+            settings = IndexMetadataDeduplicator.readSettings(in);
             long[] primaryTerms = null;
             if (in.getVersion().before(Version.V_3_6_0)) {
                 primaryTerms = in.readVLongArray();
@@ -1825,14 +1828,14 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         builder.aliasesVersion(in.readVLong());
         builder.setRoutingNumShards(in.readInt());
         builder.state(State.fromId(in.readByte()));
-        builder.settings(readSettingsFromStream(in));
+        builder.settings(IndexMetadataDeduplicator.readSettings(in));
         long[] primaryTerms = null;
         if (in.getVersion().before(Version.V_3_6_0)) {
             primaryTerms = in.readVLongArray();
         }
         int mappingsSize = in.readVInt();
         for (int i = 0; i < mappingsSize; i++) {
-            MappingMetadata mappingMd = new MappingMetadata(in);
+            MappingMetadata mappingMd = IndexMetadataDeduplicator.readMapping(in);
             builder.putMapping(mappingMd);
         }
         int aliasesSize = in.readVInt();
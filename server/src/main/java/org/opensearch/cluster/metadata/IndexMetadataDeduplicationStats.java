@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Stats about the index settings and mappings that this node shared across {@link IndexMetadata} instances while reading the cluster
+ * states published to it, see {@link IndexMetadataDeduplicator}. The raw sizes add up the index metadata of every full state and
+ * diff the node received since it started, so an index counts again each time its metadata is published. The deduplicated sizes
+ * leave out the strings and mappings that were replaced by an equal instance the node already held. Settings sizes count the
+ * characters of the keys and values, which is their size on the heap for the latin-1 strings that settings mostly consist of, and
+ * mapping sizes count their compressed source.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.8.0")
+public class IndexMetadataDeduplicationStats implements Writeable, ToXContentFragment {
+
+    private final long settingsRawSizeInBytes;
+    private final long settingsSharedSizeInBytes;
+    private final long mappingsCount;
+    private final long mappingsSharedCount;
+    private final long mappingsRawSizeInBytes;
+    private final long mappingsSharedSizeInBytes;
+
+    public IndexMetadataDeduplicationStats(
+        long settingsRawSizeInBytes,
+        long settingsSharedSizeInBytes,
+        long mappingsCount,
+        long mappingsSharedCount,
+        long mappingsRawSizeInBytes,
+        long mappingsSharedSizeInBytes
+    ) {
+        this.settingsRawSizeInBytes = settingsRawSizeInBytes;
+        this.settingsSharedSizeInBytes = settingsSharedSizeInBytes;
+        this.mappingsCount = mappingsCount;
+        this.mappingsSharedCount = mappingsSharedCount;
+        this.mappingsRawSizeInBytes = mappingsRawSizeInBytes;
+        this.mappingsSharedSizeInBytes = mappingsSharedSizeInBytes;
+    }
+
+    public IndexMetadataDeduplicationStats(StreamInput in) throws IOException {
+        this.settingsRawSizeInBytes = in.readVLong();
+        this.settingsSharedSizeInBytes = in.readVLong();
+        this.mappingsCount = in.readVLong();
+        this.mappingsSharedCount = in.readVLong();
+        this.mappingsRawSizeInBytes = in.readVLong();
+        this.mappingsSharedSizeInBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(settingsRawSizeInBytes);
+        out.writeVLong(settingsSharedSizeInBytes);
+        out.writeVLong(mappingsCount);
+        out.writeVLong(mappingsSharedCount);
+        out.writeVLong(mappingsRawSizeInBytes);
+        out.writeVLong(mappingsSharedSizeInBytes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.INDEX_METADATA_DEDUPLICATION);
+        builder.startObject(Fields.SETTINGS);
+        builder.field(Fields.RAW_SIZE_IN_BYTES, getSettingsRawSizeInBytes());
+        builder.field(Fields.DEDUPLICATED_SIZE_IN_BYTES, getSettingsDeduplicatedSizeInBytes());
+        builder.endObject();
+        builder.startObject(Fields.MAPPINGS);
+        builder.field(Fields.COUNT, getMappingsCount());
+        builder.field(Fields.SHARED_COUNT, getMappingsSharedCount());
+        builder.field(Fields.RAW_SIZE_IN_BYTES, getMappingsRawSizeInBytes());
+        builder.field(Fields.DEDUPLICATED_SIZE_IN_BYTES, getMappingsDeduplicatedSizeInBytes());
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+
+    public long getSettingsRawSizeInBytes() {
+        return settingsRawSizeInBytes;
+    }
+
+    public long getSettingsDeduplicatedSizeInBytes() {
+        return settingsRawSizeInBytes - settingsSharedSizeInBytes;
+    }
+
+    public long getMappingsCount() {
+        return mappingsCount;
+    }
+
+    public long getMappingsSharedCount() {
+        return mappingsSharedCount;
+    }
+
+    public long getMappingsRawSizeInBytes() {
+        return mappingsRawSizeInBytes;
+    }
+
+    public long getMappingsDeduplicatedSizeInBytes() {
+        return mappingsRawSizeInBytes - mappingsSharedSizeInBytes;
+    }
+
+    /**
+     * Fields for parsing and toXContent
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String INDEX_METADATA_DEDUPLICATION = "index_metadata_deduplication";
+        static final String SETTINGS = "settings";
+        static final String MAPPINGS = "mappings";
+        static final String COUNT = "count";
+        static final String SHARED_COUNT = "shared_count";
+        static final String RAW_SIZE_IN_BYTES = "raw_size_in_bytes";
+        static final String DEDUPLICATED_SIZE_IN_BYTES = "deduplicated_size_in_bytes";
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares the settings strings and mappings of the {@link IndexMetadata} that a node reads from the cluster states published to it.
+ * Indices created from the same template carry equal mappings and mostly equal settings, and without sharing the node holds a copy
+ * of them per index. Mappings are replaced by an equal instance already on the heap, which is only weakly referenced so that it goes
+ * away with the last index using it. Settings keys are interned. Settings values are shared through a bounded table of the values
+ * read most recently, so that values unique to an index, like its uuid, neither pile up nor push out the values that repeat.
+ * <p>
+ * Only streams wrapped with {@link #wrap} are deduplicated, everything else reads index metadata as is.
+ *
+ * @opensearch.internal
+ */
+public final class IndexMetadataDeduplicator {
+
+    static final int MAX_SHARED_SETTING_VALUES = 10_000;
+
+    /**
+     * Settings whose values differ for every index and are not worth a slot in the table of shared values.
+     */
+    private static final Set<String> UNIQUE_SETTINGS = Set.of(
+        IndexMetadata.SETTING_INDEX_UUID,
+        IndexMetadata.SETTING_HISTORY_UUID,
+        IndexMetadata.SETTING_CREATION_DATE,
+        IndexMetadata.SETTING_INDEX_PROVIDED_NAME
+    );
+
+    private final Map<MappingMetadata, WeakReference<MappingMetadata>> mappings = new WeakHashMap<>();
+    private final Cache<String, String> settingValues = CacheBuilder.<String, String>builder()
+        .setMaximumWeight(MAX_SHARED_SETTING_VALUES)
+        .build();
+
+    private final LongAdder settingsRawSizeInBytes = new LongAdder();
+    private final LongAdder settingsSharedSizeInBytes = new LongAdder();
+    private final LongAdder mappingsCount = new LongAdder();
+    private final LongAdder mappingsSharedCount = new LongAdder();
+    private final LongAdder mappingsRawSizeInBytes = new LongAdder();
+    private final LongAdder mappingsSharedSizeInBytes = new LongAdder();
+
+    /**
+     * Wraps the stream so that the index metadata read from it is deduplicated by this instance.
+     */
+    public StreamInput wrap(StreamInput in, NamedWriteableRegistry namedWriteableRegistry) {
+        return new DeduplicatingStreamInput(in, namedWriteableRegistry, this);
+    }
+
+    static Settings readSettings(StreamInput in) throws IOException {
+        if (in instanceof DeduplicatingStreamInput) {
+            final IndexMetadataDeduplicator deduplicator = ((DeduplicatingStreamInput) in).deduplicator;
+            return Settings.readSettingsFromStream(in, deduplicator::deduplicateKey, deduplicator::deduplicateValue);
+        }
+        return Settings.readSettingsFromStream(in);
+    }
+
+    static MappingMetadata readMapping(StreamInput in) throws IOException {
+        final MappingMetadata mapping = new MappingMetadata(in);
+        if (in instanceof DeduplicatingStreamInput) {
+            return ((DeduplicatingStreamInput) in).deduplicator.deduplicate(mapping);
+        }
+        return mapping;
+    }
+
+    String deduplicateKey(String key) {
+        // there are only as many distinct keys as there are settings in use
+        return count(key, key.intern());
+    }
+
+    String deduplicateValue(String key, String value) {
+        if (UNIQUE_SETTINGS.contains(key)) {
+            return count(value, value);
+        }
+        final String shared = settingValues.get(value);
+        if (shared != null) {
+            return count(value, shared);
+        }
+        settingValues.put(value, value);
+        return count(value, value);
+    }
+
+    private String count(String value, String shared) {
+        // compact strings take a byte per char for the latin-1 strings that settings mostly consist of
+        settingsRawSizeInBytes.add(value.length());
+        if (shared != value) {
+            settingsSharedSizeInBytes.add(value.length());
+        }
+        return shared;
+    }
+
+    MappingMetadata deduplicate(MappingMetadata mapping) {
+        final int size = mapping.source().compressed().length;
+        mappingsCount.increment();
+        mappingsRawSizeInBytes.add(size);
+        synchronized (mappings) {
+            final WeakReference<MappingMetadata> ref = mappings.get(mapping);
+            final MappingMetadata shared = ref == null ? null : ref.get();
+            if (shared != null) {
+                mappingsSharedCount.increment();
+                mappingsSharedSizeInBytes.add(size);
+                return shared;
+            }
+            mappings.put(mapping, new WeakReference<>(mapping));
+            return mapping;
+        }
+    }
+
+    public IndexMetadataDeduplicationStats stats() {
+        return new IndexMetadataDeduplicationStats(
+            settingsRawSizeInBytes.sum(),
+            settingsSharedSizeInBytes.sum(),
+            mappingsCount.sum(),
+            mappingsSharedCount.sum(),
+            mappingsRawSizeInBytes.sum(),
+            mappingsSharedSizeInBytes.sum()
+        );
+    }
+
+    /**
+     * A stream whose index metadata is deduplicated by the given {@link IndexMetadataDeduplicator}.
+     */
+    private static final class DeduplicatingStreamInput extends NamedWriteableAwareStreamInput {
+        private final IndexMetadataDeduplicator deduplicator;
+
+        private DeduplicatingStreamInput(
+            StreamInput delegate,
+            NamedWriteableRegistry namedWriteableRegistry,
+            IndexMetadataDeduplicator deduplicator
+        ) {
+            super(delegate, namedWriteableRegistry);
+            this.deduplicator = deduplicator;
+        }
+    }
+}
@@ -42,6 +42,8 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.logging.DeprecationLogger;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateMathParser;
 import org.opensearch.common.time.DateUtils;
@@ -86,14 +88,28 @@ public class IndexNameExpressionResolver {
     public static final String EXCLUDED_DATA_STREAMS_KEY = "opensearch.excluded_ds";
     public static final String SYSTEM_INDEX_ACCESS_CONTROL_HEADER_KEY = "_system_index_access_allowed";
 
+    /**
+     * The maximum number of index names that the wildcard expansions cached across requests hold, {@code 0} disables the cache.
+     */
+    public static final Setting<Integer> RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING = Setting.intSetting(
+        "cluster.indices.resolved_expressions_cache.max_names",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
     private final DateMathExpressionResolver dateMathExpressionResolver = new DateMathExpressionResolver();
-    private final WildcardExpressionResolver wildcardExpressionResolver = new WildcardExpressionResolver();
+    private final WildcardExpressionResolver wildcardExpressionResolver;
+    @Nullable
+    private final ResolvedExpressionCache resolvedExpressionCache;
     private final List<ExpressionResolver> expressionResolvers;
     private final List<ExpressionResolver> customResolvers = new ArrayList<>();
 
     private final ThreadContext threadContext;
 
     public IndexNameExpressionResolver(ThreadContext threadContext) {
+        resolvedExpressionCache = null;
+        wildcardExpressionResolver = new WildcardExpressionResolver();
         expressionResolvers = new ArrayList<>();
         expressionResolvers.add(dateMathExpressionResolver);
         expressionResolvers.add(wildcardExpressionResolver);
@@ -101,6 +117,13 @@ public class IndexNameExpressionResolver {
     }
 
     public IndexNameExpressionResolver(ThreadContext threadContext, List<ExpressionResolver> resolvers) {
+        this(threadContext, resolvers, Settings.EMPTY);
+    }
+
+    public IndexNameExpressionResolver(ThreadContext threadContext, List<ExpressionResolver> resolvers, Settings settings) {
+        final int cacheMaxNames = RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING.get(settings);
+        resolvedExpressionCache = cacheMaxNames > 0 ? new ResolvedExpressionCache(cacheMaxNames) : null;
+        wildcardExpressionResolver = new WildcardExpressionResolver(resolvedExpressionCache);
         // Set custom resolvers to the top of the list to ensure to WildcardExpressionResolver is triggered at the end,
         // otherwise it will throw exception in case it cannot resolve any keywords which are expected to be handled
         // by custom resolvers.
@@ -116,6 +139,13 @@ public class IndexNameExpressionResolver {
         return new ArrayList<>(this.expressionResolvers);
     }
 
+    /**
+     * Returns the stats of the cache of resolved wildcard expressions, see {@link ResolvedExpressionCacheStats}.
+     */
+    public ResolvedExpressionCacheStats getResolvedExpressionCacheStats() {
+        return resolvedExpressionCache == null ? new ResolvedExpressionCacheStats(0, 0, 0) : resolvedExpressionCache.stats();
+    }
+
     /**
      * Same as {@link #concreteIndexNames(ClusterState, IndicesOptions, String...)}, but the index expressions and options
      * are encapsulated in the specified request.
@@ -1061,6 +1091,17 @@ public class IndexNameExpressionResolver {
      */
     static final class WildcardExpressionResolver implements ExpressionResolver {
 
+        @Nullable
+        private final ResolvedExpressionCache cache;
+
+        WildcardExpressionResolver() {
+            this(null);
+        }
+
+        WildcardExpressionResolver(@Nullable ResolvedExpressionCache cache) {
+            this.cache = cache;
+        }
+
         @Override
         public List<String> resolve(Context context, List<String> expressions) {
             IndicesOptions options = context.getOptions();
@@ -1162,15 +1203,13 @@ public class IndexNameExpressionResolver {
                     continue;
                 }
 
-                final IndexMetadata.State excludeState = excludeState(options);
-                final Map<String, IndexAbstraction> matches = matches(context, metadata, expression);
-                Set<String> expand = expand(context, excludeState, matches, expression, options.expandWildcardsHidden());
+                final ResolvedExpressionCache.Expansion expansion = expandWildcard(context, options, metadata, expression);
                 if (add) {
-                    result.addAll(expand);
+                    result.addAll(expansion.names());
                 } else {
-                    result.removeAll(expand);
+                    result.removeAll(expansion.names());
                 }
-                if (options.allowNoIndices() == false && matches.isEmpty()) {
+                if (options.allowNoIndices() == false && expansion.noMatches()) {
                     context.addResolutionError(indexNotFoundException(expression));
                 }
                 if (Regex.isSimpleMatchPattern(expression)) {
@@ -1180,6 +1219,39 @@ public class IndexNameExpressionResolver {
             return result;
         }
 
+        private ResolvedExpressionCache.Expansion expandWildcard(
+            Context context,
+            IndicesOptions options,
+            Metadata metadata,
+            String expression
+        ) {
+            final ResolvedExpressionCache.Key key;
+            if (cache != null) {
+                key = new ResolvedExpressionCache.Key(
+                    expression,
+                    options,
+                    context.includeDataStreams(),
+                    context.isPreserveAliases(),
+                    context.isPreserveDataStreams()
+                );
+                final ResolvedExpressionCache.Expansion cached = cache.get(metadata, key);
+                if (cached != null) {
+                    return cached;
+                }
+            } else {
+                key = null;
+            }
+            final Map<String, IndexAbstraction> matches = matches(context, metadata, expression);
+            final ResolvedExpressionCache.Expansion expansion = new ResolvedExpressionCache.Expansion(
+                expand(context, excludeState(options), matches, expression, options.expandWildcardsHidden()),
+                matches.isEmpty()
+            );
+            if (key != null) {
+                cache.put(metadata, key, expansion);
+            }
+            return expansion;
+        }
+
         private static void validateAliasOrIndex(Context context, String expression) {
             // Expressions can not start with an underscore. This is reserved for APIs. If the check gets here, the API
             // does not exist and the path is interpreted as an expression. If the expression begins with an underscore,
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalReason;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the names that a wildcard expression expands to, see
+ * {@link IndexNameExpressionResolver#RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING}. The expansion only depends on the indices lookup of
+ * the {@link Metadata}, which is reused as long as the indices and data streams do not change, so the cached expansions belong to one
+ * lookup instance and are dropped when a newer metadata comes with another one. The cache is bounded by the number of cached names.
+ *
+ * @opensearch.internal
+ */
+final class ResolvedExpressionCache {
+
+    private final long maxNames;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile Generation generation;
+
+    ResolvedExpressionCache(long maxNames) {
+        assert maxNames > 0 : "cache of resolved expressions must hold at least one name but got [" + maxNames + "]";
+        this.maxNames = maxNames;
+        this.generation = new Generation(null, -1L, newCache());
+    }
+
+    /**
+     * Returns the cached expansion of the key for the given metadata, or {@code null} if it has to be resolved.
+     */
+    Expansion get(Metadata metadata, Key key) {
+        final Cache<Key, Expansion> cache = cacheFor(metadata);
+        final Expansion expansion = cache == null ? null : cache.get(key);
+        if (expansion == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return expansion;
+    }
+
+    void put(Metadata metadata, Key key, Expansion expansion) {
+        final Cache<Key, Expansion> cache = cacheFor(metadata);
+        if (cache != null && expansion.names().size() < maxNames) {
+            cache.put(key, expansion);
+        }
+    }
+
+    ResolvedExpressionCacheStats stats() {
+        return new ResolvedExpressionCacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Returns the cache for the indices lookup of the metadata, or {@code null} for a metadata older than the one currently cached,
+     * as requests that still resolve against a previous cluster state must not drop the expansions of the current one.
+     */
+    private Cache<Key, Expansion> cacheFor(Metadata metadata) {
+        final SortedMap<String, IndexAbstraction> indicesLookup = metadata.getIndicesLookup();
+        Generation current = generation;
+        if (current.indicesLookup == indicesLookup) {
+            return current.cache;
+        }
+        synchronized (this) {
+            current = generation;
+            if (current.indicesLookup == indicesLookup) {
+                return current.cache;
+            }
+            if (metadata.version() < current.metadataVersion) {
+                return null;
+            }
+            evictions.add(current.cache.count());
+            generation = new Generation(indicesLookup, metadata.version(), newCache());
+            return generation.cache;
+        }
+    }
+
+    private Cache<Key, Expansion> newCache() {
+        return CacheBuilder.<Key, Expansion>builder()
+            .setMaximumWeight(maxNames)
+            .weigher((key, expansion) -> expansion.names().size() + 1)
+            .removalListener(notification -> {
+                if (notification.getRemovalReason() == RemovalReason.EVICTED) {
+                    evictions.increment();
+                }
+            })
+            .build();
+    }
+
+    /**
+     * The cached expansions for one indices lookup.
+     */
+    private static final class Generation {
+        private final SortedMap<String, IndexAbstraction> indicesLookup;
+        private final long metadataVersion;
+        private final Cache<Key, Expansion> cache;
+
+        private Generation(SortedMap<String, IndexAbstraction> indicesLookup, long metadataVersion, Cache<Key, Expansion> cache) {
+            this.indicesLookup = indicesLookup;
+            this.metadataVersion = metadataVersion;
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * A wildcard expression together with everything of the resolution context that its expansion depends on.
+     */
+    static final class Key {
+        private final String expression;
+        private final IndicesOptions options;
+        private final boolean includeDataStreams;
+        private final boolean preserveAliases;
+        private final boolean preserveDataStreams;
+
+        Key(String expression, IndicesOptions options, boolean includeDataStreams, boolean preserveAliases, boolean preserveDataStreams) {
+            this.expression = expression;
+            this.options = options;
+            this.includeDataStreams = includeDataStreams;
+            this.preserveAliases = preserveAliases;
+            this.preserveDataStreams = preserveDataStreams;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return includeDataStreams == key.includeDataStreams
+                && preserveAliases == key.preserveAliases
+                && preserveDataStreams == key.preserveDataStreams
+                && expression.equals(key.expression)
+                && options.equals(key.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, options, includeDataStreams, preserveAliases, preserveDataStreams);
+        }
+    }
+
+    /**
+     * The names a wildcard expression expands to, and whether it matched no index abstraction at all.
+     */
+    static final class Expansion {
+        private final Set<String> names;
+        private final boolean noMatches;
+
+        Expansion(Set<String> names, boolean noMatches) {
+            this.names = Collections.unmodifiableSet(names);
+            this.noMatches = noMatches;
+        }
+
+        Set<String> names() {
+            return names;
+        }
+
+        boolean noMatches() {
+            return noMatches;
+        }
+    }
+}
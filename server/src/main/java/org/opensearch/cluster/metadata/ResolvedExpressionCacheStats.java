@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Stats of the cache of resolved wildcard expressions of a node, see
+ * {@link IndexNameExpressionResolver#RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING}. The evictions include the expansions dropped because
+ * the indices changed. All counts are {@code 0} when the cache is disabled.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.8.0")
+public class ResolvedExpressionCacheStats implements Writeable, ToXContentFragment {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    public ResolvedExpressionCacheStats(long hits, long misses, long evictions) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    public ResolvedExpressionCacheStats(StreamInput in) throws IOException {
+        this.hits = in.readVLong();
+        this.misses = in.readVLong();
+        this.evictions = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.RESOLVED_EXPRESSIONS_CACHE);
+        builder.field(Fields.HITS, hits);
+        builder.field(Fields.MISSES, misses);
+        builder.field(Fields.EVICTIONS, evictions);
+        builder.endObject();
+        return builder;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Fields for parsing and toXContent
+     *
+     * @opensearch.internal
+     */
+    static final class Fields {
+        static final String RESOLVED_EXPRESSIONS_CACHE = "resolved_expressions_cache";
+        static final String HITS = "hits";
+        static final String MISSES = "misses";
+        static final String EVICTIONS = "evictions";
+    }
+}
@@ -44,6 +44,7 @@ import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.index.Index;
@@ -78,6 +79,45 @@ public class OperationRouting {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Weights of the CPU, memory and IO utilization of a node in its adaptive replica selection rank. The rank of a node is multiplied
+     * by {@code 1 + sum(weight * utilization)}, with utilizations between 0 and 1, so a weight of 0 ignores the resource.
+     */
+    public static final Setting<Double> ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING = Setting.doubleSetting(
+        "cluster.routing.adaptive_replica_selection.resource_usage.cpu_weight",
+        0.0,
+        0.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Double> ADAPTIVE_REPLICA_SELECTION_MEMORY_WEIGHT_SETTING = Setting.doubleSetting(
+        "cluster.routing.adaptive_replica_selection.resource_usage.memory_weight",
+        0.0,
+        0.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<Double> ADAPTIVE_REPLICA_SELECTION_IO_WEIGHT_SETTING = Setting.doubleSetting(
+        "cluster.routing.adaptive_replica_selection.resource_usage.io_weight",
+        0.0,
+        0.0,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Resource usage statistics older than this are ignored, so that a node that got avoided because it was busy eventually becomes a
+     * candidate for requests again.
+     */
+    public static final Setting<TimeValue> ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING = Setting.positiveTimeSetting(
+        "cluster.routing.adaptive_replica_selection.resource_usage.stale_after",
+        TimeValue.timeValueSeconds(10),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     public static final String IGNORE_AWARENESS_ATTRIBUTES = "cluster.search.ignore_awareness_attributes";
     public static final Setting<Boolean> IGNORE_AWARENESS_ATTRIBUTES_SETTING = Setting.boolSetting(
         IGNORE_AWARENESS_ATTRIBUTES,
@@ -85,7 +85,7 @@ import static org.opensearch.node.remotestore.RemoteStoreNodeService.isMigrating
  */
 @PublicApi(since = "1.0.0")
 public class RoutingNodes implements Iterable<RoutingNode> {
-    private final Metadata metadata;
+    private Metadata metadata;
 
     private final Map<String, RoutingNode> nodesToShards = new HashMap<>();
 
@@ -128,53 +128,190 @@ public class RoutingNodes implements Iterable<RoutingNode> {
         // also fill replicaSet information
         for (final IndexRoutingTable indexRoutingTable : routingTable.indicesRouting().values()) {
             for (IndexShardRoutingTable indexShard : indexRoutingTable) {
-                IndexMetadata idxMetadata = metadata.index(indexShard.shardId().getIndex());
-                boolean isSearchOnlyClusterBlockEnabled = false;
-                if (idxMetadata != null) {
-                    isSearchOnlyClusterBlockEnabled = idxMetadata.getSettings()
-                        .getAsBoolean(IndexMetadata.INDEX_BLOCKS_SEARCH_ONLY_SETTING.getKey(), false);
-                }
-                if (isSearchOnlyClusterBlockEnabled == false) {
-                    assert indexShard.primary != null : "Primary shard routing can't be null for non-search-only indices";
+                addShards(clusterState, indexShard);
+            }
+        }
+        assert nodesToShards.values().stream().allMatch(RoutingNode::invariant);
+    }
+
+    /**
+     * Brings this mutable instance, which must reflect {@code previousRoutingTable}, in line with the routing table of the given
+     * cluster state without rebuilding it from scratch. The two routing tables are compared index by index by identity, the shards
+     * of every index whose {@link IndexRoutingTable} changed are removed and added back, and the temporarily ignored unassigned
+     * shards go back to the unassigned list. Afterwards this instance holds the same shards as
+     * {@code new RoutingNodes(clusterState, false)}, only their iteration order can differ.
+     * <p>
+     * Nothing is changed if the data nodes changed or if so many indices changed that a rebuild is as cheap.
+     *
+     * @return {@code true} if this instance now reflects the routing table of the cluster state, {@code false} if it was left as is
+     */
+    public boolean applyRoutingTableChanges(RoutingTable previousRoutingTable, ClusterState clusterState) {
+        ensureMutable();
+        final Map<String, DiscoveryNode> dataNodes = clusterState.nodes().getDataNodes();
+        if (nodesToShards.size() != dataNodes.size()) {
+            return false;
+        }
+        for (final DiscoveryNode node : dataNodes.values()) {
+            final RoutingNode routingNode = nodesToShards.get(node.getId());
+            if (routingNode == null || routingNode.node() != node) {
+                return false;
+            }
+        }
+        final Map<String, IndexRoutingTable> previousIndices = previousRoutingTable.indicesRouting();
+        final Map<String, IndexRoutingTable> indices = clusterState.routingTable().indicesRouting();
+        final List<IndexRoutingTable> removedIndices = new ArrayList<>();
+        final List<IndexRoutingTable> addedIndices = new ArrayList<>();
+        for (final IndexRoutingTable indexRoutingTable : previousIndices.values()) {
+            if (indices.get(indexRoutingTable.getIndex().getName()) != indexRoutingTable) {
+                removedIndices.add(indexRoutingTable);
+            }
+        }
+        for (final IndexRoutingTable indexRoutingTable : indices.values()) {
+            if (previousIndices.get(indexRoutingTable.getIndex().getName()) != indexRoutingTable) {
+                addedIndices.add(indexRoutingTable);
+            }
+        }
+        // once about half of the indices changed, removing and adding back their shards costs as much as a rebuild
+        if (removedIndices.size() + addedIndices.size() > indices.size()) {
+            return false;
+        }
+
+        metadata = clusterState.getMetadata();
+        unassignedShards.moveIgnoredToUnassigned();
+        if (removedIndices.isEmpty() == false) {
+            final Set<Index> removed = new HashSet<>();
+            for (final IndexRoutingTable indexRoutingTable : removedIndices) {
+                removed.add(indexRoutingTable.getIndex());
+                for (IndexShardRoutingTable indexShard : indexRoutingTable) {
+                    removeShards(indexShard);
                 }
-                for (ShardRouting shard : indexShard) {
-                    // to get all the shards belonging to an index, including the replicas,
-                    // we define a replica set and keep track of it. A replica set is identified
-                    // by the ShardId, as this is common for primary and replicas.
-                    // A replica Set might have one (and not more) replicas with the state of RELOCATING.
-                    if (shard.assignedToNode()) {
-                        RoutingNode routingNode = this.nodesToShards.computeIfAbsent(
-                            shard.currentNodeId(),
-                            k -> new RoutingNode(shard.currentNodeId(), clusterState.nodes().get(shard.currentNodeId()))
-                        );
-                        routingNode.add(shard);
-                        assignedShardsAdd(shard);
-                        if (shard.relocating()) {
-                            relocatingShards++;
-                            // Add the counterpart shard with relocatingNodeId reflecting the source from which
-                            // it's relocating from.
-                            routingNode = nodesToShards.computeIfAbsent(
-                                shard.relocatingNodeId(),
-                                k -> new RoutingNode(shard.relocatingNodeId(), clusterState.nodes().get(shard.relocatingNodeId()))
-                            );
-                            ShardRouting targetShardRouting = shard.getTargetRelocatingShard();
-                            addInitialRecovery(targetShardRouting, indexShard.primary);
-                            routingNode.add(targetShardRouting);
-                            assignedShardsAdd(targetShardRouting);
-                        } else if (shard.initializing()) {
-                            if (shard.primary()) {
-                                inactivePrimaryCount++;
-                            }
-                            inactiveShardCount++;
-                            addInitialRecovery(shard, indexShard.primary);
-                        }
-                    } else {
-                        unassignedShards.add(shard);
+            }
+            unassignedShards.removeIf(shard -> removed.contains(shard.index()));
+        }
+        for (final IndexRoutingTable indexRoutingTable : addedIndices) {
+            for (IndexShardRoutingTable indexShard : indexRoutingTable) {
+                addShards(clusterState, indexShard);
+            }
+        }
+        assert nodesToShards.values().stream().allMatch(RoutingNode::invariant);
+        assert assertSameShards(this, new RoutingNodes(clusterState, false));
+        return true;
+    }
+
+    private void addShards(ClusterState clusterState, IndexShardRoutingTable indexShard) {
+        IndexMetadata idxMetadata = metadata.index(indexShard.shardId().getIndex());
+        boolean isSearchOnlyClusterBlockEnabled = false;
+        if (idxMetadata != null) {
+            isSearchOnlyClusterBlockEnabled = idxMetadata.getSettings()
+                .getAsBoolean(IndexMetadata.INDEX_BLOCKS_SEARCH_ONLY_SETTING.getKey(), false);
+        }
+        if (isSearchOnlyClusterBlockEnabled == false) {
+            assert indexShard.primary != null : "Primary shard routing can't be null for non-search-only indices";
+        }
+        for (ShardRouting shard : indexShard) {
+            // to get all the shards belonging to an index, including the replicas,
+            // we define a replica set and keep track of it. A replica set is identified
+            // by the ShardId, as this is common for primary and replicas.
+            // A replica Set might have one (and not more) replicas with the state of RELOCATING.
+            if (shard.assignedToNode()) {
+                RoutingNode routingNode = this.nodesToShards.computeIfAbsent(
+                    shard.currentNodeId(),
+                    k -> new RoutingNode(shard.currentNodeId(), clusterState.nodes().get(shard.currentNodeId()))
+                );
+                routingNode.add(shard);
+                assignedShardsAdd(shard);
+                if (shard.relocating()) {
+                    relocatingShards++;
+                    // Add the counterpart shard with relocatingNodeId reflecting the source from which
+                    // it's relocating from.
+                    routingNode = nodesToShards.computeIfAbsent(
+                        shard.relocatingNodeId(),
+                        k -> new RoutingNode(shard.relocatingNodeId(), clusterState.nodes().get(shard.relocatingNodeId()))
+                    );
+                    ShardRouting targetShardRouting = shard.getTargetRelocatingShard();
+                    addInitialRecovery(targetShardRouting, indexShard.primary);
+                    routingNode.add(targetShardRouting);
+                    assignedShardsAdd(targetShardRouting);
+                } else if (shard.initializing()) {
+                    if (shard.primary()) {
+                        inactivePrimaryCount++;
                     }
+                    inactiveShardCount++;
+                    addInitialRecovery(shard, indexShard.primary);
                 }
+            } else {
+                unassignedShards.add(shard);
             }
         }
-        assert nodesToShards.values().stream().allMatch(RoutingNode::invariant);
+    }
+
+    /**
+     * Reverts {@link #addShards} for the given shard routing table, which must be the one these shards were added from.
+     * The unassigned shards are left to the caller.
+     */
+    private void removeShards(IndexShardRoutingTable indexShard) {
+        final ShardId shardId = indexShard.shardId();
+        for (ShardRouting shard : indexShard) {
+            if (shard.assignedToNode() == false) {
+                continue;
+            }
+            final RoutingNode routingNode = nodesToShards.get(shard.currentNodeId());
+            routingNode.remove(routingNode.getByShardId(shardId));
+            if (shard.relocating()) {
+                relocatingShards--;
+                final RoutingNode targetNode = nodesToShards.get(shard.relocatingNodeId());
+                final ShardRouting targetShardRouting = targetNode.getByShardId(shardId);
+                removeInitialRecovery(targetShardRouting, indexShard.primary);
+                targetNode.remove(targetShardRouting);
+            } else if (shard.initializing()) {
+                if (shard.primary()) {
+                    inactivePrimaryCount--;
+                }
+                inactiveShardCount--;
+                removeInitialRecovery(shard, indexShard.primary);
+            }
+        }
+        assignedShards.remove(shardId);
+    }
+
+    private static boolean assertSameShards(RoutingNodes routingNodes, RoutingNodes expected) {
+        assert routingNodes.nodesToShards.keySet().equals(expected.nodesToShards.keySet()) : "nodes differ: "
+            + routingNodes.nodesToShards.keySet()
+            + " but expected "
+            + expected.nodesToShards.keySet();
+        for (RoutingNode expectedNode : expected) {
+            final Set<ShardRouting> shards = new HashSet<>();
+            routingNodes.node(expectedNode.nodeId()).forEach(shards::add);
+            final Set<ShardRouting> expectedShards = new HashSet<>();
+            expectedNode.forEach(expectedShards::add);
+            assert shards.equals(expectedShards) : "shards on node [" + expectedNode.nodeId() + "] are " + shards + " but expected "
+                + expectedShards;
+        }
+        assert routingNodes.unassignedShards.unassigned.stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            .equals(
+                expected.unassignedShards.unassigned.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            ) : "unassigned shards differ";
+        assert routingNodes.unassignedShards.isIgnoredEmpty() && expected.unassignedShards.isIgnoredEmpty();
+        assert routingNodes.unassignedShards.getNumPrimaries() == expected.unassignedShards.getNumPrimaries();
+        assert routingNodes.inactivePrimaryCount == expected.inactivePrimaryCount;
+        assert routingNodes.inactiveShardCount == expected.inactiveShardCount;
+        assert routingNodes.relocatingShards == expected.relocatingShards;
+        final Set<String> recoveryNodeIds = new HashSet<>();
+        for (RoutingNodes nodes : List.of(routingNodes, expected)) {
+            recoveryNodeIds.addAll(nodes.recoveriesPerNode.keySet());
+            recoveryNodeIds.addAll(nodes.initialReplicaRecoveries.keySet());
+            recoveryNodeIds.addAll(nodes.initialPrimaryRecoveries.keySet());
+        }
+        for (String nodeId : recoveryNodeIds) {
+            assert routingNodes.getIncomingRecoveries(nodeId) == expected.getIncomingRecoveries(nodeId) : nodeId;
+            assert routingNodes.getOutgoingRecoveries(nodeId) == expected.getOutgoingRecoveries(nodeId) : nodeId;
+            assert routingNodes.getInitialIncomingRecoveries(nodeId) == expected.getInitialIncomingRecoveries(nodeId) : nodeId;
+            assert routingNodes.getInitialOutgoingRecoveries(nodeId) == expected.getInitialOutgoingRecoveries(nodeId) : nodeId;
+            assert routingNodes.getInitialPrimariesIncomingRecoveries(nodeId) == expected.getInitialPrimariesIncomingRecoveries(nodeId)
+                : nodeId;
+        }
+        return true;
     }
 
     private void addRecovery(ShardRouting routing) {
@@ -189,9 +326,30 @@ public class RoutingNodes implements Iterable<RoutingNode> {
         updateRecoveryCounts(routing, true, initialPrimaryShard);
     }
 
+    private void removeInitialRecovery(ShardRouting routing, ShardRouting initialPrimaryShard) {
+        updateRecoveryCounts(routing, -1, initialPrimaryShard);
+    }
+
     private void updateRecoveryCounts(final ShardRouting routing, final boolean increment, @Nullable final ShardRouting primary) {
+        updateRecoveryCounts(routing, increment ? 1 : -1, primary);
+        if (increment == false
+            && routing.primary()
+            && routing.relocatingNodeId() != null
+            && routing.recoverySource().getType() == RecoverySource.Type.PEER) {
+            // primary is done relocating, move non-primary recoveries from old primary to new primary
+            for (ShardRouting assigned : assignedShards(routing.shardId())) {
+                if (assigned.primary() == false
+                    && assigned.initializing()
+                    && assigned.recoverySource().getType() == RecoverySource.Type.PEER) {
+                    Map<String, Recoveries> recoveriesToUpdate = getRecoveries(assigned);
+                    Recoveries.getOrAdd(recoveriesToUpdate, routing.relocatingNodeId()).addOutgoing(-1);
+                    Recoveries.getOrAdd(recoveriesToUpdate, routing.currentNodeId()).addOutgoing(1);
+                }
+            }
+        }
+    }
 
-        final int howMany = increment ? 1 : -1;
+    private void updateRecoveryCounts(final ShardRouting routing, final int howMany, @Nullable final ShardRouting primary) {
         assert routing.initializing() : "routing must be initializing: " + routing;
 
         IndexMetadata idxMetadata = metadata.index(routing.index());
@@ -222,20 +380,6 @@ public class RoutingNodes implements Iterable<RoutingNode> {
             }
 
             Recoveries.getOrAdd(getRecoveries(routing), primary.currentNodeId()).addOutgoing(howMany);
-
-            if (increment == false && routing.primary() && routing.relocatingNodeId() != null) {
-                // primary is done relocating, move non-primary recoveries from old primary to new primary
-                for (ShardRouting assigned : assignedShards(routing.shardId())) {
-                    if (assigned.primary() == false
-                        && assigned.initializing()
-                        && assigned.recoverySource().getType() == RecoverySource.Type.PEER) {
-                        Map<String, Recoveries> recoveriesToUpdate = getRecoveries(assigned);
-                        Recoveries.getOrAdd(recoveriesToUpdate, routing.relocatingNodeId()).addOutgoing(-1);
-                        Recoveries.getOrAdd(recoveriesToUpdate, routing.currentNodeId()).addOutgoing(1);
-                    }
-                }
-
-            }
         }
     }
 
@@ -1215,6 +1359,25 @@ public class RoutingNodes implements Iterable<RoutingNode> {
             Randomness.shuffle(unassigned);
         }
 
+        private void moveIgnoredToUnassigned() {
+            unassigned.addAll(ignored);
+            primaries += ignoredPrimaries;
+            ignored.clear();
+            ignoredPrimaries = 0;
+        }
+
+        private void removeIf(Predicate<ShardRouting> predicate) {
+            unassigned.removeIf(shard -> {
+                if (predicate.test(shard) == false) {
+                    return false;
+                }
+                if (shard.primary()) {
+                    primaries--;
+                }
+                return true;
+            });
+        }
+
         /**
          * Drains all unassigned shards and returns it.
          * This method will not drain ignored shards.
@@ -56,8 +56,11 @@ import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.cluster.routing.UnassignedInfo.AllocationStatus;
 import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
 import org.opensearch.cluster.routing.allocation.command.AllocationCommands;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciderTimings;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.gateway.GatewayAllocator;
@@ -65,6 +68,7 @@ import org.opensearch.gateway.PriorityComparator;
 import org.opensearch.gateway.ShardsBatchGatewayAllocator;
 import org.opensearch.snapshots.SnapshotsInfoService;
 import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -76,6 +80,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -96,6 +101,27 @@ public class AllocationService {
 
     private static final Logger logger = LogManager.getLogger(AllocationService.class);
 
+    /**
+     * Whether a reroute derives its {@link RoutingNodes} from the ones left by the previous reroute and the routing table changes
+     * since then instead of building them from the whole routing table. Shards are then visited in a different order, which can
+     * change the allocation decisions taken on ties, hence this is opt-in.
+     */
+    public static final Setting<Boolean> INCREMENTAL_ROUTING_NODES_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.incremental_routing_nodes.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Whether a reroute records the time spent in each allocation decider, tagged with the decider name. Timing every decider call
+     * has a cost of its own, hence this is opt-in.
+     */
+    public static final Setting<Boolean> DECIDER_LATENCY_METRICS_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.deciders.latency_metrics.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     private final AllocationDeciders allocationDeciders;
     private Settings settings;
     private Map<String, ExistingShardsAllocator> existingShardsAllocators;
@@ -103,6 +129,10 @@ public class AllocationService {
     private final ClusterInfoService clusterInfoService;
     private SnapshotsInfoService snapshotsInfoService;
     private final ClusterManagerMetrics clusterManagerMetrics;
+    private final boolean incrementalRoutingNodes;
+    private final boolean deciderLatencyMetrics;
+    // the routing nodes left by the last reroute together with the routing table they reflect
+    private final AtomicReference<Tuple<RoutingTable, RoutingNodes>> reusableRoutingNodes = new AtomicReference<>();
 
     // only for tests that use the GatewayAllocator as the unique ExistingShardsAllocator
     public AllocationService(
@@ -146,6 +176,8 @@ public class AllocationService {
         this.snapshotsInfoService = snapshotsInfoService;
         this.settings = settings;
         this.clusterManagerMetrics = clusterManagerMetrics;
+        this.incrementalRoutingNodes = INCREMENTAL_ROUTING_NODES_SETTING.get(settings);
+        this.deciderLatencyMetrics = DECIDER_LATENCY_METRICS_SETTING.get(settings);
     }
 
     /**
@@ -224,7 +256,9 @@ public class AllocationService {
                 newStateBuilder.customs(customsBuilder);
             }
         }
-        return newStateBuilder.build();
+        final ClusterState newState = newStateBuilder.build();
+        releaseRoutingNodes(newRoutingTable, newRoutingNodes);
+        return newState;
     }
 
     // Used for testing
@@ -565,6 +599,7 @@ public class AllocationService {
         );
         reroute(allocation);
         if (fixedClusterState == clusterState && allocation.routingNodesChanged() == false) {
+            releaseRoutingNodes(clusterState.routingTable(), routingNodes);
             return clusterState;
         }
         return buildResultAndLogHealthChange(clusterState, allocation, reason);
@@ -596,6 +631,8 @@ public class AllocationService {
 
         assert assertInitialized();
         long rerouteStartTimeNS = System.nanoTime();
+        final AllocationDeciderTimings deciderTimings = deciderLatencyMetrics ? allocation.deciders().newTimings() : null;
+        allocation.setDeciderTimings(deciderTimings);
         removeDelayMarkers(allocation);
 
         allocateExistingUnassignedShards(allocation);  // try to allocate existing shard copies first
@@ -604,6 +641,16 @@ public class AllocationService {
             clusterManagerMetrics.rerouteHistogram,
             (double) Math.max(0, TimeValue.nsecToMSec(System.nanoTime() - rerouteStartTimeNS))
         );
+        if (deciderTimings != null) {
+            allocation.setDeciderTimings(null);
+            deciderTimings.forEach(
+                (decider, nanos) -> clusterManagerMetrics.recordLatency(
+                    clusterManagerMetrics.allocationDeciderHistogram,
+                    nanos / 1_000_000.0,
+                    Optional.of(Tags.create().addTag(ClusterManagerMetrics.DECIDER_TAG, decider))
+                )
+            );
+        }
         assert RoutingNodes.assertShardStats(allocation.routingNodes());
     }
 
@@ -705,11 +752,29 @@ public class AllocationService {
 
     /**
      * Create a mutable {@link RoutingNodes}. This is a costly operation so this must only be called once!
+     * With {@link #INCREMENTAL_ROUTING_NODES_SETTING} the routing nodes left by the previous reroute are brought up to date instead
+     * whenever possible.
      */
     private RoutingNodes getMutableRoutingNodes(ClusterState clusterState) {
+        if (incrementalRoutingNodes) {
+            // take ownership, a concurrent caller builds its own routing nodes
+            final Tuple<RoutingTable, RoutingNodes> previous = reusableRoutingNodes.getAndSet(null);
+            if (previous != null && previous.v2().applyRoutingTableChanges(previous.v1(), clusterState)) {
+                return previous.v2();
+            }
+        }
         return new RoutingNodes(clusterState, false);
     }
 
+    /**
+     * Hands the routing nodes of a finished allocation, which reflect the given routing table, over to the next reroute.
+     */
+    private void releaseRoutingNodes(RoutingTable routingTable, RoutingNodes routingNodes) {
+        if (incrementalRoutingNodes) {
+            reusableRoutingNodes.set(new Tuple<>(routingTable, routingNodes));
+        }
+    }
+
     /** override this to control time based decisions during allocation */
     protected long currentNanoTime() {
         return System.nanoTime();
@@ -41,8 +41,10 @@ import org.opensearch.cluster.routing.RoutingChangesObserver;
 import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciderTimings;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.snapshots.RestoreService.RestoreInProgressUpdater;
@@ -91,6 +93,8 @@ public class RoutingAllocation {
 
     private boolean hasPendingAsyncFetch = false;
 
+    private AllocationDeciderTimings deciderTimings;
+
     private final long currentNanoTime;
 
     private final IndexMetadataUpdater indexMetadataUpdater = new IndexMetadataUpdater();
@@ -216,6 +220,18 @@ public class RoutingAllocation {
         return this.debugDecision;
     }
 
+    /**
+     * Sets the timings that the deciders add the time spent in them to, {@code null} to not time them.
+     */
+    public void setDeciderTimings(@Nullable AllocationDeciderTimings deciderTimings) {
+        this.deciderTimings = deciderTimings;
+    }
+
+    @Nullable
+    public AllocationDeciderTimings deciderTimings() {
+        return deciderTimings;
+    }
+
     public void addIgnoreShardForNode(ShardId shardId, String nodeId) {
         if (ignoredShardToNodes == null) {
             ignoredShardToNodes = new HashMap<>();
@@ -50,6 +50,7 @@ import org.opensearch.cluster.routing.allocation.RebalanceConstraints;
 import org.opensearch.cluster.routing.allocation.RebalanceParameter;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.ShardAllocationDecision;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.ClusterSettings;
@@ -59,6 +60,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 
+import java.io.Closeable;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -90,7 +92,7 @@ import static org.opensearch.cluster.routing.allocation.ConstraintTypes.INDEX_SH
  *
  * @opensearch.internal
  */
-public class BalancedShardsAllocator implements ShardsAllocator {
+public class BalancedShardsAllocator implements ShardsAllocator, Closeable {
 
     private static final Logger logger = LogManager.getLogger(BalancedShardsAllocator.class);
     public static final TimeValue MIN_ALLOCATOR_TIMEOUT = TimeValue.timeValueSeconds(20);
@@ -214,6 +216,18 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Number of threads that evaluate the allocation deciders of the candidate nodes of a shard in parallel. Values below 2 keep the
+     * evaluation on the calling thread. The outcome does not depend on this setting as long as the allocation deciders, including
+     * those of plugins, only read the allocation, see {@link org.opensearch.cluster.routing.allocation.decider.AllocationDecider}.
+     */
+    public static final Setting<Integer> PARALLEL_DECIDER_THREADS_SETTING = Setting.intSetting(
+        "cluster.routing.allocation.balance.parallel_decisions.threads",
+        0,
+        0,
+        Property.NodeScope
+    );
+
     private static Priority parseReroutePriority(String priorityString) {
         final Priority priority = Priority.valueOf(priorityString.toUpperCase(Locale.ROOT));
         switch (priority) {
@@ -244,6 +258,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile Priority followUpRerouteTaskPriority;
     private long startTime;
     private RerouteService rerouteService;
+    @Nullable
+    private final ParallelDeciderEvaluator parallelDeciders;
 
     public BalancedShardsAllocator(Settings settings) {
         this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
@@ -263,6 +279,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         setShardMovementStrategy(SHARD_MOVEMENT_STRATEGY_SETTING.get(settings));
         setAllocatorTimeout(ALLOCATOR_TIMEOUT_SETTING.get(settings));
         setFollowUpRerouteTaskPriority(FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(settings));
+        final int parallelDeciderThreads = PARALLEL_DECIDER_THREADS_SETTING.get(settings);
+        this.parallelDeciders = parallelDeciderThreads > 1 ? new ParallelDeciderEvaluator(settings, parallelDeciderThreads) : null;
         clusterSettings.addSettingsUpdateConsumer(PREFER_PRIMARY_SHARD_BALANCE, this::setPreferPrimaryShardBalance);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVE_PRIMARY_FIRST_SETTING, this::setMovePrimaryFirst);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVEMENT_STRATEGY_SETTING, this::setShardMovementStrategy);
@@ -277,6 +295,22 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         clusterSettings.addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING, this::setFollowUpRerouteTaskPriority);
     }
 
+    // package private for testing
+    @Nullable
+    ParallelDeciderEvaluator getParallelDeciders() {
+        return parallelDeciders;
+    }
+
+    /**
+     * Shuts down the threads that evaluate the allocation deciders in parallel, if any.
+     */
+    @Override
+    public void close() {
+        if (parallelDeciders != null) {
+            parallelDeciders.close();
+        }
+    }
+
     @Override
     public void setRerouteService(RerouteService rerouteService) {
         assert this.rerouteService == null : "RerouteService is already set";
@@ -404,7 +438,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             preferPrimaryShardBalance,
             preferPrimaryShardRebalance,
             ignoreThrottleInRestore,
-            this::allocatorTimedOut
+            this::allocatorTimedOut,
+            parallelDeciders
         );
         this.startTime = System.nanoTime();
         localShardsBalancer.allocateUnassigned();
@@ -430,7 +465,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             preferPrimaryShardBalance,
             preferPrimaryShardRebalance,
             ignoreThrottleInRestore,
-            () -> false // as we don't need to check if timed out or not while just understanding ShardAllocationDecision
+            () -> false, // as we don't need to check if timed out or not while just understanding ShardAllocationDecision
+            parallelDeciders
         );
         AllocateUnassignedDecision allocateUnassignedDecision = AllocateUnassignedDecision.NOT_TAKEN;
         MoveDecision moveDecision = MoveDecision.NOT_TAKEN;
@@ -29,11 +29,13 @@ import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
 import org.opensearch.cluster.routing.allocation.decider.DiskThresholdDecider;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.gateway.PriorityComparator;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -75,6 +77,8 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final BalancedShardsAllocator.NodeSorter sorter;
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
+    @Nullable
+    private final ParallelDeciderEvaluator parallelDeciders;
     private int totalShardCount = 0;
 
     public LocalShardsBalancer(
@@ -87,6 +91,32 @@ public class LocalShardsBalancer extends ShardsBalancer {
         boolean preferPrimaryRebalance,
         boolean ignoreThrottleInRestore,
         Supplier<Boolean> timedOutFunc
+    ) {
+        this(
+            logger,
+            allocation,
+            shardMovementStrategy,
+            weight,
+            threshold,
+            preferPrimaryBalance,
+            preferPrimaryRebalance,
+            ignoreThrottleInRestore,
+            timedOutFunc,
+            null
+        );
+    }
+
+    LocalShardsBalancer(
+        Logger logger,
+        RoutingAllocation allocation,
+        ShardMovementStrategy shardMovementStrategy,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold,
+        boolean preferPrimaryBalance,
+        boolean preferPrimaryRebalance,
+        boolean ignoreThrottleInRestore,
+        Supplier<Boolean> timedOutFunc,
+        @Nullable ParallelDeciderEvaluator parallelDeciders
     ) {
         this.logger = logger;
         this.allocation = allocation;
@@ -105,6 +135,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
         this.shardMovementStrategy = shardMovementStrategy;
         this.ignoreThrottleInRestore = ignoreThrottleInRestore;
         this.timedOutFunc = timedOutFunc;
+        this.parallelDeciders = parallelDeciders;
     }
 
     /**
@@ -240,11 +271,21 @@ public class LocalShardsBalancer extends ShardsBalancer {
         List<Tuple<BalancedShardsAllocator.ModelNode, Decision>> betterBalanceNodes = new ArrayList<>();
         List<Tuple<BalancedShardsAllocator.ModelNode, Decision>> sameBalanceNodes = new ArrayList<>();
         List<Tuple<BalancedShardsAllocator.ModelNode, Decision>> worseBalanceNodes = new ArrayList<>();
-        for (BalancedShardsAllocator.ModelNode node : modelNodes) {
+        final BalancedShardsAllocator.ModelNode assignedModelNode = currentNode;
+        final List<Decision> canAllocateDecisions = parallelDeciders == null
+            ? null
+            : parallelDeciders.evaluate(
+                Arrays.asList(modelNodes),
+                node -> node == assignedModelNode ? null : deciders.canAllocate(shard, node.getRoutingNode(), allocation)
+            );
+        for (int i = 0; i < modelNodes.length; i++) {
+            final BalancedShardsAllocator.ModelNode node = modelNodes[i];
             if (node == currentNode) {
                 continue; // skip over node we're currently allocated to
             }
-            final Decision canAllocate = deciders.canAllocate(shard, node.getRoutingNode(), allocation);
+            final Decision canAllocate = canAllocateDecisions == null
+                ? deciders.canAllocate(shard, node.getRoutingNode(), allocation)
+                : canAllocateDecisions.get(i);
             // the current weight of the node in the cluster, as computed by the weight function;
             // this is a comparison of the number of shards on this node to the number of shards
             // that should be on each node on average (both taking the cluster as a whole into account
@@ -586,7 +627,10 @@ public class LocalShardsBalancer extends ShardsBalancer {
             checkAndAddInEligibleTargetNode(currentNode.getRoutingNode());
         }
         boolean primariesThrottled = false;
-        for (Iterator<ShardRouting> it = allocation.routingNodes().nodeInterleavedShardIterator(shardMovementStrategy); it.hasNext();) {
+        final CanRemainLookahead it = new CanRemainLookahead(
+            allocation.routingNodes().nodeInterleavedShardIterator(shardMovementStrategy)
+        );
+        while (it.hasNext()) {
             // Verify if the cluster concurrent recoveries have been reached.
             if (allocation.deciders().canMoveAnyShard(allocation).type() != Decision.Type.YES) {
                 logger.info(
@@ -639,8 +683,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
-            final MoveDecision moveDecision = decideMove(shardRouting);
+            final MoveDecision moveDecision = decideMove(shardRouting, it.canRemain());
             if (moveDecision.isDecisionTaken() && moveDecision.forceMove()) {
+                it.invalidate();
                 final BalancedShardsAllocator.ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
                 final BalancedShardsAllocator.ModelNode targetNode = nodes.get(moveDecision.getTargetNode().getId());
                 sourceNode.removeShard(shardRouting);
@@ -681,6 +726,13 @@ public class LocalShardsBalancer extends ShardsBalancer {
      */
     @Override
     MoveDecision decideMove(final ShardRouting shardRouting) {
+        return decideMove(shardRouting, null);
+    }
+
+    /**
+     * Same as {@link #decideMove(ShardRouting)}, reusing the given {@code canRemain} decision if it was evaluated ahead.
+     */
+    private MoveDecision decideMove(final ShardRouting shardRouting, @Nullable Decision canRemainAhead) {
         if (canShardBeSkipped(shardRouting)) {
             return MoveDecision.NOT_TAKEN;
         }
@@ -694,7 +746,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final BalancedShardsAllocator.ModelNode sourceNode = nodes.get(shardRouting.currentNodeId());
         assert sourceNode != null && sourceNode.containsShard(shardRouting);
         RoutingNode routingNode = sourceNode.getRoutingNode();
-        Decision canRemain = allocation.deciders().canRemain(shardRouting, routingNode, allocation);
+        Decision canRemain = canRemainAhead != null
+            ? canRemainAhead
+            : allocation.deciders().canRemain(shardRouting, routingNode, allocation);
         if (canRemain.type() != Decision.Type.NO) {
             return MoveDecision.stay(canRemain);
         }
@@ -710,21 +764,36 @@ public class LocalShardsBalancer extends ShardsBalancer {
         RoutingNode targetNode = null;
         final List<NodeAllocationResult> nodeExplanationMap = explain ? new ArrayList<>() : null;
         int weightRanking = 0;
-        for (BalancedShardsAllocator.ModelNode currentNode : sorter.modelNodes) {
+        final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
+        // with parallel deciders, the targets are evaluated ahead in windows as the first YES usually comes early
+        final int window = parallelDeciders == null ? 1 : 2 * parallelDeciders.parallelism();
+        List<Decision> windowDecisions = Collections.emptyList();
+        int windowStart = 0;
+        for (int i = 0; i < modelNodes.length; i++) {
+            final BalancedShardsAllocator.ModelNode currentNode = modelNodes[i];
             if (currentNode != sourceNode) {
                 RoutingNode target = currentNode.getRoutingNode();
                 if (!explain && inEligibleTargetNode.contains(target)) continue;
-                // don't use canRebalance as we want hard filtering rules to apply. See #17698
-                if (!explain) {
-                    // If we cannot allocate any shard to node marking it in eligible
-                    Decision nodeLevelAllocationDecision = allocation.deciders().canAllocateAnyShardToNode(target, allocation);
-                    if (nodeLevelAllocationDecision.type() != Decision.Type.YES) {
-                        inEligibleTargetNode.add(currentNode.getRoutingNode());
-                        continue;
+                final Decision allocationDecision;
+                if (parallelDeciders == null) {
+                    allocationDecision = decideMoveTarget(shardRouting, target, explain);
+                } else {
+                    if (i >= windowStart + windowDecisions.size()) {
+                        windowStart = i;
+                        windowDecisions = parallelDeciders.evaluate(
+                            Arrays.asList(modelNodes).subList(i, Math.min(i + window, modelNodes.length)),
+                            node -> node == sourceNode || (!explain && inEligibleTargetNode.contains(node.getRoutingNode()))
+                                ? null
+                                : decideMoveTarget(shardRouting, node.getRoutingNode(), explain)
+                        );
                     }
+                    allocationDecision = windowDecisions.get(i - windowStart);
+                }
+                if (allocationDecision == null) {
+                    // If we cannot allocate any shard to node marking it in eligible
+                    inEligibleTargetNode.add(currentNode.getRoutingNode());
+                    continue;
                 }
-                // don't use canRebalance as we want hard filtering rules to apply. See #17698
-                Decision allocationDecision = allocation.deciders().canAllocate(shardRouting, target, allocation);
                 if (explain) {
                     nodeExplanationMap.add(
                         new NodeAllocationResult(currentNode.getRoutingNode().node(), allocationDecision, ++weightRanking)
@@ -753,6 +822,87 @@ public class LocalShardsBalancer extends ShardsBalancer {
         );
     }
 
+    /**
+     * Decides whether {@link #decideMove} can move the shard to the target node, {@code null} if no shard can be allocated to the
+     * node at all. The node level decision is skipped in explain mode.
+     */
+    @Nullable
+    private Decision decideMoveTarget(ShardRouting shardRouting, RoutingNode target, boolean explain) {
+        // don't use canRebalance as we want hard filtering rules to apply. See #17698
+        if (!explain) {
+            Decision nodeLevelAllocationDecision = allocation.deciders().canAllocateAnyShardToNode(target, allocation);
+            if (nodeLevelAllocationDecision.type() != Decision.Type.YES) {
+                return null;
+            }
+        }
+        return allocation.deciders().canAllocate(shardRouting, target, allocation);
+    }
+
+    /**
+     * Iterates over the shards that {@link #moveShards} checks. With parallel deciders, the {@code canRemain} decisions of the next
+     * shards are evaluated ahead on the decider pool, until a shard relocates since the relocation can change them.
+     */
+    private final class CanRemainLookahead {
+        private final Iterator<ShardRouting> shards;
+        private final List<ShardRouting> window = new ArrayList<>();
+        private List<Decision> canRemainDecisions = Collections.emptyList();
+        private int next;
+        private Decision canRemain;
+
+        CanRemainLookahead(Iterator<ShardRouting> shards) {
+            this.shards = shards;
+        }
+
+        boolean hasNext() {
+            return next < window.size() || shards.hasNext();
+        }
+
+        ShardRouting next() {
+            if (next == window.size()) {
+                window.clear();
+                next = 0;
+                final int size = parallelDeciders == null ? 1 : 4 * parallelDeciders.parallelism();
+                while (window.size() < size && shards.hasNext()) {
+                    window.add(shards.next());
+                }
+                evaluate();
+            } else if (canRemainDecisions.isEmpty()) {
+                window.subList(0, next).clear();
+                next = 0;
+                evaluate();
+            }
+            canRemain = canRemainDecisions.isEmpty() ? null : canRemainDecisions.get(next);
+            return window.get(next++);
+        }
+
+        /**
+         * The {@code canRemain} decision of the last returned shard, {@code null} if it was not evaluated ahead.
+         */
+        @Nullable
+        Decision canRemain() {
+            return canRemain;
+        }
+
+        /**
+         * Drops the decisions evaluated ahead, they are evaluated again for the remaining shards of the window.
+         */
+        void invalidate() {
+            canRemainDecisions = Collections.emptyList();
+        }
+
+        private void evaluate() {
+            if (parallelDeciders == null) {
+                return;
+            }
+            canRemainDecisions = parallelDeciders.evaluate(window, shardRouting -> {
+                if (canShardBeSkipped(shardRouting) || shardRouting.started() == false) {
+                    return null;
+                }
+                return allocation.deciders().canRemain(shardRouting, nodes.get(shardRouting.currentNodeId()).getRoutingNode(), allocation);
+            });
+        }
+    }
+
     /**
      * Builds the internal model from all shards in the given
      * {@link Iterable}. All shards in the {@link Iterable} must be assigned
@@ -974,7 +1124,18 @@ public class LocalShardsBalancer extends ShardsBalancer {
          * iteration order is different for each run and makes testing hard */
         Map<String, NodeAllocationResult> nodeExplanationMap = explain ? new HashMap<>() : null;
         List<Tuple<String, Float>> nodeWeights = explain ? new ArrayList<>() : null;
-        for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
+        final List<BalancedShardsAllocator.ModelNode> modelNodes = new ArrayList<>(nodes.values());
+        // with parallel deciders, all nodes are evaluated up front and the decisions short circuited below are discarded
+        final List<Decision> canAllocateDecisions = parallelDeciders == null
+            ? null
+            : parallelDeciders.evaluate(
+                modelNodes,
+                node -> node.containsShard(shard) && explain == false
+                    ? null
+                    : allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation)
+            );
+        for (int i = 0; i < modelNodes.size(); i++) {
+            final BalancedShardsAllocator.ModelNode node = modelNodes.get(i);
             if (node.containsShard(shard) && explain == false) {
                 // decision is NO without needing to check anything further, so short circuit
                 continue;
@@ -987,7 +1148,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
-            Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            Decision currentDecision = canAllocateDecisions != null
+                ? canAllocateDecisions.get(i)
+                : allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
             if (explain) {
                 nodeExplanationMap.put(node.getNodeId(), new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
                 nodeWeights.add(Tuple.tuple(node.getNodeId(), currentWeight));
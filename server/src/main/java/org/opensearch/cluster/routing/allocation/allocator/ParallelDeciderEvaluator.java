@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates allocation deciders for several nodes or shards at once on a bounded {@link ForkJoinPool}, see
+ * {@link BalancedShardsAllocator#PARALLEL_DECIDER_THREADS_SETTING}. The results come back in the order of the inputs, so that the
+ * {@link LocalShardsBalancer} merges them exactly like its sequential loops do. This relies on the deciders only reading the
+ * allocation, as required by {@link org.opensearch.cluster.routing.allocation.decider.AllocationDecider}. The pool is shut down
+ * together with the {@link BalancedShardsAllocator} when the node closes.
+ *
+ * @opensearch.internal
+ */
+final class ParallelDeciderEvaluator implements Closeable {
+
+    private final ForkJoinPool pool;
+
+    ParallelDeciderEvaluator(Settings settings, int threads) {
+        final String threadName = OpenSearchExecutors.threadName(settings, "allocation_deciders");
+        this.pool = new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadName + "#" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    int parallelism() {
+        return pool.getParallelism();
+    }
+
+    boolean isClosed() {
+        return pool.isShutdown();
+    }
+
+    /**
+     * Applies the function to every input on the pool and returns the results in the order of the inputs. The function may return
+     * {@code null} for the inputs that it skips.
+     */
+    <S, T> List<T> evaluate(List<S> inputs, Function<S, T> function) {
+        if (inputs.size() < 2) {
+            return inputs.stream().map(function).collect(Collectors.toList());
+        }
+        return pool.submit(() -> inputs.parallelStream().map(function).collect(Collectors.toList())).join();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -44,6 +44,13 @@ import org.opensearch.common.annotation.PublicApi;
  * {@link AllocationDecider} is an abstract base class that allows to make
  * dynamic cluster- or index-wide shard allocation decisions on a per-node
  * basis.
+ * <p>
+ * The decisions for the nodes of a shard may be taken concurrently on several
+ * threads, see
+ * {@link org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator#PARALLEL_DECIDER_THREADS_SETTING}.
+ * Implementations must therefore be thread-safe and only read the
+ * {@link RoutingAllocation} they are given, without changing the routing
+ * nodes or any other state that later decisions depend on.
  *
  * @opensearch.api
  */
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.decider;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * The time spent in each {@link AllocationDecider} of an {@link AllocationDeciders} while deciding whether shards can be allocated
+ * to or remain on nodes during a reroute. Deciders may run on several threads at once, see
+ * {@link org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator#PARALLEL_DECIDER_THREADS_SETTING}.
+ *
+ * @opensearch.internal
+ */
+public final class AllocationDeciderTimings {
+
+    private final String[] names;
+    private final LongAdder[] nanos;
+
+    AllocationDeciderTimings(Collection<AllocationDecider> deciders) {
+        this.names = new String[deciders.size()];
+        this.nanos = new LongAdder[deciders.size()];
+        int i = 0;
+        for (AllocationDecider decider : deciders) {
+            final String name = decider.getClass().getSimpleName();
+            names[i] = name.isEmpty() ? decider.getClass().getName() : name;
+            nanos[i] = new LongAdder();
+            i++;
+        }
+    }
+
+    void add(int decider, long nanos) {
+        this.nanos[decider].add(nanos);
+    }
+
+    /**
+     * Passes the name of every decider that was called together with the nanoseconds spent in it.
+     */
+    public void forEach(ObjLongConsumer<String> consumer) {
+        for (int i = 0; i < names.length; i++) {
+            final long sum = nanos[i].sum();
+            if (sum > 0) {
+                consumer.accept(names[i], sum);
+            }
+        }
+    }
+}
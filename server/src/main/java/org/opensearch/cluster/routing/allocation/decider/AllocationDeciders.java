@@ -61,6 +61,15 @@ public class AllocationDeciders extends AllocationDecider {
         this.allocations = Collections.unmodifiableCollection(allocations);
     }
 
+    /**
+     * Creates the timings that {@link #canAllocate(ShardRouting, RoutingNode, RoutingAllocation)} and
+     * {@link #canRemain(ShardRouting, RoutingNode, RoutingAllocation)} add to while set on the allocation, see
+     * {@link RoutingAllocation#setDeciderTimings}.
+     */
+    public AllocationDeciderTimings newTimings() {
+        return new AllocationDeciderTimings(allocations);
+    }
+
     @Override
     public Decision canRebalance(ShardRouting shardRouting, RoutingAllocation allocation) {
         Decision.Multi ret = new Decision.Multi();
@@ -85,9 +94,16 @@ public class AllocationDeciders extends AllocationDecider {
         if (allocation.shouldIgnoreShardForNode(shardRouting.shardId(), node.nodeId())) {
             return Decision.NO;
         }
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
+        int deciderIndex = 0;
         for (AllocationDecider allocationDecider : allocations) {
+            final long startNanos = timings == null ? 0L : System.nanoTime();
             Decision decision = allocationDecider.canAllocate(shardRouting, node, allocation);
+            if (timings != null) {
+                timings.add(deciderIndex, System.nanoTime() - startNanos);
+            }
+            deciderIndex++;
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
@@ -119,9 +135,16 @@ public class AllocationDeciders extends AllocationDecider {
             }
             return Decision.NO;
         }
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
+        int deciderIndex = 0;
         for (AllocationDecider allocationDecider : allocations) {
+            final long startNanos = timings == null ? 0L : System.nanoTime();
             Decision decision = allocationDecider.canRemain(shardRouting, node, allocation);
+            if (timings != null) {
+                timings.add(deciderIndex, System.nanoTime() - startNanos);
+            }
+            deciderIndex++;
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
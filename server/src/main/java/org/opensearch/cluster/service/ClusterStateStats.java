@@ -8,7 +8,10 @@
 
 package org.opensearch.cluster.service;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.coordination.PersistedStateStats;
+import org.opensearch.cluster.metadata.IndexMetadataDeduplicationStats;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -33,6 +36,8 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
     private AtomicLong updateTotalTimeInMillis = new AtomicLong(0);
     private AtomicLong updateFailed = new AtomicLong(0);
     private List<PersistedStateStats> persistenceStats = new ArrayList<>();
+    @Nullable
+    private IndexMetadataDeduplicationStats deduplicationStats;
 
     public ClusterStateStats() {}
 
@@ -52,6 +57,11 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
         return persistenceStats;
     }
 
+    @Nullable
+    public IndexMetadataDeduplicationStats getDeduplicationStats() {
+        return deduplicationStats;
+    }
+
     public void stateUpdated() {
         updateSuccess.incrementAndGet();
     }
@@ -69,6 +79,11 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
         return this;
     }
 
+    public ClusterStateStats setDeduplicationStats(IndexMetadataDeduplicationStats deduplicationStats) {
+        this.deduplicationStats = deduplicationStats;
+        return this;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(updateSuccess.get());
@@ -78,6 +93,9 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
         for (PersistedStateStats stats : persistenceStats) {
             stats.writeTo(out);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(deduplicationStats);
+        }
     }
 
     public ClusterStateStats(StreamInput in) throws IOException {
@@ -90,6 +108,9 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
             PersistedStateStats stats = new PersistedStateStats(in);
             this.persistenceStats.add(stats);
         }
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            this.deduplicationStats = in.readOptionalWriteable(IndexMetadataDeduplicationStats::new);
+        }
     }
 
     @Override
@@ -103,6 +124,9 @@ public class ClusterStateStats implements Writeable, ToXContentObject {
         for (PersistedStateStats stats : persistenceStats) {
             stats.toXContent(builder, params);
         }
+        if (deduplicationStats != null) {
+            deduplicationStats.toXContent(builder, params);
+        }
         builder.endObject();
         return builder;
     }
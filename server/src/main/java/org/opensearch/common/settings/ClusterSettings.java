@@ -59,10 +59,13 @@ import org.opensearch.cluster.coordination.JoinHelper;
 import org.opensearch.cluster.coordination.LagDetector;
 import org.opensearch.cluster.coordination.LeaderChecker;
 import org.opensearch.cluster.coordination.NoClusterManagerBlockService;
+import org.opensearch.cluster.coordination.PublicationTransportHandler;
 import org.opensearch.cluster.coordination.Reconfigurator;
 import org.opensearch.cluster.metadata.IndexGraveyard;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.routing.allocation.AwarenessReplicaBalance;
 import org.opensearch.cluster.routing.allocation.DiskThresholdSettings;
 import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
@@ -92,6 +95,7 @@ import org.opensearch.common.network.NetworkModule;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.common.util.OffHeapBigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -129,8 +133,11 @@ import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.NodeMergeCoordinator;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
+import org.opensearch.indices.TranslogSyncCoordinator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
@@ -290,6 +297,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 BalancedShardsAllocator.IGNORE_THROTTLE_FOR_REMOTE_RESTORE,
                 BalancedShardsAllocator.ALLOCATOR_TIMEOUT_SETTING,
                 BalancedShardsAllocator.FOLLOW_UP_REROUTE_PRIORITY_SETTING,
+                BalancedShardsAllocator.PARALLEL_DECIDER_THREADS_SETTING,
                 BalancedShardsAllocator.PRIMARY_CONSTRAINT_THRESHOLD_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_LIMIT_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_OVERHEAD_SETTING,
@@ -301,6 +309,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 EnableAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ENABLE_SETTING,
                 EnableAllocationDecider.CLUSTER_ROUTING_REBALANCE_ENABLE_SETTING,
                 ExistingShardsAllocator.EXISTING_SHARDS_ALLOCATOR_BATCH_MODE,
+                AllocationService.INCREMENTAL_ROUTING_NODES_SETTING,
+                AllocationService.DECIDER_LATENCY_METRICS_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_INCLUDE_GROUP_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_EXCLUDE_GROUP_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_REQUIRE_GROUP_SETTING,
@@ -328,6 +338,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 Metadata.SETTING_READ_ONLY_ALLOW_DELETE_SETTING,
                 Metadata.DEFAULT_REPLICA_COUNT_SETTING,
                 Metadata.SETTING_CREATE_INDEX_BLOCK_SETTING,
+                IndexNameExpressionResolver.RESOLVED_EXPRESSIONS_CACHE_MAX_NAMES_SETTING,
                 ShardLimitValidator.SETTING_CLUSTER_MAX_SHARDS_PER_NODE,
                 ShardLimitValidator.SETTING_CLUSTER_MAX_SHARDS_PER_CLUSTER,
                 ShardLimitValidator.SETTING_CLUSTER_MAX_REMOTE_CAPABLE_SHARDS_PER_NODE,
@@ -590,6 +601,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 MultiBucketConsumerService.MAX_BUCKET_SETTING,
                 SearchService.BUCKET_SELECTION_STRATEGY_FACTOR_SETTING,
                 SearchService.LOW_LEVEL_CANCELLATION_SETTING,
+                SearchService.QUERY_PHASE_COALESCING_ENABLED_SETTING,
                 SearchService.MAX_OPEN_SCROLL_CONTEXT,
                 SearchService.MAX_OPEN_PIT_CONTEXT,
                 SearchService.MAX_PIT_KEEPALIVE_SETTING,
@@ -603,6 +615,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_ENABLED,
                 CardinalityAggregator.CARDINALITY_AGGREGATION_HYBRID_COLLECTOR_MEMORY_THRESHOLD,
                 SearchService.KEYWORD_INDEX_OR_DOC_VALUES_ENABLED,
+                SearchService.CONCURRENT_FETCH_STORED_FIELDS_ENABLED,
                 CreatePitController.PIT_INIT_KEEP_ALIVE,
                 Node.WRITE_PORTS_FILE_SETTING,
                 Node.NODE_NAME_SETTING,
@@ -638,6 +651,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 PageCacheRecycler.WEIGHT_LONG_SETTING,
                 PageCacheRecycler.WEIGHT_OBJECTS_SETTING,
                 PageCacheRecycler.TYPE_SETTING,
+                OffHeapBigArrays.OFF_HEAP_ENABLED_SETTING,
+                OffHeapBigArrays.OFF_HEAP_POOL_LIMIT_SETTING,
                 PluginsService.MANDATORY_SETTING,
                 BootstrapSettings.SECURITY_FILTER_BAD_DEFAULTS_SETTING,
                 BootstrapSettings.MEMORY_LOCK_SETTING,
@@ -652,6 +667,14 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndexingMemoryController.NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MIN_NATIVE_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.MAX_NATIVE_INDEX_BUFFER_SIZE_SETTING,
+                IndexingMemoryController.WRITE_LOAD_AWARE_SETTING,
+                IndexingMemoryController.WRITE_LOAD_AWARE_IDLE_TIME_SETTING,
+                TranslogSyncCoordinator.WINDOW_SETTING,
+                NodeMergeCoordinator.MAX_CONCURRENT_MERGES_SETTING,
+                NodeMergeCoordinator.MAX_BYTES_PER_SEC_SETTING,
+                RefreshScheduler.ENABLED_SETTING,
+                RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING,
+                RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING,
                 ResourceWatcherService.ENABLED,
                 ResourceWatcherService.RELOAD_INTERVAL_HIGH,
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
@@ -660,6 +683,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_MEMORY_WEIGHT_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_IO_WEIGHT_SETTING,
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING,
                 OperationRouting.IGNORE_AWARENESS_ATTRIBUTES_SETTING,
                 OperationRouting.WEIGHTED_ROUTING_DEFAULT_WEIGHT,
                 OperationRouting.WEIGHTED_ROUTING_FAILOPEN_ENABLED,
@@ -679,6 +706,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ElectionSchedulerFactory.ELECTION_DURATION_SETTING,
                 Coordinator.PUBLISH_TIMEOUT_SETTING,
                 Coordinator.PUBLISH_INFO_TIMEOUT_SETTING,
+                PublicationTransportHandler.CHUNKED_PUBLICATION_ENABLED_SETTING,
+                PublicationTransportHandler.CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING,
+                PublicationTransportHandler.CHUNKED_PUBLICATION_MAX_BUFFERED_SIZE_SETTING,
                 JoinHelper.JOIN_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_INTERVAL_SETTING,
@@ -84,6 +84,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -563,17 +564,31 @@ public final class Settings implements ToXContentFragment {
     }
 
     public static Settings readSettingsFromStream(StreamInput in) throws IOException {
+        return readSettingsFromStream(in, UnaryOperator.identity(), (key, value) -> value);
+    }
+
+    /**
+     * Reads settings from the stream and passes every key and every value, together with its key, through the given deduplicators,
+     * so that the strings that many settings have in common can be shared.
+     */
+    public static Settings readSettingsFromStream(
+        StreamInput in,
+        UnaryOperator<String> keyDeduplicator,
+        BiFunction<String, String, String> valueDeduplicator
+    ) throws IOException {
         Builder builder = new Builder();
         int numberOfSettings = in.readVInt();
         for (int i = 0; i < numberOfSettings; i++) {
-            String key = in.readString();
+            String key = keyDeduplicator.apply(in.readString());
             Object value = in.readGenericValue();
             if (value == null) {
                 builder.putNull(key);
             } else if (value instanceof List) {
-                builder.putList(key, (List<String>) value);
+                final List<String> values = (List<String>) value;
+                values.replaceAll(v -> valueDeduplicator.apply(key, v));
+                builder.putList(key, values);
             } else {
-                builder.put(key, value.toString());
+                builder.put(key, valueDeduplicator.apply(key, value.toString()));
             }
         }
         return builder.build();
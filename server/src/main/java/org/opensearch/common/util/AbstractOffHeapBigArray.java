@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Common implementation for arrays that slice data into fixed-size direct pages taken from an {@link OffHeapPagePool}. Pages are
+ * handed back to the pool when the array shrinks or gets closed.
+ *
+ * @opensearch.internal
+ */
+abstract class AbstractOffHeapBigArray extends AbstractArray {
+
+    private final OffHeapBigArrays bigArrays;
+    private final int pageShift;
+    private final int pageMask;
+    private final int elementShift;
+    protected long size;
+    protected ByteBuffer[] pages;
+
+    protected AbstractOffHeapBigArray(int bytesPerElement, long size, OffHeapBigArrays bigArrays, boolean clearOnResize) {
+        super(bigArrays, clearOnResize);
+        assert Integer.bitCount(bytesPerElement) == 1 : "bytes per element must be a power of two";
+        this.bigArrays = bigArrays;
+        this.elementShift = Integer.numberOfTrailingZeros(bytesPerElement);
+        final int pageSize = OffHeapPagePool.PAGE_SIZE_IN_BYTES >>> elementShift;
+        this.pageShift = Integer.numberOfTrailingZeros(pageSize);
+        this.pageMask = pageSize - 1;
+        this.size = size;
+        this.pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = bigArrays.pagePool().acquire(clearOnResize);
+        }
+        bigArrays.onCreate(this);
+    }
+
+    final int numPages(long capacity) {
+        final long numPages = (capacity + pageMask) >>> pageShift;
+        if (numPages > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("pageSize=" + (pageMask + 1) + " is too small for such as capacity: " + capacity);
+        }
+        return (int) numPages;
+    }
+
+    final int pageIndex(long index) {
+        return (int) (index >>> pageShift);
+    }
+
+    /**
+     * The byte offset of the element at the given index within its page.
+     */
+    final int offsetInPage(long index) {
+        return ((int) (index & pageMask)) << elementShift;
+    }
+
+    @Override
+    public final long size() {
+        return size;
+    }
+
+    @Override
+    public final long ramBytesUsed() {
+        return ramBytesEstimated(size);
+    }
+
+    /** Given the size of the array, estimate the number of bytes it will use. */
+    public final long ramBytesEstimated(final long size) {
+        // same estimation as on-heap big arrays so that circuit breaker accounting does not depend on where pages live
+        return ((long) pageIndex(size - 1) + 1) * OffHeapPagePool.PAGE_SIZE_IN_BYTES;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    public final void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = bigArrays.pagePool().acquire(clearOnResize);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            bigArrays.pagePool().release(pages[i]);
+            pages[i] = null;
+        }
+        this.size = newSize;
+    }
+
+    @Override
+    protected final void doClose() {
+        final ByteBuffer[] toRelease = pages;
+        pages = null;
+        for (ByteBuffer page : toRelease) {
+            if (page != null) {
+                bigArrays.pagePool().release(page);
+            }
+        }
+        bigArrays.onClose(this);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link BigArrays} that stores large long, double and int arrays off-heap, in direct pages taken from an {@link OffHeapPagePool},
+ * so that the transient state of large aggregations does not churn the old generation. Small arrays, byte arrays and object arrays
+ * are still allocated on-heap. Off-heap arrays are accounted for in the circuit breaker exactly like their on-heap counterparts.
+ * <p>
+ * {@link #newArena()} returns an instance that keeps track of the off-heap arrays it allocates and releases those that are still
+ * open when it gets closed, so that a search context hands all its pages back deterministically even if an array was leaked.
+ *
+ * @opensearch.internal
+ */
+public class OffHeapBigArrays extends BigArrays implements Releasable {
+
+    public static final Setting<Boolean> OFF_HEAP_ENABLED_SETTING = Setting.boolSetting(
+        "cache.recycler.page.off_heap.enabled",
+        false,
+        Property.NodeScope
+    );
+    public static final Setting<ByteSizeValue> OFF_HEAP_POOL_LIMIT_SETTING = Setting.byteSizeSetting(
+        "cache.recycler.page.off_heap.pool_limit",
+        new ByteSizeValue(256, ByteSizeUnit.MB),
+        Property.NodeScope
+    );
+
+    static final OffHeapBigArrays ESTIMATOR_INSTANCE = new OffHeapBigArrays(new OffHeapPagePool(0), null, null, CircuitBreaker.REQUEST);
+
+    private final OffHeapPagePool pagePool;
+    private final String breakerName;
+    private final OffHeapBigArrays circuitBreakingInstance;
+    @Nullable
+    private final Set<AbstractOffHeapBigArray> openArrays;
+
+    public OffHeapBigArrays(
+        long maxPooledBytes,
+        PageCacheRecycler recycler,
+        @Nullable CircuitBreakerService breakerService,
+        String breakerName
+    ) {
+        this(new OffHeapPagePool(maxPooledBytes), recycler, breakerService, breakerName);
+    }
+
+    private OffHeapBigArrays(
+        OffHeapPagePool pagePool,
+        PageCacheRecycler recycler,
+        @Nullable CircuitBreakerService breakerService,
+        String breakerName
+    ) {
+        super(recycler, breakerService, breakerName, false);
+        this.pagePool = pagePool;
+        this.breakerName = breakerName;
+        this.circuitBreakingInstance = new OffHeapBigArrays(pagePool, recycler, breakerService, breakerName, true, false);
+        this.openArrays = null;
+    }
+
+    private OffHeapBigArrays(
+        OffHeapPagePool pagePool,
+        PageCacheRecycler recycler,
+        @Nullable CircuitBreakerService breakerService,
+        String breakerName,
+        boolean checkBreaker,
+        boolean trackArrays
+    ) {
+        super(recycler, breakerService, breakerName, checkBreaker);
+        assert checkBreaker : "only circuit breaking instances are created this way";
+        this.pagePool = pagePool;
+        this.breakerName = breakerName;
+        this.circuitBreakingInstance = this;
+        this.openArrays = trackArrays ? ConcurrentCollections.newConcurrentSet() : null;
+    }
+
+    /**
+     * Creates a circuit breaking instance sharing the pages of this one, which releases all the off-heap arrays it allocated and that
+     * are still open when it gets closed.
+     */
+    public OffHeapBigArrays newArena() {
+        return new OffHeapBigArrays(pagePool, recycler, breakerService(), breakerName, true, true);
+    }
+
+    @Override
+    public OffHeapBigArrays withCircuitBreaking() {
+        return circuitBreakingInstance;
+    }
+
+    OffHeapPagePool pagePool() {
+        return pagePool;
+    }
+
+    void onCreate(AbstractOffHeapBigArray array) {
+        if (openArrays != null) {
+            openArrays.add(array);
+        }
+    }
+
+    void onClose(AbstractOffHeapBigArray array) {
+        if (openArrays != null) {
+            openArrays.remove(array);
+        }
+    }
+
+    /**
+     * Releases the off-heap arrays allocated by this arena that are still open. A no-op for instances that are not arenas.
+     */
+    @Override
+    public void close() {
+        if (openArrays != null) {
+            final List<AbstractOffHeapBigArray> toClose = new ArrayList<>(openArrays);
+            Releasables.close(toClose);
+        }
+    }
+
+    /**
+     * Number of bytes of direct pages currently in use by off-heap arrays.
+     */
+    public long offHeapBytesUsed() {
+        return pagePool.acquiredBytes();
+    }
+
+    /**
+     * Number of bytes of direct pages waiting to be reused.
+     */
+    public long offHeapBytesPooled() {
+        return pagePool.pooledBytes();
+    }
+
+    private <T extends AbstractOffHeapBigArray> T resizeInPlace(T array, long newSize) {
+        final long estimatedIncreaseInBytes = array.ramBytesEstimated(newSize) - array.ramBytesUsed();
+        adjustBreaker(estimatedIncreaseInBytes, false);
+        array.resize(newSize);
+        return array;
+    }
+
+    @Override
+    public IntArray newIntArray(long size, boolean clearOnResize) {
+        if (size > PageCacheRecycler.INT_PAGE_SIZE) {
+            // when allocating big arrays, we want to first ensure we have the capacity by
+            // checking with the circuit breaker before attempting to allocate
+            adjustBreaker(OffHeapBigIntArray.estimateRamBytes(size), false);
+            return new OffHeapBigIntArray(size, this, clearOnResize);
+        }
+        return super.newIntArray(size, clearOnResize);
+    }
+
+    @Override
+    public IntArray resize(IntArray array, long size) {
+        if (array instanceof OffHeapBigIntArray offHeapArray) {
+            return resizeInPlace(offHeapArray, size);
+        }
+        return super.resize(array, size);
+    }
+
+    @Override
+    public LongArray newLongArray(long size, boolean clearOnResize) {
+        if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
+            // when allocating big arrays, we want to first ensure we have the capacity by
+            // checking with the circuit breaker before attempting to allocate
+            adjustBreaker(OffHeapBigLongArray.estimateRamBytes(size), false);
+            return new OffHeapBigLongArray(size, this, clearOnResize);
+        }
+        return super.newLongArray(size, clearOnResize);
+    }
+
+    @Override
+    public LongArray resize(LongArray array, long size) {
+        if (array instanceof OffHeapBigLongArray offHeapArray) {
+            return resizeInPlace(offHeapArray, size);
+        }
+        return super.resize(array, size);
+    }
+
+    @Override
+    public DoubleArray newDoubleArray(long size, boolean clearOnResize) {
+        if (size > PageCacheRecycler.LONG_PAGE_SIZE) {
+            // when allocating big arrays, we want to first ensure we have the capacity by
+            // checking with the circuit breaker before attempting to allocate
+            adjustBreaker(OffHeapBigDoubleArray.estimateRamBytes(size), false);
+            return new OffHeapBigDoubleArray(size, this, clearOnResize);
+        }
+        return super.newDoubleArray(size, clearOnResize);
+    }
+
+    @Override
+    public DoubleArray resize(DoubleArray array, long size) {
+        if (array instanceof OffHeapBigDoubleArray offHeapArray) {
+            return resizeInPlace(offHeapArray, size);
+        }
+        return super.resize(array, size);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Double array abstraction able to support more than 2B values, stored off-heap in direct pages.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapBigDoubleArray extends AbstractOffHeapBigArray implements DoubleArray {
+
+    private static final OffHeapBigDoubleArray ESTIMATOR = new OffHeapBigDoubleArray(0, OffHeapBigArrays.ESTIMATOR_INSTANCE, false);
+
+    OffHeapBigDoubleArray(long size, OffHeapBigArrays bigArrays, boolean clearOnResize) {
+        super(Double.BYTES, size, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public double get(long index) {
+        return pages[pageIndex(index)].getDouble(offsetInPage(index));
+    }
+
+    @Override
+    public double set(long index, double value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double ret = page.getDouble(offset);
+        page.putDouble(offset, value);
+        return ret;
+    }
+
+    @Override
+    public double increment(long index, double inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final double newValue = page.getDouble(offset) + inc;
+        page.putDouble(offset, newValue);
+        return newValue;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, double value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putDouble(offsetInPage(i), value);
+        }
+    }
+
+    /** Estimates the number of bytes that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return ESTIMATOR.ramBytesEstimated(size);
+    }
+}
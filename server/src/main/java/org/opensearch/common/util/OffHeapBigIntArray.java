@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Int array abstraction able to support more than 2B values, stored off-heap in direct pages.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapBigIntArray extends AbstractOffHeapBigArray implements IntArray {
+
+    private static final OffHeapBigIntArray ESTIMATOR = new OffHeapBigIntArray(0, OffHeapBigArrays.ESTIMATOR_INSTANCE, false);
+
+    OffHeapBigIntArray(long size, OffHeapBigArrays bigArrays, boolean clearOnResize) {
+        super(Integer.BYTES, size, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public int get(long index) {
+        return pages[pageIndex(index)].getInt(offsetInPage(index));
+    }
+
+    @Override
+    public int set(long index, int value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int ret = page.getInt(offset);
+        page.putInt(offset, value);
+        return ret;
+    }
+
+    @Override
+    public int increment(long index, int inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final int newValue = page.getInt(offset) + inc;
+        page.putInt(offset, newValue);
+        return newValue;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, int value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putInt(offsetInPage(i), value);
+        }
+    }
+
+    /** Estimates the number of bytes that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return ESTIMATOR.ramBytesEstimated(size);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Long array abstraction able to support more than 2B values, stored off-heap in direct pages.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapBigLongArray extends AbstractOffHeapBigArray implements LongArray {
+
+    private static final OffHeapBigLongArray ESTIMATOR = new OffHeapBigLongArray(0, OffHeapBigArrays.ESTIMATOR_INSTANCE, false);
+
+    OffHeapBigLongArray(long size, OffHeapBigArrays bigArrays, boolean clearOnResize) {
+        super(Long.BYTES, size, bigArrays, clearOnResize);
+    }
+
+    @Override
+    public long get(long index) {
+        return pages[pageIndex(index)].getLong(offsetInPage(index));
+    }
+
+    @Override
+    public long set(long index, long value) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long ret = page.getLong(offset);
+        page.putLong(offset, value);
+        return ret;
+    }
+
+    @Override
+    public long increment(long index, long inc) {
+        final ByteBuffer page = pages[pageIndex(index)];
+        final int offset = offsetInPage(index);
+        final long newValue = page.getLong(offset) + inc;
+        page.putLong(offset, newValue);
+        return newValue;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, long value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        for (long i = fromIndex; i < toIndex; ++i) {
+            pages[pageIndex(i)].putLong(offsetInPage(i), value);
+        }
+    }
+
+    /** Estimates the number of bytes that would be consumed by an array of the given size. */
+    public static long estimateRamBytes(final long size) {
+        return ESTIMATOR.ramBytesEstimated(size);
+    }
+}
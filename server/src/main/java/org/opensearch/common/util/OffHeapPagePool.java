@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of fixed-size direct pages backing {@link OffHeapBigArrays}. Pages are handed back to the pool as soon as the array that
+ * uses them is released, and reused by the next arrays, so that native memory is recycled deterministically instead of waiting for
+ * the garbage collector to clean up unreachable buffers. Released pages that do not fit in the pool are dropped and freed once the
+ * garbage collector collects their (small, short-lived) on-heap handles.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapPagePool {
+
+    static final int PAGE_SIZE_IN_BYTES = PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+
+    private static final ByteBuffer ZERO_PAGE = ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES);
+
+    private final int maxPooledPages;
+    private final Queue<ByteBuffer> pages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledPages = new AtomicInteger();
+    private final AtomicLong acquiredPages = new AtomicLong();
+
+    OffHeapPagePool(long maxPooledBytes) {
+        this.maxPooledPages = (int) Math.min(Integer.MAX_VALUE, maxPooledBytes / PAGE_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Acquires a page, either from the pool or freshly allocated.
+     *
+     * @param clear whether the page needs to be zeroed, freshly allocated pages always are
+     */
+    ByteBuffer acquire(boolean clear) {
+        acquiredPages.incrementAndGet();
+        final ByteBuffer page = pages.poll();
+        if (page == null) {
+            return ByteBuffer.allocateDirect(PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder());
+        }
+        pooledPages.decrementAndGet();
+        if (clear) {
+            page.put(0, ZERO_PAGE, 0, PAGE_SIZE_IN_BYTES);
+        }
+        return page;
+    }
+
+    /**
+     * Hands the given page back to the pool, the caller must not use it anymore.
+     */
+    void release(ByteBuffer page) {
+        acquiredPages.decrementAndGet();
+        if (pooledPages.incrementAndGet() <= maxPooledPages) {
+            pages.offer(page);
+        } else {
+            pooledPages.decrementAndGet();
+        }
+    }
+
+    /**
+     * Number of bytes of pages currently in use by arrays.
+     */
+    long acquiredBytes() {
+        return acquiredPages.get() * PAGE_SIZE_IN_BYTES;
+    }
+
+    /**
+     * Number of bytes of pages currently waiting in the pool to be reused.
+     */
+    long pooledBytes() {
+        return (long) pooledPages.get() * PAGE_SIZE_IN_BYTES;
+    }
+}
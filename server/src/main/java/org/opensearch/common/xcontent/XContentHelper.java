@@ -454,8 +454,14 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream);
+            final MediaType mediaType = MediaTypeRegistry.xContentType(source);
+            if (mediaType == null) {
+                // let the generator fail the same way as it does for streams
+                try (InputStream stream = source.streamInput()) {
+                    builder.rawField(field, stream);
+                }
+            } else {
+                builder.rawField(field, source, mediaType);
             }
         }
     }
@@ -473,9 +479,7 @@ public class XContentHelper {
                 builder.rawField(field, compressedStreamInput, xContentType);
             }
         } else {
-            try (InputStream stream = source.streamInput()) {
-                builder.rawField(field, stream, xContentType);
-            }
+            builder.rawField(field, source, xContentType);
         }
     }
 
@@ -0,0 +1,272 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.Automaton;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Filters xcontent on the fly, copying the tokens of a parser that match the {@code includes} but not the {@code excludes} to a
+ * builder, without ever materializing the content as maps. Matching follows the exact same rules as
+ * {@link XContentMapValues#filter(String[], String[], boolean)}, except that the order of the fields of the original content is
+ * preserved.
+ *
+ * @opensearch.internal
+ */
+public final class XContentFieldFilter {
+
+    private static final CharacterRunAutomaton MATCH_ALL = new CharacterRunAutomaton(Automata.makeAnyString());
+
+    private final CharacterRunAutomaton include;
+    private final CharacterRunAutomaton exclude;
+    private final boolean caseSensitive;
+
+    private XContentFieldFilter(CharacterRunAutomaton include, CharacterRunAutomaton exclude, boolean caseSensitive) {
+        this.include = include;
+        this.exclude = exclude;
+        this.caseSensitive = caseSensitive;
+    }
+
+    /**
+     * Creates a filter for the given include and exclude rules.
+     * @see XContentMapValues#filter(java.util.Map, String[], String[]) for details
+     */
+    public static XContentFieldFilter newFieldFilter(String[] includes, String[] excludes, boolean caseSensitive) {
+        CharacterRunAutomaton include = MATCH_ALL;
+        if (includes != null && includes.length > 0) {
+            Set<String> includeSet = XContentMapValues.toSet(includes, caseSensitive);
+            Automaton includeA = Regex.simpleMatchToAutomaton(includeSet.toArray(new String[0]));
+            include = new CharacterRunAutomaton(XContentMapValues.makeMatchDotsInFieldNames(includeA));
+        }
+        Automaton excludeA = Automata.makeEmpty();
+        if (excludes != null && excludes.length > 0) {
+            Set<String> excludeSet = XContentMapValues.toSet(excludes, caseSensitive);
+            excludeA = XContentMapValues.makeMatchDotsInFieldNames(Regex.simpleMatchToAutomaton(excludeSet.toArray(new String[0])));
+        }
+        return new XContentFieldFilter(include, new CharacterRunAutomaton(excludeA), caseSensitive);
+    }
+
+    /**
+     * Filters the given source, which is an object, and returns the filtered bytes in the same content type.
+     *
+     * @param contentType the content type of the source, detected from the bytes if {@code null}
+     */
+    public BytesReference apply(BytesReference source, @Nullable MediaType contentType) throws IOException {
+        try (XContentParser parser = createParser(source, contentType)) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, source.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            filter(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+
+    private static XContentParser createParser(BytesReference source, @Nullable MediaType contentType) throws IOException {
+        // EMPTY is safe here because we never call namedObject
+        final NamedXContentRegistry registry = NamedXContentRegistry.EMPTY;
+        if (contentType == null) {
+            return XContentHelper.createParser(registry, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source);
+        }
+        return XContentHelper.createParser(registry, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source, contentType);
+    }
+
+    /**
+     * Copies the object the parser is on, or the next one if the parser was not started yet, to the builder, keeping only the
+     * properties that match the filter. Objects and arrays that end up empty are dropped, like in
+     * {@link XContentMapValues#filter(java.util.Map, String[], String[])}, but the top-level object is always written.
+     */
+    public void filter(XContentParser parser, XContentBuilder builder) throws IOException {
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("expected an object to filter but got [" + token + "]");
+        }
+        PendingWriter writer = new PendingWriter(builder);
+        writer.push(null, true, true);
+        filterObject(parser, writer, include, 0, 0);
+        writer.pop();
+    }
+
+    /**
+     * Filters the object the parser is on, mirrors {@code XContentMapValues#filter(Map, ...)}.
+     */
+    private void filterObject(
+        XContentParser parser,
+        PendingWriter writer,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_OBJECT; token = parser.nextToken()) {
+            assert token == XContentParser.Token.FIELD_NAME : "expected a field name but got " + token;
+            String key = parser.currentName();
+            token = parser.nextToken();
+            String k = caseSensitive ? key : key.toLowerCase(Locale.ROOT);
+
+            int includeState = XContentMapValues.step(includeAutomaton, k, initialIncludeState);
+            if (includeState == -1) {
+                parser.skipChildren();
+                continue;
+            }
+
+            int excludeState = initialExcludeState == -1 ? -1 : XContentMapValues.step(exclude, k, initialExcludeState);
+            if (excludeState != -1 && exclude.isAccept(excludeState)) {
+                parser.skipChildren();
+                continue;
+            }
+
+            boolean included = includeAutomaton.isAccept(includeState);
+            CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+            int subIncludeState = includeState;
+            if (included) {
+                if (excludeState == -1 || exclude.step(excludeState, '.') == -1) {
+                    // the exclude has no chances to match inner properties
+                    writer.flush();
+                    writer.builder.field(key);
+                    writer.builder.copyCurrentStructure(parser);
+                    continue;
+                } else {
+                    // the object matched, so consider that the include matches every inner property
+                    // we only care about excludes now
+                    subIncludeAutomaton = MATCH_ALL;
+                    subIncludeState = 0;
+                }
+            }
+
+            if (token == XContentParser.Token.START_OBJECT) {
+                subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                if (subIncludeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                writer.push(key, true, included);
+                filterObject(parser, writer, subIncludeAutomaton, subIncludeState, excludeState);
+                writer.pop();
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                writer.push(key, false, included);
+                filterArray(parser, writer, subIncludeAutomaton, subIncludeState, excludeState);
+                writer.pop();
+            } else if (included) {
+                // leaf property
+                writer.flush();
+                writer.builder.field(key);
+                writer.builder.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Filters the array the parser is on, mirrors {@code XContentMapValues#filter(Iterable, ...)}.
+     */
+    private void filterArray(
+        XContentParser parser,
+        PendingWriter writer,
+        CharacterRunAutomaton includeAutomaton,
+        int initialIncludeState,
+        int initialExcludeState
+    ) throws IOException {
+        boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+        for (XContentParser.Token token = parser.nextToken(); token != XContentParser.Token.END_ARRAY; token = parser.nextToken()) {
+            if (token == XContentParser.Token.START_OBJECT) {
+                int includeState = includeAutomaton.step(initialIncludeState, '.');
+                if (includeState == -1) {
+                    parser.skipChildren();
+                    continue;
+                }
+                int excludeState = initialExcludeState;
+                if (excludeState != -1) {
+                    excludeState = exclude.step(excludeState, '.');
+                }
+                writer.push(null, true, false);
+                filterObject(parser, writer, includeAutomaton, includeState, excludeState);
+                writer.pop();
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                writer.push(null, false, false);
+                filterArray(parser, writer, includeAutomaton, initialIncludeState, initialExcludeState);
+                writer.pop();
+            } else if (isInclude) {
+                // #22557: only accept this array value if the key we are on is accepted:
+                writer.flush();
+                writer.builder.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Defers writing the start of objects and arrays until something is written in them, so that empty ones can be dropped
+     * without buffering their content.
+     */
+    private static final class PendingWriter {
+        private final XContentBuilder builder;
+        private String[] names = new String[8];
+        private boolean[] objects = new boolean[8];
+        private int depth;
+        private int written;
+
+        PendingWriter(XContentBuilder builder) {
+            this.builder = builder;
+        }
+
+        void push(@Nullable String name, boolean object, boolean force) throws IOException {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth << 1);
+                objects = Arrays.copyOf(objects, depth << 1);
+            }
+            names[depth] = name;
+            objects[depth] = object;
+            depth++;
+            if (force) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            for (; written < depth; written++) {
+                if (names[written] != null) {
+                    builder.field(names[written]);
+                }
+                if (objects[written]) {
+                    builder.startObject();
+                } else {
+                    builder.startArray();
+                }
+            }
+        }
+
+        void pop() throws IOException {
+            depth--;
+            names[depth] = null;
+            if (written > depth) {
+                written--;
+                if (objects[depth]) {
+                    builder.endObject();
+                } else {
+                    builder.endArray();
+                }
+            }
+        }
+    }
+}
@@ -1528,7 +1528,11 @@ public class IndexService extends AbstractIndexComponent implements IndicesClust
         if (getRefreshInterval().millis() > 0 || force) {
             for (IndexShard shard : this.shards.values()) {
                 try {
-                    shard.scheduledRefresh();
+                    if (force) {
+                        shard.scheduledRefresh();
+                    } else {
+                        shard.triggerScheduledRefresh();
+                    }
                 } catch (IndexShardClosedException | AlreadyClosedException ex) {
                     // fine - continue;
                 }
@@ -406,6 +406,17 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether the timer driven refreshes of the index go through the node's refresh scheduler when it is enabled. Indices that need
+     * every refresh on time can opt out.
+     */
+    public static final Setting<Boolean> INDEX_REFRESH_SCHEDULER_ENABLED_SETTING = Setting.boolSetting(
+        "index.refresh.scheduler.enabled",
+        true,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * Periodic flush interval setting. By default, periodic flush is disabled (-1).
      * For pull-based ingestion indices, this defaults to 10 minutes to ensure offsets are regularly committed.
@@ -472,6 +483,17 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Whether new translog generations write their operations in ZSTD compressed blocks. Changes apply from the next translog
+     * generation on, existing generations keep their format. Nodes of earlier versions cannot read compressed generations.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING = Setting.boolSetting(
+        "index.translog.compression.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * Index setting to enable / disable deletes garbage collection.
      * This setting is realtime updateable
@@ -736,6 +758,28 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Expert: lets the primary index consecutive bulk items with auto-generated ids with a single engine call, which plans
+     * them together and writes them to the translog with one append.
+     */
+    public static final Setting<Boolean> INDEX_APPEND_ONLY_BATCH_ENABLED_SETTING = Setting.boolSetting(
+        "index.append_only_batch.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
+    /**
+     * Expert: lets the primary send the documents it parsed to document replication replicas, which index them without parsing
+     * the source again as long as their mapping matches the one of the primary.
+     */
+    public static final Setting<Boolean> INDEX_REPLICATE_PARSED_DOCUMENTS_SETTING = Setting.boolSetting(
+        "index.replication.parsed_document.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+
     public static final Setting<String> TIME_SERIES_INDEX_MERGE_POLICY = Setting.simpleString(
         "indices.time_series_index.default_index_merge_policy",
         DEFAULT_POLICY,
@@ -821,6 +865,7 @@ public final class IndexSettings {
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT = "segment";
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_BALANCED = "balanced";
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE = "force";
+    public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_COST = "cost";
 
     public static final Setting<String> INDEX_CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY = Setting.simpleString(
         "index.search.concurrent_segment_search.partition_strategy",
@@ -830,9 +875,10 @@ public final class IndexSettings {
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT:
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_BALANCED:
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE:
+                case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_COST:
                     break;
                 default:
-                    throw new IllegalArgumentException("Setting value must be one of [segment, balanced, force]");
+                    throw new IllegalArgumentException("Setting value must be one of [segment, balanced, force, cost]");
             }
         },
         Property.Dynamic,
@@ -967,6 +1013,7 @@ public final class IndexSettings {
     private volatile TimeValue translogRetentionAge;
     private volatile ByteSizeValue translogRetentionSize;
     private volatile ByteSizeValue generationThresholdSize;
+    private volatile boolean translogCompressionEnabled;
     private volatile ByteSizeValue flushAfterMergeThresholdSize;
     private final MergeSchedulerConfig mergeSchedulerConfig;
     private final TieredMergePolicyProvider tieredMergePolicyProvider;
@@ -1060,6 +1107,9 @@ public final class IndexSettings {
      * Is merge of flush enabled or not
      */
     private volatile boolean mergeOnFlushEnabled;
+    private volatile boolean appendOnlyBatchEnabled;
+    private volatile boolean replicateParsedDocuments;
+    private volatile boolean refreshSchedulerEnabled;
     /**
      * Specialized merge-on-flush policy if provided
      */
@@ -1194,6 +1244,7 @@ public final class IndexSettings {
         periodicFlushInterval = scopedSettings.get(INDEX_PERIODIC_FLUSH_INTERVAL_SETTING);
         flushThresholdSize = scopedSettings.get(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING);
         generationThresholdSize = scopedSettings.get(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING);
+        translogCompressionEnabled = scopedSettings.get(INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING);
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
@@ -1236,6 +1287,9 @@ public final class IndexSettings {
         mappingDynamicPropertiesLuceneFieldLimit = scopedSettings.get(INDEX_MAPPING_DYNAMIC_PROPERTIES_LUCENE_FIELD_LIMIT_SETTING);
         maxFullFlushMergeWaitTime = scopedSettings.get(INDEX_MERGE_ON_FLUSH_MAX_FULL_FLUSH_MERGE_WAIT_TIME);
         mergeOnFlushEnabled = scopedSettings.get(INDEX_MERGE_ON_FLUSH_ENABLED);
+        appendOnlyBatchEnabled = scopedSettings.get(INDEX_APPEND_ONLY_BATCH_ENABLED_SETTING);
+        replicateParsedDocuments = scopedSettings.get(INDEX_REPLICATE_PARSED_DOCUMENTS_SETTING);
+        refreshSchedulerEnabled = scopedSettings.get(INDEX_REFRESH_SCHEDULER_ENABLED_SETTING);
         setMergeOnFlushPolicy(scopedSettings.get(INDEX_MERGE_ON_FLUSH_POLICY));
         checkPendingFlushEnabled = scopedSettings.get(INDEX_CHECK_PENDING_FLUSH_ENABLED);
         defaultSearchPipeline = scopedSettings.get(DEFAULT_SEARCH_PIPELINE);
@@ -1344,6 +1398,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GENERATION_THRESHOLD_SIZE_SETTING, this::setGenerationThresholdSize);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING, this::setTranslogCompressionEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_AGE_SETTING, this::setTranslogRetentionAge);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_RETENTION_SIZE_SETTING, this::setTranslogRetentionSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_INTERVAL_SETTING, this::setRefreshInterval);
@@ -1378,6 +1433,9 @@ public final class IndexSettings {
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_MAX_FULL_FLUSH_MERGE_WAIT_TIME, this::setMaxFullFlushMergeWaitTime);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_ENABLED, this::setMergeOnFlushEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_APPEND_ONLY_BATCH_ENABLED_SETTING, this::setAppendOnlyBatchEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REPLICATE_PARSED_DOCUMENTS_SETTING, this::setReplicateParsedDocuments);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_SCHEDULER_ENABLED_SETTING, this::setRefreshSchedulerEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MERGE_ON_FLUSH_POLICY, this::setMergeOnFlushPolicy);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_SEARCH_PIPELINE, this::setDefaultSearchPipeline);
         scopedSettings.addSettingsUpdateConsumer(
@@ -1449,6 +1507,10 @@ public final class IndexSettings {
         this.generationThresholdSize = generationThresholdSize;
     }
 
+    private void setTranslogCompressionEnabled(boolean translogCompressionEnabled) {
+        this.translogCompressionEnabled = translogCompressionEnabled;
+    }
+
     private void setGCDeletes(TimeValue timeValue) {
         this.gcDeletesInMillis = timeValue.getMillis();
     }
@@ -1867,6 +1929,13 @@ public final class IndexSettings {
         return generationThresholdSize;
     }
 
+    /**
+     * Returns <code>true</code> if new translog generations write their operations in compressed blocks.
+     */
+    public boolean isTranslogCompressionEnabled() {
+        return translogCompressionEnabled;
+    }
+
     /**
      * Returns the {@link MergeSchedulerConfig}
      */
@@ -2148,6 +2217,17 @@ public final class IndexSettings {
         return INDEX_REFRESH_INTERVAL_SETTING.exists(settings);
     }
 
+    private void setRefreshSchedulerEnabled(boolean refreshSchedulerEnabled) {
+        this.refreshSchedulerEnabled = refreshSchedulerEnabled;
+    }
+
+    /**
+     * Returns true if the timer driven refreshes of this index may go through the node's refresh scheduler.
+     */
+    public boolean isRefreshSchedulerEnabled() {
+        return refreshSchedulerEnabled;
+    }
+
     /**
      * Returns the time that an index shard becomes search idle unless it's accessed in between
      */
@@ -2318,6 +2398,26 @@ public final class IndexSettings {
         return checkPendingFlushEnabled;
     }
 
+    private void setAppendOnlyBatchEnabled(boolean enabled) {
+        this.appendOnlyBatchEnabled = enabled;
+    }
+
+    public boolean isAppendOnlyBatchEnabled() {
+        return appendOnlyBatchEnabled;
+    }
+
+    private void setReplicateParsedDocuments(boolean replicateParsedDocuments) {
+        this.replicateParsedDocuments = replicateParsedDocuments;
+    }
+
+    /**
+     * Returns true if the primary should send its parsed documents to replicas. Segment replication replicas do not index
+     * documents, so nothing is sent to them.
+     */
+    public boolean shouldReplicateParsedDocuments() {
+        return replicateParsedDocuments && isSegRepEnabledOrRemoteNode() == false;
+    }
+
     public Optional<UnaryOperator<MergePolicy>> getMergeOnFlushPolicy() {
         return Optional.ofNullable(mergeOnFlushPolicy);
     }
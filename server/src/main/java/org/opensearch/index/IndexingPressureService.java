@@ -123,6 +123,18 @@ public class IndexingPressureService {
         return shardIndexingPressure.shardStats(statsFlags);
     }
 
+    /**
+     * Returns the share of its shard indexing pressure limits that the in flight requests of the given shard use, between 0 and
+     * 1, or 0 if shard indexing pressure is disabled.
+     */
+    public double shardIndexingPressureUtilization(ShardId shardId) {
+        if (isShardIndexingPressureEnabled()) {
+            return shardIndexingPressure.shardPrimaryAndCoordinatingUtilization(shardId);
+        } else {
+            return 0;
+        }
+    }
+
     private boolean isShardIndexingPressureEnabled() {
         return shardIndexingPressure.isShardIndexingPressureEnabled();
     }
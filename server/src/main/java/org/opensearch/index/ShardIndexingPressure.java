@@ -441,6 +441,23 @@ public class ShardIndexingPressure extends IndexingPressure {
         return memoryManager.getShardIndexingPressureTracker(shardId);
     }
 
+    /**
+     * Returns the share of its current primary and coordinating limits that the in flight requests of the given shard use,
+     * between 0 and 1. Shards without requests in flight have no tracker in the hot store and report 0.
+     */
+    public double shardPrimaryAndCoordinatingUtilization(ShardId shardId) {
+        final ShardIndexingPressureTracker tracker = memoryManager.getShardIndexingPressureHotStore().get(shardId);
+        if (tracker == null) {
+            return 0;
+        }
+        final long limits = tracker.getPrimaryAndCoordinatingLimits();
+        if (limits <= 0) {
+            return 0;
+        }
+        final long current = tracker.getCommonOperationTracker().getCurrentCombinedCoordinatingAndPrimaryBytes();
+        return Math.min(1.0, (double) current / limits);
+    }
+
     public boolean isShardIndexingPressureEnabled() {
         return shardIndexingPressureSettings.isShardIndexingPressureEnabled();
     }
@@ -108,6 +108,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -463,6 +464,23 @@ public abstract class Engine implements LifecycleAware, Closeable {
      */
     public abstract IndexResult index(Index index) throws IOException;
 
+    /**
+     * Perform a run of append-only index operations on the engine, i.e. primary operations with auto-generated ids that are
+     * not retries. Engines that can plan and write such operations together override this; by default they are indexed one
+     * by one.
+     * @param operations operations to perform, in the order they were received
+     * @return one {@link IndexResult} per operation, in the same order
+     *
+     * Note: engine level failures (i.e. persistent engine failures) are thrown
+     */
+    public List<IndexResult> indexAppendOnly(List<Index> operations) throws IOException {
+        final List<IndexResult> results = new ArrayList<>(operations.size());
+        for (Index operation : operations) {
+            results.add(index(operation));
+        }
+        return results;
+    }
+
     /**
      * Perform document delete operation on the engine
      * @param delete operation to perform
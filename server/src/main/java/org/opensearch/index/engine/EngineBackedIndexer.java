@@ -67,6 +67,11 @@ public class EngineBackedIndexer implements Indexer {
         return engine.index(index);
     }
 
+    @Override
+    public List<Engine.IndexResult> indexAppendOnly(List<Engine.Index> operations) throws IOException {
+        return engine.indexAppendOnly(operations);
+    }
+
     @Override
     public Engine.DeleteResult delete(Engine.Delete delete) throws IOException {
         return engine.delete(delete);
@@ -69,6 +69,7 @@ import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.indices.IndexingMemoryController;
+import org.opensearch.indices.NodeMergeCoordinator;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.util.Collections;
@@ -123,6 +124,7 @@ public final class EngineConfig {
     private final Supplier<DocumentMapperForType> documentMapperForTypeSupplier;
     private final ClusterApplierService clusterApplierService;
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
+    private final NodeMergeCoordinator.ShardHandle mergeCoordinator;
     private final DataFormatRegistry dataFormatRegistry;
     private final MapperService mapperService;
     private final CommitterFactory committerFactory;
@@ -257,6 +259,16 @@ public final class EngineConfig {
         Property.IndexScope
     );
 
+    /**
+     * Whether the live version map locks uids with a fixed set of lock stripes and keeps versions in tables partitioned by stripe,
+     * rather than a keyed lock and concurrent hash maps. Reduces lock contention and allocations of update-heavy workloads.
+     */
+    public static final Setting<Boolean> INDEX_VERSION_MAP_STRIPED_SETTING = Setting.boolSetting(
+        "index.version_map.striped",
+        false,
+        Property.IndexScope
+    );
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -317,6 +329,7 @@ public final class EngineConfig {
         this.indexReaderWarmer = builder.indexReaderWarmer;
         this.clusterApplierService = builder.clusterApplierService;
         this.mergedSegmentTransferTracker = builder.mergedSegmentTransferTracker;
+        this.mergeCoordinator = builder.mergeCoordinator;
         this.dataFormatRegistry = builder.dataFormatRegistry;
         this.mapperService = builder.mapperService;
         this.committerFactory = builder.committerFactory;
@@ -369,7 +382,8 @@ public final class EngineConfig {
             .documentMapperForTypeSupplier(this.documentMapperForTypeSupplier)
             .indexReaderWarmer(this.indexReaderWarmer)
             .clusterApplierService(this.clusterApplierService)
-            .mergedSegmentTransferTracker(this.mergedSegmentTransferTracker);
+            .mergedSegmentTransferTracker(this.mergedSegmentTransferTracker)
+            .mergeCoordinator(this.mergeCoordinator);
     }
 
     /**
@@ -569,6 +583,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_USE_COMPOUND_FILE);
     }
 
+    /**
+     * Returns whether the live version map should use striped locks and tables, see {@link #INDEX_VERSION_MAP_STRIPED_SETTING}.
+     */
+    public boolean isVersionMapStriped() {
+        return indexSettings.getValue(INDEX_VERSION_MAP_STRIPED_SETTING);
+    }
+
     /**
      * Returns the underlying startedPrimarySupplier.
      * @return the primary mode supplier.
@@ -648,6 +669,14 @@ public final class EngineConfig {
         return this.mergedSegmentTransferTracker;
     }
 
+    /**
+     * Returns the node merge coordinator of this shard, or {@code null} if merges are only scheduled by the shard.
+     */
+    @Nullable
+    public NodeMergeCoordinator.ShardHandle getMergeCoordinator() {
+        return this.mergeCoordinator;
+    }
+
     public DataFormatRegistry getDataFormatRegistry() {
         return this.dataFormatRegistry;
     }
@@ -702,6 +731,7 @@ public final class EngineConfig {
         private IndexWriter.IndexReaderWarmer indexReaderWarmer;
         private ClusterApplierService clusterApplierService;
         private MergedSegmentTransferTracker mergedSegmentTransferTracker;
+        private NodeMergeCoordinator.ShardHandle mergeCoordinator;
         private DataFormatRegistry dataFormatRegistry;
         private MapperService mapperService;
         private CommitterFactory committerFactory;
@@ -862,6 +892,11 @@ public final class EngineConfig {
             return this;
         }
 
+        public Builder mergeCoordinator(NodeMergeCoordinator.ShardHandle mergeCoordinator) {
+            this.mergeCoordinator = mergeCoordinator;
+            return this;
+        }
+
         public Builder dataFormatRegistry(DataFormatRegistry dataFormatRegistry) {
             this.dataFormatRegistry = dataFormatRegistry;
             return this;
@@ -39,6 +39,7 @@ import org.opensearch.index.store.Store;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogDeletionPolicyFactory;
 import org.opensearch.index.translog.TranslogFactory;
+import org.opensearch.indices.NodeMergeCoordinator;
 import org.opensearch.plugins.EnginePlugin;
 import org.opensearch.plugins.PluginsService;
 import org.opensearch.threadpool.ThreadPool;
@@ -188,6 +189,83 @@ public class EngineConfigFactory {
         DataFormatRegistry dataFormatRegistry,
         MapperService mapperService,
         Map<String, FormatChecksumStrategy> checksumStrategies
+    ) {
+        return newEngineConfig(
+            shardId,
+            threadPool,
+            indexSettings,
+            warmer,
+            store,
+            mergePolicy,
+            analyzer,
+            similarity,
+            codecService,
+            eventListener,
+            queryCache,
+            queryCachingPolicy,
+            translogConfig,
+            flushMergesAfter,
+            externalRefreshListener,
+            internalRefreshListener,
+            indexSort,
+            circuitBreakerService,
+            globalCheckpointSupplier,
+            retentionLeasesSupplier,
+            primaryTermSupplier,
+            tombstoneDocSupplier,
+            isReadOnlyReplica,
+            startedPrimarySupplier,
+            translogFactory,
+            leafSorter,
+            documentMapperForTypeSupplier,
+            indexReaderWarmer,
+            clusterApplierService,
+            mergedSegmentTransferTracker,
+            dataFormatRegistry,
+            mapperService,
+            checksumStrategies,
+            null
+        );
+    }
+
+    /**
+     * Instantiates a new EngineConfig from the provided custom overrides, coordinating merges with the given node merge coordinator
+     */
+    public EngineConfig newEngineConfig(
+        ShardId shardId,
+        ThreadPool threadPool,
+        IndexSettings indexSettings,
+        Engine.Warmer warmer,
+        Store store,
+        MergePolicy mergePolicy,
+        Analyzer analyzer,
+        Similarity similarity,
+        CodecService codecService,
+        Engine.EventListener eventListener,
+        QueryCache queryCache,
+        QueryCachingPolicy queryCachingPolicy,
+        TranslogConfig translogConfig,
+        TimeValue flushMergesAfter,
+        List<ReferenceManager.RefreshListener> externalRefreshListener,
+        List<ReferenceManager.RefreshListener> internalRefreshListener,
+        Sort indexSort,
+        CircuitBreakerService circuitBreakerService,
+        LongSupplier globalCheckpointSupplier,
+        Supplier<RetentionLeases> retentionLeasesSupplier,
+        LongSupplier primaryTermSupplier,
+        EngineConfig.TombstoneDocSupplier tombstoneDocSupplier,
+        boolean isReadOnlyReplica,
+        BooleanSupplier startedPrimarySupplier,
+        TranslogFactory translogFactory,
+        Comparator<LeafReader> leafSorter,
+        Supplier<DocumentMapperForType> documentMapperForTypeSupplier,
+        IndexWriter.IndexReaderWarmer indexReaderWarmer,
+        ClusterApplierService clusterApplierService,
+        MergedSegmentTransferTracker mergedSegmentTransferTracker,
+        DataFormatRegistry dataFormatRegistry,
+        MapperService mapperService,
+        Map<String, FormatChecksumStrategy> checksumStrategies,
+        @Nullable NodeMergeCoordinator.ShardHandle mergeCoordinator
     ) {
         CodecService codecServiceToUse = codecService;
         if (codecService == null && this.codecServiceFactory != null) {
@@ -229,6 +307,7 @@ public class EngineConfigFactory {
             .mapperService(mapperService)
             .committerFactory(committerFactory)
             .checksumStrategies(checksumStrategies)
+            .mergeCoordinator(mergeCoordinator)
             .build();
     }
 
@@ -111,11 +111,13 @@ import org.opensearch.index.translog.TranslogManager;
 import org.opensearch.index.translog.TranslogOperationHelper;
 import org.opensearch.index.translog.listener.CompositeTranslogEventListener;
 import org.opensearch.index.translog.listener.TranslogEventListener;
+import org.opensearch.indices.NodeMergeCoordinator;
 import org.opensearch.search.suggest.completion.CompletionStats;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -163,7 +165,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -241,6 +243,7 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.isVersionMapStriped());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -257,7 +260,8 @@ public class InternalEngine extends Engine {
             mergeScheduler = scheduler = new EngineMergeScheduler(
                 engineConfig.getShardId(),
                 engineConfig.getIndexSettings(),
-                getMergedSegmentTransferTracker()
+                getMergedSegmentTransferTracker(),
+                engineConfig.getMergeCoordinator()
             );
             throttle = new IndexingThrottler();
             try {
@@ -909,96 +913,177 @@ public class InternalEngine extends Engine {
                  */
                 final IndexingStrategy plan = indexingStrategyForOperation(index);
                 reservedDocs = plan.reservedDocs;
-
-                final IndexResult indexResult;
-                if (plan.earlyResultOnPreFlightError.isPresent()) {
-                    assert index.origin() == Operation.Origin.PRIMARY : index.origin();
-                    indexResult = (IndexResult) plan.earlyResultOnPreFlightError.get();
-                    assert indexResult.getResultType() == Result.Type.FAILURE : indexResult.getResultType();
+                return indexWithPlan(index, plan);
+            } finally {
+                releaseInFlightDocs(reservedDocs);
+            }
+        } catch (RuntimeException | IOException e) {
+            try {
+                if (e instanceof AlreadyClosedException == false && treatDocumentFailureAsTragicError(index)) {
+                    failEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
                 } else {
-                    // generate or register sequence number
-                    if (index.origin() == Operation.Origin.PRIMARY) {
-                        index = new Index(
-                            index.uid(),
-                            index.parsedDoc(),
-                            generateSeqNoForOperationOnPrimary(index),
-                            index.primaryTerm(),
-                            index.version(),
-                            index.versionType(),
-                            index.origin(),
-                            index.startTime(),
-                            index.getAutoGeneratedIdTimestamp(),
-                            index.isRetry(),
-                            index.getIfSeqNo(),
-                            index.getIfPrimaryTerm()
-                        );
+                    maybeFailEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
+                }
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+    }
 
-                        final boolean toAppend = plan.executeOpOnEngine && plan.useUpdateDocument == false;
-                        if (toAppend == false) {
-                            advanceMaxSeqNoOfUpdatesOrDeletesOnPrimary(index.seqNo());
-                        }
-                    } else {
-                        markSeqNoAsSeen(index.seqNo());
-                    }
+    /**
+     * Executes an index operation that has been planned while holding the operation's uid lock.
+     */
+    private IndexResult indexWithPlan(Index index, IndexingStrategy plan) throws IOException {
+        final IndexResult indexResult;
+        if (plan.earlyResultOnPreFlightError.isPresent()) {
+            assert index.origin() == Operation.Origin.PRIMARY : index.origin();
+            indexResult = (IndexResult) plan.earlyResultOnPreFlightError.get();
+            assert indexResult.getResultType() == Result.Type.FAILURE : indexResult.getResultType();
+        } else {
+            // generate or register sequence number
+            if (index.origin() == Operation.Origin.PRIMARY) {
+                index = assignSeqNoOnPrimary(index, plan);
+            } else {
+                markSeqNoAsSeen(index.seqNo());
+            }
 
-                    assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
+            assert index.seqNo() >= 0 : "ops should have an assigned seq no.; origin: " + index.origin();
 
-                    if (plan.executeOpOnEngine || plan.addStaleOpToEngine) {
-                        indexResult = indexIntoLucene(index, plan);
-                    } else {
-                        indexResult = new IndexResult(plan.version, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
-                    }
+            if (plan.executeOpOnEngine || plan.addStaleOpToEngine) {
+                indexResult = indexIntoLucene(index, plan);
+            } else {
+                indexResult = new IndexResult(plan.version, index.primaryTerm(), index.seqNo(), plan.currentNotFoundOrDeleted);
+            }
 
+        }
+        if (index.origin().isFromTranslog() == false) {
+            final Translog.Location location;
+            if (indexResult.getResultType() == Result.Type.SUCCESS) {
+                location = translogManager.add(new Translog.Index(index, indexResult));
+            } else {
+                location = recordFailureAsNoOp(index, indexResult);
+            }
+            indexResult.setTranslogLocation(location);
+        }
+        return completeIndex(index, plan, indexResult);
+    }
+
+    private Index assignSeqNoOnPrimary(Index index, IndexingStrategy plan) {
+        final Index withSeqNo = new Index(
+            index.uid(),
+            index.parsedDoc(),
+            generateSeqNoForOperationOnPrimary(index),
+            index.primaryTerm(),
+            index.version(),
+            index.versionType(),
+            index.origin(),
+            index.startTime(),
+            index.getAutoGeneratedIdTimestamp(),
+            index.isRetry(),
+            index.getIfSeqNo(),
+            index.getIfPrimaryTerm()
+        );
+
+        final boolean toAppend = plan.executeOpOnEngine && plan.useUpdateDocument == false;
+        if (toAppend == false) {
+            advanceMaxSeqNoOfUpdatesOrDeletesOnPrimary(withSeqNo.seqNo());
+        }
+        return withSeqNo;
+    }
+
+    /**
+     * If the operation failed after it got a sequence number, records the failure as a no-op in the translog and Lucene under
+     * that sequence number and returns its translog location.
+     */
+    private Translog.Location recordFailureAsNoOp(Index index, IndexResult indexResult) throws IOException {
+        if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
+            && indexResult.getFailure() != null
+            && !(indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException)) {
+            // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
+            final NoOp noOp = new NoOp(
+                indexResult.getSeqNo(),
+                index.primaryTerm(),
+                index.origin(),
+                index.startTime(),
+                indexResult.getFailure().toString()
+            );
+            return innerNoOp(noOp).getTranslogLocation();
+        }
+        return null;
+    }
+
+    private IndexResult completeIndex(Index index, IndexingStrategy plan, IndexResult indexResult) {
+        if (plan.executeOpOnEngine && indexResult.getResultType() == Result.Type.SUCCESS) {
+            final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
+            versionMap.maybePutIndexUnderLock(
+                index.uid().bytes(),
+                new IndexVersionValue(translogLocation, plan.version, index.seqNo(), index.primaryTerm())
+            );
+        }
+        localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
+        if (indexResult.getTranslogLocation() == null
+            && !(indexResult.getFailure() != null && (indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException))) {
+            // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
+            assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
+            localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+        }
+        indexResult.setTook(System.nanoTime() - index.startTime());
+        indexResult.freeze();
+        return indexResult;
+    }
+
+    /**
+     * Indexes a run of append-only operations together. All operations are planned under their uid locks first. The ones that
+     * can take the append-only path are then added to Lucene one operation at a time, so that every operation keeps its own
+     * block of nested and parent documents, and appended to the translog with a single write, while operations that may have
+     * been indexed before or could not be admitted go through the regular path. Documents of an engine with a
+     * {@link CompositeIndexWriter} are routed to child writers per document and are therefore indexed one by one.
+     */
+    @Override
+    public List<IndexResult> indexAppendOnly(List<Index> operations) throws IOException {
+        if (operations.size() < 2 || documentIndexWriter instanceof LuceneIndexWriter == false) {
+            return super.indexAppendOnly(operations);
+        }
+        final List<BytesRef> uids = new ArrayList<>(operations.size());
+        for (Index index : operations) {
+            assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
+            assert index.origin() == Operation.Origin.PRIMARY : index.origin();
+            assert index.getAutoGeneratedIdTimestamp() >= 0 && index.isRetry() == false : "not an append-only operation " + index;
+            uids.add(index.uid().bytes());
+        }
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            ensureOpen();
+            final IndexResult[] results = new IndexResult[operations.size()];
+            int reservedDocs = 0;
+            try (Releasable ignored = versionMap.acquireLocks(uids); Releasable indexThrottle = throttle.acquireThrottle()) {
+                // plan everything before assigning any sequence number, so that a failure while planning leaves no gaps
+                final IndexingStrategy[] plans = new IndexingStrategy[operations.size()];
+                final List<Integer> appendSlots = new ArrayList<>(operations.size());
+                for (int i = 0; i < plans.length; i++) {
+                    final Index index = operations.get(i);
+                    lastWriteNanos = index.startTime();
+                    plans[i] = indexingStrategyForOperation(index);
+                    reservedDocs += plans[i].reservedDocs;
+                    if (isAppendOnlyPlan(plans[i])) {
+                        appendSlots.add(i);
+                    }
                 }
-                if (index.origin().isFromTranslog() == false) {
-                    final Translog.Location location;
-                    if (indexResult.getResultType() == Result.Type.SUCCESS) {
-                        location = translogManager.add(new Translog.Index(index, indexResult));
-                    } else if (indexResult.getSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO
-                        && indexResult.getFailure() != null
-                        && !(indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException)) {
-                            // if we have document failure, record it as a no-op in the translog and Lucene with the generated seq_no
-                            final NoOp noOp = new NoOp(
-                                indexResult.getSeqNo(),
-                                index.primaryTerm(),
-                                index.origin(),
-                                index.startTime(),
-                                indexResult.getFailure().toString()
-                            );
-                            location = innerNoOp(noOp).getTranslogLocation();
-                        } else {
-                            location = null;
-                        }
-                    indexResult.setTranslogLocation(location);
-                }
-                if (plan.executeOpOnEngine && indexResult.getResultType() == Result.Type.SUCCESS) {
-                    final Translog.Location translogLocation = trackTranslogLocation.get() ? indexResult.getTranslogLocation() : null;
-                    versionMap.maybePutIndexUnderLock(
-                        index.uid().bytes(),
-                        new IndexVersionValue(translogLocation, plan.version, index.seqNo(), index.primaryTerm())
-                    );
+                if (appendSlots.isEmpty() == false) {
+                    appendIntoLuceneAndTranslog(operations, plans, appendSlots, results);
                 }
-                localCheckpointTracker.markSeqNoAsProcessed(indexResult.getSeqNo());
-                if (indexResult.getTranslogLocation() == null
-                    && !(indexResult.getFailure() != null
-                        && (indexResult.getFailure() instanceof AppendOnlyIndexOperationRetryException))) {
-                    // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
-                    assert index.origin().isFromTranslog() || indexResult.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
-                    localCheckpointTracker.markSeqNoAsPersisted(indexResult.getSeqNo());
+                for (int i = 0; i < plans.length; i++) {
+                    if (results[i] == null) {
+                        results[i] = indexWithPlan(operations.get(i), plans[i]);
+                    }
                 }
-                indexResult.setTook(System.nanoTime() - index.startTime());
-                indexResult.freeze();
-                return indexResult;
             } finally {
                 releaseInFlightDocs(reservedDocs);
             }
+            return Arrays.asList(results);
         } catch (RuntimeException | IOException e) {
             try {
-                if (e instanceof AlreadyClosedException == false && treatDocumentFailureAsTragicError(index)) {
-                    failEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
-                } else {
-                    maybeFailEngine("index id[" + index.id() + "] origin[" + index.origin() + "] seq#[" + index.seqNo() + "]", e);
-                }
+                maybeFailEngine("index append-only batch of [" + operations.size() + "] operations", e);
             } catch (Exception inner) {
                 e.addSuppressed(inner);
             }
@@ -1006,6 +1091,45 @@ public class InternalEngine extends Engine {
         }
     }
 
+    private static boolean isAppendOnlyPlan(IndexingStrategy plan) {
+        return plan.earlyResultOnPreFlightError.isPresent() == false
+            && plan.executeOpOnEngine
+            && plan.addStaleOpToEngine == false
+            && plan.useUpdateDocument == false
+            && plan.currentNotFoundOrDeleted;
+    }
+
+    private void appendIntoLuceneAndTranslog(List<Index> operations, IndexingStrategy[] plans, List<Integer> slots, IndexResult[] results)
+        throws IOException {
+        final List<Index> appends = new ArrayList<>(slots.size());
+        final List<Translog.Operation> translogOps = new ArrayList<>(slots.size());
+        final List<Integer> translogSlots = new ArrayList<>(slots.size());
+        for (int slot : slots) {
+            final Index index = assignSeqNoOnPrimary(operations.get(slot), plans[slot]);
+            appends.add(index);
+            // each operation is its own Lucene block: a single addDocuments call for the whole batch would make the nested
+            // documents of one operation appear as children of the next operation's root document
+            final IndexResult indexResult = indexIntoLucene(index, plans[slot]);
+            results[slot] = indexResult;
+            if (indexResult.getResultType() == Result.Type.SUCCESS) {
+                translogOps.add(new Translog.Index(index, indexResult));
+                translogSlots.add(slot);
+            } else {
+                indexResult.setTranslogLocation(recordFailureAsNoOp(index, indexResult));
+            }
+        }
+        if (translogOps.isEmpty() == false) {
+            final List<Translog.Location> locations = translogManager.add(translogOps);
+            for (int i = 0; i < locations.size(); i++) {
+                results[translogSlots.get(i)].setTranslogLocation(locations.get(i));
+            }
+        }
+        for (int i = 0; i < appends.size(); i++) {
+            final int slot = slots.get(i);
+            results[slot] = completeIndex(appends.get(i), plans[slot], results[slot]);
+        }
+    }
+
     protected final IndexingStrategy planIndexingAsNonPrimary(Index index) throws IOException {
         assert assertNonPrimaryOrigin(index);
         return indexingStrategyPlanner.planOperationAsNonPrimary(index);
@@ -2136,8 +2260,13 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, MergedSegmentTransferTracker mergedSegmentTransferTracker) {
-            super(shardId, indexSettings, mergedSegmentTransferTracker);
+        EngineMergeScheduler(
+            ShardId shardId,
+            IndexSettings indexSettings,
+            MergedSegmentTransferTracker mergedSegmentTransferTracker,
+            NodeMergeCoordinator.ShardHandle mergeCoordinator
+        ) {
+            super(shardId, indexSettings, mergedSegmentTransferTracker, mergeCoordinator);
         }
 
         @Override
@@ -36,24 +36,40 @@ import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
 
 /**
  * Maps _uid value to its version information.
+ * <p>
+ * By default uids are locked with a {@link KeyedLock} and versions live in concurrent hash maps. A striped map instead hashes uids
+ * to a fixed set of {@link UidLockStripes} and keeps versions in {@link StripedVersionTable}s that are partitioned the same way,
+ * which makes acquiring a uid lock and looking up a version allocation-free and keeps contention per stripe under update-heavy
+ * workloads with many indexing threads.
  *
  * @opensearch.internal
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    @Nullable
+    private final KeyedLock<BytesRef> keyedLock;
+    @Nullable
+    private final UidLockStripes lockStripes;
+    /**
+     * Bytes used by a table to point to a key/value, see {@link #BASE_BYTES_PER_CHM_ENTRY}.
+     */
+    private final long bytesPerEntry;
 
     /**
      * Looks up document version
@@ -143,14 +159,26 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         boolean needsSafeAccess;
         final boolean previousMapsNeededSafeAccess;
 
-        Maps(VersionLookup current, VersionLookup old, boolean previousMapsNeededSafeAccess) {
+        // creates the map of a new lookup given its expected size
+        private final IntFunction<Map<BytesRef, VersionValue>> mapFactory;
+        private final long bytesPerEntry;
+
+        Maps(
+            VersionLookup current,
+            VersionLookup old,
+            boolean previousMapsNeededSafeAccess,
+            IntFunction<Map<BytesRef, VersionValue>> mapFactory,
+            long bytesPerEntry
+        ) {
             this.current = current;
             this.old = old;
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
+            this.mapFactory = mapFactory;
+            this.bytesPerEntry = bytesPerEntry;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(IntFunction<Map<BytesRef, VersionValue>> mapFactory, long bytesPerEntry) {
+            this(new VersionLookup(mapFactory.apply(0)), VersionLookup.EMPTY, false, mapFactory, bytesPerEntry);
         }
 
         boolean isSafeAccessMode() {
@@ -169,9 +197,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          */
         Maps buildTransitionMap() {
             return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
+                new VersionLookup(mapFactory.apply(current.size())),
                 current,
-                shouldInheritSafeAccess()
+                shouldInheritSafeAccess(),
+                mapFactory,
+                bytesPerEntry
             );
         }
 
@@ -179,14 +209,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * builds a new map that invalidates the old map but maintains the current. This should be called in afterRefresh()
          */
         Maps invalidateOldMap() {
-            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
+            return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess, mapFactory, bytesPerEntry);
         }
 
         void put(BytesRef uid, VersionValue version) {
             long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            long ramAccounting = bytesPerEntry + version.ramBytesUsed() + uidRAMBytesUsed;
             VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            ramAccounting += previousValue == null ? 0 : -(bytesPerEntry + previousValue.ramBytesUsed() + uidRAMBytesUsed);
             adjustRam(ramAccounting);
         }
 
@@ -202,7 +232,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             current.updateMinDeletedTimestamp(deleted);
             if (previousValue != null) {
                 long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+                adjustRam(-(bytesPerEntry + previousValue.ramBytesUsed() + uidRAMBytesUsed));
             }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
@@ -217,12 +247,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     }
 
     // All deletes also go here, and delete "tombstones" are retained after refresh:
-    private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+    private final Map<BytesRef, DeleteVersionValue> tombstones;
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -264,6 +294,42 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param striped whether to use striped uid locks and tables instead of keyed locks and concurrent hash maps
+     */
+    LiveVersionMap(boolean striped) {
+        if (striped) {
+            final UidLockStripes stripes = new UidLockStripes();
+            this.keyedLock = null;
+            this.lockStripes = stripes;
+            this.bytesPerEntry = StripedVersionTable.BYTES_PER_ENTRY;
+            this.tombstones = new StripedVersionTable<>(stripes);
+        } else {
+            this.keyedLock = new KeyedLock<>();
+            this.lockStripes = null;
+            this.bytesPerEntry = BASE_BYTES_PER_CHM_ENTRY;
+            this.tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+        }
+        this.maps = newMaps();
+        this.unsafeKeysMap = newMaps();
+    }
+
+    private Maps newMaps() {
+        final UidLockStripes stripes = lockStripes;
+        if (stripes != null) {
+            return new Maps(expectedSize -> new StripedVersionTable<>(stripes, expectedSize), bytesPerEntry);
+        }
+        return new Maps(ConcurrentCollections::newConcurrentMapWithAggressiveConcurrency, bytesPerEntry);
+    }
+
+    boolean isStriped() {
+        return lockStripes != null;
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -376,10 +442,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
         // Also enroll the delete into tombstones, and account for its RAM too:
         final VersionValue prevTombstone = tombstones.put(uid, version);
-        long accountRam = (BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed);
+        long accountRam = (bytesPerEntry + version.ramBytesUsed() + uidRAMBytesUsed);
         // Deduct tombstones bytes used for the version we just removed or replaced:
         if (prevTombstone != null) {
-            accountRam -= (BASE_BYTES_PER_CHM_ENTRY + prevTombstone.ramBytesUsed() + uidRAMBytesUsed);
+            accountRam -= (bytesPerEntry + prevTombstone.ramBytesUsed() + uidRAMBytesUsed);
         }
         if (accountRam != 0) {
             long v = ramBytesUsedTombstones.addAndGet(accountRam);
@@ -396,7 +462,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         final VersionValue prev = tombstones.remove(uid);
         if (prev != null) {
             assert prev.isDelete();
-            long v = ramBytesUsedTombstones.addAndGet(-(BASE_BYTES_PER_CHM_ENTRY + prev.ramBytesUsed() + uidRAMBytesUsed));
+            long v = ramBytesUsedTombstones.addAndGet(-(bytesPerEntry + prev.ramBytesUsed() + uidRAMBytesUsed));
             assert v >= 0 : "bytes=" + v;
         }
     }
@@ -415,6 +481,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Try to prune tombstones whose timestamp is less than maxTimestampToPrune and seqno at most the maxSeqNoToPrune.
      */
     void pruneTombstones(long maxTimestampToPrune, long maxSeqNoToPrune) {
+        if (tombstones instanceof StripedVersionTable<DeleteVersionValue> stripedTombstones) {
+            // same best effort as below: stripes that are locked by other threads are skipped, see #28714
+            stripedTombstones.tryRemoveIf(
+                (uid, versionValue) -> canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, versionValue),
+                this::removeTombstoneUnderLock
+            );
+            return;
+        }
         for (Map.Entry<BytesRef, DeleteVersionValue> entry : tombstones.entrySet()) {
             // we do check before we actually lock the key - this way we don't need to acquire the lock for tombstones that are not
             // prune-able. If the tombstone changes concurrently we will re-read and step out below since if we can't collect it now w
@@ -443,7 +517,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = newMaps();
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -496,13 +570,37 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
      * @see KeyedLock
+     * @see UidLockStripes
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return lockStripes != null ? lockStripes.acquire(uid) : keyedLock.acquire(uid);
+    }
+
+    /**
+     * Acquires the locks of all given uids at once, for operations that are planned and written together. The locks are taken
+     * in a fixed order so that threads locking overlapping sets of uids cannot deadlock.
+     */
+    Releasable acquireLocks(List<BytesRef> uids) {
+        final Releasable[] releasables;
+        if (lockStripes != null) {
+            final int[] stripes = uids.stream().mapToInt(lockStripes::stripe).sorted().distinct().toArray();
+            releasables = new Releasable[stripes.length];
+            for (int i = 0; i < stripes.length; i++) {
+                releasables[i] = lockStripes.acquire(stripes[i]);
+            }
+        } else {
+            final BytesRef[] sorted = uids.stream().sorted().distinct().toArray(BytesRef[]::new);
+            releasables = new Releasable[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                releasables[i] = keyedLock.acquire(sorted[i]);
+            }
+        }
+        return Releasables.wrap(releasables);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert (lockStripes != null ? lockStripes.isHeldByCurrentThread(uid) : keyedLock.isHeldByCurrentThread(uid))
+            : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
 }
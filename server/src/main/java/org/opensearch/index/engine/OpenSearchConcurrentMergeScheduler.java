@@ -36,6 +36,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
@@ -48,6 +51,7 @@ import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.MergeStatsTracker;
 import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.merge.OnGoingMerge;
+import org.opensearch.indices.NodeMergeCoordinator;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -72,12 +76,24 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
+    @Nullable
+    private final NodeMergeCoordinator.ShardHandle mergeCoordinator;
 
     OpenSearchConcurrentMergeScheduler(
         ShardId shardId,
         IndexSettings indexSettings,
         MergedSegmentTransferTracker mergedSegmentTransferTracker
     ) {
+        this(shardId, indexSettings, mergedSegmentTransferTracker, null);
+    }
+
+    OpenSearchConcurrentMergeScheduler(
+        ShardId shardId,
+        IndexSettings indexSettings,
+        MergedSegmentTransferTracker mergedSegmentTransferTracker,
+        @Nullable NodeMergeCoordinator.ShardHandle mergeCoordinator
+    ) {
+        this.mergeCoordinator = mergeCoordinator;
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings;
@@ -119,7 +135,10 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
         try {
             beforeMerge(onGoingMerge);
-            super.doMerge(mergeSource, merge);
+            // merges above the node wide cap wait here, on their merge thread, until the node merge coordinator admits them
+            try (Releasable ignored = mergeCoordinator == null ? () -> {} : mergeCoordinator.admit(merge)) {
+                super.doMerge(mergeSource, merge);
+            }
         } finally {
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
@@ -166,6 +185,12 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
      */
     protected void afterMerge(OnGoingMerge merge) {}
 
+    @Override
+    public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in) {
+        final Directory wrapped = super.wrapForMerge(merge, in);
+        return mergeCoordinator == null ? wrapped : mergeCoordinator.wrapForMerge(wrapped);
+    }
+
     @Override
     public MergeScheduler clone() {
         // Lucene IW makes a clone internally but since we hold on to this instance
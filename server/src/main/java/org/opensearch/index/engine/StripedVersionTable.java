@@ -0,0 +1,292 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.lease.Releasable;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * A map from uid to version value made of one open-addressing hash table per stripe of a {@link UidLockStripes}. A uid always lives
+ * in the segment of its stripe, so reads and writes only need the lock of the uid, which callers of the version map hold anyway, and
+ * no other synchronization. Entries are stored in parallel arrays of hashes, keys and values: lookups do not allocate and the table
+ * only allocates when it grows, instead of allocating a node per entry like a {@link java.util.concurrent.ConcurrentHashMap}.
+ * <p>
+ * {@link #get}, {@link #put} and {@link #remove} must be called with the lock of the uid held. {@link #entrySet()} returns a
+ * snapshot that is built by locking the stripes one after the other and is meant for tests and assertions only.
+ *
+ * @opensearch.internal
+ */
+final class StripedVersionTable<V extends VersionValue> extends AbstractMap<BytesRef, V> {
+
+    /**
+     * Bytes used per entry: a hash, a key and a value reference, assuming a load factor of 50%.
+     */
+    static final long BYTES_PER_ENTRY = 2 * (Integer.BYTES + 2L * RamUsageEstimator.NUM_BYTES_OBJECT_REF);
+
+    private static final int MIN_CAPACITY = 8;
+    private static final BytesRef[] EMPTY_KEYS = new BytesRef[0];
+
+    private final UidLockStripes stripes;
+    private final int stripeBits;
+    private final Segment[] segments;
+
+    StripedVersionTable(UidLockStripes stripes) {
+        this(stripes, 0);
+    }
+
+    StripedVersionTable(UidLockStripes stripes, int expectedSize) {
+        this.stripes = stripes;
+        this.stripeBits = stripes.stripeBits();
+        this.segments = new Segment[stripes.numStripes()];
+        final int expectedPerSegment = expectedSize / segments.length;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(expectedPerSegment);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        assert stripes.isHeldByCurrentThread(stripes.stripe(hash)) : "lock of uid [" + uid.utf8ToString() + "] must be held";
+        return (V) segments[stripes.stripe(hash)].get(uid, slotHash(hash));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(BytesRef uid, V value) {
+        assert value != null;
+        final int hash = uid.hashCode();
+        assert stripes.isHeldByCurrentThread(stripes.stripe(hash)) : "lock of uid [" + uid.utf8ToString() + "] must be held";
+        return (V) segments[stripes.stripe(hash)].put(uid, value, slotHash(hash));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        assert stripes.isHeldByCurrentThread(stripes.stripe(hash)) : "lock of uid [" + uid.utf8ToString() + "] must be held";
+        return (V) segments[stripes.stripe(hash)].remove(uid, slotHash(hash));
+    }
+
+    /**
+     * The number of entries, which may be stale if uids are concurrently added or removed.
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < segments.length; i++) {
+            try (Releasable ignored = stripes.acquire(i)) {
+                segments[i] = new Segment(0);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set<Entry<BytesRef, V>> entrySet() {
+        final Map<BytesRef, V> snapshot = new HashMap<>();
+        for (int i = 0; i < segments.length; i++) {
+            try (Releasable ignored = stripes.acquire(i)) {
+                segments[i].forEach((uid, value) -> snapshot.put(uid, (V) value));
+            }
+        }
+        return Collections.unmodifiableMap(snapshot).entrySet();
+    }
+
+    /**
+     * Visits the stripes whose lock can be acquired without blocking and hands the uids of the entries that match the predicate to
+     * {@code remover}, which is called with the lock of the uid held. Stripes that are locked by other threads are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    void tryRemoveIf(BiPredicate<BytesRef, V> predicate, Consumer<BytesRef> remover) {
+        final List<BytesRef> toRemove = new ArrayList<>();
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].count == 0) {
+                continue;
+            }
+            try (Releasable lock = stripes.tryAcquire(i)) {
+                if (lock != null) {
+                    segments[i].forEach((uid, value) -> {
+                        if (predicate.test(uid, (V) value)) {
+                            toRemove.add(uid);
+                        }
+                    });
+                    toRemove.forEach(remover);
+                    toRemove.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * The bits of the hash that select the slot in a segment, the low bits have already been used to pick the segment.
+     */
+    private int slotHash(int hash) {
+        return Integer.rotateRight(hash, stripeBits);
+    }
+
+    /**
+     * Open-addressing hash table with linear probing. Removals shift the following entries back instead of leaving tombstones
+     * behind, so that lookups never have to skip over deleted slots. The hashes array holds the slot hashes of the keys. Arrays are
+     * only allocated on the first insertion since most segments of a small shard stay empty.
+     */
+    private static final class Segment {
+        private int[] hashes;
+        private BytesRef[] keys = EMPTY_KEYS;
+        private VersionValue[] values;
+        // written under the stripe lock, read without it by size() and isEmpty()
+        private volatile int count;
+        private int resizeThreshold;
+
+        Segment(int expectedSize) {
+            if (expectedSize > 0) {
+                int capacity = MIN_CAPACITY;
+                while (capacity - (capacity >>> 2) < expectedSize) {
+                    capacity <<= 1;
+                }
+                allocate(capacity);
+            }
+        }
+
+        private void allocate(int capacity) {
+            hashes = new int[capacity];
+            keys = new BytesRef[capacity];
+            values = new VersionValue[capacity];
+            resizeThreshold = capacity - (capacity >>> 2);
+        }
+
+        private int find(BytesRef uid, int hash) {
+            assert keys.length > 0;
+            final int mask = keys.length - 1;
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                final BytesRef key = keys[slot];
+                if (key == null) {
+                    return -1 - slot;
+                }
+                if (hashes[slot] == hash && key.bytesEquals(uid)) {
+                    return slot;
+                }
+            }
+        }
+
+        VersionValue get(BytesRef uid, int hash) {
+            if (keys.length == 0) {
+                return null;
+            }
+            final int slot = find(uid, hash);
+            return slot < 0 ? null : values[slot];
+        }
+
+        VersionValue put(BytesRef uid, VersionValue value, int hash) {
+            if (keys.length == 0) {
+                allocate(MIN_CAPACITY);
+            }
+            final int slot = find(uid, hash);
+            if (slot >= 0) {
+                final VersionValue previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            insert(-1 - slot, uid, value, hash);
+            final int newCount = count + 1;
+            count = newCount;
+            if (newCount > resizeThreshold) {
+                grow();
+            }
+            return null;
+        }
+
+        VersionValue remove(BytesRef uid, int hash) {
+            if (keys.length == 0) {
+                return null;
+            }
+            final int slot = find(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final VersionValue previous = values[slot];
+            final int mask = keys.length - 1;
+            // shift back the entries of the probe sequence that follows the removed slot if their ideal slot allows it
+            int gap = slot;
+            for (int i = (gap + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (((i - (hashes[i] & mask)) & mask) >= ((i - gap) & mask)) {
+                    insert(gap, keys[i], values[i], hashes[i]);
+                    gap = i;
+                }
+            }
+            insert(gap, null, null, 0);
+            count = count - 1;
+            return previous;
+        }
+
+        private void insert(int slot, BytesRef uid, VersionValue value, int hash) {
+            hashes[slot] = hash;
+            keys[slot] = uid;
+            values[slot] = value;
+        }
+
+        void forEach(BiConsumer<BytesRef, VersionValue> consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            final int[] oldHashes = hashes;
+            final BytesRef[] oldKeys = keys;
+            final VersionValue[] oldValues = values;
+            allocate(oldKeys.length << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    insert(-1 - find(oldKeys[i], oldHashes[i]), oldKeys[i], oldValues[i], oldHashes[i]);
+                }
+            }
+        }
+    }
+}
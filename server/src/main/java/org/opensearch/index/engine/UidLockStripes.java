@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that uids are hashed to. Unlike {@link org.opensearch.common.util.concurrent.KeyedLock}, acquiring a lock
+ * neither allocates nor touches a shared map, at the cost of unrelated uids that hash to the same stripe serializing with each
+ * other. The stripe of a uid also selects the segment that holds it in a {@link StripedVersionTable}, so that a table can be
+ * mutated without any synchronization beyond the uid lock.
+ *
+ * @opensearch.internal
+ */
+final class UidLockStripes {
+
+    static final int DEFAULT_STRIPES = 256;
+
+    private final ReentrantLock[] locks;
+    private final Releasable[] releasables;
+    private final int mask;
+
+    UidLockStripes() {
+        this(DEFAULT_STRIPES);
+    }
+
+    UidLockStripes(int numStripes) {
+        if (numStripes <= 0 || Integer.bitCount(numStripes) != 1) {
+            throw new IllegalArgumentException("number of stripes must be a power of two but was [" + numStripes + "]");
+        }
+        this.locks = new ReentrantLock[numStripes];
+        this.releasables = new Releasable[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            final ReentrantLock lock = new ReentrantLock();
+            locks[i] = lock;
+            releasables[i] = lock::unlock;
+        }
+        this.mask = numStripes - 1;
+    }
+
+    int numStripes() {
+        return locks.length;
+    }
+
+    /**
+     * The number of low bits of the uid hash that select the stripe.
+     */
+    int stripeBits() {
+        return Integer.numberOfTrailingZeros(locks.length);
+    }
+
+    int stripe(int hash) {
+        return hash & mask;
+    }
+
+    int stripe(BytesRef uid) {
+        return stripe(uid.hashCode());
+    }
+
+    Releasable acquire(BytesRef uid) {
+        return acquire(stripe(uid));
+    }
+
+    Releasable acquire(int stripe) {
+        locks[stripe].lock();
+        return releasables[stripe];
+    }
+
+    /**
+     * Tries to acquire the lock of a stripe without blocking, returns {@code null} if it is held by another thread.
+     */
+    Releasable tryAcquire(int stripe) {
+        return locks[stripe].tryLock() ? releasables[stripe] : null;
+    }
+
+    boolean isHeldByCurrentThread(BytesRef uid) {
+        return isHeldByCurrentThread(stripe(uid));
+    }
+
+    boolean isHeldByCurrentThread(int stripe) {
+        return locks[stripe].isHeldByCurrentThread();
+    }
+}
@@ -15,6 +15,8 @@ import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.SourceToParse;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Core document operations for the indexer.
@@ -34,6 +36,22 @@ public interface IndexerEngineOperations {
      */
     Engine.IndexResult index(Engine.Index index) throws IOException;
 
+    /**
+     * Performs a run of append-only index operations, i.e. primary operations with auto-generated ids that are not retries.
+     * Implementations may plan and write them together; the default indexes them one by one.
+     *
+     * @param operations the index operations, in the order they were received
+     * @return one result per operation, in the same order
+     * @throws IOException if an I/O error occurs during indexing
+     */
+    default List<Engine.IndexResult> indexAppendOnly(List<Engine.Index> operations) throws IOException {
+        final List<Engine.IndexResult> results = new ArrayList<>(operations.size());
+        for (Engine.Index operation : operations) {
+            results.add(index(operation));
+        }
+        return results;
+    }
+
     /**
      * Performs a document delete operation.
      *
@@ -45,16 +45,13 @@ import org.apache.lucene.index.VectorSimilarityFunction;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndVersion;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.util.set.Sets;
-import org.opensearch.common.xcontent.XContentHelper;
-import org.opensearch.common.xcontent.XContentType;
-import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.common.xcontent.support.XContentFieldFilter;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.IndexSettings;
@@ -374,15 +371,8 @@ public final class ShardGetService extends AbstractIndexShardComponent {
             if (fetchSourceContext.fetchSource() == false) {
                 source = null;
             } else if (fetchSourceContext.includes().length > 0 || fetchSourceContext.excludes().length > 0) {
-                Map<String, Object> sourceAsMap;
-                // TODO: The source might be parsed and available in the sourceLookup but that one uses unordered maps so different.
-                // Do we care?
-                Tuple<XContentType, Map<String, Object>> typeMapTuple = XContentHelper.convertToMap(source, true);
-                XContentType sourceContentType = typeMapTuple.v1();
-                sourceAsMap = typeMapTuple.v2();
-                sourceAsMap = XContentMapValues.filter(sourceAsMap, fetchSourceContext.includes(), fetchSourceContext.excludes());
                 try {
-                    source = BytesReference.bytes(MediaTypeRegistry.contentBuilder(sourceContentType).map(sourceAsMap));
+                    source = filterSource(source, fetchSourceContext);
                 } catch (IOException e) {
                     throw new OpenSearchException("Failed to get id [" + id + "] with includes/excludes set", e);
                 }
@@ -403,14 +393,8 @@ public final class ShardGetService extends AbstractIndexShardComponent {
         }
 
         if (source != null && (fetchSourceContext.includes().length > 0 || fetchSourceContext.excludes().length > 0)) {
-            Map<String, Object> sourceAsMap;
-            // TODO: The source might parsed and available in the sourceLookup but that one uses unordered maps so different. Do we care?
-            Tuple<XContentType, Map<String, Object>> typeMapTuple = XContentHelper.convertToMap(source, true);
-            XContentType sourceContentType = typeMapTuple.v1();
-            sourceAsMap = typeMapTuple.v2();
-            sourceAsMap = XContentMapValues.filter(sourceAsMap, fetchSourceContext.includes(), fetchSourceContext.excludes());
             try {
-                source = BytesReference.bytes(MediaTypeRegistry.contentBuilder(sourceContentType).map(sourceAsMap));
+                source = filterSource(source, fetchSourceContext);
             } catch (IOException e) {
                 throw new OpenSearchException("Failed to get id [" + id + "] with includes/excludes set", e);
             }
@@ -429,6 +413,13 @@ public final class ShardGetService extends AbstractIndexShardComponent {
         );
     }
 
+    /**
+     * Applies the includes and excludes of the request on the source as it is parsed, which also keeps the original order of the fields.
+     */
+    private static BytesReference filterSource(BytesReference source, FetchSourceContext fetchSourceContext) throws IOException {
+        return XContentFieldFilter.newFieldFilter(fetchSourceContext.includes(), fetchSourceContext.excludes(), true).apply(source, null);
+    }
+
     private static FieldsVisitor buildFieldsVisitors(String[] fields, FetchSourceContext fetchSourceContext) {
         if (fields == null || fields.length == 0) {
             return fetchSourceContext.fetchSource() ? new FieldsVisitor(true) : null;
@@ -175,6 +175,8 @@ public class DocumentMapper implements ToXContentFragment {
 
     private final MappingLookup fieldMappers;
 
+    private final DocumentParsePlan parsePlan;
+
     private final MetadataFieldMapper[] deleteTombstoneMetadataFieldMappers;
     private final MetadataFieldMapper[] noopTombstoneMetadataFieldMappers;
 
@@ -198,6 +200,7 @@ public class DocumentMapper implements ToXContentFragment {
             indexAnalyzers.getDefaultIndexAnalyzer(),
             mapperService.documentMapperParser()
         );
+        this.parsePlan = DocumentParsePlan.compile(this.mapping);
 
         try {
             mappingSource = new CompressedXContent(this, ToXContent.EMPTY_PARAMS);
@@ -293,6 +296,17 @@ public class DocumentMapper implements ToXContentFragment {
         return this.fieldMappers;
     }
 
+    DocumentParsePlan parsePlan() {
+        return this.parsePlan;
+    }
+
+    /**
+     * A fingerprint of the mapping source, which is the same on every node holding this mapping.
+     */
+    public int mappingFingerprint() {
+        return this.mappingSource.hashCode();
+    }
+
     FieldTypeLookup fieldTypes() {
         return mappers().fieldTypes();
     }
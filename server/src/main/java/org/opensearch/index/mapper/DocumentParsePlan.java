@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.core.common.Strings;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A dispatch table compiled from a {@link Mapping} that resolves the field names found in a document to the mappers parsing them.
+ * <p>
+ * For every object mapper, the table holds each field name a document may use below that object, including dotted names that
+ * address sub-objects, together with the name split into its parts and the mapper it resolves to. {@link DocumentParser} uses it
+ * to skip splitting the field name, building the full path and walking the object mappers for every field of every document.
+ * Only names that resolve the same way regardless of the parse context are compiled: names crossing a disabled, nested or
+ * {@code disable_objects} object and names that collide with a metadata field are left to the regular lookup, as are fields that
+ * are not mapped yet.
+ * <p>
+ * A plan belongs to a single {@link DocumentMapper}, which is rebuilt on every mapping update, so it never needs invalidation.
+ *
+ * @opensearch.internal
+ */
+final class DocumentParsePlan {
+
+    /**
+     * A compiled field name
+     *
+     * @opensearch.internal
+     */
+    static final class FieldDispatch {
+        private final String[] paths;
+        private final Mapper mapper;
+
+        private FieldDispatch(String[] paths, Mapper mapper) {
+            this.paths = paths;
+            this.mapper = mapper;
+        }
+
+        /** the field name split on dots, as returned by {@link DocumentParser}'s path validation */
+        String[] paths() {
+            return paths;
+        }
+
+        /** the mapper the field name resolves to */
+        Mapper mapper() {
+            return mapper;
+        }
+    }
+
+    private final Map<ObjectMapper, Map<String, FieldDispatch>> tables;
+
+    private DocumentParsePlan(Map<ObjectMapper, Map<String, FieldDispatch>> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * Returns the compiled dispatch of {@code fieldName} below {@code parent}, or {@code null} if it must be resolved through the
+     * regular lookup.
+     */
+    FieldDispatch resolve(ObjectMapper parent, String fieldName) {
+        final Map<String, FieldDispatch> table = tables.get(parent);
+        return table == null ? null : table.get(fieldName);
+    }
+
+    int size() {
+        int size = 0;
+        for (Map<String, FieldDispatch> table : tables.values()) {
+            size += table.size();
+        }
+        return size;
+    }
+
+    static DocumentParsePlan compile(Mapping mapping) {
+        final Map<ObjectMapper, Map<String, FieldDispatch>> tables = new IdentityHashMap<>();
+        compileObject(mapping, mapping.root(), tables);
+        return new DocumentParsePlan(tables);
+    }
+
+    private static void compileObject(Mapping mapping, ObjectMapper objectMapper, Map<ObjectMapper, Map<String, FieldDispatch>> tables) {
+        if (objectMapper.isEnabled() == false) {
+            // the parser skips the content of disabled objects
+            return;
+        }
+        if (objectMapper.disableObjects() == false) {
+            final Map<String, FieldDispatch> table = new HashMap<>();
+            final String pathPrefix = objectMapper == mapping.root() ? "" : objectMapper.fullPath() + ".";
+            addChildren(mapping, pathPrefix, objectMapper, new ArrayList<>(), table);
+            if (table.isEmpty() == false) {
+                tables.put(objectMapper, table);
+            }
+        }
+        for (Mapper child : objectMapper) {
+            if (child instanceof ObjectMapper childObject) {
+                compileObject(mapping, childObject, tables);
+            }
+        }
+    }
+
+    private static void addChildren(
+        Mapping mapping,
+        String pathPrefix,
+        ObjectMapper objectMapper,
+        List<String> prefix,
+        Map<String, FieldDispatch> table
+    ) {
+        for (Mapper child : objectMapper) {
+            final String simpleName = child.simpleName();
+            if (simpleName.indexOf('.') >= 0 || Strings.hasText(simpleName) == false) {
+                // such names can not be addressed through a dotted field name
+                continue;
+            }
+            final String[] paths = prefix.toArray(new String[prefix.size() + 1]);
+            paths[prefix.size()] = simpleName;
+            final String fieldName = String.join(".", paths);
+            if (mapping.getMetadataMapper(pathPrefix + fieldName) != null) {
+                // metadata fields take precedence over regular fields
+                continue;
+            }
+            table.put(fieldName, new FieldDispatch(paths, child));
+            if (child instanceof ObjectMapper childObject
+                && childObject.isEnabled()
+                && childObject.disableObjects() == false
+                && childObject.nested().isNested() == false) {
+                prefix.add(simpleName);
+                addChildren(mapping, pathPrefix, childObject, prefix, table);
+                prefix.remove(prefix.size() - 1);
+            }
+        }
+    }
+}
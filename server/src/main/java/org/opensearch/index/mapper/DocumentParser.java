@@ -57,6 +57,7 @@ import org.opensearch.index.mapper.extrasource.ExtraFieldValues;
 import org.opensearch.script.ContextAwareGroupingScript;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -92,6 +93,18 @@ final class DocumentParser {
 
     ParsedDocument parseDocument(SourceToParse source, MetadataFieldMapper[] metadataFieldsMappers, DocumentInput documentInput)
         throws MapperParsingException {
+        final ReplicatedParsedDocument replicatedDocument = source.replicatedDocument();
+        if (replicatedDocument != null && documentInput == null) {
+            if (replicatedDocument.getMappingFingerprint() == docMapper.mappingFingerprint()) {
+                try {
+                    return replicatedDocument.decode(source);
+                } catch (Exception e) {
+                    throw wrapInMapperParsingException(source, e);
+                }
+            }
+            // the primary parsed the document with another mapping, parse it with ours
+            source.replicatedDocument(null);
+        }
         final Mapping mapping = docMapper.mapping();
         final ParseContext.InternalParseContext context;
         final MediaType mediaType = source.getMediaType();
@@ -118,7 +131,20 @@ final class DocumentParser {
 
         context.postParse();
 
-        return parsedDocument(source, context, createDynamicUpdate(mapping, docMapper, context.getDynamicMappers()), documentInput);
+        final ParsedDocument parsedDocument = parsedDocument(
+            source,
+            context,
+            createDynamicUpdate(mapping, docMapper, context.getDynamicMappers()),
+            documentInput
+        );
+        if (source.shouldCaptureReplicatedDocument() && parsedDocument.dynamicMappingsUpdate() == null) {
+            try {
+                source.replicatedDocument(ReplicatedParsedDocument.encode(parsedDocument, docMapper.mappingFingerprint()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return parsedDocument;
     }
 
     private static boolean containsDisabledObjectMapper(ObjectMapper objectMapper, String[] subfields) {
@@ -616,8 +642,16 @@ final class DocumentParser {
             while (token != XContentParser.Token.END_OBJECT) {
                 if (token == XContentParser.Token.FIELD_NAME) {
                     currentFieldName = parser.currentName();
-                    paths = mapper.disableObjects() ? new String[] { currentFieldName } : splitAndValidatePath(currentFieldName);
-                    if (containsDisabledObjectMapper(mapper, paths)) {
+                    final DocumentParsePlan.FieldDispatch dispatch = context.docMapper().parsePlan().resolve(mapper, currentFieldName);
+                    if (dispatch != null) {
+                        // compiled names are valid and never cross a disabled object
+                        paths = dispatch.paths();
+                    } else if (mapper.disableObjects()) {
+                        paths = new String[] { currentFieldName };
+                    } else {
+                        paths = splitAndValidatePath(currentFieldName);
+                    }
+                    if (dispatch == null && containsDisabledObjectMapper(mapper, paths)) {
                         parser.nextToken();
                         parser.skipChildren();
                     }
@@ -1694,6 +1728,10 @@ final class DocumentParser {
 
     // looks up a child mapper, but takes into account field names that expand to objects
     private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
+        final DocumentParsePlan.FieldDispatch dispatch = context.docMapper().parsePlan().resolve(objectMapper, fieldName);
+        if (dispatch != null) {
+            return dispatch.mapper();
+        }
         String fieldPath = context.path().pathAsText(fieldName);
         // Check if mapper is a metadata mapper first
         Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
@@ -77,7 +77,7 @@ public abstract class ParseContext implements Iterable<ParseContext.Document> {
         private Map<String, Object> groupingCriteriaParams;
         private String groupingCriteria;
 
-        private Document(String path, Document parent) {
+        Document(String path, Document parent) {
             fields = new ArrayList<>();
             this.path = path;
             this.prefix = path.isEmpty() ? "" : path + ".";
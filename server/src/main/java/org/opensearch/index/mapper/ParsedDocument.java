@@ -113,6 +113,10 @@ public class ParsedDocument {
         return version;
     }
 
+    SeqNoFieldMapper.SequenceIDFields seqID() {
+        return seqID;
+    }
+
     public void updateSeqID(long sequenceNumber, long primaryTerm) {
         this.seqID.seqNo.setLongValue(sequenceNumber);
         this.seqID.seqNoDocValue.setLongValue(sequenceNumber);
@@ -0,0 +1,322 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.InetAddressPoint;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValuesSkipIndexType;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.sandbox.document.BigIntegerPoint;
+import org.apache.lucene.sandbox.document.HalfFloatPoint;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact serialized form of the Lucene documents the primary built for an index operation, shipped to replicas so that they
+ * can index the same fields without parsing {@code _source} again.
+ * <p>
+ * Only fields whose indexing behaviour is fully described by their {@link IndexableFieldType} and their value are encoded: plain
+ * Lucene fields with string, binary or numeric values. Documents with any other field, for example fields backed by a token stream,
+ * a reader or vectors, are not encoded and replicas parse them as usual. Analysis still runs on the replica, in the index writer,
+ * exactly as it does on the primary. The form carries the fingerprint of the mapping it was built with, and replicas whose mapping
+ * differs ignore it and parse the source instead.
+ *
+ * @opensearch.internal
+ */
+public final class ReplicatedParsedDocument implements Writeable {
+
+    private static final Set<Class<?>> SUPPORTED_FIELD_CLASSES = Set.of(
+        Field.class,
+        StringField.class,
+        TextField.class,
+        StoredField.class,
+        IntPoint.class,
+        LongPoint.class,
+        FloatPoint.class,
+        DoublePoint.class,
+        HalfFloatPoint.class,
+        BigIntegerPoint.class,
+        InetAddressPoint.class,
+        NumericDocValuesField.class,
+        SortedNumericDocValuesField.class,
+        SortedDocValuesField.class,
+        SortedSetDocValuesField.class,
+        BinaryDocValuesField.class,
+        KeywordFieldMapper.KeywordField.class,
+        IpFieldMapper.InetAddressField.class
+    );
+
+    // field kinds, the per operation fields are recreated on the replica and filled in by the engine
+    private static final byte FIELD = 0;
+    private static final byte VERSION = 1;
+    private static final byte SEQ_NO = 2;
+    private static final byte SEQ_NO_DOC_VALUE = 3;
+    private static final byte PRIMARY_TERM = 4;
+    private static final byte SOURCE = 5;
+
+    // value kinds
+    private static final byte STRING = 0;
+    private static final byte BINARY = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte FLOAT = 4;
+    private static final byte DOUBLE = 5;
+
+    private final int mappingFingerprint;
+    private final BytesReference documents;
+
+    private ReplicatedParsedDocument(int mappingFingerprint, BytesReference documents) {
+        this.mappingFingerprint = mappingFingerprint;
+        this.documents = documents;
+    }
+
+    public ReplicatedParsedDocument(StreamInput in) throws IOException {
+        this.mappingFingerprint = in.readInt();
+        this.documents = in.readBytesReference();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeInt(mappingFingerprint);
+        out.writeBytesReference(documents);
+    }
+
+    /**
+     * The fingerprint of the mapping this form was built with, see {@link DocumentMapper#mappingFingerprint()}.
+     */
+    public int getMappingFingerprint() {
+        return mappingFingerprint;
+    }
+
+    /**
+     * The size of the encoded documents in bytes.
+     */
+    public int length() {
+        return documents.length();
+    }
+
+    /**
+     * Encodes the given parsed document, or returns {@code null} if it holds fields that can not be encoded.
+     */
+    static ReplicatedParsedDocument encode(ParsedDocument parsedDocument, int mappingFingerprint) throws IOException {
+        if (parsedDocument.getDocumentInput() != null || parsedDocument.dynamicMappingsUpdate() != null) {
+            return null;
+        }
+        final SeqNoFieldMapper.SequenceIDFields seqID = parsedDocument.seqID();
+        final BytesRef source = parsedDocument.source() == null ? null : parsedDocument.source().toBytesRef();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeVInt(parsedDocument.docs().size());
+            for (ParseContext.Document document : parsedDocument.docs()) {
+                if (document.getGroupingCriteria() != null) {
+                    return null;
+                }
+                out.writeString(document.getPath());
+                out.writeVInt(document.getFields().size());
+                for (IndexableField field : document.getFields()) {
+                    if (field == parsedDocument.version()) {
+                        out.writeByte(VERSION);
+                    } else if (field == seqID.seqNo) {
+                        out.writeByte(SEQ_NO);
+                    } else if (field == seqID.seqNoDocValue) {
+                        out.writeByte(SEQ_NO_DOC_VALUE);
+                    } else if (field == seqID.primaryTerm) {
+                        out.writeByte(PRIMARY_TERM);
+                    } else if (isSource(field, source)) {
+                        out.writeByte(SOURCE);
+                    } else if (writeField(out, field) == false) {
+                        return null;
+                    }
+                }
+            }
+            return new ReplicatedParsedDocument(mappingFingerprint, out.bytes());
+        }
+    }
+
+    private static boolean isSource(IndexableField field, BytesRef source) {
+        return source != null
+            && field.getClass() == StoredField.class
+            && SourceFieldMapper.NAME.equals(field.name())
+            && source.equals(field.binaryValue());
+    }
+
+    private static boolean writeField(StreamOutput out, IndexableField field) throws IOException {
+        if (SUPPORTED_FIELD_CLASSES.contains(field.getClass()) == false) {
+            return false;
+        }
+        final IndexableFieldType type = field.fieldType();
+        if (type.vectorDimension() != 0) {
+            return false;
+        }
+        final Field luceneField = (Field) field;
+        if (luceneField.readerValue() != null || luceneField.tokenStreamValue() != null) {
+            return false;
+        }
+        out.writeByte(FIELD);
+        out.writeString(field.name());
+        out.writeBoolean(type.stored());
+        out.writeBoolean(type.tokenized());
+        out.writeBoolean(type.storeTermVectors());
+        out.writeBoolean(type.storeTermVectorOffsets());
+        out.writeBoolean(type.storeTermVectorPositions());
+        out.writeBoolean(type.storeTermVectorPayloads());
+        out.writeBoolean(type.omitNorms());
+        out.writeEnum(type.indexOptions());
+        out.writeEnum(type.docValuesType());
+        out.writeEnum(type.docValuesSkipIndexType());
+        out.writeVInt(type.pointDimensionCount());
+        out.writeVInt(type.pointIndexDimensionCount());
+        out.writeVInt(type.pointNumBytes());
+        final Map<String, String> attributes = type.getAttributes();
+        out.writeMap(attributes == null ? Map.of() : attributes, StreamOutput::writeString, StreamOutput::writeString);
+
+        // points expose their decoded value as a number too, but are indexed from their packed bytes
+        final Number number = type.pointDimensionCount() == 0 ? field.numericValue() : null;
+        if (number != null) {
+            if (number instanceof Integer) {
+                out.writeByte(INT);
+                out.writeInt(number.intValue());
+            } else if (number instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong(number.longValue());
+            } else if (number instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat(number.floatValue());
+            } else if (number instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble(number.doubleValue());
+            } else {
+                return false;
+            }
+        } else if (type.pointDimensionCount() == 0 && field.stringValue() != null) {
+            out.writeByte(STRING);
+            out.writeString(field.stringValue());
+        } else if (field.binaryValue() != null) {
+            out.writeByte(BINARY);
+            out.writeBytesRef(field.binaryValue());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the parsed document for the given source. The caller is responsible for checking the mapping fingerprint.
+     */
+    ParsedDocument decode(SourceToParse source) throws IOException {
+        final Field version = new NumericDocValuesField(VersionFieldMapper.NAME, -1L);
+        final SeqNoFieldMapper.SequenceIDFields seqID = SeqNoFieldMapper.SequenceIDFields.emptySeqID();
+        try (StreamInput in = documents.streamInput()) {
+            final int numDocs = in.readVInt();
+            final List<ParseContext.Document> docs = new ArrayList<>(numDocs);
+            for (int i = 0; i < numDocs; i++) {
+                final ParseContext.Document document = new ParseContext.Document(in.readString(), null);
+                final int numFields = in.readVInt();
+                final List<IndexableField> fields = new ArrayList<>(numFields);
+                for (int j = 0; j < numFields; j++) {
+                    final byte kind = in.readByte();
+                    switch (kind) {
+                        case FIELD -> fields.add(readField(in));
+                        case VERSION -> fields.add(version);
+                        case SEQ_NO -> fields.add(seqID.seqNo);
+                        case SEQ_NO_DOC_VALUE -> fields.add(seqID.seqNoDocValue);
+                        case PRIMARY_TERM -> fields.add(seqID.primaryTerm);
+                        case SOURCE -> fields.add(new StoredField(SourceFieldMapper.NAME, source.source().toBytesRef()));
+                        default -> throw new IllegalStateException("unknown field kind [" + kind + "]");
+                    }
+                }
+                document.addAll(fields);
+                docs.add(document);
+            }
+            return new ParsedDocument(
+                version,
+                seqID,
+                source.id(),
+                source.routing(),
+                docs,
+                source.source(),
+                source.getMediaType(),
+                null
+            );
+        }
+    }
+
+    private static Field readField(StreamInput in) throws IOException {
+        final String name = in.readString();
+        final FieldType type = new FieldType();
+        type.setStored(in.readBoolean());
+        type.setTokenized(in.readBoolean());
+        type.setStoreTermVectors(in.readBoolean());
+        type.setStoreTermVectorOffsets(in.readBoolean());
+        type.setStoreTermVectorPositions(in.readBoolean());
+        type.setStoreTermVectorPayloads(in.readBoolean());
+        type.setOmitNorms(in.readBoolean());
+        type.setIndexOptions(in.readEnum(IndexOptions.class));
+        type.setDocValuesType(in.readEnum(DocValuesType.class));
+        type.setDocValuesSkipIndexType(in.readEnum(DocValuesSkipIndexType.class));
+        final int pointDimensionCount = in.readVInt();
+        final int pointIndexDimensionCount = in.readVInt();
+        final int pointNumBytes = in.readVInt();
+        if (pointDimensionCount != 0) {
+            type.setDimensions(pointDimensionCount, pointIndexDimensionCount, pointNumBytes);
+        }
+        for (Map.Entry<String, String> attribute : in.readMap(StreamInput::readString, StreamInput::readString).entrySet()) {
+            type.putAttribute(attribute.getKey(), attribute.getValue());
+        }
+        type.freeze();
+        final byte valueKind = in.readByte();
+        final Object value = switch (valueKind) {
+            case STRING -> in.readString();
+            case BINARY -> in.readBytesRef();
+            case INT -> in.readInt();
+            case LONG -> in.readLong();
+            case FLOAT -> in.readFloat();
+            case DOUBLE -> in.readDouble();
+            default -> throw new IllegalStateException("unknown value kind [" + valueKind + "]");
+        };
+        return new ReplayedField(name, type, value);
+    }
+
+    /**
+     * A field rebuilt from its type and value
+     *
+     * @opensearch.internal
+     */
+    private static final class ReplayedField extends Field {
+        ReplayedField(String name, FieldType type, Object value) {
+            super(name, type);
+            this.fieldsData = value;
+        }
+    }
+}
@@ -61,6 +61,10 @@ public class SourceToParse {
 
     private final ExtraFieldValues extraFieldValues;
 
+    private boolean captureReplicatedDocument;
+
+    private @Nullable ReplicatedParsedDocument replicatedDocument;
+
     public SourceToParse(String index, String id, BytesReference source, MediaType mediaType, @Nullable String routing) {
         this(index, id, source, mediaType, routing, ExtraFieldValues.EMPTY);
     }
@@ -111,6 +115,28 @@ public class SourceToParse {
         return this.extraFieldValues;
     }
 
+    /**
+     * Asks the parser to record the parsed document in a form replicas can index without parsing the source again.
+     */
+    public void captureReplicatedDocument() {
+        this.captureReplicatedDocument = true;
+    }
+
+    boolean shouldCaptureReplicatedDocument() {
+        return this.captureReplicatedDocument;
+    }
+
+    /**
+     * The parsed document recorded by the primary, or {@code null} if none was recorded or the document must be parsed.
+     */
+    public @Nullable ReplicatedParsedDocument replicatedDocument() {
+        return this.replicatedDocument;
+    }
+
+    public void replicatedDocument(@Nullable ReplicatedParsedDocument replicatedDocument) {
+        this.replicatedDocument = replicatedDocument;
+    }
+
     /**
      * Origin of the source
      *
@@ -178,6 +178,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long starTreeQueryCurrent;
         private long starTreeQueryFailed;
 
+        private long queryCoalescedCount;
+
         @Nullable
         private RequestStatsLongHolder requestStatsLongHolder;
 
@@ -228,6 +230,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.starTreeQueryTimeInMillis = builder.starTreeQueryTimeInMillis;
             this.starTreeQueryCurrent = builder.starTreeQueryCurrent;
             this.starTreeQueryFailed = builder.starTreeQueryFailed;
+
+            this.queryCoalescedCount = builder.queryCoalescedCount;
         }
 
         /**
@@ -334,6 +338,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 queryFailedCount = in.readVLong();
                 starTreeQueryFailed = in.readVLong();
             }
+
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                queryCoalescedCount = in.readVLong();
+            }
         }
 
         public void add(Stats stats) {
@@ -369,6 +377,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             starTreeQueryTimeInMillis += stats.starTreeQueryTimeInMillis;
             starTreeQueryCurrent += stats.starTreeQueryCurrent;
             starTreeQueryFailed += stats.starTreeQueryFailed;
+
+            queryCoalescedCount += stats.queryCoalescedCount;
         }
 
         public void addForClosingShard(Stats stats) {
@@ -400,6 +410,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             starTreeQueryCount += stats.starTreeQueryCount;
             starTreeQueryTimeInMillis += stats.starTreeQueryTimeInMillis;
             starTreeQueryFailed += stats.starTreeQueryFailed;
+
+            queryCoalescedCount += stats.queryCoalescedCount;
         }
 
         public long getQueryCount() {
@@ -534,6 +546,13 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return starTreeQueryFailed;
         }
 
+        /**
+         * Number of query phases that were not executed but served from an identical, concurrently executing query phase.
+         */
+        public long getQueryCoalescedCount() {
+            return queryCoalescedCount;
+        }
+
         public static Stats readStats(StreamInput in) throws IOException {
             return new Stats(in);
         }
@@ -603,6 +622,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(queryFailedCount);
                 out.writeVLong(starTreeQueryFailed);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeVLong(queryCoalescedCount);
+            }
         }
 
         @Override
@@ -611,6 +634,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.QUERY_TIME_IN_MILLIS, Fields.QUERY_TIME, getQueryTime());
             builder.field(Fields.QUERY_CURRENT, queryCurrent);
             builder.field(Fields.QUERY_FAILED_TOTAL, queryFailedCount);
+            builder.field(Fields.QUERY_COALESCED_TOTAL, queryCoalescedCount);
 
             builder.field(Fields.CONCURRENT_QUERY_TOTAL, concurrentQueryCount);
             builder.humanReadableField(Fields.CONCURRENT_QUERY_TIME_IN_MILLIS, Fields.CONCURRENT_QUERY_TIME, getConcurrentQueryTime());
@@ -698,6 +722,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long starTreeQueryTimeInMillis = 0;
             private long starTreeQueryCurrent = 0;
             private long starTreeQueryFailed = 0;
+            private long queryCoalescedCount = 0;
             @Nullable
             private RequestStatsLongHolder requestStatsLongHolder = null;
 
@@ -828,6 +853,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder queryCoalescedCount(long count) {
+                this.queryCoalescedCount = count;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -972,6 +1002,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String QUERY_TIME_IN_MILLIS = "query_time_in_millis";
         static final String QUERY_CURRENT = "query_current";
         static final String QUERY_FAILED_TOTAL = "query_failed";
+        static final String QUERY_COALESCED_TOTAL = "query_coalesced";
         static final String CONCURRENT_QUERY_TOTAL = "concurrent_query_total";
         static final String CONCURRENT_QUERY_TIME = "concurrent_query_time";
         static final String CONCURRENT_QUERY_TIME_IN_MILLIS = "concurrent_query_time_in_millis";
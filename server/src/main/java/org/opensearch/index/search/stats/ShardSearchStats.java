@@ -139,8 +139,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                     statsHolder.concurrentQueryMetric.inc(tookInNanos);
                     statsHolder.concurrentQueryCurrent.dec();
                     assert statsHolder.concurrentQueryCurrent.count() >= 0;
-                    assert searchContext.searcher().getSlices() != null;
-                    statsHolder.queryConcurrencyMetric.inc(searchContext.searcher().getSlices().length);
+                    statsHolder.queryConcurrencyMetric.inc(searchContext.searcher().getSliceCount());
                 }
                 if (searchContext.getQueryShardContext().getStarTreeQueryContext() != null) {
                     statsHolder.starTreeQueryMetric.inc(tookInNanos);
@@ -227,6 +226,11 @@ public final class ShardSearchStats implements SearchOperationListener {
         totalStats.pitMetric.inc(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - readerContext.getStartTimeInNano()));
     }
 
+    @Override
+    public void onCoalescedQueryPhase(SearchContext searchContext) {
+        computeStats(searchContext, statsHolder -> statsHolder.queryCoalesced.inc());
+    }
+
     @Override
     public void onSearchIdleReactivation() {
         totalStats.searchIdleMetric.inc();
@@ -263,6 +267,7 @@ public final class ShardSearchStats implements SearchOperationListener {
         final MeanMetric starTreeQueryMetric = new MeanMetric();
         final CounterMetric starTreeCurrent = new CounterMetric();
         final CounterMetric starTreeQueryFailed = new CounterMetric();
+        final CounterMetric queryCoalesced = new CounterMetric();
 
         SearchStats.Stats stats() {
             return new SearchStats.Stats.Builder().queryCount(queryMetric.count())
@@ -290,6 +295,7 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .starTreeQueryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(starTreeQueryMetric.sum()))
                 .starTreeQueryCurrent(starTreeCurrent.count())
                 .starTreeQueryFailed(starTreeQueryFailed.count())
+                .queryCoalescedCount(queryCoalesced.count())
                 .build();
         }
     }
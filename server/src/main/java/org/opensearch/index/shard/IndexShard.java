@@ -66,6 +66,7 @@ import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
 import org.opensearch.action.admin.indices.streamingingestion.state.ShardIngestionState;
 import org.opensearch.action.admin.indices.upgrade.post.UpgradeRequest;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.replication.PendingReplicationActions;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.cluster.metadata.DataStream;
@@ -209,7 +210,10 @@ import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.NodeMergeCoordinator;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.indices.TranslogSyncCoordinator;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.pollingingest.IngestionSettings;
 import org.opensearch.indices.pollingingest.PollingIngestStats;
@@ -270,6 +274,7 @@ import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.index.seqno.RetentionLeaseActions.RETAIN_ALL;
@@ -1192,6 +1197,66 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Parses a run of index requests with auto-generated ids that have not been retried and indexes them on the primary with a
+     * single {@link Indexer#indexAppendOnly} call. Parsing stops before the first request that requires a mapping update, which is
+     * left to the caller, and after the first request that fails to parse, whose failure is returned as the last result. The
+     * returned results therefore belong to a prefix of the given requests, which may be empty.
+     */
+    public List<Engine.IndexResult> applyAppendOnlyIndexOperationsOnPrimary(List<IndexRequest> requests) throws IOException {
+        ensureWriteAllowed(Engine.Operation.Origin.PRIMARY);
+        final Indexer indexer = getIndexer();
+        final long opPrimaryTerm = getOperationPrimaryTerm();
+        final List<Engine.Index> operations = new ArrayList<>(requests.size());
+        Engine.IndexResult parseFailure = null;
+        for (IndexRequest request : requests) {
+            assert request.getAutoGeneratedTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP && request.isRetry() == false;
+            assert request.versionType().validateVersionForWrites(request.version());
+            final Engine.Index operation;
+            try {
+                operation = indexer.prepareIndex(
+                    docMapper(),
+                    new SourceToParse(
+                        request.index(),
+                        request.id(),
+                        request.source(),
+                        request.getContentType(),
+                        request.routing(),
+                        request.extraFieldValues()
+                    ),
+                    UNASSIGNED_SEQ_NO,
+                    opPrimaryTerm,
+                    request.version(),
+                    request.versionType(),
+                    Engine.Operation.Origin.PRIMARY,
+                    request.getAutoGeneratedTimestamp(),
+                    false,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm()
+                );
+            } catch (Exception e) {
+                // same as in applyIndexOperation, a parsing failure only fails this document
+                verifyNotClosed(e);
+                parseFailure = new Engine.IndexResult(e, request.version(), opPrimaryTerm, UNASSIGNED_SEQ_NO);
+                break;
+            }
+            if (operation.parsedDoc().dynamicMappingsUpdate() != null) {
+                break;
+            }
+            operations.add(operation);
+        }
+        final List<Engine.IndexResult> results = new ArrayList<>(operations.size() + 1);
+        if (operations.size() == 1) {
+            results.add(index(indexer, operations.get(0)));
+        } else if (operations.isEmpty() == false) {
+            results.addAll(indexAppendOnly(indexer, operations));
+        }
+        if (parseFailure != null) {
+            results.add(parseFailure);
+        }
+        return results;
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -1384,6 +1449,29 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return result;
     }
 
+    private List<Engine.IndexResult> indexAppendOnly(Indexer indexer, List<Engine.Index> operations) throws IOException {
+        active.set(true);
+        final List<Engine.Index> prepared = new ArrayList<>(operations.size());
+        for (Engine.Index operation : operations) {
+            prepared.add(indexingOperationListeners.preIndex(shardId, operation));
+        }
+        final List<Engine.IndexResult> results;
+        try {
+            results = indexer.indexAppendOnly(prepared);
+        } catch (Exception e) {
+            logger.trace(() -> new ParameterizedMessage("index-fail batch of [{}] append-only operations", prepared.size()), e);
+            for (Engine.Index operation : prepared) {
+                indexingOperationListeners.postIndex(shardId, operation, e);
+            }
+            throw e;
+        }
+        assert results.size() == prepared.size() : "expected " + prepared.size() + " results but got " + results.size();
+        for (int i = 0; i < prepared.size(); i++) {
+            indexingOperationListeners.postIndex(shardId, prepared.get(i), results.get(i));
+        }
+        return results;
+    }
+
     public Engine.NoOpResult markSeqNoAsNoop(long seqNo, long opPrimaryTerm, String reason) throws IOException {
         return markSeqNoAsNoop(getIndexer(), seqNo, opPrimaryTerm, reason, Engine.Operation.Origin.REPLICA);
     }
@@ -4666,7 +4754,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             mergedSegmentTransferTracker,
             dataFormatRegistry,
             mapperService,
-            checksumStrategies
+            checksumStrategies,
+            mergeCoordinator
         );
     }
 
@@ -5061,6 +5150,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    private final TranslogSyncCoordinator.SyncTarget translogSyncTarget = locations -> syncTranslog(logger, this::getIndexer, locations);
+    private volatile TranslogSyncCoordinator translogSyncCoordinator;
+    private volatile NodeMergeCoordinator.ShardHandle mergeCoordinator;
+    private volatile RefreshScheduler.ShardHandle refreshScheduler;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
@@ -5072,17 +5165,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         assert bufferAsyncIoProcessor == false || Objects.nonNull(bufferIntervalSupplier)
             : "If bufferAsyncIoProcessor is true, then the bufferIntervalSupplier needs to be non null";
         ThreadContext threadContext = threadPool.getThreadContext();
-        CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> {
-            try {
-                engineSupplier.get().translogManager().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-            } catch (AlreadyClosedException ex) {
-                // that's fine since we already synced everything on engine close - this also is conform with the methods
-                // documentation
-            } catch (IOException ex) { // if this fails we are in deep shit - fail the request
-                logger.debug("failed to sync translog", ex);
-                throw ex;
-            }
-        };
+        CheckedConsumer<List<Tuple<Translog.Location, Consumer<Exception>>>, IOException> writeConsumer = candidates -> syncTranslog(
+            logger,
+            engineSupplier,
+            candidates.stream().map(Tuple::v1)
+        );
         if (bufferAsyncIoProcessor) {
             return new BufferedAsyncIOProcessor<>(logger, 102400, threadContext, threadPool, bufferIntervalSupplier) {
                 @Override
@@ -5105,18 +5192,98 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         };
     }
 
+    private static void syncTranslog(Logger logger, Supplier<Indexer> engineSupplier, Stream<Translog.Location> locations)
+        throws IOException {
+        try {
+            engineSupplier.get().translogManager().ensureTranslogSynced(locations);
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close - this also is conform with the methods
+            // documentation
+        } catch (IOException ex) { // if this fails we are in deep shit - fail the request
+            logger.debug("failed to sync translog", ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Routes request durability syncs of this shard through the node's {@link TranslogSyncCoordinator} whenever it is enabled.
+     * Shards assigned on remote store nodes keep their own buffered sync processor.
+     */
+    public void setTranslogSyncCoordinator(TranslogSyncCoordinator translogSyncCoordinator) {
+        this.translogSyncCoordinator = translogSyncCoordinator;
+    }
+
+    /**
+     * Lets the node's {@link NodeMergeCoordinator} admit and throttle the merges of engines opened from now on, ranking them by
+     * the search traffic of this shard.
+     */
+    public void setMergeCoordinator(NodeMergeCoordinator mergeCoordinator) {
+        this.mergeCoordinator = mergeCoordinator.forShard(shardId, () -> searchStats().getTotal().getQueryCount());
+    }
+
+    /**
+     * Hands the timer driven refreshes of this shard to the node's {@link RefreshScheduler} whenever it is enabled, see
+     * {@link #triggerScheduledRefresh()}.
+     */
+    public void setRefreshScheduler(RefreshScheduler refreshScheduler) {
+        this.refreshScheduler = refreshScheduler.forShard(shardId, new RefreshScheduler.RefreshTarget() {
+            @Override
+            public boolean hasPendingRefreshListeners() {
+                return refreshListeners.refreshNeeded();
+            }
+
+            @Override
+            public boolean isSearchIdle() {
+                return IndexShard.this.isSearchIdle();
+            }
+
+            @Override
+            public boolean canDefer() {
+                // the same conditions under which a search idle shard skips its scheduled refreshes
+                return isSearchIdleSupported() && indexSettings.isExplicitRefresh() == false && active.get();
+            }
+
+            @Override
+            public void refresh() {
+                scheduledRefresh();
+            }
+
+            @Override
+            public void forceRefresh() {
+                verifyNotClosed();
+                if (isReadAllowed()) {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("refresh with source [schedule]");
+                    }
+                    getIndexer().maybeRefresh("schedule");
+                }
+            }
+
+            @Override
+            public void defer() {
+                deferScheduledRefresh();
+            }
+        });
+    }
+
     /**
      * Syncs the given location with the underlying storage unless already synced. This method might return immediately without
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
-     * one thread blocking on the sync an all others can continue indexing.
+     * one thread blocking on the sync an all others can continue indexing. When the node's {@link TranslogSyncCoordinator} is
+     * enabled the fsync is instead batched with the pending syncs of the other shards on the same data path.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        final TranslogSyncCoordinator coordinator = translogSyncCoordinator;
+        if (coordinator != null && coordinator.isEnabled() && indexSettings.isAssignedOnRemoteNode() == false) {
+            coordinator.sync(path.getRootDataPath(), translogSyncTarget, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -5289,6 +5456,32 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return false;
     }
 
+    /**
+     * Runs a timer driven refresh of this shard. The refresh is handed to the node's {@link RefreshScheduler} if it is enabled and
+     * the index did not opt out of it, otherwise it runs right away through {@link #scheduledRefresh()}.
+     */
+    public void triggerScheduledRefresh() {
+        final RefreshScheduler.ShardHandle scheduler = refreshScheduler;
+        if (scheduler != null && scheduler.isEnabled() && indexSettings.isRefreshSchedulerEnabled()) {
+            verifyNotClosed();
+            scheduler.submit();
+        } else {
+            scheduledRefresh();
+        }
+    }
+
+    /**
+     * Skips a timer driven refresh the node's {@link RefreshScheduler} held back, like a search idle shard skips its refreshes:
+     * the next search waits for a refresh.
+     */
+    private void deferScheduledRefresh() {
+        if (isReadAllowed() && getIndexer().refreshNeeded()) {
+            final Indexer engine = getIndexer();
+            engine.maybePruneDeletes();
+            setRefreshPending(engine);
+        }
+    }
+
     /**
      * Returns true if this shards is search idle
      */
@@ -6260,7 +6453,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
         @Override
         protected void runInternal() {
-            indexShard.scheduledRefresh();
+            indexShard.triggerScheduledRefresh();
         }
 
         @Override
@@ -173,6 +173,13 @@ public interface SearchOperationListener {
      */
     default void onFreePitContext(ReaderContext readerContext) {}
 
+    /**
+     * Executed when the query phase for the given context was not executed but its result was taken over from an identical query
+     * phase that was executing concurrently. Called in addition to {@link #onQueryPhase(SearchContext, long)}.
+     * @param searchContext the current search context
+     */
+    default void onCoalescedQueryPhase(SearchContext searchContext) {}
+
     /**
      * Executed when a shard goes from idle to non-idle state
      */
@@ -377,6 +384,17 @@ public interface SearchOperationListener {
             }
         }
 
+        @Override
+        public void onCoalescedQueryPhase(SearchContext searchContext) {
+            for (SearchOperationListener listener : listeners) {
+                try {
+                    listener.onCoalescedQueryPhase(searchContext);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onCoalescedQueryPhase listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         @Override
         public void onSearchIdleReactivation() {
             for (SearchOperationListener listener : listeners) {
@@ -32,10 +32,12 @@
 
 package org.opensearch.index.translog;
 
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.core.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -53,6 +55,8 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
     protected final FileChannel channel;
     protected final Path path;
     protected final TranslogHeader header;
+    // maps locations to compressed blocks, only built for compressed generations that are read by location
+    private volatile TranslogBlocks.Index blockIndex;
 
     public BaseTranslogReader(long generation, FileChannel channel, Path path, TranslogHeader header) {
         assert Translog.parseIdFromFileName(path) == generation : "generation mismatch. Path: "
@@ -180,7 +184,33 @@ public abstract class BaseTranslogReader implements Comparable<BaseTranslogReade
      */
     Translog.Operation read(Translog.Location location) throws IOException {
         assert location.generation == this.generation : "generation mismatch expected: " + generation + " got: " + location.generation;
+        if (header.isCompressed()) {
+            final long[] block = findBlock(location);
+            if (block == null) {
+                throw new EOFException("read requested past EOF. location [" + location + "], generation: [" + generation + "]");
+            }
+            final BytesReference operations = TranslogBlocks.read(this, block[1]).operations();
+            final long offset = location.translogLocation - block[0];
+            if (offset + location.size > operations.length()) {
+                throw new TranslogCorruptedException(path.toString(), "location [" + location + "] spans past its block");
+            }
+            return read(new BufferedChecksumStreamInput(operations.slice((int) offset, location.size).streamInput(), path.toString()));
+        }
         ByteBuffer buffer = ByteBuffer.allocate(location.size);
         return read(checksummedStream(buffer, location.translogLocation, location.size, null));
     }
+
+    /**
+     * Returns {@code {logical start, physical start}} of the compressed block holding the given location, or {@code null} if the
+     * location is past the end of this generation.
+     */
+    protected long[] findBlock(Translog.Location location) throws IOException {
+        TranslogBlocks.Index index = blockIndex;
+        if (index == null) {
+            // immutable generations are indexed once, on their first read by location
+            index = TranslogBlocks.Index.build(this);
+            blockIndex = index;
+        }
+        return index.find(location.translogLocation);
+    }
 }
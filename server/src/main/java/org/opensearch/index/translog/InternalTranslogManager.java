@@ -22,6 +22,7 @@ import org.opensearch.index.translog.listener.TranslogEventListener;
 import org.opensearch.index.translog.transfer.TranslogUploadFailedException;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -339,6 +340,11 @@ public class InternalTranslogManager implements TranslogManager {
         return translog.add(operation);
     }
 
+    @Override
+    public List<Translog.Location> add(List<Translog.Operation> operations) throws IOException {
+        return translog.add(operations);
+    }
+
     /**
      * Do not replay translog operations, but make the engine be ready.
      */
@@ -588,7 +588,8 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
                 persistedSequenceNumberConsumer,
                 bigArrays,
                 indexSettings.isAssignedOnRemoteNode(),
-                translogOperationHelper
+                translogOperationHelper,
+                indexSettings.isTranslogCompressionEnabled()
             );
         } catch (final IOException e) {
             throw new TranslogException(shardId, "failed to create new translog file", e);
@@ -617,22 +618,7 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
             final BytesReference bytes = out.bytes();
             try (ReleasableLock ignored = readLock.acquire()) {
                 ensureOpen();
-                if (operation.primaryTerm() > current.getPrimaryTerm()) {
-                    assert false : "Operation term is newer than the current term; "
-                        + "current term["
-                        + current.getPrimaryTerm()
-                        + "], operation term["
-                        + operation
-                        + "]";
-                    throw new IllegalArgumentException(
-                        "Operation term is newer than the current term; "
-                            + "current term["
-                            + current.getPrimaryTerm()
-                            + "], operation term["
-                            + operation
-                            + "]"
-                    );
-                }
+                ensureOperationTermIsNotNewer(operation.primaryTerm(), operation);
                 return current.add(bytes, operation.seqNo());
             }
         } catch (final AlreadyClosedException | IOException ex) {
@@ -646,6 +632,70 @@ public abstract class Translog extends AbstractIndexShardComponent implements In
         }
     }
 
+    /**
+     * Adds several operations to the transaction log. The operations are serialized into a single buffer that is handed to the
+     * current generation in one append.
+     *
+     * @param operations the operations to add
+     * @return the locations of the operations in the translog, in the order of {@code operations}
+     * @throws IOException if adding the operations to the translog resulted in an I/O exception
+     */
+    public List<Location> add(final List<Operation> operations) throws IOException {
+        final ReleasableBytesStreamOutput out = new ReleasableBytesStreamOutput(bigArrays);
+        try {
+            final int[] sizes = new int[operations.size()];
+            final long[] seqNos = new long[operations.size()];
+            long maxPrimaryTerm = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                final Operation operation = operations.get(i);
+                final long start = out.position();
+                out.skip(Integer.BYTES);
+                writeOperationNoSize(new BufferedChecksumStreamOutput(out), operation);
+                final long end = out.position();
+                final int operationSize = (int) (end - Integer.BYTES - start);
+                out.seek(start);
+                out.writeInt(operationSize);
+                out.seek(end);
+                sizes[i] = (int) (end - start);
+                seqNos[i] = operation.seqNo();
+                maxPrimaryTerm = Math.max(maxPrimaryTerm, operation.primaryTerm());
+            }
+            final BytesReference bytes = out.bytes();
+            try (ReleasableLock ignored = readLock.acquire()) {
+                ensureOpen();
+                ensureOperationTermIsNotNewer(maxPrimaryTerm, maxPrimaryTerm);
+                return Arrays.asList(current.add(bytes, sizes, seqNos));
+            }
+        } catch (final AlreadyClosedException | IOException ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw new TranslogException(shardId, "Failed to write [" + operations.size() + "] operations", ex);
+        } finally {
+            Releasables.close(out);
+        }
+    }
+
+    /**
+     * Fails if the given term of an operation to add is newer than the term of the current generation. Must be called under the
+     * read lock.
+     *
+     * @param operationTerm the primary term of the operation
+     * @param operation     the operation or term to report in the failure
+     */
+    private void ensureOperationTermIsNotNewer(long operationTerm, Object operation) {
+        if (operationTerm > current.getPrimaryTerm()) {
+            final String message = "Operation term is newer than the current term; current term["
+                + current.getPrimaryTerm()
+                + "], operation term["
+                + operation
+                + "]";
+            assert false : message;
+            throw new IllegalArgumentException(message);
+        }
+    }
+
     /**
      * Tests whether or not the translog generation should be rolled to a new generation. This test
      * is based on the size of the current generation compared to the configured generation
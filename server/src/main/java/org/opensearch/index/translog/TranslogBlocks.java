@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * The block format of translog generations whose header has version {@link TranslogHeader#VERSION_COMPRESSED_BLOCKS}.
+ * <p>
+ * Instead of writing serialized operations back to back, the writer compresses every batch of buffered operations with ZSTD into
+ * one block:
+ * <pre>
+ * [compressed length (int)][uncompressed length (int)][crc32 of the compressed bytes (int)][compressed bytes]
+ * </pre>
+ * Within a block operations keep their usual framing (size, operation, checksum). Locations of operations in these generations
+ * are logical: they are offsets into the concatenated uncompressed blocks, starting at the header size just like the offsets of
+ * uncompressed generations. {@link Index} maps them back to the block holding them. Checkpoints keep recording the physical size
+ * of the file, which always ends at a block boundary.
+ *
+ * @opensearch.internal
+ */
+final class TranslogBlocks {
+
+    static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private TranslogBlocks() {}
+
+    private static Compressor compressor() {
+        return CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+    }
+
+    /**
+     * Compresses the given serialized operations into a block, including its header.
+     */
+    static BytesReference compress(BytesReference operations) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput(HEADER_SIZE + operations.length() / 2);
+        out.seek(HEADER_SIZE);
+        try (OutputStream compressed = compressor().threadLocalOutputStream(out)) {
+            operations.writeTo(compressed);
+        }
+        final int end = Math.toIntExact(out.position());
+        final BytesReference block = out.bytes();
+        final CRC32 crc = new CRC32();
+        final BytesRefIterator iterator = block.slice(HEADER_SIZE, end - HEADER_SIZE).iterator();
+        BytesRef current;
+        while ((current = iterator.next()) != null) {
+            crc.update(current.bytes, current.offset, current.length);
+        }
+        out.seek(0);
+        out.writeInt(end - HEADER_SIZE);
+        out.writeInt(operations.length());
+        out.writeInt((int) crc.getValue());
+        out.seek(end);
+        return out.bytes();
+    }
+
+    /**
+     * Reads, verifies and decompresses the block starting at the given physical position of the reader.
+     */
+    static Block read(BaseTranslogReader reader, long position) throws IOException {
+        final long available = reader.sizeInBytes() - position;
+        if (available < HEADER_SIZE) {
+            throw new TranslogCorruptedException(reader.path().toString(), "block header at [" + position + "] is truncated");
+        }
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        reader.readBytes(header, position);
+        header.flip();
+        final int compressedLength = header.getInt();
+        final int uncompressedLength = header.getInt();
+        final int checksum = header.getInt();
+        if (compressedLength < 0 || compressedLength > available - HEADER_SIZE || uncompressedLength < 0) {
+            throw new TranslogCorruptedException(
+                reader.path().toString(),
+                "block at ["
+                    + position
+                    + "] is corrupted, compressed length ["
+                    + compressedLength
+                    + "], uncompressed length ["
+                    + uncompressedLength
+                    + "], available ["
+                    + available
+                    + "]"
+            );
+        }
+        final ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+        reader.readBytes(compressed, position + HEADER_SIZE);
+        final CRC32 crc = new CRC32();
+        crc.update(compressed.array(), 0, compressedLength);
+        if ((int) crc.getValue() != checksum) {
+            throw new TranslogCorruptedException(
+                reader.path().toString(),
+                "checksum of block at [" + position + "] verification failed, expected [" + checksum + "], got [" + crc.getValue() + "]"
+            );
+        }
+        final byte[] uncompressed = new byte[uncompressedLength];
+        try (InputStream in = compressor().threadLocalInputStream(new BytesArray(compressed.array()).streamInput())) {
+            final int read = in.readNBytes(uncompressed, 0, uncompressedLength);
+            if (read != uncompressedLength || in.read() != -1) {
+                throw new TranslogCorruptedException(
+                    reader.path().toString(),
+                    "block at [" + position + "] does not hold the expected [" + uncompressedLength + "] bytes"
+                );
+            }
+        } catch (IllegalArgumentException e) {
+            throw new TranslogCorruptedException(reader.path().toString(), "block at [" + position + "] is not compressed", e);
+        }
+        return new Block(new BytesArray(uncompressed), HEADER_SIZE + compressedLength);
+    }
+
+    /**
+     * Reads the size of the operation at the given offset of an uncompressed block, including the size integer itself.
+     */
+    static int readOperationSize(BaseTranslogReader reader, BytesReference block, int offset) {
+        final int remaining = block.length() - offset;
+        final int size = remaining < Integer.BYTES ? -1 : block.getInt(offset) + Integer.BYTES;
+        if (size < Integer.BYTES || size > remaining) {
+            throw new TranslogCorruptedException(
+                reader.path().toString(),
+                "operation size is corrupted must be [0.." + remaining + "] but was: " + size
+            );
+        }
+        return size;
+    }
+
+    /**
+     * An uncompressed block and the number of bytes it takes on disk
+     *
+     * @opensearch.internal
+     */
+    record Block(BytesReference operations, int physicalLength) {
+    }
+
+    /**
+     * Maps logical offsets to the physical position of the block holding them.
+     *
+     * @opensearch.internal
+     */
+    static final class Index {
+        private long[] logicalStarts = new long[8];
+        private long[] physicalStarts = new long[8];
+        private int size;
+        private long logicalEnd;
+        private long physicalEnd;
+
+        Index(long firstOperationOffset) {
+            this.logicalEnd = firstOperationOffset;
+            this.physicalEnd = firstOperationOffset;
+        }
+
+        /**
+         * Builds the index of an existing generation by walking the block headers of the reader.
+         */
+        static Index build(BaseTranslogReader reader) throws IOException {
+            final Index index = new Index(reader.getFirstOperationOffset());
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (index.physicalEnd < reader.sizeInBytes()) {
+                if (reader.sizeInBytes() - index.physicalEnd < HEADER_SIZE) {
+                    throw new TranslogCorruptedException(
+                        reader.path().toString(),
+                        "block header at [" + index.physicalEnd + "] is truncated"
+                    );
+                }
+                header.clear();
+                reader.readBytes(header, index.physicalEnd);
+                header.flip();
+                final int compressedLength = header.getInt();
+                final int uncompressedLength = header.getInt();
+                if (compressedLength < 0 || uncompressedLength < 0) {
+                    throw new TranslogCorruptedException(reader.path().toString(), "block at [" + index.physicalEnd + "] is corrupted");
+                }
+                index.add(HEADER_SIZE + compressedLength, uncompressedLength);
+            }
+            return index;
+        }
+
+        synchronized void add(int physicalLength, int uncompressedLength) {
+            if (size == logicalStarts.length) {
+                logicalStarts = Arrays.copyOf(logicalStarts, ArrayUtil.oversize(size + 1, Long.BYTES));
+                physicalStarts = Arrays.copyOf(physicalStarts, logicalStarts.length);
+            }
+            logicalStarts[size] = logicalEnd;
+            physicalStarts[size] = physicalEnd;
+            size++;
+            logicalEnd += uncompressedLength;
+            physicalEnd += physicalLength;
+        }
+
+        /**
+         * The logical offset right after the last indexed block.
+         */
+        synchronized long logicalEnd() {
+            return logicalEnd;
+        }
+
+        /**
+         * The physical size of the generation up to the end of the last indexed block.
+         */
+        synchronized long physicalEnd() {
+            return physicalEnd;
+        }
+
+        /**
+         * Returns {@code {logical start, physical start}} of the block holding the given logical offset, or {@code null} if no
+         * indexed block holds it.
+         */
+        synchronized long[] find(long logicalOffset) {
+            if (size == 0 || logicalOffset < logicalStarts[0] || logicalOffset >= logicalEnd) {
+                return null;
+            }
+            int index = Arrays.binarySearch(logicalStarts, 0, size, logicalOffset);
+            if (index < 0) {
+                index = -index - 2;
+            }
+            return new long[] { logicalStarts[index], physicalStarts[index] };
+        }
+    }
+}
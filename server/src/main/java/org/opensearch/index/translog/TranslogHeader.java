@@ -65,11 +65,13 @@ public final class TranslogHeader {
     public static final int VERSION_CHECKSUMS = 1; // pre-2.0 - unsupported
     public static final int VERSION_CHECKPOINTS = 2; // added checkpoints
     public static final int VERSION_PRIMARY_TERM = 3; // added primary term
+    public static final int VERSION_COMPRESSED_BLOCKS = 4; // operations are written in compressed blocks, see TranslogBlocks
     public static final int CURRENT_VERSION = VERSION_PRIMARY_TERM;
 
     private final String translogUUID;
     private final long primaryTerm;
     private final int headerSizeInBytes;
+    private final boolean compressed;
 
     /**
      * Creates a new translog header with the given uuid and primary term.
@@ -80,14 +82,23 @@ public final class TranslogHeader {
      *                     All operations' terms in this translog file are enforced to be at most this term.
      */
     TranslogHeader(String translogUUID, long primaryTerm) {
-        this(translogUUID, primaryTerm, headerSizeInBytes(translogUUID));
+        this(translogUUID, primaryTerm, false);
+    }
+
+    /**
+     * Creates a new translog header with the given uuid and primary term for a file whose operations are written in compressed
+     * blocks if {@code compressed} is set. Compressed files can only be read by nodes that know {@link #VERSION_COMPRESSED_BLOCKS}.
+     */
+    TranslogHeader(String translogUUID, long primaryTerm, boolean compressed) {
+        this(translogUUID, primaryTerm, headerSizeInBytes(translogUUID), compressed);
         assert primaryTerm >= 0 : "Primary term must be non-negative; term [" + primaryTerm + "]";
     }
 
-    private TranslogHeader(String translogUUID, long primaryTerm, int headerSizeInBytes) {
+    private TranslogHeader(String translogUUID, long primaryTerm, int headerSizeInBytes, boolean compressed) {
         this.translogUUID = translogUUID;
         this.primaryTerm = primaryTerm;
         this.headerSizeInBytes = headerSizeInBytes;
+        this.compressed = compressed;
     }
 
     public String getTranslogUUID() {
@@ -110,6 +121,13 @@ public final class TranslogHeader {
         return headerSizeInBytes;
     }
 
+    /**
+     * Returns true if the operations of this translog file are written in compressed blocks, see {@link TranslogBlocks}.
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
     static int headerSizeInBytes(String translogUUID) {
         return headerSizeInBytes(CURRENT_VERSION, new BytesRef(translogUUID).length);
     }
@@ -127,7 +145,7 @@ public final class TranslogHeader {
     static int readHeaderVersion(final Path path, final FileChannel channel, final StreamInput in) throws IOException {
         final int version;
         try {
-            version = CodecUtil.checkHeader(new InputStreamDataInput(in), TRANSLOG_CODEC, VERSION_CHECKSUMS, VERSION_PRIMARY_TERM);
+            version = CodecUtil.checkHeader(new InputStreamDataInput(in), TRANSLOG_CODEC, VERSION_CHECKSUMS, VERSION_COMPRESSED_BLOCKS);
         } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException e) {
             tryReportOldVersionError(path, channel);
             throw new TranslogCorruptedException(path.toString(), "translog header corrupted", e);
@@ -183,7 +201,7 @@ public final class TranslogHeader {
             in.read(uuid.bytes, uuid.offset, uuid.length);
             // Read the primary term
             final long primaryTerm;
-            if (version == VERSION_PRIMARY_TERM) {
+            if (version >= VERSION_PRIMARY_TERM) {
                 primaryTerm = in.readLong();
             } else {
                 assert version == VERSION_CHECKPOINTS : "Unknown header version [" + version + "]";
@@ -202,7 +220,7 @@ public final class TranslogHeader {
                 + channel.position()
                 + "]";
 
-            return new TranslogHeader(uuid.utf8ToString(), primaryTerm, headerSizeInBytes);
+            return new TranslogHeader(uuid.utf8ToString(), primaryTerm, headerSizeInBytes, version == VERSION_COMPRESSED_BLOCKS);
         } catch (EOFException e) {
             throw new TranslogCorruptedException(path.toString(), "translog header truncated", e);
         }
@@ -226,13 +244,13 @@ public final class TranslogHeader {
     }
 
     /**
-     * Writes this header with the latest format into the file channel
+     * Writes this header with the latest format, or the compressed blocks format if this header is compressed, into the file channel
      */
     void write(final OutputStream outputStream) throws IOException {
         // This output is intentionally not closed because closing it will close the FileChannel.
         @SuppressWarnings({ "IOResourceOpenedButNotSafelyClosed", "resource" })
         final BufferedChecksumStreamOutput out = new BufferedChecksumStreamOutput(new OutputStreamStreamOutput(outputStream));
-        CodecUtil.writeHeader(new OutputStreamDataOutput(out), TRANSLOG_CODEC, CURRENT_VERSION);
+        CodecUtil.writeHeader(new OutputStreamDataOutput(out), TRANSLOG_CODEC, compressed ? VERSION_COMPRESSED_BLOCKS : CURRENT_VERSION);
         // Write uuid
         final BytesRef uuid = new BytesRef(translogUUID);
         out.writeInt(uuid.length);
@@ -13,6 +13,8 @@ import org.opensearch.common.lease.Releasable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -120,6 +122,20 @@ public interface TranslogManager extends Closeable {
      */
     Translog.Location add(Translog.Operation operation) throws IOException;
 
+    /**
+     * Adds several operations to the translog
+     * @param operations to add to translog
+     * @return the locations in the translog, in the order of the given operations
+     * @throws IOException throws an IO exception if adding the operations fails
+     */
+    default List<Translog.Location> add(List<Translog.Operation> operations) throws IOException {
+        final List<Translog.Location> locations = new ArrayList<>(operations.size());
+        for (Translog.Operation operation : operations) {
+            locations.add(add(operation));
+        }
+        return locations;
+    }
+
     /**
      * Checks if the translog has a pending recovery
      */
@@ -32,6 +32,7 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.common.io.Channels;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.BufferedChecksumStreamInput;
 import org.opensearch.index.seqno.SequenceNumbers;
 
@@ -55,6 +56,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     private int skippedOperations;
     private int readOperations;
     private BufferedChecksumStreamInput reuse;
+    // the uncompressed block being read and the offset of the next operation within it, for compressed generations only
+    private BytesReference block;
+    private int blockOffset;
 
     /**
      * Create a snapshot of translog file channel.
@@ -96,6 +100,9 @@ final class TranslogSnapshot extends BaseTranslogReader {
     }
 
     private Translog.Operation readOperation() throws IOException {
+        if (header.isCompressed()) {
+            return readCompressedOperation();
+        }
         final int opSize = readSize(reusableBuffer, position);
         reuse = checksummedStream(reusableBuffer, position, opSize, reuse);
         Translog.Operation op = read(reuse);
@@ -104,6 +111,21 @@ final class TranslogSnapshot extends BaseTranslogReader {
         return op;
     }
 
+    private Translog.Operation readCompressedOperation() throws IOException {
+        while (block == null || blockOffset == block.length()) {
+            final TranslogBlocks.Block next = TranslogBlocks.read(this, position);
+            block = next.operations();
+            blockOffset = 0;
+            position += next.physicalLength();
+        }
+        final int opSize = TranslogBlocks.readOperationSize(this, block, blockOffset);
+        reuse = new BufferedChecksumStreamInput(block.slice(blockOffset, opSize).streamInput(), path.toString(), reuse);
+        Translog.Operation op = read(reuse);
+        blockOffset += opSize;
+        readOperations++;
+        return op;
+    }
+
     public long sizeInBytes() {
         return length;
     }
@@ -86,6 +86,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     private final BigArrays bigArrays;
     // the last checkpoint that was written when the translog was last synced
     private volatile Checkpoint lastSyncedCheckpoint;
+    // the offset up to which operations were synced, which is the offset of the last synced checkpoint unless this file is compressed
+    private volatile long lastSyncedOffset;
     /* the number of translog operations written to this file */
     private volatile int operationCounter;
     /* if we hit an exception that we can't recover from we assign it to this var and ship it with every AlreadyClosedException we throw */
@@ -122,6 +124,10 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     private final TranslogOperationHelper translogOperationHelper;
 
+    // the compressed blocks written so far, null unless operations are written in compressed blocks
+    @Nullable
+    private final TranslogBlocks.Index blocks;
+
     private TranslogWriter(
         final ShardId shardId,
         final Checkpoint initialCheckpoint,
@@ -152,7 +158,9 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         this.checkpointPath = checkpointPath;
         this.minTranslogGenerationSupplier = minTranslogGenerationSupplier;
         this.lastSyncedCheckpoint = initialCheckpoint;
+        this.lastSyncedOffset = initialCheckpoint.offset;
         this.totalOffset = initialCheckpoint.offset;
+        this.blocks = header.isCompressed() ? new TranslogBlocks.Index(initialCheckpoint.offset) : null;
         assert initialCheckpoint.minSeqNo == SequenceNumbers.NO_OPS_PERFORMED : initialCheckpoint.minSeqNo;
         this.minSeqNo = initialCheckpoint.minSeqNo;
         assert initialCheckpoint.maxSeqNo == SequenceNumbers.NO_OPS_PERFORMED : initialCheckpoint.maxSeqNo;
@@ -222,6 +230,50 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         final BigArrays bigArrays,
         Boolean remoteTranslogEnabled,
         TranslogOperationHelper translogOperationHelper
+    ) throws IOException {
+        return create(
+            shardId,
+            translogUUID,
+            fileGeneration,
+            file,
+            channelFactory,
+            bufferSize,
+            initialMinTranslogGen,
+            initialGlobalCheckpoint,
+            globalCheckpointSupplier,
+            minTranslogGenerationSupplier,
+            primaryTerm,
+            tragedy,
+            persistedSequenceNumberConsumer,
+            bigArrays,
+            remoteTranslogEnabled,
+            translogOperationHelper,
+            false
+        );
+    }
+
+    /**
+     * Creates a new translog file and its writer. If {@code compressed} is set, operations are written in ZSTD compressed
+     * blocks, see {@link TranslogBlocks}.
+     */
+    public static TranslogWriter create(
+        ShardId shardId,
+        String translogUUID,
+        long fileGeneration,
+        Path file,
+        ChannelFactory channelFactory,
+        ByteSizeValue bufferSize,
+        final long initialMinTranslogGen,
+        long initialGlobalCheckpoint,
+        final LongSupplier globalCheckpointSupplier,
+        final LongSupplier minTranslogGenerationSupplier,
+        final long primaryTerm,
+        TragicExceptionHolder tragedy,
+        final LongConsumer persistedSequenceNumberConsumer,
+        final BigArrays bigArrays,
+        Boolean remoteTranslogEnabled,
+        TranslogOperationHelper translogOperationHelper,
+        boolean compressed
     ) throws IOException {
         final Path checkpointFile = file.getParent().resolve(Translog.CHECKPOINT_FILE_NAME);
 
@@ -229,7 +281,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         FileChannel checkpointChannel = null;
         try {
             checkpointChannel = channelFactory.open(checkpointFile, StandardOpenOption.WRITE);
-            final TranslogHeader header = new TranslogHeader(translogUUID, primaryTerm);
+            final TranslogHeader header = new TranslogHeader(translogUUID, primaryTerm, compressed);
             header.write(channel, !Boolean.TRUE.equals(remoteTranslogEnabled));
             TranslogCheckedContainer translogCheckedContainer = null;
             if (Boolean.TRUE.equals(remoteTranslogEnabled)) {
@@ -338,6 +390,52 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         return location;
     }
 
+    /**
+     * Add several serialized operations to the translog in one buffer append. {@code data} holds the operations back to back,
+     * the i-th one being {@code sizes[i]} bytes long and carrying {@code seqNos[i]}.
+     *
+     * @param data   the bytes of all operations to write
+     * @param sizes  the size of every operation within {@code data}
+     * @param seqNos the sequence number of every operation
+     * @return the locations the operations were written to, in the order they appear in {@code data}
+     * @throws IOException if writing to the translog resulted in an I/O exception
+     */
+    public Translog.Location[] add(final BytesReference data, final int[] sizes, final long[] seqNos) throws IOException {
+        assert sizes.length == seqNos.length : sizes.length + " != " + seqNos.length;
+        long bufferedBytesBeforeAdd = this.bufferedBytes;
+        if (bufferedBytesBeforeAdd >= forceWriteThreshold) {
+            writeBufferedOps(Long.MAX_VALUE, bufferedBytesBeforeAdd >= forceWriteThreshold * 4);
+        }
+
+        final Translog.Location[] locations = new Translog.Location[sizes.length];
+        synchronized (this) {
+            ensureOpen();
+            if (buffer == null) {
+                buffer = new ReleasableBytesStreamOutput(bigArrays);
+            }
+            assert bufferedBytes == buffer.size();
+            final long offset = totalOffset;
+            totalOffset += data.length();
+            data.writeTo(buffer);
+
+            int position = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                final long seqNo = seqNos[i];
+                minSeqNo = SequenceNumbers.min(minSeqNo, seqNo);
+                maxSeqNo = SequenceNumbers.max(maxSeqNo, seqNo);
+                nonFsyncedSequenceNumbers.add(seqNo);
+                operationCounter++;
+                assert assertNoSeqNumberConflict(seqNo, data.slice(position, sizes[i]));
+                locations[i] = new Translog.Location(generation, offset + position, sizes[i]);
+                position += sizes[i];
+            }
+            assert position == data.length() : position + " != " + data.length();
+            bufferedBytes = buffer.size();
+        }
+
+        return locations;
+    }
+
     private synchronized boolean assertNoSeqNumberConflict(long seqNo, BytesReference data) throws IOException {
         if (seqNo == SequenceNumbers.UNASSIGNED_SEQ_NO) {
             // nothing to do
@@ -431,7 +529,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
      * checkpoint has not yet been fsynced
      */
     public boolean syncNeeded() {
-        return totalOffset != lastSyncedCheckpoint.offset
+        return totalOffset != lastSyncedOffset
             || globalCheckpointSupplier.getAsLong() != lastSyncedCheckpoint.globalCheckpoint
             || minTranslogGenerationSupplier.getAsLong() != lastSyncedCheckpoint.minTranslogGeneration;
     }
@@ -444,7 +542,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
     @Override
     synchronized Checkpoint getCheckpoint() {
         return new Checkpoint(
-            totalOffset,
+            blocks == null ? totalOffset : blocks.physicalEnd(),
             operationCounter,
             generation,
             minSeqNo,
@@ -457,7 +555,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
 
     @Override
     public long sizeInBytes() {
-        return totalOffset;
+        // buffered operations of a compressed file are counted uncompressed until they are written
+        return blocks == null ? totalOffset : blocks.physicalEnd() + bufferedBytes;
     }
 
     /**
@@ -484,8 +583,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     }
                     // If we reached this point, all of the buffered ops should have been flushed successfully.
                     assert buffer == null;
-                    assert checkChannelPositionWhileHandlingException(totalOffset);
-                    assert totalOffset == lastSyncedCheckpoint.offset;
+                    assert checkChannelPositionWhileHandlingException(sizeInBytes());
+                    assert sizeInBytes() == lastSyncedCheckpoint.offset;
                     if (closed.compareAndSet(false, true)) {
                         try {
                             checkpointChannel.close();
@@ -528,8 +627,8 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                     }
                     // If we reached this point, all of the buffered ops should have been flushed successfully.
                     assert buffer == null;
-                    assert checkChannelPositionWhileHandlingException(totalOffset);
-                    assert totalOffset == lastSyncedCheckpoint.offset;
+                    assert checkChannelPositionWhileHandlingException(sizeInBytes());
+                    assert sizeInBytes() == lastSyncedCheckpoint.offset;
                     return super.newSnapshot();
                 }
             }
@@ -546,18 +645,20 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
      * @return <code>true</code> if this call caused an actual sync operation
      */
     final boolean syncUpTo(long offset) throws IOException {
-        if (lastSyncedCheckpoint.offset < offset && syncNeeded()) {
+        if (lastSyncedOffset < offset && syncNeeded()) {
             synchronized (syncLock) { // only one sync/checkpoint should happen concurrently but we wait
-                if (lastSyncedCheckpoint.offset < offset && syncNeeded()) {
+                if (lastSyncedOffset < offset && syncNeeded()) {
                     // double checked locking - we don't want to fsync unless we have to and now that we have
                     // the lock we should check again since if this code is busy we might have fsynced enough already
-                    final Checkpoint checkpointToSync;
+                    Checkpoint checkpointToSync;
+                    final long offsetToSync;
                     final List<Long> flushedSequenceNumbers;
                     final ReleasableBytesReference toWrite;
                     try (ReleasableLock toClose = writeLock.acquire()) {
                         synchronized (this) {
                             ensureOpen();
                             checkpointToSync = getCheckpoint();
+                            offsetToSync = totalOffset;
                             toWrite = pollOpsToWrite();
                             flushedSequenceNumbers = nonFsyncedSequenceNumbers;
                             nonFsyncedSequenceNumbers = new ArrayList<>(64);
@@ -570,6 +671,19 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                             closeWithTragicEvent(ex);
                             throw ex;
                         }
+                        if (blocks != null) {
+                            // the size of the block that was just written is only known once its operations are compressed
+                            checkpointToSync = new Checkpoint(
+                                blocks.physicalEnd(),
+                                checkpointToSync.numOps,
+                                checkpointToSync.generation,
+                                checkpointToSync.minSeqNo,
+                                checkpointToSync.maxSeqNo,
+                                checkpointToSync.globalCheckpoint,
+                                checkpointToSync.minTranslogGeneration,
+                                checkpointToSync.trimmedAboveSeqNo
+                            );
+                        }
                     }
                     // now do the actual fsync outside of the synchronized block such that
                     // we can continue writing to the buffer etc.
@@ -588,6 +702,7 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
                         + " <= "
                         + checkpointToSync.offset;
                     lastSyncedCheckpoint = checkpointToSync; // write protected by syncLock
+                    lastSyncedOffset = offsetToSync;
                     return true;
                 }
             }
@@ -625,7 +740,15 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
             assert writeLock.isHeldByCurrentThread();
             ByteBuffer ioBuffer = DiskIoBufferPool.getIoBuffer();
 
-            BytesRefIterator iterator = toWrite.iterator();
+            final BytesReference bytes;
+            if (blocks != null && toWrite.length() > 0) {
+                // the batch becomes one block; readers of its operations wait for the write lock until the block is written
+                bytes = TranslogBlocks.compress(toWrite);
+                blocks.add(bytes.length(), toWrite.length());
+            } else {
+                bytes = toWrite;
+            }
+            BytesRefIterator iterator = bytes.iterator();
             BytesRef current;
             while ((current = iterator.next()) != null) {
                 int currentBytesConsumed = 0;
@@ -655,6 +778,15 @@ public class TranslogWriter extends BaseTranslogReader implements Closeable {
         }
     }
 
+    @Override
+    protected long[] findBlock(Translog.Location location) throws IOException {
+        if (location.translogLocation + location.size > blocks.logicalEnd()) {
+            // the operation is still buffered, write the buffer out as a block first
+            writeBufferedOps(Long.MAX_VALUE, true);
+        }
+        return blocks.find(location.translogLocation);
+    }
+
     @Override
     protected void readBytes(ByteBuffer targetBuffer, long position) throws IOException {
         try {
@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Node level stats of how the {@link IndexingMemoryController} shares the indexing buffer between shards
+ *
+ * @opensearch.internal
+ */
+public class IndexingBufferStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "indexing_buffer";
+
+    private final boolean writeLoadAware;
+    private final long budgetInBytes;
+    private final long totalIdleWrites;
+    private final List<ShardAllocation> shards;
+
+    public IndexingBufferStats(boolean writeLoadAware, long budgetInBytes, long totalIdleWrites, List<ShardAllocation> shards) {
+        this.writeLoadAware = writeLoadAware;
+        this.budgetInBytes = budgetInBytes;
+        this.totalIdleWrites = totalIdleWrites;
+        this.shards = shards;
+    }
+
+    public IndexingBufferStats(StreamInput in) throws IOException {
+        this.writeLoadAware = in.readBoolean();
+        this.budgetInBytes = in.readVLong();
+        this.totalIdleWrites = in.readVLong();
+        this.shards = in.readList(ShardAllocation::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(writeLoadAware);
+        out.writeVLong(budgetInBytes);
+        out.writeVLong(totalIdleWrites);
+        out.writeList(shards);
+    }
+
+    public boolean isWriteLoadAware() {
+        return writeLoadAware;
+    }
+
+    /**
+     * The heap budget for the indexing buffers of all shards of the node.
+     */
+    public long getBudgetInBytes() {
+        return budgetInBytes;
+    }
+
+    /**
+     * Number of times the buffer of a shard that stopped indexing was written to disk early.
+     */
+    public long getTotalIdleWrites() {
+        return totalIdleWrites;
+    }
+
+    /**
+     * The share of the budget of each shard, empty unless the buffer is shared by write load.
+     */
+    public List<ShardAllocation> getShards() {
+        return shards;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        builder.field("write_load_aware", writeLoadAware);
+        builder.humanReadableField("budget_in_bytes", "budget", new ByteSizeValue(budgetInBytes));
+        builder.field("total_idle_writes", totalIdleWrites);
+        builder.startArray("shards");
+        for (ShardAllocation shard : shards) {
+            shard.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IndexingBufferStats that = (IndexingBufferStats) o;
+        return writeLoadAware == that.writeLoadAware
+            && budgetInBytes == that.budgetInBytes
+            && totalIdleWrites == that.totalIdleWrites
+            && shards.equals(that.shards);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(writeLoadAware, budgetInBytes, totalIdleWrites, shards);
+    }
+
+    /**
+     * The write load of a shard and the share of the indexing buffer it was given
+     *
+     * @opensearch.internal
+     */
+    public static class ShardAllocation implements Writeable, ToXContentFragment {
+        private final ShardId shardId;
+        private final long indexingBytesPerSec;
+        private final double indexingPressure;
+        private final long allocatedInBytes;
+        private final long usedInBytes;
+
+        public ShardAllocation(
+            ShardId shardId,
+            long indexingBytesPerSec,
+            double indexingPressure,
+            long allocatedInBytes,
+            long usedInBytes
+        ) {
+            this.shardId = shardId;
+            this.indexingBytesPerSec = indexingBytesPerSec;
+            this.indexingPressure = indexingPressure;
+            this.allocatedInBytes = allocatedInBytes;
+            this.usedInBytes = usedInBytes;
+        }
+
+        public ShardAllocation(StreamInput in) throws IOException {
+            this.shardId = new ShardId(in);
+            this.indexingBytesPerSec = in.readVLong();
+            this.indexingPressure = in.readDouble();
+            this.allocatedInBytes = in.readVLong();
+            this.usedInBytes = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            shardId.writeTo(out);
+            out.writeVLong(indexingBytesPerSec);
+            out.writeDouble(indexingPressure);
+            out.writeVLong(allocatedInBytes);
+            out.writeVLong(usedInBytes);
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        /**
+         * The recent rate at which the shard indexed, as a moving average of the bytes of its operations per second.
+         */
+        public long getIndexingBytesPerSec() {
+            return indexingBytesPerSec;
+        }
+
+        /**
+         * The share of its shard indexing pressure limit the in flight requests of the shard used, between 0 and 1.
+         */
+        public double getIndexingPressure() {
+            return indexingPressure;
+        }
+
+        public long getAllocatedInBytes() {
+            return allocatedInBytes;
+        }
+
+        public long getUsedInBytes() {
+            return usedInBytes;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("index", shardId.getIndexName());
+            builder.field("shard", shardId.id());
+            builder.field("indexing_bytes_per_sec", indexingBytesPerSec);
+            builder.field("indexing_pressure", indexingPressure);
+            builder.humanReadableField("allocated_in_bytes", "allocated", new ByteSizeValue(allocatedInBytes));
+            builder.humanReadableField("used_in_bytes", "used", new ByteSizeValue(usedInBytes));
+            return builder.endObject();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ShardAllocation that = (ShardAllocation) o;
+            return shardId.equals(that.shardId)
+                && indexingBytesPerSec == that.indexingBytesPerSec
+                && Double.compare(indexingPressure, that.indexingPressure) == 0
+                && allocatedInBytes == that.allocatedInBytes
+                && usedInBytes == that.usedInBytes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(shardId, indexingBytesPerSec, indexingPressure, allocatedInBytes, usedInBytes);
+        }
+    }
+}
@@ -36,11 +36,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
@@ -55,12 +57,17 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Memory controller for indexing operations
@@ -142,6 +149,25 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         Property.NodeScope
     );
 
+    /** Whether the indexing buffer is shared by write load: shards that index at a higher rate or under more indexing pressure
+     * may keep larger buffers, and shards that stop indexing write their buffer to disk early (default: false). */
+    public static final Setting<Boolean> WRITE_LOAD_AWARE_SETTING = Setting.boolSetting(
+        "indices.memory.write_load_aware.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /** Only applies when <code>indices.memory.write_load_aware.enabled</code> is set: if we see no indexing operations after this
+     * much time for a given shard, we write its indexing buffer to disk (default: 30 seconds). */
+    public static final Setting<TimeValue> WRITE_LOAD_AWARE_IDLE_TIME_SETTING = Setting.positiveTimeSetting(
+        "indices.memory.write_load_aware.idle_time",
+        TimeValue.timeValueSeconds(30),
+        Property.NodeScope
+    );
+
+    // weight of the last interval in the moving average of the indexing rate of a shard
+    private static final double WRITE_LOAD_ALPHA = 0.3;
+
     private final ThreadPool threadPool;
 
     private final Iterable<IndexShard> indexShards;
@@ -166,8 +192,26 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     private final ShardsIndicesStatusChecker statusChecker;
 
+    private final boolean writeLoadAware;
+    private final TimeValue writeLoadIdleTime;
+    private final ToDoubleFunction<ShardId> shardIndexingPressure;
+    private final Map<ShardId, ShardWriteLoad> writeLoads = ConcurrentCollections.newConcurrentMap();
+    private final LongAdder idleWrites = new LongAdder();
+
     IndexingMemoryController(Settings settings, ThreadPool threadPool, Iterable<IndexShard> indexServices) {
+        this(settings, threadPool, indexServices, shardId -> 0);
+    }
+
+    IndexingMemoryController(
+        Settings settings,
+        ThreadPool threadPool,
+        Iterable<IndexShard> indexServices,
+        ToDoubleFunction<ShardId> shardIndexingPressure
+    ) {
         this.indexShards = indexServices;
+        this.shardIndexingPressure = shardIndexingPressure;
+        this.writeLoadAware = WRITE_LOAD_AWARE_SETTING.get(settings);
+        this.writeLoadIdleTime = WRITE_LOAD_AWARE_IDLE_TIME_SETTING.get(settings);
 
         this.indexingBuffer = computeBufferSize(
             settings,
@@ -246,6 +290,16 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         return shard.getWritingBytes();
     }
 
+    /** returns the share of its shard indexing pressure limits the in flight requests of this shard use, between 0 and 1 */
+    protected double getShardIndexingPressure(IndexShard shard) {
+        return shardIndexingPressure.applyAsDouble(shard.shardId());
+    }
+
+    /** returns the current relative time, used to measure the indexing rate of shards */
+    protected long relativeTimeInNanos() {
+        return System.nanoTime();
+    }
+
     /** ask this shard to refresh, in the background, to free up heap */
     protected void writeIndexingBufferAsync(IndexShard shard) {
         threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
@@ -278,21 +332,104 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
     @Override
     public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
-        recordOperationBytes(index, result);
+        recordOperationBytes(shardId, index, result);
     }
 
     @Override
     public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
-        recordOperationBytes(delete, result);
+        recordOperationBytes(shardId, delete, result);
     }
 
     /** called by IndexShard to record estimated bytes written to translog for the operation */
-    private void recordOperationBytes(Engine.Operation operation, Engine.Result result) {
+    private void recordOperationBytes(ShardId shardId, Engine.Operation operation, Engine.Result result) {
         if (result.getResultType() == Engine.Result.Type.SUCCESS) {
+            if (writeLoadAware) {
+                recordShardBytes(shardId, operation.estimatedSizeInBytes());
+            }
             statusChecker.bytesWritten(operation.estimatedSizeInBytes());
         }
     }
 
+    /** records bytes indexed by the given shard, to measure its indexing rate */
+    void recordShardBytes(ShardId shardId, long bytes) {
+        ShardWriteLoad writeLoad = writeLoads.get(shardId);
+        if (writeLoad == null) {
+            writeLoad = writeLoads.computeIfAbsent(shardId, k -> new ShardWriteLoad(relativeTimeInNanos()));
+        }
+        writeLoad.bytesSinceCheck.add(bytes);
+    }
+
+    public IndexingBufferStats stats() {
+        final List<IndexingBufferStats.ShardAllocation> shards = new ArrayList<>();
+        if (writeLoadAware) {
+            for (Map.Entry<ShardId, ShardWriteLoad> entry : writeLoads.entrySet()) {
+                final ShardWriteLoad writeLoad = entry.getValue();
+                shards.add(
+                    new IndexingBufferStats.ShardAllocation(
+                        entry.getKey(),
+                        writeLoad.bytesPerSec,
+                        writeLoad.pressure,
+                        writeLoad.allocatedBytes,
+                        writeLoad.usedBytes
+                    )
+                );
+            }
+            shards.sort((a, b) -> a.getShardId().compareTo(b.getShardId()));
+        }
+        return new IndexingBufferStats(writeLoadAware, indexingBuffer.getBytes(), idleWrites.sum(), shards);
+    }
+
+    /**
+     * Shares the heap budget between the given shards by their write load: the moving average of the bytes they index per second,
+     * counted up to twice for shards under shard indexing pressure. Shards that did not index for
+     * {@link #WRITE_LOAD_AWARE_IDLE_TIME_SETTING} are asked to write their buffer to disk: they will not grow it any further, and
+     * holding on to it only takes heap from the shards that do index.
+     *
+     * @return the heap bytes of buffers that are now being written to disk
+     */
+    private long allocateByWriteLoad(Map<IndexShard, Long> heapBytesUsed) {
+        final long now = relativeTimeInNanos();
+        final Map<IndexShard, Double> weights = new HashMap<>();
+        final Set<ShardId> shardIds = new HashSet<>();
+        double totalWeight = 0;
+        long freed = 0;
+        for (Map.Entry<IndexShard, Long> entry : heapBytesUsed.entrySet()) {
+            final IndexShard shard = entry.getKey();
+            shardIds.add(shard.shardId());
+            final ShardWriteLoad writeLoad = writeLoads.computeIfAbsent(shard.shardId(), k -> new ShardWriteLoad(now));
+            writeLoad.sample(now);
+            writeLoad.pressure = getShardIndexingPressure(shard);
+            writeLoad.usedBytes = entry.getValue();
+            final double weight = writeLoad.rate.getAverage() * (1 + writeLoad.pressure);
+            weights.put(shard, weight);
+            totalWeight += weight;
+            final boolean idle = now - writeLoad.lastIndexedNanos >= writeLoadIdleTime.nanos();
+            if (idle && entry.getValue() > 0 && writeLoad.idleWritten == false) {
+                logger.debug(
+                    "write indexing buffer to disk for shard [{}] that stopped indexing to free up [{}] heap",
+                    shard.shardId(),
+                    new ByteSizeValue(entry.getValue())
+                );
+                writeLoad.idleWritten = true;
+                idleWrites.increment();
+                writeIndexingBufferAsync(shard);
+                freed += entry.getValue();
+            }
+        }
+        for (Map.Entry<IndexShard, Double> entry : weights.entrySet()) {
+            final ShardWriteLoad writeLoad = writeLoads.get(entry.getKey().shardId());
+            if (totalWeight > 0) {
+                writeLoad.allocatedBytes = (long) (indexingBuffer.getBytes() * (entry.getValue() / totalWeight));
+            } else {
+                // nothing indexes at the moment, share evenly
+                writeLoad.allocatedBytes = indexingBuffer.getBytes() / weights.size();
+            }
+        }
+        // forget shards that are gone
+        writeLoads.keySet().retainAll(shardIds);
+        return freed;
+    }
+
     /** Resolves a buffer size setting, applying min/max bounds when the value is a percentage. */
     private static ByteSizeValue computeBufferSize(
         Settings settings,
@@ -341,6 +478,45 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
         }
     }
 
+    /**
+     * The recent indexing of a shard and the share of the indexing buffer it was given
+     *
+     * @opensearch.internal
+     */
+    private static final class ShardWriteLoad {
+        final LongAdder bytesSinceCheck = new LongAdder();
+        final ExponentiallyWeightedMovingAverage rate = new ExponentiallyWeightedMovingAverage(WRITE_LOAD_ALPHA, 0);
+        // only accessed by the status checker, under its run lock
+        long lastCheckNanos;
+        long lastIndexedNanos;
+        boolean idleWritten;
+        // read by stats
+        volatile long bytesPerSec;
+        volatile double pressure;
+        volatile long allocatedBytes;
+        volatile long usedBytes;
+
+        ShardWriteLoad(long nowNanos) {
+            this.lastCheckNanos = nowNanos;
+            this.lastIndexedNanos = nowNanos;
+        }
+
+        void sample(long nowNanos) {
+            final long elapsedNanos = nowNanos - lastCheckNanos;
+            if (elapsedNanos <= 0) {
+                return;
+            }
+            final long bytes = bytesSinceCheck.sumThenReset();
+            if (bytes > 0) {
+                lastIndexedNanos = nowNanos;
+                idleWritten = false;
+            }
+            rate.addValue((double) bytes * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+            lastCheckNanos = nowNanos;
+            bytesPerSec = (long) rate.getAverage();
+        }
+    }
+
     /** not static because we need access to many fields/methods from our containing class (IMC): */
     final class ShardsIndicesStatusChecker implements Runnable {
 
@@ -398,6 +574,7 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
             long totalHeapBytesUsed = 0;
             long totalNativeUsed = 0;
             long totalBytesWriting = 0;
+            final Map<IndexShard, Long> heapBytesUsed = writeLoadAware ? new HashMap<>() : null;
             for (IndexShard shard : availableShards()) {
 
                 // Give shard a chance to transition to inactive so we can flush:
@@ -420,6 +597,13 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
 
                 totalHeapBytesUsed += shardBytesUsed;
                 totalNativeUsed += getNativeBytesUsed(shard);
+                if (heapBytesUsed != null) {
+                    heapBytesUsed.put(shard, shardBytesUsed);
+                }
+            }
+
+            if (heapBytesUsed != null) {
+                totalHeapBytesUsed -= allocateByWriteLoad(heapBytesUsed);
             }
 
             if (logger.isTraceEnabled()) {
@@ -470,6 +654,11 @@ public class IndexingMemoryController implements IndexingOperationListener, Clos
                         sortKey = shardBytesUsed + shardNativeUsed;
                     } else if (heapOverBudget) {
                         sortKey = shardBytesUsed;
+                        if (writeLoadAware) {
+                            // only shards over their share are written: busy shards keep large buffers and write larger segments
+                            final ShardWriteLoad writeLoad = writeLoads.get(shard.shardId());
+                            sortKey = writeLoad == null ? shardBytesUsed : shardBytesUsed - writeLoad.allocatedBytes;
+                        }
                     } else {
                         sortKey = shardNativeUsed;
                     }
@@ -36,8 +36,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.StringHelper;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
@@ -55,6 +58,7 @@ import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
 import org.opensearch.common.cache.store.config.CacheConfig;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -86,6 +90,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToLongBiFunction;
 
@@ -125,6 +130,19 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         Property.IndexScope
     );
 
+    /**
+     * A setting to cache size=0 aggregation requests as one partial result per segment rather than one result per shard reader.
+     * Only segments that changed since the last execution get aggregated again, and the fresh and cached partials are reduced on
+     * the shard. Like concurrent segment search, this trades some accuracy of size-bounded aggregations such as {@code terms} for
+     * not having to re-run the aggregations over the whole shard after each refresh.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_REQUEST_PER_SEGMENT_AGGREGATIONS_SETTING = Setting.boolSetting(
+        "index.requests.cache.per_segment_aggregations.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     /**
      * If pluggable caching is off, or pluggable caching is on but a store name isn't specified, this setting determines the cache size.
      * Otherwise, the implementation-specific size setting like indices.requests.cache.opensearch_onheap.size is used instead.
@@ -320,6 +338,41 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             .getReaderCacheHelper();
         String readerCacheKeyId = delegatingCacheHelper.getDelegatingCacheKey().getId();
         assert readerCacheKeyId != null;
+        return getOrCompute(
+            cacheEntity,
+            loader,
+            readerCacheKeyId,
+            cacheKey,
+            cleanupKey -> OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey)
+        );
+    }
+
+    /**
+     * Same as {@link #getOrCompute(IndicesService.IndexShardCacheEntity, CheckedSupplier, DirectoryReader, BytesReference)} but for a
+     * partial result computed over a single segment. The entry is keyed on the segment identity and its live document count instead
+     * of the top-level reader, so it survives refreshes that leave the segment untouched. It is cleaned up once the segment core is
+     * closed, i.e. when the segment got merged away.
+     */
+    BytesReference getOrComputeForLeaf(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        LeafReaderContext leaf,
+        BytesReference cacheKey
+    ) throws Exception {
+        final IndexReader.CacheHelper coreCacheHelper = leaf.reader().getCoreCacheHelper();
+        assert coreCacheHelper != null;
+        final String leafCacheKeyId = leafCacheKeyId(leaf);
+        assert leafCacheKeyId != null;
+        return getOrCompute(cacheEntity, loader, leafCacheKeyId, cacheKey, coreCacheHelper::addClosedListener);
+    }
+
+    private BytesReference getOrCompute(
+        IndicesService.IndexShardCacheEntity cacheEntity,
+        CheckedSupplier<BytesReference, IOException> loader,
+        String readerCacheKeyId,
+        BytesReference cacheKey,
+        Consumer<CleanupKey> closeListenerRegistrar
+    ) throws Exception {
         IndexShard indexShard = ((IndexShard) cacheEntity.getCacheIdentity());
         final Key key = new Key(indexShard.shardId(), cacheKey, readerCacheKeyId, System.identityHashCode(indexShard));
         Loader cacheLoader = new Loader(cacheEntity, loader);
@@ -331,7 +384,7 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
             if (!registeredClosedListeners.containsKey(cleanupKey)) {
                 Boolean previous = registeredClosedListeners.putIfAbsent(cleanupKey, Boolean.TRUE);
                 if (previous == null) {
-                    OpenSearchDirectoryReader.addReaderCloseListener(reader, cleanupKey);
+                    closeListenerRegistrar.accept(cleanupKey);
                 }
             }
             cacheCleanupManager.updateStaleCountOnCacheInsert(cleanupKey);
@@ -341,6 +394,21 @@ public final class IndicesRequestCache implements RemovalListener<ICacheKey<Indi
         return value;
     }
 
+    /**
+     * Returns the identity used to key per-segment entries: the unique id of the segment plus its current number of live documents,
+     * as deletes against a segment do not change its core cache key. Returns {@code null} if no segment can be extracted from the
+     * given leaf, in which case its results cannot be cached per segment.
+     */
+    static String leafCacheKeyId(LeafReaderContext leaf) {
+        final SegmentReader segmentReader;
+        try {
+            segmentReader = Lucene.segmentReader(leaf.reader());
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        return StringHelper.idToString(segmentReader.getSegmentInfo().info.getId()) + "_" + leaf.reader().numDocs();
+    }
+
     /**
      * Invalidates the given the cache entry for the given key and it's context
      * @param cacheEntity the cache entity to invalidate for
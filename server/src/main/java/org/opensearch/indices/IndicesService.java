@@ -37,6 +37,15 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader.CacheHelper;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.util.CollectionUtil;
 import org.apache.lucene.util.RamUsageEstimator;
@@ -71,7 +80,9 @@ import org.opensearch.common.cache.service.CacheService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader.DelegatingCacheHelper;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -89,7 +100,9 @@ import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
@@ -177,8 +190,14 @@ import org.opensearch.plugins.PluginsService;
 import org.opensearch.plugins.SearchStatsContributor;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.BucketCollector;
+import org.opensearch.search.aggregations.BucketCollectorProcessor;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketCollector;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QueryPhase;
@@ -447,6 +466,9 @@ public class IndicesService extends AbstractLifecycleComponent
     private final MapperRegistry mapperRegistry;
     private final NamedWriteableRegistry namedWriteableRegistry;
     private final IndexingMemoryController indexingMemoryController;
+    private final TranslogSyncCoordinator translogSyncCoordinator;
+    private final NodeMergeCoordinator mergeCoordinator;
+    private final RefreshScheduler refreshScheduler;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
@@ -556,8 +578,15 @@ public class IndicesService extends AbstractLifecycleComponent
             settings,
             threadPool,
             // ensure we pull an iter with new shards - flatten makes a copy
-            () -> Iterables.flatten(this).iterator()
+            () -> Iterables.flatten(this).iterator(),
+            // the indexing pressure service is created after this service
+            shardId -> clusterService.getIndexingPressureService() == null
+                ? 0
+                : clusterService.getIndexingPressureService().shardIndexingPressureUtilization(shardId)
         );
+        this.translogSyncCoordinator = new TranslogSyncCoordinator(settings, clusterService.getClusterSettings(), threadPool);
+        this.mergeCoordinator = new NodeMergeCoordinator(settings, clusterService.getClusterSettings());
+        this.refreshScheduler = new RefreshScheduler(settings, clusterService.getClusterSettings(), threadPool);
         this.indexScopedSettings = indexScopedSettings;
         this.circuitBreakerService = circuitBreakerService;
         this.bigArrays = bigArrays;
@@ -1431,6 +1460,9 @@ public class IndicesService extends AbstractLifecycleComponent
             referencedSegmentsPublisher
         );
         indexShard.addShardFailureCallback(onShardFailure);
+        indexShard.setTranslogSyncCoordinator(translogSyncCoordinator);
+        indexShard.setMergeCoordinator(mergeCoordinator);
+        indexShard.setRefreshScheduler(refreshScheduler);
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService, mapping -> {
             assert recoveryState.getRecoverySource().getType() == RecoverySource.Type.LOCAL_SHARDS
                 : "mapping update consumer only required by local shards recovery";
@@ -2112,6 +2144,10 @@ public class IndicesService extends AbstractLifecycleComponent
      */
     public void loadIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) throws Exception {
         assert canCache(request, context);
+        if (canCachePerSegment(context)) {
+            loadPerSegmentIntoContext(request, context);
+            return;
+        }
         final DirectoryReader directoryReader = context.searcher().getDirectoryReader();
 
         boolean[] loadedFromCache = new boolean[] { true };
@@ -2150,10 +2186,130 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Can the shard request be cached as one partial result per segment? This is only the case for requests that solely compute
+     * non-global aggregations and hit counts, as these can be computed per segment and reduced on the shard afterwards.
+     */
+    private boolean canCachePerSegment(SearchContext context) {
+        IndexSettings settings = context.indexShard().indexSettings();
+        if (settings.getValue(IndicesRequestCache.INDEX_CACHE_REQUEST_PER_SEGMENT_AGGREGATIONS_SETTING) == false) {
+            return false;
+        }
+        if (context.size() != 0 || context.aggregations() == null || context.aggregations().factories().hasGlobalAggregator()) {
+            return false;
+        }
+        if (context.suggest() != null || context.sort() != null || context.collapse() != null || context.searchAfter() != null) {
+            return false;
+        }
+        // anything that may stop the collection of a segment early would leave an incomplete partial behind in the cache
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.minimumScore() != null
+            || context.parsedPostFilter() != null
+            || (context.timeout() != null && context.timeout().equals(SearchService.NO_TIMEOUT) == false)) {
+            return false;
+        }
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        if (leaves.isEmpty()) {
+            return false;
+        }
+        for (LeafReaderContext leaf : leaves) {
+            if (leaf.reader().getCoreCacheHelper() == null || IndicesRequestCache.leafCacheKeyId(leaf) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Loads the per-segment partial results from the cache, computing the ones of segments that have not been seen yet, and reduces
+     * them into the {@link SearchContext#queryResult() context's query result}.
+     */
+    private void loadPerSegmentIntoContext(ShardSearchRequest request, SearchContext context) throws Exception {
+        final IndexShardCacheEntity cacheEntity = new IndexShardCacheEntity(context.indexShard());
+        if (context.bucketCollectorProcessor() == SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR) {
+            context.setBucketCollectorProcessor(new BucketCollectorProcessor());
+        }
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<InternalAggregations> partials = new ArrayList<>(leaves.size());
+        long totalHits = 0;
+        for (LeafReaderContext leaf : leaves) {
+            BytesReference bytesReference = indicesRequestCache.getOrComputeForLeaf(cacheEntity, () -> {
+                try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                    collectSegmentPartial(context, leaf, out);
+                    return out.bytes();
+                }
+            }, leaf, request.cacheKey());
+            try (StreamInput in = new NamedWriteableAwareStreamInput(bytesReference.streamInput(), namedWriteableRegistry)) {
+                // skip the policy values that the cache policies read from the front of every value
+                new CachedQueryResult.PolicyValues(in);
+                totalHits += in.readVLong();
+                partials.add(InternalAggregations.readFrom(in));
+            }
+        }
+
+        final QuerySearchResult result = context.queryResult();
+        result.searchTimedOut(false);
+        result.from(context.from());
+        result.size(context.size());
+        final TotalHits hits = context.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED
+            ? new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO)
+            : new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO);
+        result.topDocs(new TopDocsAndMaxScore(new TopDocs(hits, Lucene.EMPTY_SCORE_DOCS), Float.NaN), null);
+        result.aggregations(InternalAggregations.reduce(partials, context.partialOnShard()));
+        // the aggregations have been computed already, make sure they are not computed again
+        context.aggregations(null);
+    }
+
+    /**
+     * Runs the request's aggregations over a single segment and writes the hit count and the resulting partial aggregations, prefixed
+     * with the {@link CachedQueryResult.PolicyValues} like every other value of the request cache.
+     */
+    private static void collectSegmentPartial(SearchContext context, LeafReaderContext leaf, StreamOutput out) throws IOException {
+        final long startTime = System.nanoTime();
+        final ContextIndexSearcher searcher = context.searcher();
+        final BucketCollector aggregationsCollector = MultiBucketCollector.wrap(
+            context.aggregations().factories().createTopLevelNonGlobalAggregators(context)
+        );
+        aggregationsCollector.preCollection();
+        final TotalHitCountCollector hitCountCollector = new TotalHitCountCollector();
+        final Collector collector = MultiCollector.wrap(aggregationsCollector, hitCountCollector);
+        final Query query = collector.scoreMode().needsScores() ? context.query() : new ConstantScoreQuery(context.query());
+        final Weight weight = searcher.createWeight(searcher.rewrite(query), collector.scoreMode(), 1f);
+        searcher.search(leaf, weight, collector);
+        context.aggregations().multiBucketConsumer().reset();
+        final InternalAggregations aggregations = InternalAggregations.from(
+            context.bucketCollectorProcessor().toInternalAggregations(List.of(aggregationsCollector))
+        );
+
+        new CachedQueryResult.PolicyValues(System.nanoTime() - startTime).writeTo(out);
+        out.writeVLong(hitCountCollector.getTotalHits());
+        aggregations.writeTo(out);
+    }
+
+    public NamedWriteableRegistry getNamedWriteableRegistry() {
+        return namedWriteableRegistry;
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
 
+    public IndexingMemoryController getIndexingMemoryController() {
+        return indexingMemoryController;
+    }
+
+    public TranslogSyncCoordinator getTranslogSyncCoordinator() {
+        return translogSyncCoordinator;
+    }
+
+    public NodeMergeCoordinator getMergeCoordinator() {
+        return mergeCoordinator;
+    }
+
+    public RefreshScheduler getRefreshScheduler() {
+        return refreshScheduler;
+    }
+
     /**
      * Cache something calculated at the shard level.
      * @param shard the shard this item is part of
@@ -0,0 +1,322 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RateLimitedIndexOutput;
+import org.apache.lucene.store.RateLimiter;
+import org.apache.lucene.store.RateLimiter.SimpleRateLimiter;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Shares merge resources between all shards of a node.
+ * <p>
+ * Every shard's merge scheduler throttles its own merges, which does not prevent many shards from merging at the same time and
+ * saturating the disks together. This coordinator adds two node wide limits on top of the shard schedulers:
+ * <ul>
+ *   <li>{@link #MAX_CONCURRENT_MERGES_SETTING} caps the number of merges running on the node. Merges beyond the cap wait on their
+ *   merge thread, and waiting merges are admitted by rank: small merges of shards that serve many searches go first, since they
+ *   reduce the segment count of the most searched shards for the least I/O.</li>
+ *   <li>{@link #MAX_BYTES_PER_SEC_SETTING} is an I/O budget shared by the writes of all merges of the node.</li>
+ * </ul>
+ * Both default to {@code 0}, which disables the limit and keeps each shard's scheduler in charge.
+ *
+ * @opensearch.internal
+ */
+public class NodeMergeCoordinator {
+
+    public static final Setting<Integer> MAX_CONCURRENT_MERGES_SETTING = Setting.intSetting(
+        "indices.merge.coordinator.max_concurrent_merges",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> MAX_BYTES_PER_SEC_SETTING = Setting.byteSizeSetting(
+        "indices.merge.coordinator.max_bytes_per_sec",
+        new ByteSizeValue(0),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // how often a waiting merge checks whether it was aborted, e.g. because its shard is closing
+    private static final long ABORT_CHECK_INTERVAL_MILLIS = 100;
+    // how often the search rate of a shard is sampled
+    private static final long SEARCH_RATE_SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Comparator<PendingMerge> RANK = Comparator.comparingDouble((PendingMerge merge) -> merge.priority)
+        .reversed()
+        .thenComparingLong(merge -> merge.sequence);
+
+    private final PriorityQueue<PendingMerge> queue = new PriorityQueue<>(RANK);
+    private final MergeBudget budget = new MergeBudget();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder queueTimeNanos = new LongAdder();
+    private final LongAdder throttledTimeNanos = new LongAdder();
+    private long sequence;
+    private int running;
+    private long queuedBytes;
+    private volatile int maxConcurrentMerges;
+    private volatile ByteSizeValue maxBytesPerSec;
+
+    public NodeMergeCoordinator(Settings settings, ClusterSettings clusterSettings) {
+        setMaxConcurrentMerges(MAX_CONCURRENT_MERGES_SETTING.get(settings));
+        setMaxBytesPerSec(MAX_BYTES_PER_SEC_SETTING.get(settings));
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_MERGES_SETTING, this::setMaxConcurrentMerges);
+        clusterSettings.addSettingsUpdateConsumer(MAX_BYTES_PER_SEC_SETTING, this::setMaxBytesPerSec);
+    }
+
+    private synchronized void setMaxConcurrentMerges(int maxConcurrentMerges) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        // a higher cap may let waiting merges run
+        notifyAll();
+    }
+
+    private void setMaxBytesPerSec(ByteSizeValue maxBytesPerSec) {
+        this.maxBytesPerSec = maxBytesPerSec;
+        // outputs opened before the change keep the shared limiter, so lifting the budget has to lift it for them too
+        budget.setMBPerSec(maxBytesPerSec.getBytes() > 0 ? maxBytesPerSec.getMbFrac() : Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Returns the handle the merge scheduler of the given shard uses to coordinate its merges. {@code searchCount} returns the total
+     * number of search queries the shard executed so far, it is used to rank the merges of the shard.
+     */
+    public ShardHandle forShard(ShardId shardId, LongSupplier searchCount) {
+        return new ShardHandle(shardId, searchCount);
+    }
+
+    /**
+     * Waits until the node has capacity for another merge of the given size. The returned releasable must be closed once the merge
+     * is done. Merges that get aborted while waiting return immediately with a no-op releasable.
+     */
+    Releasable admit(ShardHandle shard, long sizeInBytes, BooleanSupplier aborted) {
+        final long startNanos = System.nanoTime();
+        final double priority = priority(shard.searchRate(startNanos), sizeInBytes);
+        synchronized (this) {
+            if (queue.isEmpty() && hasCapacity()) {
+                return onAdmitted();
+            }
+            final PendingMerge pending = new PendingMerge(sizeInBytes, priority, sequence++);
+            queue.add(pending);
+            queuedBytes += sizeInBytes;
+            queued.increment();
+            try {
+                while (queue.peek() != pending || hasCapacity() == false) {
+                    if (aborted.getAsBoolean()) {
+                        return () -> {};
+                    }
+                    wait(ABORT_CHECK_INTERVAL_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            } finally {
+                // removes the merge when it is admitted as well as when it gives up waiting
+                if (queue.remove(pending)) {
+                    queuedBytes -= sizeInBytes;
+                    notifyAll();
+                }
+                queueTimeNanos.add(System.nanoTime() - startNanos);
+            }
+            return onAdmitted();
+        }
+    }
+
+    private boolean hasCapacity() {
+        assert Thread.holdsLock(this);
+        final int max = maxConcurrentMerges;
+        return max == 0 || running < max;
+    }
+
+    private Releasable onAdmitted() {
+        assert Thread.holdsLock(this);
+        running++;
+        admitted.increment();
+        final AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                onReleased();
+            }
+        };
+    }
+
+    private synchronized void onReleased() {
+        assert running > 0;
+        running--;
+        notifyAll();
+    }
+
+    /**
+     * Ranks a merge: the more searches its shard serves and the smaller it is, the sooner it runs.
+     */
+    static double priority(double searchRate, long sizeInBytes) {
+        return (1 + searchRate) / (1 + (double) sizeInBytes / ByteSizeUnit.MB.toBytes(1));
+    }
+
+    /**
+     * Wraps the directory a merge writes to so that its writes count against the node budget.
+     */
+    Directory wrapForMerge(Directory in) {
+        if (maxBytesPerSec.getBytes() <= 0) {
+            return in;
+        }
+        return new FilterDirectory(in) {
+            @Override
+            public IndexOutput createOutput(String name, IOContext context) throws IOException {
+                return new RateLimitedIndexOutput(budget, in.createOutput(name, context));
+            }
+
+            @Override
+            public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+                return new RateLimitedIndexOutput(budget, in.createTempOutput(prefix, suffix, context));
+            }
+        };
+    }
+
+    public synchronized NodeMergeCoordinatorStats stats() {
+        return new NodeMergeCoordinatorStats(
+            maxConcurrentMerges,
+            maxBytesPerSec.getBytes(),
+            running,
+            queue.size(),
+            queuedBytes,
+            admitted.sum(),
+            queued.sum(),
+            TimeValue.nsecToMSec(queueTimeNanos.sum()),
+            TimeValue.nsecToMSec(throttledTimeNanos.sum())
+        );
+    }
+
+    /**
+     * A merge waiting for capacity
+     *
+     * @opensearch.internal
+     */
+    private static final class PendingMerge {
+        private final long sizeInBytes;
+        private final double priority;
+        private final long sequence;
+
+        private PendingMerge(long sizeInBytes, double priority, long sequence) {
+            this.sizeInBytes = sizeInBytes;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * The rate limiter shared by all merge outputs of the node, which records the time merges spend paused.
+     *
+     * @opensearch.internal
+     */
+    private final class MergeBudget extends RateLimiter {
+        // like the recovery rate limiters, the limiter is shared between threads without synchronization, which keeps pauses
+        // approximate under contention but never blocks a merge on another one
+        private final SimpleRateLimiter delegate = new SimpleRateLimiter(Double.POSITIVE_INFINITY);
+
+        @Override
+        public void setMBPerSec(double mbPerSec) {
+            delegate.setMBPerSec(mbPerSec);
+        }
+
+        @Override
+        public double getMBPerSec() {
+            return delegate.getMBPerSec();
+        }
+
+        @Override
+        public long pause(long bytes) throws IOException {
+            final long pausedNanos = delegate.pause(bytes);
+            throttledTimeNanos.add(pausedNanos);
+            return pausedNanos;
+        }
+
+        @Override
+        public long getMinPauseCheckBytes() {
+            return delegate.getMinPauseCheckBytes();
+        }
+    }
+
+    /**
+     * The coordinator as seen by the merge scheduler of a shard
+     *
+     * @opensearch.internal
+     */
+    public final class ShardHandle {
+        private final ShardId shardId;
+        private final LongSupplier searchCount;
+        private long lastSearchCount;
+        private long lastSampleNanos;
+        private double searchRate;
+
+        private ShardHandle(ShardId shardId, LongSupplier searchCount) {
+            this.shardId = shardId;
+            this.searchCount = searchCount;
+        }
+
+        public ShardId shardId() {
+            return shardId;
+        }
+
+        /**
+         * Waits until the node has capacity for the given merge, see {@link NodeMergeCoordinator#admit}.
+         */
+        public Releasable admit(MergePolicy.OneMerge merge) {
+            return NodeMergeCoordinator.this.admit(this, merge.totalBytesSize(), merge::isAborted);
+        }
+
+        /**
+         * Wraps the directory the merge writes to so that its writes count against the node budget.
+         */
+        public Directory wrapForMerge(Directory in) {
+            return NodeMergeCoordinator.this.wrapForMerge(in);
+        }
+
+        /**
+         * The number of searches per second the shard served over the last sampling interval.
+         */
+        synchronized double searchRate(long nowNanos) {
+            if (lastSampleNanos == 0) {
+                lastSearchCount = searchCount.getAsLong();
+                lastSampleNanos = nowNanos;
+            } else if (nowNanos - lastSampleNanos >= SEARCH_RATE_SAMPLE_INTERVAL_NANOS) {
+                final long count = searchCount.getAsLong();
+                searchRate = (count - lastSearchCount) * (double) TimeUnit.SECONDS.toNanos(1) / (nowNanos - lastSampleNanos);
+                lastSearchCount = count;
+                lastSampleNanos = nowNanos;
+            }
+            return searchRate;
+        }
+    }
+}
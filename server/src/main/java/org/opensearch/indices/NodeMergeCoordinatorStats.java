@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Node level stats of the {@link NodeMergeCoordinator}
+ *
+ * @opensearch.internal
+ */
+public class NodeMergeCoordinatorStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "merge_coordinator";
+
+    private final int maxConcurrentMerges;
+    private final long maxBytesPerSec;
+    private final int current;
+    private final int queued;
+    private final long queuedSizeInBytes;
+    private final long totalAdmitted;
+    private final long totalQueued;
+    private final long totalQueueTimeInMillis;
+    private final long totalThrottledTimeInMillis;
+
+    public NodeMergeCoordinatorStats(
+        int maxConcurrentMerges,
+        long maxBytesPerSec,
+        int current,
+        int queued,
+        long queuedSizeInBytes,
+        long totalAdmitted,
+        long totalQueued,
+        long totalQueueTimeInMillis,
+        long totalThrottledTimeInMillis
+    ) {
+        this.maxConcurrentMerges = maxConcurrentMerges;
+        this.maxBytesPerSec = maxBytesPerSec;
+        this.current = current;
+        this.queued = queued;
+        this.queuedSizeInBytes = queuedSizeInBytes;
+        this.totalAdmitted = totalAdmitted;
+        this.totalQueued = totalQueued;
+        this.totalQueueTimeInMillis = totalQueueTimeInMillis;
+        this.totalThrottledTimeInMillis = totalThrottledTimeInMillis;
+    }
+
+    public NodeMergeCoordinatorStats(StreamInput in) throws IOException {
+        this.maxConcurrentMerges = in.readVInt();
+        this.maxBytesPerSec = in.readVLong();
+        this.current = in.readVInt();
+        this.queued = in.readVInt();
+        this.queuedSizeInBytes = in.readVLong();
+        this.totalAdmitted = in.readVLong();
+        this.totalQueued = in.readVLong();
+        this.totalQueueTimeInMillis = in.readVLong();
+        this.totalThrottledTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(maxConcurrentMerges);
+        out.writeVLong(maxBytesPerSec);
+        out.writeVInt(current);
+        out.writeVInt(queued);
+        out.writeVLong(queuedSizeInBytes);
+        out.writeVLong(totalAdmitted);
+        out.writeVLong(totalQueued);
+        out.writeVLong(totalQueueTimeInMillis);
+        out.writeVLong(totalThrottledTimeInMillis);
+    }
+
+    /**
+     * The cap on concurrent merges of the node, {@code 0} if merges are not capped.
+     */
+    public int getMaxConcurrentMerges() {
+        return maxConcurrentMerges;
+    }
+
+    /**
+     * The I/O budget shared by all merges of the node, {@code 0} if merges are not throttled by the node.
+     */
+    public long getMaxBytesPerSec() {
+        return maxBytesPerSec;
+    }
+
+    /**
+     * Number of merges running.
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Number of merges waiting for capacity.
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    public long getQueuedSizeInBytes() {
+        return queuedSizeInBytes;
+    }
+
+    public long getTotalAdmitted() {
+        return totalAdmitted;
+    }
+
+    /**
+     * Number of merges that had to wait for capacity before running.
+     */
+    public long getTotalQueued() {
+        return totalQueued;
+    }
+
+    public long getTotalQueueTimeInMillis() {
+        return totalQueueTimeInMillis;
+    }
+
+    /**
+     * Time merges spent paused to stay within the node I/O budget, summed over all merges.
+     */
+    public long getTotalThrottledTimeInMillis() {
+        return totalThrottledTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        builder.field("max_concurrent_merges", maxConcurrentMerges);
+        builder.humanReadableField("max_bytes_per_sec_in_bytes", "max_bytes_per_sec", new ByteSizeValue(maxBytesPerSec));
+        builder.field("current", current);
+        builder.field("queued", queued);
+        builder.humanReadableField("queued_size_in_bytes", "queued_size", new ByteSizeValue(queuedSizeInBytes));
+        builder.field("total_admitted", totalAdmitted);
+        builder.field("total_queued", totalQueued);
+        builder.humanReadableField("total_queue_time_in_millis", "total_queue_time", new TimeValue(totalQueueTimeInMillis));
+        builder.humanReadableField("total_throttled_time_in_millis", "total_throttled_time", new TimeValue(totalThrottledTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NodeMergeCoordinatorStats that = (NodeMergeCoordinatorStats) o;
+        return maxConcurrentMerges == that.maxConcurrentMerges
+            && maxBytesPerSec == that.maxBytesPerSec
+            && current == that.current
+            && queued == that.queued
+            && queuedSizeInBytes == that.queuedSizeInBytes
+            && totalAdmitted == that.totalAdmitted
+            && totalQueued == that.totalQueued
+            && totalQueueTimeInMillis == that.totalQueueTimeInMillis
+            && totalThrottledTimeInMillis == that.totalThrottledTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            maxConcurrentMerges,
+            maxBytesPerSec,
+            current,
+            queued,
+            queuedSizeInBytes,
+            totalAdmitted,
+            totalQueued,
+            totalQueueTimeInMillis,
+            totalThrottledTimeInMillis
+        );
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the periodic refreshes of all shards of a node under a shared budget.
+ * <p>
+ * Each index refreshes its shards on its own {@code index.refresh_interval} timer. With many shards on a node these timers fire
+ * close to each other and the refreshes compete with indexing for CPU and I/O. When {@link #ENABLED_SETTING enabled}, timer
+ * driven refreshes are handed to this scheduler instead of running right away:
+ * <ul>
+ *   <li>at most {@link #MAX_CONCURRENT_REFRESHES_SETTING} refreshes run at a time, the others wait in a queue, which spreads
+ *   bursts of refreshes over time;</li>
+ *   <li>waiting refreshes run by rank: shards with {@code wait_for} refresh listeners first, then shards that were recently
+ *   searched, then shards that are only written to;</li>
+ *   <li>refreshes of shards that are only written to are skipped until {@link #WRITE_ONLY_MAX_INTERVAL_SETTING} has passed since
+ *   their last scheduled refresh, and then run even though the shard is not searched. The next search or refresh listener makes
+ *   the shard refresh again on its next tick. Shards that would not skip refreshes while search idle, like segment replication
+ *   primaries with replicas, remote store backed shards or indices with an explicit refresh interval, are never skipped.</li>
+ * </ul>
+ * Forced refreshes, e.g. after a change of the refresh interval, and indices that set
+ * {@code index.refresh.scheduler.enabled} to {@code false} bypass the scheduler.
+ *
+ * @opensearch.internal
+ */
+public class RefreshScheduler {
+
+    private static final Logger logger = LogManager.getLogger(RefreshScheduler.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING = Setting.boolSetting(
+        "indices.refresh.scheduler.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<Integer> MAX_CONCURRENT_REFRESHES_SETTING = new Setting<>(
+        "indices.refresh.scheduler.max_concurrent_refreshes",
+        s -> Integer.toString(Math.max(1, OpenSearchExecutors.allocatedProcessors(s) / 4)),
+        s -> Setting.parseInt(s, 1, "indices.refresh.scheduler.max_concurrent_refreshes"),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> WRITE_ONLY_MAX_INTERVAL_SETTING = Setting.timeSetting(
+        "indices.refresh.scheduler.write_only_max_interval",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The shard side of a scheduled refresh.
+     *
+     * @opensearch.internal
+     */
+    public interface RefreshTarget {
+
+        /**
+         * Whether requests wait for the next refresh of the shard.
+         */
+        boolean hasPendingRefreshListeners();
+
+        /**
+         * Whether the shard was not searched recently.
+         */
+        boolean isSearchIdle();
+
+        /**
+         * Whether the shard may skip refreshes while it is not searched. Shards that must keep refreshing, e.g. to publish
+         * segments to their replicas or to the remote store, are never deferred.
+         */
+        boolean canDefer();
+
+        /**
+         * Runs the refresh the timer of the shard asked for.
+         */
+        void refresh();
+
+        /**
+         * Runs the refresh of a shard that is only written to once {@link #WRITE_ONLY_MAX_INTERVAL_SETTING} has passed, even
+         * though the shard is not searched.
+         */
+        void forceRefresh();
+
+        /**
+         * Skips the refresh the timer of the shard asked for, making the next search wait for a refresh.
+         */
+        void defer();
+    }
+
+    // ranks of waiting refreshes, lower runs first
+    static final int RANK_LISTENERS = 0;
+    static final int RANK_SEARCHED = 1;
+    static final int RANK_WRITE_ONLY = 2;
+
+    private static final Comparator<ShardHandle> ORDER = Comparator.comparingInt((ShardHandle shard) -> shard.rank)
+        .thenComparingLong(shard -> shard.sequence);
+
+    private final ThreadPool threadPool;
+    private final PriorityQueue<ShardHandle> queue = new PriorityQueue<>(ORDER);
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder queueTimeMillis = new LongAdder();
+    private long sequence;
+    private int running;
+    private volatile boolean enabled;
+    private volatile int maxConcurrentRefreshes;
+    private volatile TimeValue writeOnlyMaxInterval;
+
+    public RefreshScheduler(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.maxConcurrentRefreshes = MAX_CONCURRENT_REFRESHES_SETTING.get(settings);
+        this.writeOnlyMaxInterval = WRITE_ONLY_MAX_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_REFRESHES_SETTING, this::setMaxConcurrentRefreshes);
+        clusterSettings.addSettingsUpdateConsumer(WRITE_ONLY_MAX_INTERVAL_SETTING, this::setWriteOnlyMaxInterval);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        // refreshes that are already queued still run, under the current budget
+    }
+
+    private void setMaxConcurrentRefreshes(int maxConcurrentRefreshes) {
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        maybeRunNext();
+    }
+
+    private void setWriteOnlyMaxInterval(TimeValue writeOnlyMaxInterval) {
+        this.writeOnlyMaxInterval = writeOnlyMaxInterval;
+    }
+
+    /**
+     * Whether timer driven refreshes should be handed to this scheduler.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the handle the given shard submits its timer driven refreshes through.
+     */
+    public ShardHandle forShard(ShardId shardId, RefreshTarget target) {
+        return new ShardHandle(shardId, target, threadPool.relativeTimeInMillis());
+    }
+
+    private void submit(ShardHandle shard) {
+        final long now = threadPool.relativeTimeInMillis();
+        final int rank;
+        if (shard.target.hasPendingRefreshListeners()) {
+            rank = RANK_LISTENERS;
+        } else if (shard.target.isSearchIdle() == false) {
+            rank = RANK_SEARCHED;
+        } else if (shard.target.canDefer() && now - shard.lastRefreshMillis < writeOnlyMaxInterval.millis()) {
+            deferred.increment();
+            shard.target.defer();
+            return;
+        } else {
+            rank = RANK_WRITE_ONLY;
+        }
+        synchronized (this) {
+            if (shard.queued) {
+                // the refresh that is already waiting covers this one as well, it only has to move up if it became more urgent
+                if (rank < shard.rank) {
+                    queue.remove(shard);
+                    shard.rank = rank;
+                    queue.add(shard);
+                }
+                return;
+            }
+            shard.queued = true;
+            shard.rank = rank;
+            shard.sequence = sequence++;
+            shard.queuedAtMillis = now;
+            queue.add(shard);
+            scheduled.increment();
+        }
+        maybeRunNext();
+    }
+
+    private void maybeRunNext() {
+        while (true) {
+            final ShardHandle next;
+            final boolean writeOnly;
+            synchronized (this) {
+                if (running >= maxConcurrentRefreshes || queue.isEmpty()) {
+                    return;
+                }
+                next = queue.poll();
+                next.queued = false;
+                writeOnly = next.rank == RANK_WRITE_ONLY;
+                running++;
+            }
+            final long now = threadPool.relativeTimeInMillis();
+            queueTimeMillis.add(now - next.queuedAtMillis);
+            next.lastRefreshMillis = now;
+            threadPool.executor(ThreadPool.Names.REFRESH).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    try {
+                        if (writeOnly) {
+                            // a regular scheduled refresh would skip the shard again since it is not searched
+                            next.target.forceRefresh();
+                        } else {
+                            next.target.refresh();
+                        }
+                        refreshes.increment();
+                    } catch (IndexShardClosedException | AlreadyClosedException e) {
+                        // fine - the shard closed while its refresh was waiting
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    logger.warn(new ParameterizedMessage("{} failed to run scheduled refresh", next.shardId), e);
+                }
+
+                @Override
+                public void onAfter() {
+                    synchronized (RefreshScheduler.this) {
+                        running--;
+                    }
+                    maybeRunNext();
+                }
+
+                @Override
+                public boolean isForceExecution() {
+                    // the refresh was already admitted by the scheduler, rejecting it would leak its slot
+                    return true;
+                }
+            });
+        }
+    }
+
+    public synchronized RefreshSchedulerStats stats() {
+        return new RefreshSchedulerStats(
+            enabled,
+            maxConcurrentRefreshes,
+            running,
+            queue.size(),
+            scheduled.sum(),
+            refreshes.sum(),
+            deferred.sum(),
+            queueTimeMillis.sum()
+        );
+    }
+
+    /**
+     * The scheduler as seen by a shard
+     *
+     * @opensearch.internal
+     */
+    public final class ShardHandle {
+        private final ShardId shardId;
+        private final RefreshTarget target;
+        // guarded by the scheduler
+        private boolean queued;
+        private int rank;
+        private long sequence;
+        private long queuedAtMillis;
+        private volatile long lastRefreshMillis;
+
+        private ShardHandle(ShardId shardId, RefreshTarget target, long nowMillis) {
+            this.shardId = shardId;
+            this.target = target;
+            this.lastRefreshMillis = nowMillis;
+        }
+
+        public ShardId shardId() {
+            return shardId;
+        }
+
+        /**
+         * Whether timer driven refreshes of the shard go through the scheduler.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Hands a timer driven refresh of the shard to the scheduler. The refresh runs on the
+         * {@link ThreadPool.Names#REFRESH refresh} pool once the node has capacity for it, or is skipped if the shard is only
+         * written to and was refreshed recently enough.
+         */
+        public void submit() {
+            RefreshScheduler.this.submit(this);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Node level stats of the {@link RefreshScheduler}
+ *
+ * @opensearch.internal
+ */
+public class RefreshSchedulerStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "refresh_scheduler";
+
+    private final boolean enabled;
+    private final int maxConcurrentRefreshes;
+    private final int current;
+    private final int queued;
+    private final long totalScheduled;
+    private final long totalRefreshes;
+    private final long totalDeferred;
+    private final long totalQueueTimeInMillis;
+
+    public RefreshSchedulerStats(
+        boolean enabled,
+        int maxConcurrentRefreshes,
+        int current,
+        int queued,
+        long totalScheduled,
+        long totalRefreshes,
+        long totalDeferred,
+        long totalQueueTimeInMillis
+    ) {
+        this.enabled = enabled;
+        this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+        this.current = current;
+        this.queued = queued;
+        this.totalScheduled = totalScheduled;
+        this.totalRefreshes = totalRefreshes;
+        this.totalDeferred = totalDeferred;
+        this.totalQueueTimeInMillis = totalQueueTimeInMillis;
+    }
+
+    public RefreshSchedulerStats(StreamInput in) throws IOException {
+        this.enabled = in.readBoolean();
+        this.maxConcurrentRefreshes = in.readVInt();
+        this.current = in.readVInt();
+        this.queued = in.readVInt();
+        this.totalScheduled = in.readVLong();
+        this.totalRefreshes = in.readVLong();
+        this.totalDeferred = in.readVLong();
+        this.totalQueueTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(enabled);
+        out.writeVInt(maxConcurrentRefreshes);
+        out.writeVInt(current);
+        out.writeVInt(queued);
+        out.writeVLong(totalScheduled);
+        out.writeVLong(totalRefreshes);
+        out.writeVLong(totalDeferred);
+        out.writeVLong(totalQueueTimeInMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxConcurrentRefreshes() {
+        return maxConcurrentRefreshes;
+    }
+
+    /**
+     * Number of scheduled refreshes running.
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Number of scheduled refreshes waiting for capacity.
+     */
+    public int getQueued() {
+        return queued;
+    }
+
+    /**
+     * Number of refreshes handed to the scheduler that were queued to run.
+     */
+    public long getTotalScheduled() {
+        return totalScheduled;
+    }
+
+    /**
+     * Number of queued refreshes that completed.
+     */
+    public long getTotalRefreshes() {
+        return totalRefreshes;
+    }
+
+    /**
+     * Number of refreshes of shards that are only written to that were skipped.
+     */
+    public long getTotalDeferred() {
+        return totalDeferred;
+    }
+
+    public long getTotalQueueTimeInMillis() {
+        return totalQueueTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        builder.field("enabled", enabled);
+        builder.field("max_concurrent_refreshes", maxConcurrentRefreshes);
+        builder.field("current", current);
+        builder.field("queued", queued);
+        builder.field("total_scheduled", totalScheduled);
+        builder.field("total_refreshes", totalRefreshes);
+        builder.field("total_deferred", totalDeferred);
+        builder.humanReadableField("total_queue_time_in_millis", "total_queue_time", new TimeValue(totalQueueTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RefreshSchedulerStats that = (RefreshSchedulerStats) o;
+        return enabled == that.enabled
+            && maxConcurrentRefreshes == that.maxConcurrentRefreshes
+            && current == that.current
+            && queued == that.queued
+            && totalScheduled == that.totalScheduled
+            && totalRefreshes == that.totalRefreshes
+            && totalDeferred == that.totalDeferred
+            && totalQueueTimeInMillis == that.totalQueueTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+            enabled,
+            maxConcurrentRefreshes,
+            current,
+            queued,
+            totalScheduled,
+            totalRefreshes,
+            totalDeferred,
+            totalQueueTimeInMillis
+        );
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Groups the translog syncs that shards request under {@code index.translog.durability: request} per data path.
+ * <p>
+ * Instead of every write request forcing its shard's translog to disk on the calling thread, pending syncs are queued per
+ * data path and drained once per {@link #WINDOW_SETTING window} on the {@link ThreadPool.Names#TRANSLOG_SYNC} pool. Each
+ * drain issues at most one fsync per shard covering the highest pending location of that shard, runs the fsyncs for a data
+ * path one after the other, and then notifies all listeners of the batch. A request therefore waits at most one window plus
+ * the time it takes to sync its batch, and a busy device sees one fsync per shard per window rather than one per request.
+ * <p>
+ * A window of {@code 0} (the default) disables the coordinator and shards keep syncing their own translog.
+ *
+ * @opensearch.internal
+ */
+public class TranslogSyncCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(TranslogSyncCoordinator.class);
+
+    public static final Setting<TimeValue> WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.sync_coordinator.window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The shard side of a grouped sync: makes sure all the given locations are durable.
+     *
+     * @opensearch.internal
+     */
+    @FunctionalInterface
+    public interface SyncTarget {
+        void ensureSynced(Stream<Translog.Location> locations) throws IOException;
+    }
+
+    private final ThreadPool threadPool;
+    private final Map<Path, DataPathQueue> queues = new ConcurrentHashMap<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder fsyncs = new LongAdder();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+    private final LongAdder waitTimeNanos = new LongAdder();
+    private final LongAdder syncTimeNanos = new LongAdder();
+    private volatile TimeValue window;
+
+    public TranslogSyncCoordinator(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.window = WINDOW_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(WINDOW_SETTING, this::setWindow);
+    }
+
+    private void setWindow(TimeValue window) {
+        this.window = window;
+    }
+
+    /**
+     * Whether syncs should be routed through this coordinator.
+     */
+    public boolean isEnabled() {
+        return window.nanos() > 0;
+    }
+
+    /**
+     * Queues a sync of {@code location} on the data path of the shard behind {@code target}. The listener is called with
+     * {@code null} once the location is durable or with the exception that prevented it. {@code target} must be the same
+     * instance for every call made on behalf of a shard so that its pending locations are synced together.
+     */
+    public void sync(Path dataPath, SyncTarget target, Translog.Location location, Consumer<Exception> listener) {
+        Objects.requireNonNull(target, "target must not be null");
+        Objects.requireNonNull(location, "location must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        final DataPathQueue queue = queues.computeIfAbsent(dataPath, DataPathQueue::new);
+        queue.pending.add(new PendingSync(target, location, preserveContext(listener), System.nanoTime()));
+        queue.maybeSchedule();
+    }
+
+    public TranslogSyncCoordinatorStats stats() {
+        return new TranslogSyncCoordinatorStats(
+            batches.sum(),
+            requests.sum(),
+            fsyncs.sum(),
+            maxBatchSize.get(),
+            TimeValue.nsecToMSec(waitTimeNanos.sum()),
+            TimeValue.nsecToMSec(syncTimeNanos.sum())
+        );
+    }
+
+    private Consumer<Exception> preserveContext(Consumer<Exception> listener) {
+        final Supplier<ThreadContext.StoredContext> restorableContext = threadPool.getThreadContext().newRestorableContext(false);
+        return e -> {
+            try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                listener.accept(e);
+            }
+        };
+    }
+
+    private void onBatch(int size, int shards, long waitNanos, long syncNanos) {
+        batches.increment();
+        requests.add(size);
+        fsyncs.add(shards);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+        waitTimeNanos.add(waitNanos);
+        syncTimeNanos.add(syncNanos);
+    }
+
+    private static void notifyListeners(List<PendingSync> syncs, Exception exception) {
+        for (PendingSync sync : syncs) {
+            try {
+                sync.listener.accept(exception);
+            } catch (Exception ex) {
+                logger.warn("failed to notify callback", ex);
+            }
+        }
+    }
+
+    /**
+     * A sync request waiting for the next batch of its data path.
+     */
+    private static final class PendingSync {
+        final SyncTarget target;
+        final Translog.Location location;
+        final Consumer<Exception> listener;
+        final long enqueuedNanos;
+
+        PendingSync(SyncTarget target, Translog.Location location, Consumer<Exception> listener, long enqueuedNanos) {
+            this.target = target;
+            this.location = location;
+            this.listener = listener;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * Pending syncs of all shards on one data path. At most one drain is scheduled or running at a time, which keeps the
+     * fsyncs of a device sequential.
+     */
+    private final class DataPathQueue {
+        private final Path dataPath;
+        private final Queue<PendingSync> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        DataPathQueue(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        void maybeSchedule() {
+            if (pending.isEmpty() == false && scheduled.compareAndSet(false, true)) {
+                try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
+                    threadPool.schedule(new AbstractRunnable() {
+                        @Override
+                        protected void doRun() {
+                            drain();
+                        }
+
+                        @Override
+                        public void onRejection(Exception e) {
+                            // the drain never ran, so nothing else is going to complete the pending syncs
+                            failPending(e);
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            assert false : e;
+                            logger.error(new ParameterizedMessage("unexpected failure while syncing translogs on [{}]", dataPath), e);
+                        }
+                    }, window, ThreadPool.Names.TRANSLOG_SYNC);
+                } catch (Exception e) {
+                    failPending(e);
+                }
+            }
+        }
+
+        /**
+         * Fails all pending syncs after their drain could not be scheduled or was rejected by the executor.
+         */
+        private void failPending(Exception e) {
+            logger.error(new ParameterizedMessage("failed to schedule translog sync for [{}]", dataPath), e);
+            final List<PendingSync> failed = new ArrayList<>();
+            drainTo(failed);
+            scheduled.set(false);
+            notifyListeners(failed, e);
+            // pick up anything that was queued while we were failing the drained syncs
+            maybeSchedule();
+        }
+
+        private void drain() {
+            final List<PendingSync> batch = new ArrayList<>();
+            try {
+                drainTo(batch);
+                if (batch.isEmpty() == false) {
+                    process(batch);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            maybeSchedule();
+        }
+
+        private void drainTo(List<PendingSync> batch) {
+            PendingSync sync;
+            while ((sync = pending.poll()) != null) {
+                batch.add(sync);
+            }
+        }
+
+        private void process(List<PendingSync> batch) {
+            final long startNanos = System.nanoTime();
+            long waitNanos = 0;
+            final Map<SyncTarget, List<PendingSync>> byTarget = new IdentityHashMap<>();
+            for (PendingSync sync : batch) {
+                waitNanos += startNanos - sync.enqueuedNanos;
+                byTarget.computeIfAbsent(sync.target, k -> new ArrayList<>()).add(sync);
+            }
+            final Map<SyncTarget, Exception> failures = new IdentityHashMap<>();
+            for (Map.Entry<SyncTarget, List<PendingSync>> entry : byTarget.entrySet()) {
+                try {
+                    entry.getKey().ensureSynced(entry.getValue().stream().map(sync -> sync.location));
+                } catch (Exception e) {
+                    logger.debug(new ParameterizedMessage("failed to sync translog on [{}]", dataPath), e);
+                    failures.put(entry.getKey(), e);
+                }
+            }
+            onBatch(batch.size(), byTarget.size(), waitNanos, System.nanoTime() - startNanos);
+            for (Map.Entry<SyncTarget, List<PendingSync>> entry : byTarget.entrySet()) {
+                notifyListeners(entry.getValue(), failures.get(entry.getKey()));
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Node level stats of the {@link TranslogSyncCoordinator}
+ *
+ * @opensearch.internal
+ */
+public class TranslogSyncCoordinatorStats implements Writeable, ToXContentFragment {
+
+    public static final String STATS_NAME = "translog_sync_coordinator";
+
+    private final long batchCount;
+    private final long requestCount;
+    private final long fsyncCount;
+    private final long maxBatchSize;
+    private final long totalWaitTimeInMillis;
+    private final long totalSyncTimeInMillis;
+
+    public TranslogSyncCoordinatorStats(
+        long batchCount,
+        long requestCount,
+        long fsyncCount,
+        long maxBatchSize,
+        long totalWaitTimeInMillis,
+        long totalSyncTimeInMillis
+    ) {
+        this.batchCount = batchCount;
+        this.requestCount = requestCount;
+        this.fsyncCount = fsyncCount;
+        this.maxBatchSize = maxBatchSize;
+        this.totalWaitTimeInMillis = totalWaitTimeInMillis;
+        this.totalSyncTimeInMillis = totalSyncTimeInMillis;
+    }
+
+    public TranslogSyncCoordinatorStats(StreamInput in) throws IOException {
+        this.batchCount = in.readVLong();
+        this.requestCount = in.readVLong();
+        this.fsyncCount = in.readVLong();
+        this.maxBatchSize = in.readVLong();
+        this.totalWaitTimeInMillis = in.readVLong();
+        this.totalSyncTimeInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batchCount);
+        out.writeVLong(requestCount);
+        out.writeVLong(fsyncCount);
+        out.writeVLong(maxBatchSize);
+        out.writeVLong(totalWaitTimeInMillis);
+        out.writeVLong(totalSyncTimeInMillis);
+    }
+
+    /**
+     * Number of drained batches, summed over all data paths.
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Number of sync requests completed through a batch.
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Number of translog fsyncs issued, at most one per shard and batch.
+     */
+    public long getFsyncCount() {
+        return fsyncCount;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Time requests spent queued before their batch started, summed over all requests.
+     */
+    public long getTotalWaitTimeInMillis() {
+        return totalWaitTimeInMillis;
+    }
+
+    /**
+     * Time spent syncing batches, summed over all batches.
+     */
+    public long getTotalSyncTimeInMillis() {
+        return totalSyncTimeInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(STATS_NAME);
+        builder.field("batch_count", batchCount);
+        builder.field("request_count", requestCount);
+        builder.field("fsync_count", fsyncCount);
+        builder.field("max_batch_size", maxBatchSize);
+        builder.field("avg_batch_size", batchCount == 0 ? 0 : (double) requestCount / batchCount);
+        builder.humanReadableField("total_wait_time_in_millis", "total_wait_time", new TimeValue(totalWaitTimeInMillis));
+        builder.humanReadableField("total_sync_time_in_millis", "total_sync_time", new TimeValue(totalSyncTimeInMillis));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TranslogSyncCoordinatorStats that = (TranslogSyncCoordinatorStats) o;
+        return batchCount == that.batchCount
+            && requestCount == that.requestCount
+            && fsyncCount == that.fsyncCount
+            && maxBatchSize == that.maxBatchSize
+            && totalWaitTimeInMillis == that.totalWaitTimeInMillis
+            && totalSyncTimeInMillis == that.totalSyncTimeInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchCount, requestCount, fsyncCount, maxBatchSize, totalWaitTimeInMillis, totalSyncTimeInMillis);
+    }
+}
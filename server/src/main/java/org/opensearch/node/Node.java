@@ -87,6 +87,7 @@ import org.opensearch.cluster.routing.BatchedRerouteService;
 import org.opensearch.cluster.routing.RerouteService;
 import org.opensearch.cluster.routing.allocation.AwarenessReplicaBalance;
 import org.opensearch.cluster.routing.allocation.DiskThresholdMonitor;
+import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.cluster.service.LocalClusterService;
 import org.opensearch.common.Nullable;
@@ -120,6 +121,7 @@ import org.opensearch.common.unit.RatioValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.FeatureFlags;
+import org.opensearch.common.util.OffHeapBigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.Assertions;
@@ -1462,7 +1464,10 @@ public class Node implements Closeable {
             );
             final PersistedStateRegistry persistedStateRegistry = new PersistedStateRegistry();
             final GatewayMetaState gatewayMetaState = new GatewayMetaState();
-            final ResponseCollectorService responseCollectorService = new ResponseCollectorService(clusterService);
+            final ResponseCollectorService responseCollectorService = new ResponseCollectorService(
+                clusterService,
+                resourceUsageCollectorService
+            );
             final SearchTransportService searchTransportService = new SearchTransportService(
                 transportService,
                 SearchExecutionStatsCollector.makeWrapper(responseCollectorService)
@@ -1656,6 +1661,7 @@ public class Node implements Closeable {
                 repositoryService,
                 admissionControlService,
                 cacheService,
+                clusterModule.getIndexNameExpressionResolver(),
                 nativeAllocatorStatsSupplier
             );
 
@@ -2237,6 +2243,10 @@ public class Node implements Closeable {
         toClose.add(injector.getInstance(SegmentReplicationTargetService.class));
         toClose.add(() -> stopWatch.stop().start("cluster"));
         toClose.add(injector.getInstance(ClusterService.class));
+        final ShardsAllocator shardsAllocator = injector.getInstance(ShardsAllocator.class);
+        if (shardsAllocator instanceof Closeable) {
+            toClose.add((Closeable) shardsAllocator);
+        }
         toClose.add(() -> stopWatch.stop().start("node_connections_service"));
         toClose.add(injector.getInstance(NodeConnectionsService.class));
         toClose.add(() -> stopWatch.stop().start("discovery"));
@@ -2405,6 +2415,14 @@ public class Node implements Closeable {
      * This method can be overwritten by subclasses to change their {@link BigArrays} implementation for instance for testing
      */
     BigArrays createBigArrays(PageCacheRecycler pageCacheRecycler, CircuitBreakerService circuitBreakerService) {
+        if (OffHeapBigArrays.OFF_HEAP_ENABLED_SETTING.get(settings())) {
+            return new OffHeapBigArrays(
+                OffHeapBigArrays.OFF_HEAP_POOL_LIMIT_SETTING.get(settings()).getBytes(),
+                pageCacheRecycler,
+                circuitBreakerService,
+                CircuitBreaker.REQUEST
+            );
+        }
         return new BigArrays(pageCacheRecycler, circuitBreakerService, CircuitBreaker.REQUEST);
     }
 
@@ -38,6 +38,7 @@ import org.opensearch.action.admin.cluster.node.info.NodeInfo;
 import org.opensearch.action.admin.cluster.node.stats.NodeStats;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
 import org.opensearch.action.search.SearchTransportService;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.routing.WeightedRoutingStats;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
@@ -106,6 +107,7 @@ public class NodeService implements Closeable {
     private final AdmissionControlService admissionControlService;
     private final SegmentReplicationStatsTracker segmentReplicationStatsTracker;
     private final CacheService cacheService;
+    private final IndexNameExpressionResolver indexNameExpressionResolver;
 
     /**
      * Supplier for native allocator pool stats. Constructor-injected via discovery from
@@ -146,6 +148,7 @@ public class NodeService implements Closeable {
         RepositoriesService repositoriesService,
         AdmissionControlService admissionControlService,
         CacheService cacheService,
+        IndexNameExpressionResolver indexNameExpressionResolver,
         @Nullable Supplier<NativeAllocatorPoolStats> nativeAllocatorStatsSupplier
     ) {
         this.settings = settings;
@@ -176,6 +179,7 @@ public class NodeService implements Closeable {
         clusterService.addStateApplier(searchPipelineService);
         this.segmentReplicationStatsTracker = segmentReplicationStatsTracker;
         this.cacheService = cacheService;
+        this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.nativeAllocatorStatsSupplier = nativeAllocatorStatsSupplier;
     }
 
@@ -264,7 +268,12 @@ public class NodeService implements Closeable {
         boolean cacheService,
         boolean remoteStoreNodeStats,
         boolean nativeAllocator,
-        boolean nativeMemory
+        boolean nativeMemory,
+        boolean translogSyncCoordinator,
+        boolean mergeCoordinator,
+        boolean refreshScheduler,
+        boolean indexingBuffer,
+        boolean resolvedExpressionsCache
     ) {
         // for indices stats we want to include previous allocated shards stats as well (it will
         // only be applied to the sensible ones to use, like refresh/merge/flush/indexing stats)
@@ -307,7 +316,12 @@ public class NodeService implements Closeable {
             // Serialized over the wire so the coordinator renders the source node's value,
             // not its own. Returns -1 on non-Linux platforms or when /proc/self/status is
             // unreadable.
-            OsProbe.getInstance().getProcessNativeMemoryBytes()
+            OsProbe.getInstance().getProcessNativeMemoryBytes(),
+            translogSyncCoordinator ? indicesService.getTranslogSyncCoordinator().stats() : null,
+            mergeCoordinator ? indicesService.getMergeCoordinator().stats() : null,
+            refreshScheduler ? indicesService.getRefreshScheduler().stats() : null,
+            indexingBuffer ? indicesService.getIndexingMemoryController().stats() : null,
+            resolvedExpressionsCache ? indexNameExpressionResolver.getResolvedExpressionCacheStats() : null
         );
     }
 
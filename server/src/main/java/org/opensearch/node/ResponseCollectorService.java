@@ -32,12 +32,17 @@
 
 package org.opensearch.node;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -49,11 +54,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 
 /**
  * Collects statistics about queue size, response time, and service time of
  * tasks executed on each node, making the EWMA of the values available to the
- * coordinating node.
+ * coordinating node. If a {@link ResourceUsageCollectorService} is available,
+ * the CPU, memory and IO utilization of each node are folded into its rank
+ * according to the configured weights.
  *
  * @opensearch.api
  */
@@ -64,10 +72,72 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    @Nullable
+    private final ResourceUsageCollectorService resourceUsageCollectorService;
+    private volatile double cpuWeight;
+    private volatile double memoryWeight;
+    private volatile double ioWeight;
+    private volatile TimeValue resourceUsageStaleAfter;
+    // when the resource usage of each node was last received, on the local relative clock as the clocks of the nodes may differ
+    private final ConcurrentMap<String, Long> resourceUsageReceivedNanos = ConcurrentCollections.newConcurrentMap();
+    private final LongSupplier relativeNanos;
+
     public ResponseCollectorService(ClusterService clusterService) {
+        this(clusterService, null);
+    }
+
+    public ResponseCollectorService(
+        ClusterService clusterService,
+        @Nullable ResourceUsageCollectorService resourceUsageCollectorService
+    ) {
+        this(clusterService, resourceUsageCollectorService, System::nanoTime);
+    }
+
+    ResponseCollectorService(
+        ClusterService clusterService,
+        @Nullable ResourceUsageCollectorService resourceUsageCollectorService,
+        LongSupplier relativeNanos
+    ) {
+        this.resourceUsageCollectorService = resourceUsageCollectorService;
+        this.relativeNanos = relativeNanos;
+        if (resourceUsageCollectorService != null) {
+            final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+            this.cpuWeight = clusterSettings.get(OperationRouting.ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING);
+            this.memoryWeight = clusterSettings.get(OperationRouting.ADAPTIVE_REPLICA_SELECTION_MEMORY_WEIGHT_SETTING);
+            this.ioWeight = clusterSettings.get(OperationRouting.ADAPTIVE_REPLICA_SELECTION_IO_WEIGHT_SETTING);
+            this.resourceUsageStaleAfter = clusterSettings.get(
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING
+            );
+            clusterSettings.addSettingsUpdateConsumer(OperationRouting.ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING, this::setCpuWeight);
+            clusterSettings.addSettingsUpdateConsumer(
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_MEMORY_WEIGHT_SETTING,
+                this::setMemoryWeight
+            );
+            clusterSettings.addSettingsUpdateConsumer(OperationRouting.ADAPTIVE_REPLICA_SELECTION_IO_WEIGHT_SETTING, this::setIoWeight);
+            clusterSettings.addSettingsUpdateConsumer(
+                OperationRouting.ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING,
+                this::setResourceUsageStaleAfter
+            );
+        }
         clusterService.addListener(this);
     }
 
+    void setCpuWeight(double cpuWeight) {
+        this.cpuWeight = cpuWeight;
+    }
+
+    void setMemoryWeight(double memoryWeight) {
+        this.memoryWeight = memoryWeight;
+    }
+
+    void setIoWeight(double ioWeight) {
+        this.ioWeight = ioWeight;
+    }
+
+    void setResourceUsageStaleAfter(TimeValue resourceUsageStaleAfter) {
+        this.resourceUsageStaleAfter = resourceUsageStaleAfter;
+    }
+
     @Override
     public void clusterChanged(ClusterChangedEvent event) {
         if (event.nodesRemoved()) {
@@ -79,6 +149,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     void removeNode(String nodeId) {
         nodeIdToStats.remove(nodeId);
+        resourceUsageReceivedNanos.remove(nodeId);
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
@@ -96,11 +167,78 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Records the resource usage piggybacked on a response of the given node, unless more recent statistics are known already.
+     */
+    public void addNodeResourceUsageStatistics(NodeResourceUsageStats stats) {
+        if (resourceUsageCollectorService == null) {
+            return;
+        }
+        final Optional<NodeResourceUsageStats> known = resourceUsageCollectorService.getNodeStatistics(stats.nodeId);
+        if (known.isPresent() && known.get().getTimestamp() >= stats.getTimestamp()) {
+            return;
+        }
+        resourceUsageCollectorService.collectNodeResourceUsageStats(
+            stats.nodeId,
+            stats.getTimestamp(),
+            stats.getMemoryUtilizationPercent(),
+            stats.getCpuUtilizationPercent(),
+            stats.getIoUsageStats(),
+            stats.getNativeMemoryUtilizationPercent()
+        );
+        resourceUsageReceivedNanos.put(stats.nodeId, relativeNanos.getAsLong());
+    }
+
+    /**
+     * Optionally return the resource usage statistics of the given node, if
+     * resource usage is collected and known for that node.
+     */
+    public Optional<NodeResourceUsageStats> getNodeResourceUsageStatistics(final String nodeId) {
+        if (resourceUsageCollectorService == null) {
+            return Optional.empty();
+        }
+        return resourceUsageCollectorService.getNodeStatistics(nodeId);
+    }
+
+    /**
+     * The factor by which the rank of the given node is increased because of its resource usage, {@code 0} if its resource usage is
+     * unknown or stale, or if all resource weights are {@code 0}. The resource usage is stale if it was received longer than
+     * {@link OperationRouting#ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING} ago, regardless of the clock of the
+     * node that reported it.
+     */
+    double resourceUsagePenalty(String nodeId) {
+        final double cpuWeight = this.cpuWeight;
+        final double memoryWeight = this.memoryWeight;
+        final double ioWeight = this.ioWeight;
+        if (resourceUsageCollectorService == null || (cpuWeight == 0 && memoryWeight == 0 && ioWeight == 0)) {
+            return 0;
+        }
+        final Optional<NodeResourceUsageStats> maybeStats = resourceUsageCollectorService.getNodeStatistics(nodeId);
+        if (maybeStats.isEmpty()) {
+            return 0;
+        }
+        final Long receivedNanos = resourceUsageReceivedNanos.get(nodeId);
+        if (receivedNanos == null || relativeNanos.getAsLong() - receivedNanos > resourceUsageStaleAfter.nanos()) {
+            return 0;
+        }
+        final NodeResourceUsageStats stats = maybeStats.get();
+        double penalty = cpuWeight * utilization(stats.getCpuUtilizationPercent());
+        penalty += memoryWeight * utilization(stats.getMemoryUtilizationPercent());
+        if (stats.getIoUsageStats() != null) {
+            penalty += ioWeight * utilization(stats.getIoUsageStats().getIoUtilisationPercent());
+        }
+        return penalty;
+    }
+
+    private static double utilization(double percent) {
+        return Math.min(Math.max(percent, 0), 100) / 100.0;
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
-        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v)); });
+        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v, resourceUsagePenalty(k))); });
         return nodeStats;
     }
 
@@ -117,13 +255,14 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        return Optional.ofNullable(nodeIdToStats.get(nodeId))
+            .map(ns -> new ComputedNodeStats(clientNum, ns, resourceUsagePenalty(nodeId)));
     }
 
     /**
      * Struct-like class encapsulating a point-in-time snapshot of a particular
      * node's statistics. This includes the EWMA of queue size, response time,
-     * and service time.
+     * and service time, as well as the penalty for the node's resource usage.
      *
      * @opensearch.api
      */
@@ -141,22 +280,36 @@ public final class ResponseCollectorService implements ClusterStateListener {
         public final int queueSize;
         public final double responseTime;
         public final double serviceTime;
+        public final double resourceUsagePenalty;
 
         public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, 0);
+        }
+
+        public ComputedNodeStats(
+            String nodeId,
+            int clientNum,
+            int queueSize,
+            double responseTime,
+            double serviceTime,
+            double resourceUsagePenalty
+        ) {
             this.nodeId = nodeId;
             this.clientNum = clientNum;
             this.queueSize = queueSize;
             this.responseTime = responseTime;
             this.serviceTime = serviceTime;
+            this.resourceUsagePenalty = resourceUsagePenalty;
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, double resourceUsagePenalty) {
             this(
                 nodeStats.nodeId,
                 clientNum,
                 (int) nodeStats.queueSize.getAverage(),
                 nodeStats.responseTime.getAverage(),
-                nodeStats.serviceTime
+                nodeStats.serviceTime,
+                resourceUsagePenalty
             );
         }
 
@@ -166,6 +319,11 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.queueSize = in.readInt();
             this.responseTime = in.readDouble();
             this.serviceTime = in.readDouble();
+            if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+                this.resourceUsagePenalty = in.readDouble();
+            } else {
+                this.resourceUsagePenalty = 0;
+            }
         }
 
         @Override
@@ -175,6 +333,9 @@ public final class ResponseCollectorService implements ClusterStateListener {
             out.writeInt(this.queueSize);
             out.writeDouble(this.responseTime);
             out.writeDouble(this.serviceTime);
+            if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+                out.writeDouble(this.resourceUsagePenalty);
+            }
         }
 
         /**
@@ -202,7 +363,8 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
             // The final formula
             double rank = rS - (1.0 / muBarS) + (Math.pow(qHatS, queueAdjustmentFactor) / muBarS);
-            return rank;
+            // Busy nodes are avoided before their queue builds up, the rank is non-negative since qHatS >= 1
+            return rank * (1 + resourceUsagePenalty);
         }
 
         public double rank(long outstandingRequests) {
@@ -220,6 +382,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
             sb.append(", queue: ").append(queueSize);
             sb.append(", response time: ").append(String.format(Locale.ROOT, "%.1f", responseTime));
             sb.append(", service time: ").append(String.format(Locale.ROOT, "%.1f", serviceTime));
+            sb.append(", resource usage penalty: ").append(String.format(Locale.ROOT, "%.2f", resourceUsagePenalty));
             sb.append(", rank: ").append(String.format(Locale.ROOT, "%.1f", rank(1)));
             sb.append(")");
             return sb.toString();
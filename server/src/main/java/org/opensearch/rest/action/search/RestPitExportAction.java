@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.search.PitExportAction;
+import org.opensearch.action.search.PitExportRequest;
+import org.opensearch.action.search.PitExportResponse;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.support.XContentHttpChunk;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import reactor.core.publisher.Flux;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest action for exporting all the documents of a PIT that match a query. The body is a search body whose {@code pit} section
+ * names the point in time to export. The response is streamed as newline-delimited JSON: one line per exported chunk, holding the
+ * shard and the hits of the chunk, followed by a line summing the export up. Each chunk is written to the channel as it arrives, so
+ * the coordinating node never holds more than one chunk.
+ */
+public class RestPitExportAction extends BaseRestHandler {
+    private static final Logger logger = LogManager.getLogger(RestPitExportAction.class);
+
+    public static final String BATCH_SIZE = "batch_size";
+    public static final String MAX_CONCURRENT_SHARD_REQUESTS = "max_concurrent_shard_requests";
+
+    @Override
+    public String getName() {
+        return "export_pit_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final int batchSize = request.paramAsInt(BATCH_SIZE, PitExportRequest.DEFAULT_BATCH_SIZE);
+        final int maxConcurrentShardRequests = request.paramAsInt(
+            MAX_CONCURRENT_SHARD_REQUESTS,
+            PitExportRequest.DEFAULT_MAX_CONCURRENT_SHARD_REQUESTS
+        );
+        return channel -> {
+            if (channel instanceof StreamingRestChannel) {
+                final StreamingRestChannel streamingChannel = (StreamingRestChannel) channel;
+                // the chunks of the body are released once they are published, so their content is copied
+                Flux.from(streamingChannel).map(chunk -> {
+                    try (HttpChunk ignored = chunk) {
+                        return (BytesReference) new BytesArray(BytesReference.toBytes(chunk.content()));
+                    }
+                }).collectList().subscribe(parts -> {
+                    try {
+                        final BytesReference content = CompositeBytesReference.of(parts.toArray(new BytesReference[0]));
+                        final PitExportRequest exportRequest = parseExportRequest(request, content);
+                        exportRequest.setBatchSize(batchSize);
+                        exportRequest.setMaxConcurrentShardRequests(maxConcurrentShardRequests);
+                        export(request, streamingChannel, client, exportRequest);
+                    } catch (Exception e) {
+                        sendFailure(streamingChannel, e);
+                    }
+                }, e -> sendFailure(streamingChannel, (Exception) e));
+            } else {
+                final ActionRequestValidationException validationError = new ActionRequestValidationException();
+                validationError.addValidationError("Unable to initiate request / response streaming over non-streaming channel");
+                channel.sendResponse(new BytesRestResponse(channel, validationError));
+            }
+        };
+    }
+
+    static PitExportRequest parseExportRequest(RestRequest request, BytesReference content) throws IOException {
+        if (content.length() == 0) {
+            throw new IllegalArgumentException("request body is required to export a point in time");
+        }
+        final SearchSourceBuilder source;
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                request.getXContentRegistry(),
+                LoggingDeprecationHandler.INSTANCE,
+                content,
+                request.getMediaType()
+            )
+        ) {
+            source = SearchSourceBuilder.fromXContent(parser);
+        }
+        final PointInTimeBuilder pointInTimeBuilder = source.pointInTimeBuilder();
+        if (pointInTimeBuilder == null) {
+            throw new IllegalArgumentException("[pit] is required to export a point in time");
+        }
+        final PitExportRequest exportRequest = new PitExportRequest(pointInTimeBuilder.getId());
+        exportRequest.setKeepAlive(pointInTimeBuilder.getKeepAlive());
+        exportRequest.source(source.pointInTimeBuilder(null));
+        return exportRequest;
+    }
+
+    private static void export(RestRequest request, StreamingRestChannel channel, NodeClient client, PitExportRequest exportRequest) {
+        final MediaType mediaType = request.getMediaType();
+        final AtomicBoolean prepared = new AtomicBoolean();
+        exportRequest.setChunkConsumer(chunk -> {
+            prepareResponse(channel, mediaType, prepared);
+            try (XContentBuilder builder = channel.newBuilder(mediaType, true)) {
+                channel.sendChunk(XContentHttpChunk.from(toXContent(builder, chunk, request)));
+            }
+        });
+        RestCancellableNodeClient cancelClient = new RestCancellableNodeClient(client, request.getHttpChannel());
+        cancelClient.execute(PitExportAction.INSTANCE, exportRequest, new ActionListener<PitExportResponse>() {
+            @Override
+            public void onResponse(PitExportResponse response) {
+                try {
+                    prepareResponse(channel, mediaType, prepared);
+                    try (XContentBuilder builder = channel.newBuilder(mediaType, true)) {
+                        channel.sendChunk(XContentHttpChunk.from(response.toXContent(builder, request)));
+                    }
+                    channel.sendChunk(XContentHttpChunk.last());
+                } catch (Exception e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                sendFailure(channel, e);
+            }
+        });
+    }
+
+    private static void prepareResponse(StreamingRestChannel channel, MediaType mediaType, AtomicBoolean prepared) {
+        if (prepared.compareAndSet(false, true)) {
+            channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
+        }
+    }
+
+    private static XContentBuilder toXContent(XContentBuilder builder, PitExportChunk chunk, RestRequest request) throws IOException {
+        builder.startObject();
+        builder.startObject("shard");
+        builder.field("index", chunk.getShardId().getIndexName());
+        builder.field("id", chunk.getShardId().id());
+        builder.endObject();
+        builder.startArray("hits");
+        for (SearchHit hit : chunk.getHits().getHits()) {
+            hit.toXContent(builder, request);
+        }
+        builder.endArray();
+        builder.endObject();
+        return builder;
+    }
+
+    private static void sendFailure(RestChannel channel, Exception e) {
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (IOException inner) {
+            inner.addSuppressed(e);
+            logger.error("failed to send failure response", inner);
+        }
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(new Route(GET, "/_search/point_in_time/_export"), new Route(POST, "/_search/point_in_time/_export"))
+        );
+    }
+}
@@ -55,6 +55,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.OffHeapBigArrays;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.index.IndexService;
@@ -132,6 +133,7 @@ import static org.opensearch.search.SearchService.BUCKET_SELECTION_STRATEGY_FACT
 import static org.opensearch.search.SearchService.CARDINALITY_AGGREGATION_PRUNING_THRESHOLD;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE;
 import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.search.SearchService.CONCURRENT_FETCH_STORED_FIELDS_ENABLED;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_ALL;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_AUTO;
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_MODE_NONE;
@@ -234,6 +236,7 @@ final class DefaultSearchContext extends SearchContext {
     private final CardinalityAggregationContext cardinalityAggregationContext;
     private final int bucketSelectionStrategyFactor;
     private final boolean keywordIndexOrDocValuesEnabled;
+    private final boolean concurrentFetchStoredFieldsEnabled;
 
     private boolean isStreamSearch;
     private StreamSearchChannelListener listener;
@@ -262,7 +265,14 @@ final class DefaultSearchContext extends SearchContext {
         this.searchType = request.searchType();
         this.shardTarget = shardTarget;
         // SearchContexts use a BigArrays that can circuit break
-        this.bigArrays = bigArrays.withCircuitBreaking();
+        if (bigArrays instanceof OffHeapBigArrays offHeapBigArrays) {
+            // off-heap pages must be handed back deterministically, even if an aggregator leaks an array
+            OffHeapBigArrays arena = offHeapBigArrays.newArena();
+            addReleasable(arena);
+            this.bigArrays = arena;
+        } else {
+            this.bigArrays = bigArrays.withCircuitBreaking();
+        }
         this.dfsResult = new DfsSearchResult(readerContext.id(), shardTarget, request);
         this.queryResult = new QuerySearchResult(readerContext.id(), shardTarget, request);
         this.fetchResult = new FetchSearchResult(readerContext.id(), shardTarget);
@@ -304,6 +314,7 @@ final class DefaultSearchContext extends SearchContext {
         this.bucketSelectionStrategyFactor = evaluateBucketSelectionStrategyFactor();
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
         this.keywordIndexOrDocValuesEnabled = evaluateKeywordIndexOrDocValuesEnabled();
+        this.concurrentFetchStoredFieldsEnabled = evaluateConcurrentFetchStoredFieldsEnabled();
         this.isStreamSearch = isStreamSearch;
     }
 
@@ -1282,6 +1293,11 @@ final class DefaultSearchContext extends SearchContext {
         return keywordIndexOrDocValuesEnabled;
     }
 
+    @Override
+    public boolean concurrentFetchStoredFieldsEnabled() {
+        return concurrentFetchStoredFieldsEnabled && shouldUseConcurrentSearch();
+    }
+
     private int evaluateCardinalityAggregationPruningThreshold() {
         if (clusterService != null) {
             return clusterService.getClusterSettings().get(CARDINALITY_AGGREGATION_PRUNING_THRESHOLD);
@@ -1321,6 +1337,13 @@ final class DefaultSearchContext extends SearchContext {
         return false;
     }
 
+    private boolean evaluateConcurrentFetchStoredFieldsEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(CONCURRENT_FETCH_STORED_FIELDS_ENABLED);
+        }
+        return false;
+    }
+
     public void setStreamChannelListener(StreamSearchChannelListener listener) {
         assert isStreamSearch() : "Stream search not enabled";
         this.listener = listener;
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.CheckedRunnable;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Coalesces concurrent executions of the query phase of identical shard requests against the same reader. The first request
+ * (the leader) executes the query phase and publishes its serialized result, identical requests that arrive while the leader
+ * is still running (the followers) wait for that result instead of executing the query phase again. A leader without followers
+ * does not serialize its result at all.
+ * <p>
+ * A follower never fails because of its leader: if the leader fails or gets cancelled, its followers are told to execute the query
+ * phase on their own.
+ *
+ * @opensearch.internal
+ */
+final class QueryPhaseCoalescer {
+
+    /**
+     * How often a waiting follower checks whether it got cancelled itself.
+     */
+    private static final long CANCELLATION_CHECK_INTERVAL_MILLIS = 100;
+
+    private final ConcurrentMap<Key, Execution> inFlight = ConcurrentCollections.newConcurrentMap();
+
+    /**
+     * Identifies shard requests whose query phase results can be shared: same shard instance, same point-in-time reader and same
+     * canonical request bytes.
+     */
+    record Key(ShardId shardId, int indexShardHashCode, String readerCacheKeyId, BytesReference requestBytes) {}
+
+    /**
+     * Outcome of {@link #execute}.
+     */
+    enum Role {
+        /** the query phase was executed by the caller */
+        LEADER,
+        /** the result of an identical in-flight execution was handed to the caller */
+        FOLLOWER,
+        /** the identical in-flight execution failed, the caller needs to execute the query phase on its own */
+        RETRY
+    }
+
+    /**
+     * Executes the given query phase unless an identical one is in flight already, in which case its result is handed to the
+     * consumer instead. The leader only serializes its result if followers wait for it.
+     *
+     * @param key         the identity of the request
+     * @param queryPhase  executes the query phase
+     * @param serializer  serializes the result of the query phase for the followers
+     * @param onFollow    receives the serialized result of the leader if the caller ends up following
+     * @param isCancelled whether the caller got cancelled while waiting for the leader
+     */
+    Role execute(
+        Key key,
+        CheckedRunnable<Exception> queryPhase,
+        CheckedSupplier<BytesReference, Exception> serializer,
+        CheckedConsumer<BytesReference, Exception> onFollow,
+        BooleanSupplier isCancelled
+    ) throws Exception {
+        while (true) {
+            final Execution execution = new Execution();
+            final Execution leader = inFlight.putIfAbsent(key, execution);
+            if (leader == null) {
+                BytesReference result = null;
+                try {
+                    queryPhase.run();
+                    // requests that arrive from now on execute on their own, so the followers are known once the execution is closed
+                    inFlight.remove(key, execution);
+                    if (execution.close()) {
+                        result = serializer.get();
+                    }
+                    return Role.LEADER;
+                } finally {
+                    // a null result tells the followers to retry on their own, the exception is the leader's only
+                    inFlight.remove(key, execution);
+                    execution.close();
+                    execution.result.complete(result);
+                }
+            }
+            if (leader.follow() == false) {
+                // the leader finished in the meantime, its result is gone
+                continue;
+            }
+            final BytesReference result;
+            try {
+                result = await(leader.result, isCancelled);
+            } catch (Exception e) {
+                leader.unfollow();
+                throw e;
+            }
+            if (result == null) {
+                return Role.RETRY;
+            }
+            onFollow.accept(result);
+            return Role.FOLLOWER;
+        }
+    }
+
+    /**
+     * An in-flight query phase and the followers waiting for its result.
+     */
+    private static final class Execution {
+        private final CompletableFuture<BytesReference> result = new CompletableFuture<>();
+        private int followers;
+        private boolean closed;
+
+        /**
+         * Registers a follower, unless the leader does not accept followers anymore.
+         */
+        synchronized boolean follow() {
+            if (closed) {
+                return false;
+            }
+            followers++;
+            return true;
+        }
+
+        synchronized void unfollow() {
+            followers--;
+        }
+
+        /**
+         * Stops accepting followers and returns whether any are waiting for the result.
+         */
+        synchronized boolean close() {
+            closed = true;
+            return followers > 0;
+        }
+    }
+
+    @Nullable
+    private static BytesReference await(CompletableFuture<BytesReference> leader, BooleanSupplier isCancelled) throws Exception {
+        while (true) {
+            if (isCancelled.getAsBoolean()) {
+                throw new TaskCancelledException("cancelled while waiting for an identical in-flight query phase");
+            }
+            try {
+                return leader.get(CANCELLATION_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check for cancellation and keep waiting
+            } catch (ExecutionException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Number of distinct query phases currently in flight.
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+}
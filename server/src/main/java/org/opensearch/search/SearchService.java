@@ -58,10 +58,12 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
@@ -72,6 +74,8 @@ import org.opensearch.common.util.concurrent.ConcurrentMapLong;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.util.CollectionUtils;
@@ -79,6 +83,7 @@ import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
@@ -117,9 +122,12 @@ import org.opensearch.search.dfs.DfsPhase;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchPhase;
 import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.search.fetch.PitExportDocIdIterator;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.fetch.ScrollQueryFetchSearchResult;
 import org.opensearch.search.fetch.ShardFetchRequest;
+import org.opensearch.search.fetch.ShardPitExportRequest;
 import org.opensearch.search.fetch.subphase.FetchDocValuesContext;
 import org.opensearch.search.fetch.subphase.FetchFieldsContext;
 import org.opensearch.search.fetch.subphase.ScriptFieldsContext.ScriptField;
@@ -237,6 +245,18 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * Enables coalescing of the query phase of identical shard requests that execute concurrently against the same reader. Only the
+     * first of them executes the query phase, the others take over its result. Requests are only coalesced if their results could
+     * also be cached by the request cache, that is if they are deterministic and did not opt out of the request cache.
+     */
+    public static final Setting<Boolean> QUERY_PHASE_COALESCING_ENABLED_SETTING = Setting.boolSetting(
+        "search.query_phase.coalescing.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final TimeValue NO_TIMEOUT = timeValueMillis(-1);
     public static final Setting<TimeValue> DEFAULT_SEARCH_TIMEOUT_SETTING = Setting.timeSetting(
         "search.default_search_timeout",
@@ -347,6 +367,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT = "segment";
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_BALANCED = "balanced";
     public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE = "force";
+    public static final String CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_COST = "cost";
 
     // Partition strategy setting
     public static final Setting<String> CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY = Setting.simpleString(
@@ -357,9 +378,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_SEGMENT:
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_BALANCED:
                 case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE:
+                case CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_COST:
                     break;
                 default:
-                    throw new IllegalArgumentException("Setting value must be one of [segment, balanced, force]");
+                    throw new IllegalArgumentException("Setting value must be one of [segment, balanced, force, cost]");
             }
         },
         Property.Dynamic,
@@ -443,6 +465,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    /**
+     * When concurrent segment search is used for a request, load the stored fields of the hits to fetch concurrently, one task per
+     * segment on the index searcher executor, instead of one hit at a time on the search thread.
+     */
+    public static final Setting<Boolean> CONCURRENT_FETCH_STORED_FIELDS_ENABLED = Setting.boolSetting(
+        "search.fetch.concurrent_stored_fields.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final Setting<Long> TERMS_AGGREGATION_MAX_PRECOMPUTE_CARDINALITY = Setting.longSetting(
         "search.aggregations.terms.max_precompute_cardinality",
         30_000L,
@@ -495,6 +528,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile boolean lowLevelCancellation;
 
+    private volatile boolean queryPhaseCoalescing;
+
+    private final QueryPhaseCoalescer queryPhaseCoalescer = new QueryPhaseCoalescer();
+
     private volatile int maxOpenScrollContext;
 
     private volatile int maxOpenPitContext;
@@ -582,6 +619,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
 
+        queryPhaseCoalescing = QUERY_PHASE_COALESCING_ENABLED_SETTING.get(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(QUERY_PHASE_COALESCING_ENABLED_SETTING, this::setQueryPhaseCoalescing);
+
         IndexSearcher.setMaxClauseCount(INDICES_MAX_CLAUSE_COUNT_SETTING.get(settings));
         clusterService.getClusterSettings().addSettingsUpdateConsumer(INDICES_MAX_CLAUSE_COUNT_SETTING, IndexSearcher::setMaxClauseCount);
 
@@ -681,6 +722,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.maxOpenPitContext = maxOpenPitContext;
     }
 
+    private void setQueryPhaseCoalescing(boolean queryPhaseCoalescing) {
+        this.queryPhaseCoalescing = queryPhaseCoalescing;
+    }
+
     private void setLowLevelCancellation(Boolean lowLevelCancellation) {
         this.lowLevelCancellation = lowLevelCancellation;
     }
@@ -786,11 +831,90 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         context.getQueryShardContext().freezeContext();
         if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
+        } else if (canCoalesce(request, context)) {
+            coalesceQueryPhase(request, context);
         } else {
             queryPhase.execute(context);
         }
     }
 
+    /**
+     * Piggybacks the resource usage of this node on the query result, for the adaptive replica selection of the coordinating node.
+     * This happens after the query phase so that results loaded from the request cache or shared with a coalesced query phase
+     * carry fresh statistics as well.
+     */
+    private void addNodeResourceUsage(SearchContext context) {
+        if (responseCollectorService != null) {
+            responseCollectorService.getNodeResourceUsageStatistics(clusterService.localNode().getId())
+                .ifPresent(context.queryResult()::nodeResourceUsageStats);
+        }
+    }
+
+    /**
+     * Can the query phase of the shard request be shared with identical requests executing concurrently? Cacheable requests don't
+     * need to be coalesced here since concurrent loads of the same request cache entry wait for each other already.
+     */
+    private boolean canCoalesce(ShardSearchRequest request, SearchContext context) {
+        if (queryPhaseCoalescing == false) {
+            return false;
+        }
+        if (request.scroll() != null || context.isStreamSearch() || SearchType.QUERY_THEN_FETCH != context.searchType()) {
+            return false;
+        }
+        if (request.source() != null && request.source().profile()) {
+            return false;
+        }
+        // an explicit opt-out of the request cache also means that the result must not be shared with other requests
+        if (Boolean.FALSE.equals(request.requestCache())) {
+            return false;
+        }
+        // the bottom sort values are not part of the request bytes, and rescored doc ids are not part of the query result
+        if (request.getBottomSortValues() != null || context.rescore().isEmpty() == false) {
+            return false;
+        }
+        if (context.getQueryShardContext().isCacheable() == false) {
+            return false;
+        }
+        return context.searcher().getDirectoryReader().getReaderCacheHelper() instanceof OpenSearchDirectoryReader.DelegatingCacheHelper;
+    }
+
+    /**
+     * Executes the query phase, unless an identical one runs concurrently against the same reader, in which case its result is loaded
+     * into the {@link SearchContext#queryResult() context's query result} instead.
+     */
+    private void coalesceQueryPhase(ShardSearchRequest request, SearchContext context) throws Exception {
+        final IndexShard shard = context.indexShard();
+        final OpenSearchDirectoryReader.DelegatingCacheHelper cacheHelper = (OpenSearchDirectoryReader.DelegatingCacheHelper) context
+            .searcher()
+            .getDirectoryReader()
+            .getReaderCacheHelper();
+        final QueryPhaseCoalescer.Key key = new QueryPhaseCoalescer.Key(
+            shard.shardId(),
+            System.identityHashCode(shard),
+            cacheHelper.getDelegatingCacheKey().getId(),
+            request.cacheKey()
+        );
+        final QueryPhaseCoalescer.Role role = queryPhaseCoalescer.execute(key, () -> queryPhase.execute(context), () -> {
+            try (BytesStreamOutput out = new BytesStreamOutput(512)) {
+                context.queryResult().writeToNoId(out);
+                return out.bytes();
+            }
+        }, leaderResult -> {
+            final QuerySearchResult queryResult = context.queryResult();
+            final NamedWriteableRegistry registry = indicesService.getNamedWriteableRegistry();
+            try (StreamInput in = new NamedWriteableAwareStreamInput(leaderResult.streamInput(), registry)) {
+                queryResult.readFromWithId(context.id(), in);
+            }
+            // the fetch phase and the adaptive replica selection need the follower's own request, not the one of the leader
+            queryResult.setShardSearchRequest(request);
+            queryResult.setSearchShardTarget(context.shardTarget());
+            shard.getSearchOperationListener().onCoalescedQueryPhase(context);
+        }, context::isCancelled);
+        if (role == QueryPhaseCoalescer.Role.RETRY) {
+            queryPhase.execute(context);
+        }
+    }
+
     public void executeQueryPhase(
         ShardSearchRequest request,
         boolean keepStatesInContext,
@@ -886,6 +1010,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             final long afterQueryTime;
             try (SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(context)) {
                 loadOrExecuteQueryPhase(request, context);
+                addNodeResourceUsage(context);
                 if (context.queryResult().hasSearchContext() == false && readerContext.singleSession()) {
                     freeReaderContext(readerContext.id());
                 }
@@ -981,6 +1106,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             ) {
                 searchContext.searcher().setAggregatedDfs(request.dfs());
                 queryPhase.execute(searchContext);
+                addNodeResourceUsage(searchContext);
                 if (searchContext.queryResult().hasSearchContext() == false && readerContext.singleSession()) {
                     // no hits, we can release the context since there will be no fetch phase
                     freeReaderContext(readerContext.id());
@@ -1100,6 +1226,52 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }, wrapFailureListener(listener, readerContext, markAsUsed));
     }
 
+    /**
+     * Streams all the documents of a point in time reader context that match the query of the request, in index order and in
+     * chunks of at most {@link ShardPitExportRequest#batchSize()} hits. Only one chunk of hits is held in memory at a time and the
+     * query is executed once for the whole export.
+     */
+    public void executeExportPhase(
+        ShardPitExportRequest request,
+        SearchShardTask task,
+        StreamSearchChannelListener<PitExportChunk, ShardPitExportRequest> listener
+    ) {
+        final ReaderContext readerContext = findReaderContext(request.readerId(), request);
+        if (readerContext instanceof PitReaderContext == false) {
+            throw new IllegalArgumentException("export is only supported on point in time reader contexts");
+        }
+        final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request);
+        final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
+        runAsync(getExecutor(Names.STREAM_SEARCH, readerContext.indexShard()), () -> {
+            try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
+                final ShardId shardId = searchContext.shardTarget().getShardId();
+                final PitExportDocIdIterator docIdIterator = new PitExportDocIdIterator(searchContext.searcher(), searchContext.query());
+                final int[] docIds = new int[request.batchSize()];
+                // the last chunk is held back so that it can be sent as the final response of the stream
+                PitExportChunk chunk = null;
+                for (int count = docIdIterator.next(docIds); count > 0; count = docIdIterator.next(docIds)) {
+                    if (searchContext.isCancelled()) {
+                        throw new TaskCancelledException("cancelled task with reason: " + task.getReasonCancelled());
+                    }
+                    if (chunk != null) {
+                        listener.onStreamResponse(chunk, false);
+                    }
+                    searchContext.docIdsToLoad(docIds, 0, count);
+                    fetchPhase.execute(searchContext);
+                    chunk = new PitExportChunk(shardId, searchContext.fetchResult().hits());
+                }
+                return chunk == null ? new PitExportChunk(shardId, SearchHits.empty(false)) : chunk;
+            } catch (Exception e) {
+                assert TransportActions.isShardNotAvailableException(e) == false : new AssertionError(e);
+                logger.trace("Export phase failed", e);
+                // we handle the failure in the failure listener below
+                throw e;
+            } finally {
+                taskResourceTrackingService.writeTaskResourceUsage(task, clusterService.localNode().getId());
+            }
+        }, wrapFailureListener(listener, readerContext, markAsUsed));
+    }
+
     private ReaderContext getReaderContext(ShardSearchContextId id) {
         if (sessionId.equals(id.getSessionId()) == false && id.getSessionId().isEmpty() == false) {
             throw new SearchContextMissingException(id);
@@ -86,6 +86,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -172,6 +173,21 @@ public class FetchPhase {
             }
         }
 
+        FieldsVisitor[] loadedFields = null;
+        if (canLoadStoredFieldsConcurrently(context, fieldsVisitor, docs)) {
+            try {
+                loadedFields = profile(
+                    breakdown,
+                    FetchTimingType.LOAD_STORED_FIELDS,
+                    () -> loadStoredFieldsConcurrently(context, docs)
+                );
+            } catch (TaskCancelledException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new FetchPhaseExecutionException(context.shardTarget(), "Error loading stored fields in fetch phase", e);
+            }
+        }
+
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
@@ -190,7 +206,10 @@ public class FetchPhase {
                         () -> context.searcher().getIndexReader().leaves().get(readerIndex)
                     );
                     currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
+                    if (loadedFields != null) {
+                        // the stored fields are loaded already
+                        fieldReader = null;
+                    } else if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
                         && hasSequentialDocs
                         && docs.length >= 10) {
                         // All the docs to fetch are adjacent but Lucene stored fields are optimized
@@ -224,16 +243,31 @@ public class FetchPhase {
                     }
                 }
                 assert currentReaderContext != null;
-                HitContext hit = prepareHitContext(
-                    context,
-                    fetchContext.searchLookup(),
-                    fieldsVisitor,
-                    docId,
-                    storedToRequestedFields,
-                    currentReaderContext,
-                    fieldReader,
-                    breakdown
-                );
+                HitContext hit;
+                if (loadedFields != null) {
+                    hit = buildNonNestedHitContext(
+                        context,
+                        fetchContext.searchLookup(),
+                        loadedFields[index],
+                        docId,
+                        storedToRequestedFields,
+                        currentReaderContext,
+                        breakdown
+                    );
+                    // the hit holds on to what it needs, release the loaded fields as we go
+                    loadedFields[index] = null;
+                } else {
+                    hit = prepareHitContext(
+                        context,
+                        fetchContext.searchLookup(),
+                        fieldsVisitor,
+                        docId,
+                        storedToRequestedFields,
+                        currentReaderContext,
+                        fieldReader,
+                        breakdown
+                    );
+                }
 
                 for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                     FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
@@ -274,6 +308,94 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Stored fields can be loaded concurrently for top level hits that don't need sub-phase specific loading: nested documents need
+     * their root document and scroll contexts cache their sequential readers, both are loaded one hit at a time.
+     */
+    private static boolean canLoadStoredFieldsConcurrently(SearchContext context, FieldsVisitor fieldsVisitor, DocIdToIndex[] docs) {
+        if (context.concurrentFetchStoredFieldsEnabled() == false || fieldsVisitor == null || docs.length < 2) {
+            return false;
+        }
+        if (context.scrollContext() != null
+            || context instanceof InnerHitsContext.InnerHitSubContext
+            || context.mapperService().hasNested()) {
+            return false;
+        }
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        // docs are sorted, so they span more than one leaf iff the first and the last one are in different leaves
+        return ReaderUtil.subIndex(docs[0].docId, leaves) != ReaderUtil.subIndex(docs[docs.length - 1].docId, leaves);
+    }
+
+    /**
+     * Loads the stored fields of all the docs to fetch ahead of the fetch sub-phases, with one task per leaf on the executor of the
+     * index searcher. Within a leaf, docs are visited in doc id order by a single thread so that adjacent docs can be read through the
+     * merge instance of the stored fields reader. The returned visitors are aligned with <code>docs</code>.
+     */
+    private FieldsVisitor[] loadStoredFieldsConcurrently(SearchContext context, DocIdToIndex[] docs) throws IOException {
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        FieldsVisitor[] loadedFields = new FieldsVisitor[docs.length];
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            int leafEnd = leaf.docBase + leaf.reader().maxDoc();
+            int to = from + 1;
+            while (to < docs.length && docs[to].docId < leafEnd) {
+                to++;
+            }
+            // visitors are stateful, so every task gets its own one; create them here as creating them may update the context
+            FieldsVisitor leafFieldsVisitor = createStoredFieldsVisitor(context, new HashMap<>());
+            int leafFrom = from;
+            int leafTo = to;
+            tasks.add(() -> {
+                loadLeafStoredFields(context, leaf, docs, leafFrom, leafTo, leafFieldsVisitor, loadedFields);
+                return null;
+            });
+            from = to;
+        }
+        context.searcher().getTaskExecutor().invokeAll(tasks);
+        return loadedFields;
+    }
+
+    private void loadLeafStoredFields(
+        SearchContext context,
+        LeafReaderContext leaf,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        FieldsVisitor fieldsVisitor,
+        FieldsVisitor[] loadedFields
+    ) throws IOException {
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+        if (leaf.reader() instanceof SequentialStoredFieldsLeafReader lf && hasSequentialDocs(docs, from, to) && to - from >= 10) {
+            // see the sequential access hack in execute, the merge instance is confined to this task
+            fieldReader = lf.getSequentialStoredFieldsReader()::document;
+        } else {
+            fieldReader = leaf.reader().storedFields()::document;
+        }
+        for (int i = from; i < to; i++) {
+            if (context.isCancelled()) {
+                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+            }
+            loadStoredFields(context::fieldType, fieldReader, fieldsVisitor, docs[i].docId - leaf.docBase);
+            loadedFields[i] = new LoadedFieldsVisitor(fieldsVisitor);
+        }
+    }
+
+    /**
+     * A snapshot of the stored fields loaded by a {@link FieldsVisitor} for a single doc, so that the visitor can move on to the next
+     * doc. The source stays in its serialized form.
+     */
+    private static final class LoadedFieldsVisitor extends FieldsVisitor {
+        LoadedFieldsVisitor(FieldsVisitor loaded) {
+            super(false);
+            this.id = loaded.id();
+            this.source = loaded.source();
+            // reset clears the values map of the loaded visitor but leaves the value lists alone
+            this.fieldsValues = loaded.fields().isEmpty() ? null : new HashMap<>(loaded.fields());
+        }
+    }
+
     static class DocIdToIndex implements Comparable<DocIdToIndex> {
         final int docId;
         final int index;
@@ -422,31 +544,47 @@ public class FetchPhase {
             SearchHit hit = new SearchHit(docId, null, null, null);
             return new HitContext(hit, subReaderContext, subDocId, lookup.source());
         } else {
-            SearchHit hit;
             profile(breakdown, FetchTimingType.LOAD_STORED_FIELDS, () -> {
                 loadStoredFields(context::fieldType, fieldReader, fieldsVisitor, subDocId);
                 return null;
             });
+            return buildNonNestedHitContext(context, lookup, fieldsVisitor, docId, storedToRequestedFields, subReaderContext, breakdown);
+        }
+    }
 
-            String id = fieldsVisitor.id();
-            if (fieldsVisitor.fields().isEmpty() == false) {
-                Map<String, DocumentField> docFields = new HashMap<>();
-                Map<String, DocumentField> metaFields = new HashMap<>();
-                fillDocAndMetaFields(context, fieldsVisitor, storedToRequestedFields, docFields, metaFields);
-                hit = new SearchHit(docId, id, docFields, metaFields);
-            } else {
-                hit = new SearchHit(docId, id, emptyMap(), emptyMap());
-            }
+    /**
+     * Builds the {@link HitContext} of a non nested document out of the stored fields that the provided
+     * <code>fieldsVisitor</code> loaded for it.
+     */
+    private HitContext buildNonNestedHitContext(
+        SearchContext context,
+        SearchLookup lookup,
+        FieldsVisitor fieldsVisitor,
+        int docId,
+        Map<String, Set<String>> storedToRequestedFields,
+        LeafReaderContext subReaderContext,
+        FetchProfileBreakdown breakdown
+    ) {
+        int subDocId = docId - subReaderContext.docBase;
+        SearchHit hit;
+        String id = fieldsVisitor.id();
+        if (fieldsVisitor.fields().isEmpty() == false) {
+            Map<String, DocumentField> docFields = new HashMap<>();
+            Map<String, DocumentField> metaFields = new HashMap<>();
+            fillDocAndMetaFields(context, fieldsVisitor, storedToRequestedFields, docFields, metaFields);
+            hit = new SearchHit(docId, id, docFields, metaFields);
+        } else {
+            hit = new SearchHit(docId, id, emptyMap(), emptyMap());
+        }
 
-            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
-            if (fieldsVisitor.source() != null) {
-                profile(breakdown, FetchTimingType.LOAD_SOURCE, () -> {
-                    hitContext.sourceLookup().setSource(fieldsVisitor.source());
-                    return null;
-                });
-            }
-            return hitContext;
+        HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
+        if (fieldsVisitor.source() != null) {
+            profile(breakdown, FetchTimingType.LOAD_SOURCE, () -> {
+                hitContext.sourceLookup().setSource(fieldsVisitor.source());
+                return null;
+            });
         }
+        return hitContext;
     }
 
     /**
@@ -715,6 +853,14 @@ public class FetchPhase {
      * stored sequentially (Dn = Dn-1 + 1).
      */
     static boolean hasSequentialDocs(DocIdToIndex[] docs) {
-        return docs.length > 0 && docs[docs.length - 1].docId - docs[0].docId == docs.length - 1;
+        return hasSequentialDocs(docs, 0, docs.length);
+    }
+
+    /**
+     * Returns <code>true</code> if the <code>docs</code> between <code>from</code> (inclusive) and <code>to</code> (exclusive)
+     * are sequential, see {@link #hasSequentialDocs(DocIdToIndex[])}.
+     */
+    static boolean hasSequentialDocs(DocIdToIndex[] docs, int from, int to) {
+        return to > from && docs[to - 1].docId - docs[from].docId == to - from - 1;
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.search.SearchHits;
+
+import java.io.IOException;
+
+/**
+ * A chunk of the hits of a shard streamed by a point in time export.
+ *
+ * @opensearch.internal
+ */
+public class PitExportChunk extends TransportResponse {
+
+    private final ShardId shardId;
+    private final SearchHits hits;
+
+    public PitExportChunk(ShardId shardId, SearchHits hits) {
+        this.shardId = shardId;
+        this.hits = hits;
+    }
+
+    public PitExportChunk(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        hits = new SearchHits(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        hits.writeTo(out);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    public SearchHits getHits() {
+        return hits;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Iterates over the live documents matching a query in index order, one batch of top-level doc ids at a time. Unlike a collector
+ * based search this keeps no state beyond the current position, so a shard can stream all its matches with bounded memory and
+ * without ever sorting or scoring them.
+ *
+ * @opensearch.internal
+ */
+public final class PitExportDocIdIterator {
+
+    private final Weight weight;
+    private final List<LeafReaderContext> leaves;
+    private int leafOrd = -1;
+    private LeafReaderContext leaf;
+    private DocIdSetIterator iterator;
+    private Bits liveDocs;
+
+    public PitExportDocIdIterator(IndexSearcher searcher, Query query) throws IOException {
+        this.weight = searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1f);
+        this.leaves = searcher.getIndexReader().leaves();
+    }
+
+    /**
+     * Fills {@code docIds} with the next matching doc ids, in increasing order, and returns how many were written. Returns
+     * {@code 0} once all matches have been consumed.
+     */
+    public int next(int[] docIds) throws IOException {
+        int count = 0;
+        while (count < docIds.length) {
+            if (iterator == null && nextLeaf() == false) {
+                break;
+            }
+            for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                if (liveDocs == null || liveDocs.get(doc)) {
+                    docIds[count++] = leaf.docBase + doc;
+                    if (count == docIds.length) {
+                        return count;
+                    }
+                }
+            }
+            iterator = null;
+        }
+        return count;
+    }
+
+    private boolean nextLeaf() throws IOException {
+        while (++leafOrd < leaves.size()) {
+            leaf = leaves.get(leafOrd);
+            Scorer scorer = weight.scorer(leaf);
+            if (scorer != null) {
+                iterator = scorer.iterator();
+                liveDocs = leaf.reader().getLiveDocs();
+                return true;
+            }
+        }
+        return false;
+    }
+}
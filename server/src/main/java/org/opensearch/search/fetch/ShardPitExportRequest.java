@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.internal.ShardSearchRequest;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Shard level request to stream all the documents matching a query out of a point in time reader context, in chunks of at most
+ * {@link #batchSize()} hits.
+ *
+ * @opensearch.internal
+ */
+public class ShardPitExportRequest extends ShardSearchRequest {
+
+    private final int batchSize;
+
+    public ShardPitExportRequest(ShardSearchRequest request, int batchSize) {
+        super(request);
+        Objects.requireNonNull(request.readerId(), "export requires a point in time reader context");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("[batch_size] must be positive but was [" + batchSize + "]");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public ShardPitExportRequest(StreamInput in) throws IOException {
+        super(in);
+        batchSize = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(batchSize);
+    }
+
+    /**
+     * The maximum number of hits to send per chunk.
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+}
@@ -35,6 +35,7 @@ package org.opensearch.search.fetch.subphase;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.xcontent.support.XContentFieldFilter;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.core.ParseField;
 import org.opensearch.core.common.ParsingException;
@@ -77,6 +78,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private XContentFieldFilter fieldFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -375,4 +377,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter that applies the includes and excludes of this context on the token stream of the source, without
+     * converting it to a map.
+     */
+    XContentFieldFilter getFieldFilter() {
+        if (fieldFilter == null) {
+            fieldFilter = XContentFieldFilter.newFieldFilter(includes, excludes, true);
+        }
+        return fieldFilter;
+    }
 }
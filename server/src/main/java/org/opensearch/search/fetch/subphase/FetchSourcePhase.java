@@ -35,6 +35,7 @@ package org.opensearch.search.fetch.subphase;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.support.XContentFieldFilter;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.search.SearchHit;
@@ -96,6 +97,17 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If this is a parent document, filter the source on the fly without converting it to a map.
+        if (nestedHit == false && source.internalSourceRef() != null) {
+            try {
+                XContentFieldFilter filter = fetchSourceContext.getFieldFilter();
+                hitContext.hit().sourceRef(filter.apply(source.internalSourceRef(), source.sourceContentType()));
+            } catch (IOException e) {
+                throw new OpenSearchException("Error filtering source", e);
+            }
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
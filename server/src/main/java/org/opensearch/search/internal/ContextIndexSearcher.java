@@ -86,6 +86,7 @@ import org.opensearch.search.profile.Timer;
 import org.opensearch.search.profile.query.ProfileWeight;
 import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.search.profile.query.QueryTimingType;
+import org.opensearch.search.profile.query.SliceResult;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -95,10 +96,12 @@ import org.opensearch.search.streaming.FlushMode;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
 
 /**
@@ -121,6 +124,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private volatile int plannedSliceCount = -1;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -289,6 +293,84 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         search(partitions, weight, collector);
     }
 
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        final int targetMaxSlice = searchContext.getTargetMaxSliceCount();
+        if (searchContext.shouldUseConcurrentSearch() == false
+            || targetMaxSlice <= 0
+            || SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_COST.equals(searchContext.getPartitionStrategy()) == false) {
+            return super.search(query, collectorManager);
+        }
+        // Same as IndexSearcher#search(Query, CollectorManager) except that slices are planned for this query, on its estimated
+        // cost per leaf, instead of reusing the query-agnostic slices computed once for the searcher
+        final C firstCollector = collectorManager.newCollector();
+        final ScoreMode scoreMode = firstCollector.scoreMode();
+        query = scoreMode.needsScores() ? rewrite(query) : rewrite(new ConstantScoreQuery(query));
+        final Weight weight = createWeight(query, scoreMode, 1);
+        // estimating the cost is not part of the query execution, keep it out of the profiled timings
+        final Weight costWeight = weight instanceof ProfileWeight profileWeight ? profileWeight.getSubQueryWeight() : weight;
+        final CostBasedSliceSupplier.Plan plan = CostBasedSliceSupplier.getSlices(
+            getLeafContexts(),
+            costWeight,
+            targetMaxSlice,
+            searchContext.shouldUseIntraSegmentSearch(),
+            searchContext.getPartitionMinSegmentSize()
+        );
+        final LeafSlice[] leafSlices = plan.slices();
+        plannedSliceCount = leafSlices.length;
+        logger.debug("Slice count using cost based slice supplier [{}]", leafSlices.length);
+        if (leafSlices.length == 0) {
+            return collectorManager.reduce(Collections.singletonList(firstCollector));
+        }
+        final List<C> collectors = new ArrayList<>(leafSlices.length);
+        collectors.add(firstCollector);
+        for (int i = 1; i < leafSlices.length; ++i) {
+            final C collector = collectorManager.newCollector();
+            if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+            collectors.add(collector);
+        }
+        final long[] sliceTimes = new long[leafSlices.length];
+        final List<Callable<C>> tasks = new ArrayList<>(leafSlices.length);
+        for (int i = 0; i < leafSlices.length; ++i) {
+            final int slice = i;
+            final LeafReaderContextPartition[] partitions = leafSlices[i].partitions;
+            final C collector = collectors.get(i);
+            tasks.add(() -> {
+                final long start = System.nanoTime();
+                try {
+                    search(partitions, weight, collector);
+                } finally {
+                    sliceTimes[slice] = System.nanoTime() - start;
+                }
+                return collector;
+            });
+        }
+        final List<C> results = getTaskExecutor().invokeAll(tasks);
+        if (profiler != null) {
+            final List<SliceResult> sliceResults = new ArrayList<>(leafSlices.length);
+            for (int i = 0; i < leafSlices.length; ++i) {
+                long docCount = 0;
+                for (LeafReaderContextPartition partition : leafSlices[i].partitions) {
+                    docCount += MaxTargetSliceSupplier.getPartitionDocCount(partition);
+                }
+                sliceResults.add(new SliceResult(leafSlices[i].partitions.length, docCount, plan.estimatedCosts()[i], sliceTimes[i]));
+            }
+            profiler.setSlices(sliceResults);
+        }
+        return collectorManager.reduce(results);
+    }
+
+    /**
+     * Returns the number of slices the last search was executed with, which may differ from {@link #getSlices()} if slices were
+     * planned for the query itself.
+     */
+    public int getSliceCount() {
+        final int sliceCount = plannedSliceCount;
+        return sliceCount >= 0 ? sliceCount : getSlices().length;
+    }
+
     public void search(
         Query query,
         CollectorManager<?, TopFieldDocs> manager,
@@ -308,6 +390,13 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         result.topDocs(new TopDocsAndMaxScore(mergedTopDocs, Float.NaN), formats);
     }
 
+    /**
+     * Collects the given weight over a single leaf, as used to compute per-segment partial results.
+     */
+    public void search(LeafReaderContext leaf, Weight weight, Collector collector) throws IOException {
+        search(new LeafReaderContextPartition[] { LeafReaderContextPartition.createForEntireSegment(leaf) }, weight, collector);
+    }
+
     @Override
     protected void search(LeafReaderContextPartition[] partitions, Weight weight, Collector collector) throws IOException {
         searchContext.indexShard().getSearchOperationListener().onPreSliceExecution(searchContext);
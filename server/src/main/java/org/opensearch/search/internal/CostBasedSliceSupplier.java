@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.IndexSearcher.LeafReaderContextPartition;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supplier to compute leaf slices based on the estimated cost of the query on each leaf rather than on the leaf's doc count. The cost
+ * of a leaf is the {@link ScorerSupplier#cost()} of the query's {@link Weight}, which already accounts for term doc frequencies and
+ * point count estimates, so a large segment that barely matches does not dominate a slice while a small segment that matches
+ * everything is not considered cheap.
+ * <p>
+ * If intra-segment search is allowed, leaves whose cost exceeds the fair share of a slice are split into doc id partitions, assuming
+ * matches are spread uniformly within the leaf. Partitions are then distributed to slices with the same LPT algorithm as
+ * {@link MaxTargetSliceSupplier}, balancing on cost.
+ *
+ * @opensearch.internal
+ */
+final class CostBasedSliceSupplier {
+
+    /**
+     * The planned slices along with the estimated cost of each of them.
+     */
+    record Plan(IndexSearcher.LeafSlice[] slices, long[] estimatedCosts) {}
+
+    private CostBasedSliceSupplier() {}
+
+    static Plan getSlices(
+        List<LeafReaderContext> leaves,
+        Weight weight,
+        int targetMaxSlice,
+        boolean useIntraSegmentSearch,
+        int minSegmentSize
+    ) throws IOException {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostBasedSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (leaves.isEmpty()) {
+            return new Plan(new IndexSearcher.LeafSlice[0], new long[0]);
+        }
+        long[] leafCosts = new long[leaves.size()];
+        long totalCost = 0;
+        for (int i = 0; i < leaves.size(); i++) {
+            leafCosts[i] = estimateCost(weight, leaves.get(i));
+            totalCost += leafCosts[i];
+        }
+        long maxCostPerPartition = Math.max(1, (totalCost + targetMaxSlice - 1) / targetMaxSlice);
+        Map<LeafReaderContextPartition, Long> partitionCosts = new IdentityHashMap<>();
+        List<LeafReaderContextPartition> partitions = new ArrayList<>(leaves.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            LeafReaderContext leaf = leaves.get(i);
+            long leafCost = leafCosts[i];
+            int segmentSize = leaf.reader().maxDoc();
+            int from = partitions.size();
+            if (useIntraSegmentSearch && leafCost > maxCostPerPartition && segmentSize >= minSegmentSize) {
+                long numPartitions = (leafCost + maxCostPerPartition - 1) / maxCostPerPartition;
+                numPartitions = Math.min(numPartitions, Math.min(targetMaxSlice, segmentSize));
+                MaxTargetSliceSupplier.addPartitions(partitions, leaf, (int) numPartitions);
+            } else {
+                partitions.add(LeafReaderContextPartition.createForEntireSegment(leaf));
+            }
+            for (LeafReaderContextPartition partition : partitions.subList(from, partitions.size())) {
+                int docCount = MaxTargetSliceSupplier.getPartitionDocCount(partition);
+                partitionCosts.put(partition, segmentSize == 0 ? 0 : leafCost * docCount / segmentSize);
+            }
+        }
+        IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.distributePartitions(partitions, targetMaxSlice, partitionCosts::get);
+        long[] estimatedCosts = new long[slices.length];
+        for (int i = 0; i < slices.length; i++) {
+            for (LeafReaderContextPartition partition : slices[i].partitions) {
+                estimatedCosts[i] += partitionCosts.get(partition);
+            }
+        }
+        return new Plan(slices, estimatedCosts);
+    }
+
+    /**
+     * Estimates the cost of the given weight on the given leaf, bounded by the leaf's doc count. Leaves the weight does not match at
+     * all cost nothing.
+     */
+    static long estimateCost(Weight weight, LeafReaderContext leaf) throws IOException {
+        ScorerSupplier scorerSupplier = weight.scorerSupplier(leaf);
+        if (scorerSupplier == null) {
+            return 0;
+        }
+        return Math.max(1, Math.min(scorerSupplier.cost(), leaf.reader().maxDoc()));
+    }
+}
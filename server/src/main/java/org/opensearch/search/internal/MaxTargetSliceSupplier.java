@@ -18,6 +18,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import static org.opensearch.search.SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_STRATEGY_FORCE;
 
@@ -102,7 +103,7 @@ final class MaxTargetSliceSupplier {
     /**
      * Creates partitions for a segment and adds them to the list.
      */
-    private static void addPartitions(List<LeafReaderContextPartition> partitions, LeafReaderContext leaf, int numPartitions) {
+    static void addPartitions(List<LeafReaderContextPartition> partitions, LeafReaderContext leaf, int numPartitions) {
         int segmentSize = leaf.reader().maxDoc();
         if (numPartitions > 1) {
             int docsPerPartition = segmentSize / numPartitions;
@@ -121,19 +122,30 @@ final class MaxTargetSliceSupplier {
      * that same-segment partitions must be in different slices.
      */
     static IndexSearcher.LeafSlice[] distributePartitions(List<LeafReaderContextPartition> partitions, int targetMaxSlice) {
+        return distributePartitions(partitions, targetMaxSlice, MaxTargetSliceSupplier::getPartitionDocCount);
+    }
+
+    /**
+     * Same as {@link #distributePartitions(List, int)} but balances slices on the given per-partition load rather than on doc count.
+     */
+    static IndexSearcher.LeafSlice[] distributePartitions(
+        List<LeafReaderContextPartition> partitions,
+        int targetMaxSlice,
+        ToLongFunction<LeafReaderContextPartition> loadFunction
+    ) {
         if (partitions.isEmpty()) {
             return new IndexSearcher.LeafSlice[0];
         }
         int sliceCount = Math.min(targetMaxSlice, partitions.size());
-        // Sort partitions by doc count descending
-        partitions.sort(Collections.reverseOrder(Comparator.comparingInt(MaxTargetSliceSupplier::getPartitionDocCount)));
+        // Sort partitions by load descending
+        partitions.sort(Collections.reverseOrder(Comparator.comparingLong(loadFunction)));
         GroupWithSegmentTracking[] slices = new GroupWithSegmentTracking[sliceCount];
         for (int i = 0; i < sliceCount; i++) {
             slices[i] = new GroupWithSegmentTracking(i);
         }
         for (LeafReaderContextPartition partition : partitions) {
             int segmentOrd = partition.ctx.ord;
-            int docCount = getPartitionDocCount(partition);
+            long load = loadFunction.applyAsLong(partition);
             // Find slice with minimum load that doesn't have this segment
             GroupWithSegmentTracking targetSlice = null;
             long minLoad = Long.MAX_VALUE;
@@ -143,7 +155,7 @@ final class MaxTargetSliceSupplier {
                     targetSlice = slice;
                 }
             }
-            targetSlice.addPartition(partition, docCount);
+            targetSlice.addPartition(partition, load);
         }
         // Collect non-empty slices
         List<IndexSearcher.LeafSlice> result = new ArrayList<>(sliceCount);
@@ -155,7 +167,7 @@ final class MaxTargetSliceSupplier {
         return result.toArray(new IndexSearcher.LeafSlice[0]);
     }
 
-    private static int getPartitionDocCount(LeafReaderContextPartition partition) {
+    static int getPartitionDocCount(LeafReaderContextPartition partition) {
         if (partition.maxDocId == Integer.MAX_VALUE) {
             return partition.ctx.reader().maxDoc();
         }
@@ -577,6 +577,13 @@ public abstract class SearchContext implements Releasable {
         return false;
     }
 
+    /**
+     * Whether the fetch phase loads the stored fields of the hits concurrently, one task per segment.
+     */
+    public boolean concurrentFetchStoredFieldsEnabled() {
+        return false;
+    }
+
     @ExperimentalApi
     public void setStreamChannelListener(StreamSearchChannelListener<SearchPhaseResult, ShardSearchRequest> listener) {
         throw new IllegalStateException("Set search channel listener should be implemented for stream search");
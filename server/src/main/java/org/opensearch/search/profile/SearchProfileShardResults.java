@@ -214,7 +214,8 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
             QueryProfileShardResult result = new QueryProfileShardResult(
                 queryProfiler.getTree(),
                 queryProfiler.getRewriteTime(),
-                queryProfiler.getCollector()
+                queryProfiler.getCollector(),
+                queryProfiler.getSlices()
             );
             queryResults.add(result);
         }
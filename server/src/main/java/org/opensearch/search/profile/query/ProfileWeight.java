@@ -115,6 +115,13 @@ public final class ProfileWeight extends Weight {
         return false;
     }
 
+    /**
+     * @return the wrapped weight, for callers that need to consult it without being accounted for in the profile
+     */
+    public Weight getSubQueryWeight() {
+        return subQueryWeight;
+    }
+
     public void associateCollectorToLeaves(LeafReaderContext leaf, Collector collector) {
         profile.associateCollectorToLeaves(collector, leaf);
     }
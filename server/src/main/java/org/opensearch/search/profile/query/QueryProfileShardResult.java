@@ -32,6 +32,7 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -60,6 +61,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
     public static final String COLLECTOR = "collector";
     public static final String REWRITE_TIME = "rewrite_time";
     public static final String QUERY_ARRAY = "query";
+    public static final String SLICES = "slices";
 
     private final List<ProfileResult> queryProfileResults;
 
@@ -67,11 +69,23 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    private final List<SliceResult> sliceResults;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, profileCollector, Collections.emptyList());
+    }
+
+    public QueryProfileShardResult(
+        List<ProfileResult> queryProfileResults,
+        long rewriteTime,
+        CollectorResult profileCollector,
+        List<SliceResult> sliceResults
+    ) {
         assert (profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.sliceResults = sliceResults;
     }
 
     /**
@@ -86,6 +100,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            sliceResults = in.readList(SliceResult::new);
+        } else {
+            sliceResults = Collections.emptyList();
+        }
     }
 
     @Override
@@ -96,6 +115,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeList(sliceResults);
+        }
     }
 
     public List<ProfileResult> getQueryResults() {
@@ -110,6 +132,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return profileCollector;
     }
 
+    /**
+     * @return the per-slice timings if the slices of the search were planned on the estimated cost of the query, empty otherwise
+     */
+    public List<SliceResult> getSliceResults() {
+        return Collections.unmodifiableList(sliceResults);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -122,6 +151,13 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
+        if (sliceResults.isEmpty() == false) {
+            builder.startArray(SLICES);
+            for (SliceResult sliceResult : sliceResults) {
+                sliceResult.toXContent(builder, params);
+            }
+            builder.endArray();
+        }
         builder.endObject();
         return builder;
     }
@@ -133,6 +169,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
         CollectorResult collector = null;
+        List<SliceResult> sliceResults = new ArrayList<>();
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
@@ -151,6 +188,10 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                     while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
                         collector = CollectorResult.fromXContent(parser);
                     }
+                } else if (SLICES.equals(currentFieldName)) {
+                    while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                        sliceResults.add(SliceResult.fromXContent(parser));
+                    }
                 } else {
                     parser.skipChildren();
                 }
@@ -158,6 +199,6 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector, sliceResults);
     }
 }
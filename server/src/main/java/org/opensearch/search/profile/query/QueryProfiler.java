@@ -38,6 +38,7 @@ import org.opensearch.search.profile.AbstractProfileBreakdown;
 import org.opensearch.search.profile.AbstractProfiler;
 import org.opensearch.search.profile.ContextualProfileBreakdown;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -62,6 +63,11 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
      */
     private InternalProfileComponent collector;
 
+    /**
+     * Per-slice timings, only recorded when slices are planned on the estimated cost of the query
+     */
+    private List<SliceResult> slices = Collections.emptyList();
+
     public QueryProfiler() {
         this(new InternalQueryProfileTree(query -> List.of()));
     }
@@ -110,6 +116,21 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
         return collector.getCollectorTree();
     }
 
+    /**
+     * Set the per-slice timings of the search associated with this profiler.
+     */
+    public void setSlices(List<SliceResult> slices) {
+        this.slices = Objects.requireNonNull(slices);
+    }
+
+    /**
+     * Return the per-slice timings of the search associated with this profiler, empty unless slices were planned on the estimated
+     * cost of the query
+     */
+    public List<SliceResult> getSlices() {
+        return slices;
+    }
+
     /**
      * Return the top level breakdown for plugins to use
      */
@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.query;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * Profiled timing of a single slice of a concurrent segment search whose slices were planned on the estimated cost of the query,
+ * along with what the planner expected from the slice.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class SliceResult implements Writeable, ToXContentObject {
+
+    private static final ParseField PARTITIONS = new ParseField("partitions");
+    private static final ParseField DOC_COUNT = new ParseField("doc_count");
+    private static final ParseField ESTIMATED_COST = new ParseField("estimated_cost");
+    private static final ParseField TIME = new ParseField("time");
+    private static final ParseField TIME_NANOS = new ParseField("time_in_nanos");
+
+    private final int partitions;
+    private final long docCount;
+    private final long estimatedCost;
+    private final long time;
+
+    public SliceResult(int partitions, long docCount, long estimatedCost, long time) {
+        this.partitions = partitions;
+        this.docCount = docCount;
+        this.estimatedCost = estimatedCost;
+        this.time = time;
+    }
+
+    /**
+     * Read from a stream.
+     */
+    public SliceResult(StreamInput in) throws IOException {
+        partitions = in.readVInt();
+        docCount = in.readVLong();
+        estimatedCost = in.readVLong();
+        time = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(partitions);
+        out.writeVLong(docCount);
+        out.writeVLong(estimatedCost);
+        out.writeVLong(time);
+    }
+
+    /**
+     * @return the number of leaf partitions searched by this slice
+     */
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * @return the number of docs covered by the partitions of this slice
+     */
+    public long getDocCount() {
+        return docCount;
+    }
+
+    /**
+     * @return the cost of this slice as estimated by the planner
+     */
+    public long getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    /**
+     * @return the time taken to search this slice, in nanoseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(PARTITIONS.getPreferredName(), partitions);
+        builder.field(DOC_COUNT.getPreferredName(), docCount);
+        builder.field(ESTIMATED_COST.getPreferredName(), estimatedCost);
+        if (builder.humanReadable()) {
+            builder.field(TIME.getPreferredName(), new TimeValue(time, TimeUnit.NANOSECONDS).toString());
+        }
+        builder.field(TIME_NANOS.getPreferredName(), time);
+        return builder.endObject();
+    }
+
+    public static SliceResult fromXContent(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+        String currentFieldName = null;
+        int partitions = 0;
+        long docCount = 0;
+        long estimatedCost = 0;
+        long time = 0;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue()) {
+                if (PARTITIONS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    partitions = parser.intValue();
+                } else if (DOC_COUNT.match(currentFieldName, parser.getDeprecationHandler())) {
+                    docCount = parser.longValue();
+                } else if (ESTIMATED_COST.match(currentFieldName, parser.getDeprecationHandler())) {
+                    estimatedCost = parser.longValue();
+                } else if (TIME.match(currentFieldName, parser.getDeprecationHandler())) {
+                    // we need to consume this value, but we use the raw nanosecond value
+                    parser.text();
+                } else if (TIME_NANOS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    time = parser.longValue();
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new SliceResult(partitions, docCount, estimatedCost, time);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SliceResult that = (SliceResult) o;
+        return partitions == that.partitions && docCount == that.docCount && estimatedCost == that.estimatedCost && time == that.time;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitions, docCount, estimatedCost, time);
+    }
+}
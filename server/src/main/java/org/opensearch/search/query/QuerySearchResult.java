@@ -34,11 +34,14 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.node.NodeResourceUsageStats;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchPhaseResult;
@@ -87,6 +90,8 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    @Nullable
+    private NodeResourceUsageStats nodeResourceUsageStats;
 
     private final boolean isNull;
 
@@ -327,6 +332,19 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * The resource usage of the node that executed the query, piggybacked for adaptive replica selection.
+     */
+    @Nullable
+    public NodeResourceUsageStats nodeResourceUsageStats() {
+        return this.nodeResourceUsageStats;
+    }
+
+    public QuerySearchResult nodeResourceUsageStats(@Nullable NodeResourceUsageStats nodeResourceUsageStats) {
+        this.nodeResourceUsageStats = nodeResourceUsageStats;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -366,6 +384,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
         nodeQueueSize = in.readInt();
         setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
         setRescoreDocIds(new RescoreDocIds(in));
+        if (in.getVersion().onOrAfter(Version.V_3_8_0)) {
+            nodeResourceUsageStats = in.readOptionalWriteable(NodeResourceUsageStats::new);
+        }
     }
 
     @Override
@@ -408,6 +429,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
         out.writeInt(nodeQueueSize);
         out.writeOptionalWriteable(getShardSearchRequest());
         getRescoreDocIds().writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_8_0)) {
+            out.writeOptionalWriteable(nodeResourceUsageStats);
+        }
     }
 
     public TotalHits getTotalHits() {
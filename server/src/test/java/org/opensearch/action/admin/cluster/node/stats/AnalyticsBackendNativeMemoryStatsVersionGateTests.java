@@ -160,7 +160,12 @@ public class AnalyticsBackendNativeMemoryStatsVersionGateTests extends OpenSearc
             null, // remoteStoreNodeStats
             null, // nativeAllocator
             nativeMemoryStats,
-            -1L  // totalEstimatedNativeBytes
+            -1L, // totalEstimatedNativeBytes
+            null, // translogSyncCoordinatorStats
+            null, // mergeCoordinatorStats
+            null, // refreshSchedulerStats
+            null, // indexingBufferStats
+            null // resolvedExpressionCacheStats
         );
     }
 }
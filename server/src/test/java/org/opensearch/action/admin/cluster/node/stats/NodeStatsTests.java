@@ -42,6 +42,8 @@ import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.cluster.coordination.PendingClusterStateStats;
 import org.opensearch.cluster.coordination.PersistedStateStats;
 import org.opensearch.cluster.coordination.PublishClusterStateStats;
+import org.opensearch.cluster.metadata.IndexMetadataDeduplicationStats;
+import org.opensearch.cluster.metadata.ResolvedExpressionCacheStats;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
@@ -85,7 +87,11 @@ import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.RemoteTranslogStats;
+import org.opensearch.indices.IndexingBufferStats;
 import org.opensearch.indices.NodeIndicesStats;
+import org.opensearch.indices.NodeMergeCoordinatorStats;
+import org.opensearch.indices.RefreshSchedulerStats;
+import org.opensearch.indices.TranslogSyncCoordinatorStats;
 import org.opensearch.ingest.IngestStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.monitor.jvm.JvmStats;
@@ -413,6 +419,34 @@ public class NodeStatsTests extends OpenSearchTestCase {
                         assertEquals(remoteStateStats.getFailedCount(), deserializedRemoteStateStats.getFailedCount());
                         assertEquals(remoteStateStats.getSuccessCount(), deserializedRemoteStateStats.getSuccessCount());
                         assertEquals(remoteStateStats.getTotalTimeInMillis(), deserializedRemoteStateStats.getTotalTimeInMillis());
+                        IndexMetadataDeduplicationStats deduplicationStats = stateStats.getDeduplicationStats();
+                        IndexMetadataDeduplicationStats deserializedDeduplicationStats = deserializedDiscoveryStats.getClusterStateStats()
+                            .getDeduplicationStats();
+                        if (deduplicationStats == null) {
+                            assertNull(deserializedDeduplicationStats);
+                        } else {
+                            assertEquals(
+                                deduplicationStats.getSettingsRawSizeInBytes(),
+                                deserializedDeduplicationStats.getSettingsRawSizeInBytes()
+                            );
+                            assertEquals(
+                                deduplicationStats.getSettingsDeduplicatedSizeInBytes(),
+                                deserializedDeduplicationStats.getSettingsDeduplicatedSizeInBytes()
+                            );
+                            assertEquals(deduplicationStats.getMappingsCount(), deserializedDeduplicationStats.getMappingsCount());
+                            assertEquals(
+                                deduplicationStats.getMappingsSharedCount(),
+                                deserializedDeduplicationStats.getMappingsSharedCount()
+                            );
+                            assertEquals(
+                                deduplicationStats.getMappingsRawSizeInBytes(),
+                                deserializedDeduplicationStats.getMappingsRawSizeInBytes()
+                            );
+                            assertEquals(
+                                deduplicationStats.getMappingsDeduplicatedSizeInBytes(),
+                                deserializedDeduplicationStats.getMappingsDeduplicatedSizeInBytes()
+                            );
+                        }
                     }
                 }
                 IngestStats ingestStats = nodeStats.getIngestStats();
@@ -622,6 +656,21 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 } else {
                     assertEquals(remoteStoreNodeStats, deserializedRemoteStoreNodeStats);
                 }
+
+                assertEquals(nodeStats.getTranslogSyncCoordinatorStats(), deserializedNodeStats.getTranslogSyncCoordinatorStats());
+                assertEquals(nodeStats.getMergeCoordinatorStats(), deserializedNodeStats.getMergeCoordinatorStats());
+                assertEquals(nodeStats.getRefreshSchedulerStats(), deserializedNodeStats.getRefreshSchedulerStats());
+                assertEquals(nodeStats.getIndexingBufferStats(), deserializedNodeStats.getIndexingBufferStats());
+                ResolvedExpressionCacheStats resolvedExpressionCacheStats = nodeStats.getResolvedExpressionCacheStats();
+                ResolvedExpressionCacheStats deserializedResolvedExpressionCacheStats = deserializedNodeStats
+                    .getResolvedExpressionCacheStats();
+                if (resolvedExpressionCacheStats == null) {
+                    assertNull(deserializedResolvedExpressionCacheStats);
+                } else {
+                    assertEquals(resolvedExpressionCacheStats.getHits(), deserializedResolvedExpressionCacheStats.getHits());
+                    assertEquals(resolvedExpressionCacheStats.getMisses(), deserializedResolvedExpressionCacheStats.getMisses());
+                    assertEquals(resolvedExpressionCacheStats.getEvictions(), deserializedResolvedExpressionCacheStats.getEvictions());
+                }
             }
         }
     }
@@ -835,6 +884,21 @@ public class NodeStatsTests extends OpenSearchTestCase {
         ClusterStateStats stateStats = new ClusterStateStats();
         RemotePersistenceStats remoteStateStats = new RemotePersistenceStats();
         stateStats.setPersistenceStats(Arrays.asList(remoteStateStats.getUploadStats()));
+        if (randomBoolean()) {
+            final long settingsRawSize = randomNonNegativeLong();
+            final long mappingsCount = randomNonNegativeLong();
+            final long mappingsRawSize = randomNonNegativeLong();
+            stateStats.setDeduplicationStats(
+                new IndexMetadataDeduplicationStats(
+                    settingsRawSize,
+                    randomLongBetween(0, settingsRawSize),
+                    mappingsCount,
+                    randomLongBetween(0, mappingsCount),
+                    mappingsRawSize,
+                    randomLongBetween(0, mappingsRawSize)
+                )
+            );
+        }
         DiscoveryStats discoveryStats = frequently()
             ? new DiscoveryStats(
                 randomBoolean() ? new PendingClusterStateStats(randomInt(), randomInt(), randomInt()) : null,
@@ -1020,6 +1084,74 @@ public class NodeStatsTests extends OpenSearchTestCase {
             };
         }
 
+        TranslogSyncCoordinatorStats translogSyncCoordinatorStats = null;
+        if (frequently()) {
+            translogSyncCoordinatorStats = new TranslogSyncCoordinatorStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
+        NodeMergeCoordinatorStats mergeCoordinatorStats = null;
+        if (frequently()) {
+            mergeCoordinatorStats = new NodeMergeCoordinatorStats(
+                randomIntBetween(0, 16),
+                randomNonNegativeLong(),
+                randomIntBetween(0, 16),
+                randomIntBetween(0, 64),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
+        RefreshSchedulerStats refreshSchedulerStats = null;
+        if (frequently()) {
+            refreshSchedulerStats = new RefreshSchedulerStats(
+                randomBoolean(),
+                randomIntBetween(1, 16),
+                randomIntBetween(0, 16),
+                randomIntBetween(0, 64),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
+        IndexingBufferStats indexingBufferStats = null;
+        if (frequently()) {
+            final List<IndexingBufferStats.ShardAllocation> shards = new ArrayList<>();
+            final int numShards = randomIntBetween(0, 5);
+            for (int i = 0; i < numShards; i++) {
+                shards.add(
+                    new IndexingBufferStats.ShardAllocation(
+                        new ShardId(randomAlphaOfLength(5), randomAlphaOfLength(5), i),
+                        randomNonNegativeLong(),
+                        randomDouble(),
+                        randomNonNegativeLong(),
+                        randomNonNegativeLong()
+                    )
+                );
+            }
+            indexingBufferStats = new IndexingBufferStats(randomBoolean(), randomNonNegativeLong(), randomNonNegativeLong(), shards);
+        }
+
+        ResolvedExpressionCacheStats resolvedExpressionCacheStats = null;
+        if (frequently()) {
+            resolvedExpressionCacheStats = new ResolvedExpressionCacheStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong()
+            );
+        }
+
         // TODO: Only remote_store based aspects of NodeIndicesStats are being tested here.
         // It is possible to test other metrics in NodeIndicesStats as well since it extends Writeable now
         return new NodeStats(
@@ -1057,7 +1189,12 @@ public class NodeStatsTests extends OpenSearchTestCase {
             remoteStoreNodeStats,
             null,
             null,
-            -1L
+            -1L,
+            translogSyncCoordinatorStats,
+            mergeCoordinatorStats,
+            refreshSchedulerStats,
+            indexingBufferStats,
+            resolvedExpressionCacheStats
         );
     }
 
@@ -1705,7 +1842,12 @@ public class NodeStatsTests extends OpenSearchTestCase {
             null,
             nativeAllocatorStats,
             null,
-            totalEstimatedNativeBytes
+            totalEstimatedNativeBytes,
+            null,
+            null,
+            null,
+            null,
+            null
         );
     }
 
@@ -355,7 +355,12 @@ public class ClusterStatsNodesTests extends OpenSearchTestCase {
             null,
             null, // nativeAllocator
             null,
-            -1L  // totalEstimatedNativeBytes
+            -1L, // totalEstimatedNativeBytes
+            null, // translogSyncCoordinatorStats
+            null, // mergeCoordinatorStats
+            null, // refreshSchedulerStats
+            null, // indexingBufferStats
+            null // resolvedExpressionCacheStats
         );
         if (defaultBehavior) {
             return new ClusterStatsNodeResponse(node, null, nodeInfo, nodeStats, shardStats);
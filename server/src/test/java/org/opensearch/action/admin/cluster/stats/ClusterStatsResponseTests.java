@@ -227,7 +227,12 @@ public class ClusterStatsResponseTests extends OpenSearchTestCase {
             null,
             null, // nativeAllocator
             null,
-            -1L  // totalEstimatedNativeBytes
+            -1L, // totalEstimatedNativeBytes
+            null, // translogSyncCoordinatorStats
+            null, // mergeCoordinatorStats
+            null, // refreshSchedulerStats
+            null, // indexingBufferStats
+            null // resolvedExpressionCacheStats
         );
         return new ClusterStatsNodeResponse(node, null, nodeInfo, nodeStats, shardStats);
 
@@ -32,14 +32,19 @@
 
 package org.opensearch.action.bulk;
 
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -219,4 +224,119 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
             ex.getMessage()
         );
     }
+
+    public void testReusedMetadataParserMatchesXContentParser() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        final int numLines = randomIntBetween(1, 50);
+        for (int i = 0; i < numLines; i++) {
+            final String action = randomFrom("index", "create", "update", "delete");
+            final List<String> parameters = new ArrayList<>();
+            if (randomBoolean()) {
+                parameters.add("\"_index\": \"" + randomFrom("logs-1", "logs-2") + "\"");
+            }
+            if (randomBoolean()) {
+                parameters.add("\"_id\":\"" + randomAlphaOfLength(8) + "\"");
+            }
+            if (randomBoolean()) {
+                parameters.add("\"routing\" : \"" + randomFrom("a", "b") + "\"");
+            }
+            if (action.equals("update")) {
+                if (randomBoolean()) {
+                    parameters.add("\"retry_on_conflict\": " + randomIntBetween(0, 10));
+                }
+            } else if (randomBoolean()) {
+                parameters.add("\"version\": " + randomLongBetween(-1, Long.MAX_VALUE / 10));
+                parameters.add("\"version_type\": \"" + randomFrom("internal", "external", "external_gte") + "\"");
+            }
+            if (randomBoolean()) {
+                parameters.add("\"if_seq_no\": " + randomNonNegativeLong() / 10);
+                parameters.add("\"if_primary_term\": " + randomLongBetween(1, 100));
+            }
+            if (action.equals("delete") == false && randomBoolean()) {
+                parameters.add("\"pipeline\": \"" + randomFrom("p1", "p2") + "\"");
+            }
+            if (action.equals("index") && randomBoolean()) {
+                parameters.add("\"op_type\": \"" + randomFrom("index", "create") + "\"");
+            }
+            if (randomBoolean()) {
+                parameters.add("\"require_alias\": " + randomBoolean());
+            }
+            Collections.shuffle(parameters, random());
+            builder.append("{ \"").append(action).append("\": {").append(String.join(", ", parameters)).append("} }\n");
+            if (action.equals("delete") == false) {
+                builder.append(action.equals("update") ? "{\"doc\": {\"x\": 1}}\n" : "{\"x\": 1}\n");
+            }
+        }
+        final BytesArray request = new BytesArray(builder.toString());
+        final List<DocWriteRequest<?>> expected = parse(new BulkRequestParser(false), request);
+        final List<DocWriteRequest<?>> actual = parse(new BulkRequestParser(true), request);
+        assertThat(actual, Matchers.hasSize(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameRequest(expected.get(i), actual.get(i));
+        }
+        final int half = request.length() / 2;
+        final List<DocWriteRequest<?>> composite = parse(
+            new BulkRequestParser(true),
+            CompositeBytesReference.of(request.slice(0, half), request.slice(half, request.length() - half))
+        );
+        for (int i = 0; i < expected.size(); i++) {
+            assertSameRequest(expected.get(i), composite.get(i));
+        }
+    }
+
+    public void testReusedMetadataParserFallsBackToXContentParser() throws IOException {
+        final BytesArray request = new BytesArray(
+            "{ \"index\":{ \"_index\": \"foo\", \"_id\": \"b\\u0061r\" } }\n{}\n"
+                + "{ \"update\":{ \"_index\": \"foo\", \"_id\": \"baz\", \"_source\": false } }\n{\"doc\": {}}\n"
+                + "{ \"delete\":{ \"_index\": \"foo\", \"_id\": 12, \"routing\": null } }\n"
+        );
+        final List<DocWriteRequest<?>> requests = parse(new BulkRequestParser(true), request);
+        assertThat(requests, Matchers.hasSize(3));
+        assertEquals("bar", requests.get(0).id());
+        assertFalse(((UpdateRequest) requests.get(1)).fetchSource().fetchSource());
+        assertEquals("12", requests.get(2).id());
+        assertNull(requests.get(2).routing());
+        assertSame(requests.get(0).index(), requests.get(1).index());
+        assertSame(requests.get(0).index(), requests.get(2).index());
+
+        for (String line : List.of(
+            "{ \"index\":{ \"_id\": \"bar\", \"_id\": \"baz\" } }\n{}\n",
+            "{ \"index\":{ \"_id\": \"bar\", \"foo\": \"baz\" } }\n{}\n",
+            "{ \"index\":{ \"version\": 01 } }\n{}\n",
+            "{ \"index\":{ \"version\": -01, \"_id\": \"bar\" } }\n{}\n",
+            "{ \"index\":{ \"if_seq_no\": 007, \"if_primary_term\": 1 } }\n{}\n",
+            "{ \"update\":{ \"retry_on_conflict\": 00 } }\n{\"doc\": {}}\n",
+            "{ \"index\":{ \"_id\": \"bar\" \"routing\": \"baz\" } }\n{}\n"
+        )) {
+            final Exception expected = expectThrows(Exception.class, () -> parse(new BulkRequestParser(false), new BytesArray(line)));
+            final Exception actual = expectThrows(Exception.class, () -> parse(new BulkRequestParser(true), new BytesArray(line)));
+            assertEquals(expected.getClass(), actual.getClass());
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+
+    private static List<DocWriteRequest<?>> parse(BulkRequestParser parser, BytesReference request) throws IOException {
+        final List<DocWriteRequest<?>> requests = new ArrayList<>();
+        parser.parse(request, "foo", null, null, null, null, true, MediaTypeRegistry.JSON, requests::add, requests::add, requests::add);
+        return requests;
+    }
+
+    private static void assertSameRequest(DocWriteRequest<?> expected, DocWriteRequest<?> actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.opType(), actual.opType());
+        assertEquals(expected.index(), actual.index());
+        assertEquals(expected.id(), actual.id());
+        assertEquals(expected.routing(), actual.routing());
+        assertEquals(expected.version(), actual.version());
+        assertEquals(expected.versionType(), actual.versionType());
+        assertEquals(expected.ifSeqNo(), actual.ifSeqNo());
+        assertEquals(expected.ifPrimaryTerm(), actual.ifPrimaryTerm());
+        assertEquals(expected.isRequireAlias(), actual.isRequireAlias());
+        if (expected instanceof IndexRequest) {
+            assertEquals(((IndexRequest) expected).getPipeline(), ((IndexRequest) actual).getPipeline());
+            assertEquals(((IndexRequest) expected).source(), ((IndexRequest) actual).source());
+        } else if (expected instanceof UpdateRequest) {
+            assertEquals(((UpdateRequest) expected).retryOnConflict(), ((UpdateRequest) actual).retryOnConflict());
+        }
+    }
 }
@@ -58,6 +58,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.AllocationId;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -67,6 +68,8 @@ import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
@@ -74,6 +77,7 @@ import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
 import org.opensearch.index.mapper.MetadataFieldMapper;
@@ -248,6 +252,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         when(shard.applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean())).thenReturn(
             mappingUpdate
         );
+        when(shard.indexSettings()).thenReturn(new IndexSettings(indexMetadata(), Settings.EMPTY));
         when(shard.mapperService()).thenReturn(mock(MapperService.class));
 
         items[0] = randomlySetIgnoredPrimaryResponse(items[0]);
@@ -1075,6 +1080,162 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testExecuteAppendOnlyRun() throws Exception {
+        IndexShard shard = newStartedShard(true, appendOnlyBatchSettings(true));
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 10)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(i, autoIdIndexRequest());
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertThat(context.getAppendOnlyRun().size(), equalTo(items.length));
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertFalse(context.hasMoreOperationsToExecute());
+        assertNotNull(context.getLocationToSync());
+
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse primaryResponse = context.getBulkShardRequest().items()[i].primaryResponse();
+            assertThat(primaryResponse.getItemId(), equalTo(i));
+            assertThat(primaryResponse.getId(), equalTo(items[i].request().id()));
+            assertThat(primaryResponse.getOpType(), equalTo(DocWriteRequest.OpType.INDEX));
+            assertFalse(primaryResponse.isFailed());
+            assertThat(primaryResponse.getResponse().getSeqNo(), equalTo((long) i));
+            assertThat(primaryResponse.getResponse().getResult(), equalTo(DocWriteResponse.Result.CREATED));
+        }
+        assertThat(shard.getLocalCheckpoint(), equalTo((long) items.length - 1));
+        assertDocCount(shard, items.length);
+
+        closeShards(shard);
+    }
+
+    public void testExecuteAppendOnlyRunWhenDisabled() throws Exception {
+        IndexShard shard = newStartedShard(true, appendOnlyBatchSettings(false));
+
+        BulkItemRequest[] items = new BulkItemRequest[] {
+            new BulkItemRequest(0, autoIdIndexRequest()),
+            new BulkItemRequest(1, autoIdIndexRequest()) };
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertFalse(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertTrue(context.isInitial());
+        assertSame(items[0].request(), context.getCurrent());
+        assertDocCount(shard, 0);
+
+        closeShards(shard);
+    }
+
+    public void testExecuteAppendOnlyRunWithParseFailureAsLastItem() throws Exception {
+        IndexShard shard = newStartedShard(true, appendOnlyBatchSettings(true));
+
+        // the item with an explicit id ends the run, so the item that fails to parse is the last one of it
+        BulkItemRequest[] items = new BulkItemRequest[] {
+            new BulkItemRequest(0, autoIdIndexRequest()),
+            new BulkItemRequest(1, autoIdIndexRequest()),
+            new BulkItemRequest(2, autoIdIndexRequest().source("{\"foo\" : \"bar}", MediaTypeRegistry.JSON)),
+            new BulkItemRequest(3, new IndexRequest("index").id("id").source(Requests.INDEX_CONTENT_TYPE)) };
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        assertThat(context.getAppendOnlyRun().size(), equalTo(3));
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertTrue(context.hasMoreOperationsToExecute());
+        assertSame(items[3].request(), context.getCurrent());
+
+        assertFalse(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertTrue(
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                new NoopMappingUpdatePerformer(),
+                listener -> {},
+                ASSERTING_DONE_LISTENER
+            )
+        );
+        assertFalse(context.hasMoreOperationsToExecute());
+
+        BulkItemRequest[] completed = context.getBulkShardRequest().items();
+        assertThat(completed[0].primaryResponse().getResponse().getSeqNo(), equalTo(0L));
+        assertThat(completed[1].primaryResponse().getResponse().getSeqNo(), equalTo(1L));
+        BulkItemResponse failedResponse = completed[2].primaryResponse();
+        assertTrue(failedResponse.isFailed());
+        assertThat(failedResponse.getFailure().getCause(), instanceOf(MapperParsingException.class));
+        assertThat(failedResponse.getFailure().getSeqNo(), equalTo(SequenceNumbers.UNASSIGNED_SEQ_NO));
+        assertFalse(completed[3].primaryResponse().isFailed());
+        assertThat(completed[3].primaryResponse().getResponse().getSeqNo(), equalTo(2L));
+        assertDocCount(shard, 3);
+
+        closeShards(shard);
+    }
+
+    public void testExecuteAppendOnlyRunResumesAfterMappingUpdate() throws Exception {
+        IndexShard shard = newStartedShard(true, appendOnlyBatchSettings(true));
+
+        BulkItemRequest[] items = new BulkItemRequest[] {
+            new BulkItemRequest(0, autoIdIndexRequest()),
+            new BulkItemRequest(1, autoIdIndexRequest()),
+            new BulkItemRequest(2, autoIdIndexRequest().source(Requests.INDEX_CONTENT_TYPE, "foo", "bar")),
+            new BulkItemRequest(3, autoIdIndexRequest().source(Requests.INDEX_CONTENT_TYPE, "foo", "baz")) };
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(bulkShardRequest, shard);
+        // the run is indexed up to the item that introduces a new field
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertSame(items[2].request(), context.getCurrent());
+        assertFalse(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertTrue(context.isInitial());
+
+        // that item takes the regular mapping update flow and is then retried
+        AtomicInteger updateCalled = new AtomicInteger();
+        MappingUpdatePerformer mappingUpdater = (update, shardId, listener) -> {
+            updateCalled.incrementAndGet();
+            try {
+                shard.mapperService()
+                    .merge(
+                        MapperService.SINGLE_MAPPING_NAME,
+                        new CompressedXContent(update, ToXContent.EMPTY_PARAMS),
+                        MapperService.MergeReason.MAPPING_UPDATE
+                    );
+            } catch (IOException e) {
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse(null);
+        };
+        assertFalse(
+            TransportShardBulkAction.executeBulkItemRequest(
+                context,
+                null,
+                threadPool::absoluteTimeInMillis,
+                mappingUpdater,
+                listener -> listener.onResponse(null),
+                ASSERTING_DONE_LISTENER
+            )
+        );
+        assertThat(updateCalled.get(), equalTo(1));
+        assertTrue(context.isInitial());
+        assertSame(items[2].request(), context.getCurrent());
+
+        // the rest of the run is batched again, now that the mapping is in place
+        assertThat(context.getAppendOnlyRun().size(), equalTo(2));
+        assertTrue(TransportShardBulkAction.executeAppendOnlyRun(context));
+        assertFalse(context.hasMoreOperationsToExecute());
+
+        for (int i = 0; i < items.length; i++) {
+            BulkItemResponse primaryResponse = context.getBulkShardRequest().items()[i].primaryResponse();
+            assertFalse(primaryResponse.isFailed());
+            assertThat(primaryResponse.getId(), equalTo(items[i].request().id()));
+            assertThat(primaryResponse.getResponse().getSeqNo(), equalTo((long) i));
+        }
+        assertThat(updateCalled.get(), equalTo(1));
+        assertDocCount(shard, items.length);
+
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         final String failureMessage = "simulated primary failure";
@@ -1292,6 +1453,7 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
             );
             when(shard.getFailedIndexResult(any(OpenSearchRejectedExecutionException.class), anyLong())).thenCallRealMethod();
             when(shard.mapperService()).thenReturn(mock(MapperService.class));
+            when(shard.indexSettings()).thenReturn(new IndexSettings(indexMetadata(), Settings.EMPTY));
 
             items[0] = randomlySetIgnoredPrimaryResponse(items[0]);
 
@@ -1522,6 +1684,17 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         return new TestTransportChannel(listener);
     }
 
+    private static Settings appendOnlyBatchSettings(boolean enabled) {
+        return Settings.builder().put(IndexSettings.INDEX_APPEND_ONLY_BATCH_ENABLED_SETTING.getKey(), enabled).build();
+    }
+
+    /** An index request with an auto-generated id, as the coordinating node hands it to the primary */
+    private static IndexRequest autoIdIndexRequest() {
+        IndexRequest request = new IndexRequest("index").source(Requests.INDEX_CONTENT_TYPE);
+        request.process(Version.CURRENT, null, "index");
+        return request;
+    }
+
     private BulkItemRequest randomlySetIgnoredPrimaryResponse(BulkItemRequest primaryRequest) {
         if (randomBoolean()) {
             // add a response to the request and thereby check that it is ignored for the primary.
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.search.AbstractSearchTestCase;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.search.fetch.ShardPitExportRequest;
+import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.sort.SortOrder;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+public class PitExportRequestTests extends AbstractSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        PitExportRequest request = new PitExportRequest(randomAlphaOfLength(20)).source(
+            randomBoolean() ? null : createSearchSourceBuilder()
+        )
+            .setBatchSize(randomIntBetween(1, 10_000))
+            .setMaxConcurrentShardRequests(randomIntBetween(1, 10))
+            .setKeepAlive(randomBoolean() ? null : TimeValue.timeValueMinutes(randomIntBetween(1, 60)));
+        PitExportRequest deserialized = copyWriteable(request, namedWriteableRegistry, PitExportRequest::new);
+        assertEquals(request.getPitId(), deserialized.getPitId());
+        assertEquals(request.source(), deserialized.source());
+        assertEquals(request.getBatchSize(), deserialized.getBatchSize());
+        assertEquals(request.getMaxConcurrentShardRequests(), deserialized.getMaxConcurrentShardRequests());
+        assertEquals(request.getKeepAlive(), deserialized.getKeepAlive());
+    }
+
+    public void testValidation() {
+        PitExportRequest request = new PitExportRequest("pit");
+        assertNull(request.validate());
+        request.source(new SearchSourceBuilder().fetchSource(new String[] { "field" }, Strings.EMPTY_ARRAY));
+        assertNull(request.validate());
+
+        request.setBatchSize(0).setMaxConcurrentShardRequests(-1);
+        request.source(
+            new SearchSourceBuilder().aggregation(AggregationBuilders.terms("terms").field("field"))
+                .sort("field", SortOrder.ASC)
+                .searchAfter(new Object[] { 1 })
+                .pointInTimeBuilder(new PointInTimeBuilder("pit"))
+        );
+        ActionRequestValidationException e = request.validate();
+        assertNotNull(e);
+        assertThat(
+            e.validationErrors(),
+            containsInAnyOrder(
+                "[batch_size] must be positive but was [0]",
+                "[max_concurrent_shard_requests] must be positive but was [-1]",
+                "[aggs] are not supported in an export",
+                "[sort] is not supported in an export",
+                "[search_after] is not supported in an export",
+                "[pit] must not be set in the source, the point in time to export is given by the request"
+            )
+        );
+    }
+
+    public void testShardRequestSerialization() throws IOException {
+        SearchRequest searchRequest = new SearchRequest().source(randomBoolean() ? null : createSearchSourceBuilder())
+            .allowPartialSearchResults(false);
+        ShardSearchRequest shardRequest = new ShardSearchRequest(
+            new OriginalIndices(new String[] { "index" }, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            searchRequest,
+            new ShardId("index", UUIDs.randomBase64UUID(), randomIntBetween(0, 10)),
+            randomIntBetween(1, 10),
+            AliasFilter.EMPTY,
+            1.0f,
+            randomNonNegativeLong(),
+            null,
+            Strings.EMPTY_ARRAY,
+            new ShardSearchContextId(UUIDs.randomBase64UUID(), randomNonNegativeLong()),
+            randomBoolean() ? null : TimeValue.timeValueMinutes(randomIntBetween(1, 60))
+        );
+        ShardPitExportRequest request = new ShardPitExportRequest(shardRequest, randomIntBetween(1, 10_000));
+        ShardPitExportRequest deserialized = copyWriteable(request, namedWriteableRegistry, ShardPitExportRequest::new);
+        assertEquals(request.batchSize(), deserialized.batchSize());
+        assertEquals(request.shardId(), deserialized.shardId());
+        assertEquals(request.readerId(), deserialized.readerId());
+        assertEquals(request.keepAlive(), deserialized.keepAlive());
+        assertEquals(request.source(), deserialized.source());
+
+        expectThrows(IllegalArgumentException.class, () -> new ShardPitExportRequest(shardRequest, 0));
+    }
+
+    public void testChunkSerialization() throws IOException {
+        SearchHit[] hits = new SearchHit[randomIntBetween(0, 10)];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = new SearchHit(i, Integer.toString(i), null, null);
+        }
+        PitExportChunk chunk = new PitExportChunk(new ShardId("index", UUIDs.randomBase64UUID(), 0), new SearchHits(hits, null, Float.NaN));
+        PitExportChunk deserialized = copyWriteable(chunk, namedWriteableRegistry, PitExportChunk::new);
+        assertEquals(chunk.getShardId(), deserialized.getShardId());
+        assertEquals(hits.length, deserialized.getHits().getHits().length);
+        for (int i = 0; i < hits.length; i++) {
+            assertEquals(hits[i].getId(), deserialized.getHits().getAt(i).getId());
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.Max;
 import org.opensearch.search.aggregations.metrics.Min;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.telemetry.tracing.Tracer;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 import org.opensearch.threadpool.ThreadPool;
@@ -45,12 +46,17 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static org.opensearch.common.util.FeatureFlags.STREAM_TRANSPORT;
+import static org.hamcrest.Matchers.containsString;
 
 /**
  * Integration tests for streaming search functionality.
@@ -339,6 +345,45 @@ public class StreamSearchIntegrationTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    @LockFeatureFlag(STREAM_TRANSPORT)
+    public void testPitExportReturnsAllMatches() {
+        CreatePitRequest createPitRequest = new CreatePitRequest(TimeValue.timeValueMinutes(1), false, TEST_INDEX);
+        String pitId = client().execute(CreatePitAction.INSTANCE, createPitRequest).actionGet().getId();
+        try {
+            List<SearchHit> hits = Collections.synchronizedList(new ArrayList<>());
+            PitExportRequest exportRequest = new PitExportRequest(pitId).setBatchSize(randomIntBetween(1, 20))
+                .setMaxConcurrentShardRequests(randomIntBetween(1, NUM_SHARDS))
+                .setChunkConsumer(chunk -> Collections.addAll(hits, chunk.getHits().getHits()));
+            PitExportResponse response = client().execute(PitExportAction.INSTANCE, exportRequest).actionGet();
+            assertEquals(90, response.getExportedHits());
+            assertEquals(90, hits.size());
+            Set<String> ids = new HashSet<>();
+            for (SearchHit hit : hits) {
+                assertTrue("Hit should contain field1", hit.getSourceAsMap().containsKey("field1"));
+                assertTrue("Hits should be exported once", ids.add(hit.getId()));
+            }
+
+            hits.clear();
+            exportRequest = new PitExportRequest(pitId).source(
+                new SearchSourceBuilder().query(QueryBuilders.termQuery("field1", "value1")).fetchSource("number", null)
+            ).setChunkConsumer(chunk -> Collections.addAll(hits, chunk.getHits().getHits()));
+            response = client().execute(PitExportAction.INSTANCE, exportRequest).actionGet();
+            assertEquals(30, response.getExportedHits());
+            assertEquals(30, hits.size());
+            for (SearchHit hit : hits) {
+                assertEquals(Set.of("number"), hit.getSourceAsMap().keySet());
+            }
+
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> client().execute(PitExportAction.INSTANCE, new PitExportRequest(pitId)).actionGet()
+            );
+            assertThat(e.getMessage(), containsString("chunk consumer"));
+        } finally {
+            client().execute(DeletePitAction.INSTANCE, new DeletePitRequest(pitId)).actionGet();
+        }
+    }
+
     private void createTestIndex() {
         Settings indexSettings = Settings.builder()
             .put("index.number_of_shards", NUM_SHARDS)
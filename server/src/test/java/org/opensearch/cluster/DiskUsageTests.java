@@ -217,7 +217,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             ),
             new NodeStats(
                 new DiscoveryNode("node_2", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT),
@@ -254,7 +259,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             ),
             new NodeStats(
                 new DiscoveryNode("node_3", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT),
@@ -291,7 +301,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             )
         );
         InternalClusterInfoService.fillDiskUsagePerNode(logger, nodeStats, newLeastAvaiableUsages, newMostAvaiableUsages);
@@ -359,7 +374,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             ),
             new NodeStats(
                 new DiscoveryNode("node_2", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT),
@@ -396,7 +416,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             ),
             new NodeStats(
                 new DiscoveryNode("node_3", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT),
@@ -433,7 +458,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
                 null,
                 null, // nativeAllocator
                 null,
-                -1L  // totalEstimatedNativeBytes
+                -1L, // totalEstimatedNativeBytes
+                null, // translogSyncCoordinatorStats
+                null, // mergeCoordinatorStats
+                null, // refreshSchedulerStats
+                null, // indexingBufferStats
+                null // resolvedExpressionCacheStats
             )
         );
         InternalClusterInfoService.fillDiskUsagePerNode(logger, nodeStats, newLeastAvailableUsages, newMostAvailableUsages);
@@ -530,7 +560,12 @@ public class DiskUsageTests extends OpenSearchTestCase {
             null,
             null,
             null,
-            -1L
+            -1L,
+            null,
+            null,
+            null,
+            null,
+            null
 
         );
     }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.coordination;
+
+import org.opensearch.OpenSearchTimeoutException;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.IncompatibleClusterStateVersionException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ChunkedPublicationInputTests extends OpenSearchTestCase {
+
+    public void testReadsChunksInOrder() throws IOException {
+        final ChunkedPublicationInput input = new ChunkedPublicationInput("publication", Long.MAX_VALUE, TimeValue.timeValueSeconds(10));
+        final byte[] first = randomByteArrayOfLength(randomIntBetween(1, 100));
+        final byte[] second = randomByteArrayOfLength(randomIntBetween(1, 100));
+        final PlainActionFuture<Void> firstAck = new PlainActionFuture<>();
+        input.append(0, new BytesArray(first), false, firstAck);
+        assertTrue(firstAck.isDone());
+        final PlainActionFuture<Void> secondAck = new PlainActionFuture<>();
+        input.append(1, new BytesArray(second), true, secondAck);
+        assertTrue(secondAck.isDone());
+        assertThat(input.getReceivedBytes(), equalTo((long) first.length + second.length));
+
+        final byte[] read = new byte[first.length + second.length];
+        int offset = 0;
+        int n;
+        while ((n = input.read(read, offset, read.length - offset)) > 0) {
+            offset += n;
+        }
+        assertThat(offset, equalTo(read.length));
+        for (int i = 0; i < first.length; i++) {
+            assertThat(read[i], equalTo(first[i]));
+        }
+        for (int i = 0; i < second.length; i++) {
+            assertThat(read[first.length + i], equalTo(second[i]));
+        }
+        assertThat(input.read(), equalTo(-1));
+    }
+
+    public void testDefersAcknowledgementUntilChunksAreRead() throws IOException {
+        final ChunkedPublicationInput input = new ChunkedPublicationInput("publication", 10, TimeValue.timeValueSeconds(10));
+        final PlainActionFuture<Void> firstAck = new PlainActionFuture<>();
+        input.append(0, new BytesArray(new byte[10]), false, firstAck);
+        assertTrue(firstAck.isDone());
+        final PlainActionFuture<Void> secondAck = new PlainActionFuture<>();
+        input.append(1, new BytesArray(new byte[5]), false, secondAck);
+        assertFalse(secondAck.isDone());
+
+        final byte[] buffer = new byte[10];
+        assertThat(input.read(buffer, 0, buffer.length), equalTo(10));
+        assertFalse(secondAck.isDone());
+        // moving on to the second chunk releases the first one
+        assertThat(input.read(buffer, 0, buffer.length), equalTo(5));
+        assertTrue(secondAck.isDone());
+    }
+
+    public void testRejectsOutOfOrderChunks() {
+        final ChunkedPublicationInput input = new ChunkedPublicationInput("publication", Long.MAX_VALUE, TimeValue.timeValueSeconds(10));
+        input.append(0, new BytesArray(new byte[1]), false, new PlainActionFuture<>());
+        final PlainActionFuture<Void> ack = new PlainActionFuture<>();
+        input.append(2, new BytesArray(new byte[1]), false, ack);
+        final IllegalStateException e = expectThrows(IllegalStateException.class, ack::actionGet);
+        assertThat(e.getMessage(), equalTo("expected chunk [1] of publication [publication] but got chunk [2]"));
+    }
+
+    public void testFailurePropagatesToReaderAndPendingAcknowledgement() {
+        final ChunkedPublicationInput input = new ChunkedPublicationInput("publication", 0, TimeValue.timeValueSeconds(10));
+        final PlainActionFuture<Void> pendingAck = new PlainActionFuture<>();
+        input.append(0, new BytesArray(new byte[1]), false, pendingAck);
+        assertFalse(pendingAck.isDone());
+
+        final IncompatibleClusterStateVersionException failure = new IncompatibleClusterStateVersionException("test");
+        input.fail(failure);
+        assertThat(expectThrows(IncompatibleClusterStateVersionException.class, pendingAck::actionGet), sameInstance(failure));
+        final IOException e = expectThrows(IOException.class, input::read);
+        assertThat(e.getCause(), sameInstance(failure));
+
+        final PlainActionFuture<Void> nextAck = new PlainActionFuture<>();
+        input.append(1, new BytesArray(new byte[1]), true, nextAck);
+        assertThat(expectThrows(IncompatibleClusterStateVersionException.class, nextAck::actionGet), sameInstance(failure));
+    }
+
+    public void testTimesOutWaitingForNextChunk() {
+        final ChunkedPublicationInput input = new ChunkedPublicationInput("publication", Long.MAX_VALUE, TimeValue.timeValueMillis(10));
+        final OpenSearchTimeoutException e = expectThrows(OpenSearchTimeoutException.class, input::read);
+        assertThat(e.getMessage(), containsString("waiting for chunk [0] of publication [publication]"));
+
+        final PlainActionFuture<Void> ack = new PlainActionFuture<>();
+        input.append(0, new BytesArray(new byte[1]), true, ack);
+        assertThat(expectThrows(OpenSearchTimeoutException.class, ack::actionGet), sameInstance(e));
+    }
+}
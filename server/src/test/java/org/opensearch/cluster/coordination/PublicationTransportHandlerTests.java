@@ -33,6 +33,7 @@ package org.opensearch.cluster.coordination;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
@@ -48,6 +49,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.gateway.GatewayMetaState.RemotePersistedState;
 import org.opensearch.gateway.remote.ClusterMetadataManifest;
 import org.opensearch.gateway.remote.ClusterStateDiffManifest;
@@ -56,16 +58,24 @@ import org.opensearch.gateway.remote.RemoteDownloadStats;
 import org.opensearch.node.Node;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 import org.opensearch.test.transport.CapturingTransport;
 import org.opensearch.test.transport.CapturingTransport.CapturedRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.TransportService;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.mockito.Mockito;
@@ -75,6 +85,7 @@ import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_ST
 import static org.opensearch.node.remotestore.RemoteStoreNodeAttribute.REMOTE_STORE_ROUTING_TABLE_REPOSITORY_NAME_ATTRIBUTE_KEY;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -461,11 +472,149 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(capturedRequest1.request, instanceOf(RemotePublishRequest.class));
     }
 
+    public void testChunkedPublication() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(PublicationTransportHandler.CHUNKED_PUBLICATION_ENABLED_SETTING.getKey(), true)
+            .put(PublicationTransportHandler.CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING.getKey(), "64kb")
+            .put(PublicationTransportHandler.CHUNKED_PUBLICATION_MAX_BUFFERED_SIZE_SETTING.getKey(), randomFrom("0b", "64kb", "1mb"))
+            .build();
+        final PublicationTransportHandler handler = getPublicationTransportHandler(settings, p -> null, null);
+        final ClusterState previousState = ClusterState.builder(buildClusterState(TERM, VERSION))
+            .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(LOCAL_NODE_ID))
+            .build();
+        final ClusterState newState = buildLargeClusterState(TERM, VERSION + 1);
+        final PublicationContext context = handler.newPublicationContext(
+            new ClusterChangedEvent("test", newState, previousState),
+            false,
+            null
+        );
+        final PlainActionFuture<PublishWithJoinResponse> sendFuture = new PlainActionFuture<>();
+        context.sendClusterState(secondNode, sendFuture);
+
+        // acknowledge every chunk but the last one to collect them all
+        final List<PublishChunkRequest> chunks = new ArrayList<>();
+        CapturedRequest lastChunk = null;
+        while (lastChunk == null) {
+            final CapturedRequest[] capturedRequests = capturingTransport.getCapturedRequestsAndClear();
+            assertThat(capturedRequests.length, equalTo(1));
+            final CapturedRequest capturedRequest = capturedRequests[0];
+            assertThat(capturedRequest.request, instanceOf(PublishChunkRequest.class));
+            final PublishChunkRequest chunk = (PublishChunkRequest) capturedRequest.request;
+            assertThat(chunk.getSequence(), equalTo(chunks.size()));
+            chunks.add(chunk);
+            if (capturedRequest.action.equals(PublicationTransportHandler.PUBLISH_STATE_LAST_CHUNK_ACTION_NAME)) {
+                lastChunk = capturedRequest;
+            } else {
+                assertThat(capturedRequest.action, equalTo(PublicationTransportHandler.PUBLISH_STATE_CHUNK_ACTION_NAME));
+                assertThat(chunk.bytes().length(), equalTo(64 * 1024));
+                capturingTransport.handleResponse(capturedRequest.requestId, TransportResponse.Empty.INSTANCE);
+                deterministicTaskQueue.runAllRunnableTasks();
+            }
+        }
+        assertThat(chunks.size(), greaterThan(2));
+
+        // the receiver deserializes the state while the chunks arrive
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            final TransportService receiverTransportService = new CapturingTransport().createTransportService(
+                Settings.EMPTY,
+                threadPool,
+                TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+                x -> secondNode,
+                null,
+                Collections.emptySet(),
+                NoopTracer.INSTANCE
+            );
+            receiverTransportService.start();
+            final AtomicReference<ClusterState> receivedState = new AtomicReference<>();
+            final PublishWithJoinResponse expectedResponse = new PublishWithJoinResponse(
+                new PublishResponse(TERM, VERSION + 1),
+                Optional.empty()
+            );
+            final PublicationTransportHandler receiver = new PublicationTransportHandler(
+                settings,
+                receiverTransportService,
+                writableRegistry(),
+                publishRequest -> {
+                    receivedState.set(publishRequest.getAcceptedState());
+                    return expectedResponse;
+                },
+                (pu, uc, l) -> {},
+                null
+            );
+            for (int i = 0; i < chunks.size() - 1; i++) {
+                final PlainActionFuture<PublishWithJoinResponse> chunkFuture = new PlainActionFuture<>();
+                receiver.handleIncomingPublishChunk(chunks.get(i), false, chunkFuture);
+                chunkFuture.get(10, TimeUnit.SECONDS);
+            }
+            final PlainActionFuture<PublishWithJoinResponse> responseFuture = new PlainActionFuture<>();
+            receiver.handleIncomingPublishChunk(chunks.get(chunks.size() - 1), true, responseFuture);
+            assertThat(responseFuture.get(10, TimeUnit.SECONDS), equalTo(expectedResponse));
+            assertThat(receivedState.get().stateUUID(), equalTo(newState.stateUUID()));
+            assertThat(receivedState.get().metadata().persistentSettings(), equalTo(newState.metadata().persistentSettings()));
+            assertThat(receiver.stats().getFullClusterStateReceivedCount(), equalTo(1L));
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+
+        final PublishWithJoinResponse response = new PublishWithJoinResponse(new PublishResponse(TERM, VERSION + 1), Optional.empty());
+        capturingTransport.handleResponse(lastChunk.requestId, response);
+        deterministicTaskQueue.runAllRunnableTasks();
+        assertThat(sendFuture.get().getPublishResponse().getVersion(), equalTo(VERSION + 1));
+    }
+
+    public void testChunkedPublicationFallsBackForOlderNodes() {
+        final Settings settings = Settings.builder()
+            .put(PublicationTransportHandler.CHUNKED_PUBLICATION_ENABLED_SETTING.getKey(), true)
+            .put(PublicationTransportHandler.CHUNKED_PUBLICATION_CHUNK_SIZE_SETTING.getKey(), "64kb")
+            .build();
+        final PublicationTransportHandler handler = getPublicationTransportHandler(settings, p -> null, null);
+        final DiscoveryNode olderNode = new DiscoveryNode(
+            "olderNode",
+            buildNewFakeTransportAddress(),
+            VersionUtils.getPreviousVersion(PublicationTransportHandler.CHUNKED_PUBLICATION_VERSION)
+        );
+        final ClusterState previousState = buildClusterState(TERM, VERSION);
+        final ClusterState newState = ClusterState.builder(buildLargeClusterState(TERM, VERSION + 1))
+            .nodes(DiscoveryNodes.builder(previousState.nodes()).add(olderNode))
+            .build();
+        final PublicationContext context = handler.newPublicationContext(
+            new ClusterChangedEvent("test", newState, previousState),
+            false,
+            null
+        );
+        context.sendClusterState(olderNode, new PlainActionFuture<>());
+        final CapturedRequest[] capturedRequests = capturingTransport.getCapturedRequestsAndClear();
+        assertThat(capturedRequests.length, equalTo(1));
+        assertThat(capturedRequests[0].action, equalTo(PublicationTransportHandler.PUBLISH_STATE_ACTION_NAME));
+        assertThat(capturedRequests[0].request, instanceOf(BytesTransportRequest.class));
+    }
+
+    private ClusterState buildLargeClusterState(long term, long version) {
+        final ClusterState clusterState = buildClusterState(term, version);
+        final Settings.Builder persistentSettings = Settings.builder();
+        for (int i = 0; i < 256; i++) {
+            persistentSettings.put("test.payload." + i, randomAlphaOfLength(1024));
+        }
+        return ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).persistentSettings(persistentSettings.build()))
+            .build();
+    }
+
+    private PublicationTransportHandler getPublicationTransportHandler(
+        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
+        RemoteClusterStateService remoteClusterStateService
+    ) {
+        return getPublicationTransportHandler(Settings.EMPTY, handlePublishRequest, remoteClusterStateService);
+    }
+
     private PublicationTransportHandler getPublicationTransportHandler(
+        Settings settings,
         Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
         RemoteClusterStateService remoteClusterStateService
     ) {
         final PublicationTransportHandler handler = new PublicationTransportHandler(
+            settings,
             transportService,
             writableRegistry(),
             handlePublishRequest,
@@ -73,7 +73,9 @@ import static org.opensearch.Version.MASK;
 import static org.opensearch.cluster.metadata.IndexMetadata.parseIndexNameCounter;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
 public class IndexMetadataTests extends OpenSearchTestCase {
 
@@ -856,6 +858,84 @@ public class IndexMetadataTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSettingsAndMappingsAreSharedOnRead() throws IOException {
+        final String mapping = "{\"_doc\":{\"properties\":{\"message\":{\"type\":\"text\"}}}}";
+        final String updatedMapping = "{\"_doc\":{\"properties\":{\"message\":{\"type\":\"text\"},\"level\":{\"type\":\"keyword\"}}}}";
+        final IndexMetadataDeduplicator deduplicator = new IndexMetadataDeduplicator();
+
+        final IndexMetadata first = serializeAndRead(templatedIndexMetadata("logs-1", mapping), deduplicator);
+        final IndexMetadata second = serializeAndRead(templatedIndexMetadata("logs-2", mapping), deduplicator);
+        assertNotSame(first, second);
+        assertSame(first.mapping(), second.mapping());
+        final String tierPreference = "index.routing.allocation.include._tier_preference";
+        assertSame(first.getSettings().get(tierPreference), second.getSettings().get(tierPreference));
+
+        // values that are unique to an index are not kept around for sharing
+        final IndexMetadata firstAgain = serializeAndRead(first, deduplicator);
+        assertSame(first.mapping(), firstAgain.mapping());
+        assertEquals(first.getIndexUUID(), firstAgain.getIndexUUID());
+        assertNotSame(first.getIndexUUID(), firstAgain.getIndexUUID());
+
+        // a mapping update applied through a diff shares the mapping with the other indices too
+        final IndexMetadata third = serializeAndRead(templatedIndexMetadata("logs-3", updatedMapping), deduplicator);
+        final IndexMetadata updated = IndexMetadata.builder(second)
+            .putMapping(updatedMapping)
+            .mappingVersion(second.getMappingVersion() + 1)
+            .version(second.getVersion() + 1)
+            .build();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        updated.diff(second).writeTo(out);
+        try (StreamInput in = deduplicator.wrap(out.bytes().streamInput(), writableRegistry())) {
+            final IndexMetadata applied = IndexMetadata.readDiffFrom(in).apply(second);
+            assertEquals(updated, applied);
+            assertSame(third.mapping(), applied.mapping());
+        }
+
+        final IndexMetadataDeduplicationStats stats = deduplicator.stats();
+        assertEquals(5L, stats.getMappingsCount());
+        assertEquals(3L, stats.getMappingsSharedCount());
+        assertThat(stats.getSettingsDeduplicatedSizeInBytes(), greaterThan(0L));
+        assertThat(stats.getSettingsDeduplicatedSizeInBytes(), lessThan(stats.getSettingsRawSizeInBytes()));
+        assertThat(stats.getMappingsDeduplicatedSizeInBytes(), lessThan(stats.getMappingsRawSizeInBytes()));
+
+        // other deduplicators and streams that are not wrapped neither share nor count anything of the above
+        final IndexMetadataDeduplicator other = new IndexMetadataDeduplicator();
+        assertNotSame(first.mapping(), serializeAndRead(first, other).mapping());
+        assertEquals(1L, other.stats().getMappingsCount());
+        assertNotSame(first.mapping(), serializeAndRead(first, null).mapping());
+        assertEquals(stats.getMappingsCount(), deduplicator.stats().getMappingsCount());
+        assertEquals(stats.getSettingsRawSizeInBytes(), deduplicator.stats().getSettingsRawSizeInBytes());
+    }
+
+    private static IndexMetadata templatedIndexMetadata(String name, String mapping) throws IOException {
+        return IndexMetadata.builder(name)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+                    .put("index.routing.allocation.include._tier_preference", "data_hot")
+                    .build()
+            )
+            .putMapping(mapping)
+            .build();
+    }
+
+    private IndexMetadata serializeAndRead(IndexMetadata indexMetadata, IndexMetadataDeduplicator deduplicator) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        indexMetadata.writeTo(out);
+        try (
+            StreamInput in = deduplicator == null
+                ? new NamedWriteableAwareStreamInput(out.bytes().streamInput(), writableRegistry())
+                : deduplicator.wrap(out.bytes().streamInput(), writableRegistry())
+        ) {
+            final IndexMetadata deserialized = IndexMetadata.readFrom(in);
+            assertEquals(indexMetadata, deserialized);
+            return deserialized;
+        }
+    }
+
     public void testLegacyCreatedVersion() {
         Index index = new Index("test-index", UUIDs.randomBase64UUID());
         final Settings settings = Settings.builder()
@@ -37,6 +37,7 @@ import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata.State;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -479,6 +480,85 @@ public class WildcardExpressionResolverTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCachedExpansions() {
+        Metadata.Builder mdBuilder = Metadata.builder()
+            .put(indexBuilder("testXXX").state(IndexMetadata.State.OPEN))
+            .put(indexBuilder("testXYY").state(IndexMetadata.State.CLOSE))
+            .put(indexBuilder("kuku").state(IndexMetadata.State.OPEN));
+        ClusterState state = ClusterState.builder(new ClusterName("_name")).metadata(mdBuilder).build();
+        ResolvedExpressionCache cache = new ResolvedExpressionCache(100);
+        IndexNameExpressionResolver.WildcardExpressionResolver resolver = new IndexNameExpressionResolver.WildcardExpressionResolver(cache);
+
+        IndexNameExpressionResolver.Context openContext = new IndexNameExpressionResolver.Context(
+            state,
+            IndicesOptions.lenientExpandOpen(),
+            false
+        );
+        assertThat(newHashSet(resolver.resolve(openContext, Collections.singletonList("test*"))), equalTo(newHashSet("testXXX")));
+        assertThat(newHashSet(resolver.resolve(openContext, Collections.singletonList("test*"))), equalTo(newHashSet("testXXX")));
+        assertCacheStats(cache, 1, 1, 0);
+
+        // the expansion depends on the options
+        IndexNameExpressionResolver.Context openAndClosedContext = new IndexNameExpressionResolver.Context(
+            state,
+            IndicesOptions.fromOptions(true, true, true, true),
+            false
+        );
+        assertThat(
+            newHashSet(resolver.resolve(openAndClosedContext, Collections.singletonList("test*"))),
+            equalTo(newHashSet("testXXX", "testXYY"))
+        );
+        assertCacheStats(cache, 1, 2, 0);
+
+        // the indices lookup is reused when the indices do not change
+        ClusterState settingsChanged = ClusterState.builder(state)
+            .metadata(Metadata.builder(state.metadata()).persistentSettings(Settings.builder().put("foo", "bar").build()))
+            .build();
+        IndexNameExpressionResolver.Context settingsChangedContext = new IndexNameExpressionResolver.Context(
+            settingsChanged,
+            IndicesOptions.lenientExpandOpen(),
+            false
+        );
+        assertThat(
+            newHashSet(resolver.resolve(settingsChangedContext, Collections.singletonList("test*"))),
+            equalTo(newHashSet("testXXX"))
+        );
+        assertCacheStats(cache, 2, 2, 0);
+
+        // a new index drops the cached expansions
+        ClusterState indexAdded = ClusterState.builder(settingsChanged)
+            .metadata(
+                Metadata.builder(settingsChanged.metadata())
+                    .version(settingsChanged.metadata().version() + 1)
+                    .put(indexBuilder("testYYY"))
+            )
+            .build();
+        IndexNameExpressionResolver.Context indexAddedContext = new IndexNameExpressionResolver.Context(
+            indexAdded,
+            IndicesOptions.lenientExpandOpen(),
+            false
+        );
+        assertThat(
+            newHashSet(resolver.resolve(indexAddedContext, Collections.singletonList("test*"))),
+            equalTo(newHashSet("testXXX", "testYYY"))
+        );
+        assertCacheStats(cache, 2, 3, 2);
+
+        // requests still resolving against the previous metadata neither use nor drop the cache of the current one
+        assertThat(newHashSet(resolver.resolve(openContext, Collections.singletonList("test*"))), equalTo(newHashSet("testXXX")));
+        assertThat(
+            newHashSet(resolver.resolve(indexAddedContext, Collections.singletonList("test*"))),
+            equalTo(newHashSet("testXXX", "testYYY"))
+        );
+        assertCacheStats(cache, 3, 4, 2);
+    }
+
+    private static void assertCacheStats(ResolvedExpressionCache cache, long hits, long misses, long evictions) {
+        assertThat(cache.stats().getHits(), equalTo(hits));
+        assertThat(cache.stats().getMisses(), equalTo(misses));
+        assertThat(cache.stats().getEvictions(), equalTo(evictions));
+    }
+
     private static IndexMetadata.Builder indexBuilder(String index) {
         return IndexMetadata.builder(index)
             .settings(
@@ -33,18 +33,28 @@
 package org.opensearch.cluster.routing;
 
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterManagerMetrics;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.EmptyClusterInfoService;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.gateway.GatewayAllocator;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.test.gateway.TestGatewayAllocator;
 import org.junit.Before;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.not;
@@ -52,6 +62,7 @@ import static org.hamcrest.Matchers.not;
 public class RoutingNodesTests extends OpenSearchAllocationTestCase {
     private static final String TEST_INDEX_1 = "test1";
     private static final String TEST_INDEX_2 = "test2";
+    private static final String TEST_INDEX_3 = "test3";
     private RoutingTable emptyRoutingTable;
     private int numberOfShards;
     private int numberOfReplicas;
@@ -204,4 +215,107 @@ public class RoutingNodesTests extends OpenSearchAllocationTestCase {
         }
         assertEquals(shardCount, this.totalNumberOfShards);
     }
+
+    public void testApplyRoutingTableChanges() {
+        initPrimaries();
+        startInitializingShards(TEST_INDEX_1);
+        final ClusterState previousState = this.clusterState;
+        final RoutingNodes routingNodes = new RoutingNodes(previousState, false);
+
+        final Metadata metadata = Metadata.builder(previousState.metadata())
+            .remove(TEST_INDEX_2)
+            .put(createIndexMetadata(TEST_INDEX_3))
+            .build();
+        final ClusterState newState = ClusterState.builder(previousState)
+            .metadata(metadata)
+            .routingTable(
+                RoutingTable.builder(previousState.routingTable()).remove(TEST_INDEX_2).addAsNew(metadata.index(TEST_INDEX_3)).build()
+            )
+            .build();
+
+        assertTrue(routingNodes.applyRoutingTableChanges(previousState.routingTable(), newState));
+        assertSameShards(routingNodes, new RoutingNodes(newState, false));
+        assertEquals(0, routingNodes.node("node0").numberOfOwningShardsForIndex(previousState.metadata().index(TEST_INDEX_2).getIndex()));
+    }
+
+    public void testApplyRoutingTableChangesRequiresSameDataNodes() {
+        initPrimaries();
+        final ClusterState previousState = this.clusterState;
+        final RoutingNodes routingNodes = new RoutingNodes(previousState, false);
+
+        final ClusterState newState = ClusterState.builder(previousState)
+            .nodes(DiscoveryNodes.builder(previousState.nodes()).add(newNode("node" + (numberOfReplicas + 1))))
+            .build();
+
+        assertFalse(routingNodes.applyRoutingTableChanges(previousState.routingTable(), newState));
+        assertSameShards(routingNodes, new RoutingNodes(previousState, false));
+    }
+
+    public void testIncrementalRoutingNodesAcrossReroutes() {
+        final Settings settings = Settings.builder().put(AllocationService.INCREMENTAL_ROUTING_NODES_SETTING.getKey(), true).build();
+        final AllocationService allocationService = new AllocationService(
+            randomAllocationDeciders(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), random()),
+            new BalancedShardsAllocator(settings),
+            EmptyClusterInfoService.INSTANCE,
+            SNAPSHOT_INFO_SERVICE_WITH_NO_SHARD_SIZES,
+            settings,
+            new ClusterManagerMetrics(NoopMetricsRegistry.INSTANCE)
+        );
+        allocationService.setExistingShardsAllocators(
+            Collections.singletonMap(GatewayAllocator.ALLOCATOR_NAME, new TestGatewayAllocator())
+        );
+
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < this.numberOfReplicas + 1; i++) {
+            nodes.add(newNode("node" + i));
+        }
+        clusterState = allocationService.reroute(ClusterState.builder(clusterState).nodes(nodes).build(), "reroute");
+        clusterState = startInitializingShardsAndReroute(allocationService, clusterState, TEST_INDEX_1);
+
+        // every reroute below checks, with assertions enabled, that the routing nodes it derived match freshly built ones
+        final Metadata metadata = Metadata.builder(clusterState.metadata()).put(createIndexMetadata(TEST_INDEX_3)).build();
+        clusterState = allocationService.reroute(
+            ClusterState.builder(clusterState)
+                .metadata(metadata)
+                .routingTable(RoutingTable.builder(clusterState.routingTable()).addAsNew(metadata.index(TEST_INDEX_3)).build())
+                .build(),
+            "index created"
+        );
+        clusterState = applyStartedShardsUntilNoChange(clusterState, allocationService);
+
+        assertEquals(this.shardsPerIndex * 3, clusterState.routingTable().shardsWithState(ShardRoutingState.STARTED).size());
+    }
+
+    private static void assertSameShards(RoutingNodes routingNodes, RoutingNodes expected) {
+        assertEquals(expected.size(), routingNodes.size());
+        for (RoutingNode expectedNode : expected) {
+            final RoutingNode routingNode = routingNodes.node(expectedNode.nodeId());
+            assertNotNull(routingNode);
+            final Set<ShardRouting> shards = new HashSet<>();
+            routingNode.forEach(shards::add);
+            final Set<ShardRouting> expectedShards = new HashSet<>();
+            expectedNode.forEach(expectedShards::add);
+            assertEquals(expectedShards, shards);
+            assertEquals(expected.getIncomingRecoveries(expectedNode.nodeId()), routingNodes.getIncomingRecoveries(expectedNode.nodeId()));
+            assertEquals(expected.getOutgoingRecoveries(expectedNode.nodeId()), routingNodes.getOutgoingRecoveries(expectedNode.nodeId()));
+            assertEquals(
+                expected.getInitialIncomingRecoveries(expectedNode.nodeId()),
+                routingNodes.getInitialIncomingRecoveries(expectedNode.nodeId())
+            );
+            assertEquals(
+                expected.getInitialPrimariesIncomingRecoveries(expectedNode.nodeId()),
+                routingNodes.getInitialPrimariesIncomingRecoveries(expectedNode.nodeId())
+            );
+        }
+        final Set<ShardRouting> unassigned = new HashSet<>();
+        routingNodes.unassigned().forEach(unassigned::add);
+        final Set<ShardRouting> expectedUnassigned = new HashSet<>();
+        expected.unassigned().forEach(expectedUnassigned::add);
+        assertEquals(expectedUnassigned, unassigned);
+        assertEquals(expected.unassigned().size(), routingNodes.unassigned().size());
+        assertEquals(expected.unassigned().getNumPrimaries(), routingNodes.unassigned().getNumPrimaries());
+        assertEquals(expected.hasInactiveShards(), routingNodes.hasInactiveShards());
+        assertEquals(expected.hasInactivePrimaries(), routingNodes.hasInactivePrimaries());
+        assertEquals(expected.getRelocatingShardCount(), routingNodes.getRelocatingShardCount());
+    }
 }
@@ -20,8 +20,12 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.RoutingNode;
 import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardMovementStrategy;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.allocation.AbstractAllocationDecision;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.NodeAllocationResult;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDecider;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
@@ -190,6 +194,138 @@ public class LocalShardsBalancerTests extends OpenSearchAllocationTestCase {
         assertEquals(4, unassignedShards.size());
     }
 
+    public void testParallelDecisionsMatchSequentialDecisions() {
+        final ClusterState state = startedClusterWithUnassignedIndex();
+        final AllocationDeciders deciders = allocationDecidersForExcludeAPI(
+            Settings.builder().put("cluster.routing.allocation.exclude._name", "node1").build()
+        );
+        final ParallelDeciderEvaluator parallelDeciders = new ParallelDeciderEvaluator(Settings.EMPTY, 4);
+        try {
+            for (boolean explain : new boolean[] { false, true }) {
+                final LocalShardsBalancer sequential = newBalancer(newAllocation(state, deciders, explain), null);
+                final LocalShardsBalancer parallel = newBalancer(newAllocation(state, deciders, explain), parallelDeciders);
+                for (ShardRouting shard : state.routingTable().allShards()) {
+                    if (shard.unassigned()) {
+                        assertSameDecision(sequential.decideAllocateUnassigned(shard), parallel.decideAllocateUnassigned(shard));
+                    } else {
+                        assertSameDecision(sequential.decideMove(shard), parallel.decideMove(shard));
+                        assertSameDecision(sequential.decideRebalance(shard), parallel.decideRebalance(shard));
+                    }
+                }
+            }
+        } finally {
+            parallelDeciders.close();
+        }
+    }
+
+    public void testParallelMoveShardsMatchesSequentialMoveShards() {
+        final ClusterState state = startedClusterWithUnassignedIndex();
+        final AllocationDeciders deciders = allocationDecidersForExcludeAPI(
+            Settings.builder().put("cluster.routing.allocation.exclude._name", "node1,node2").build()
+        );
+        final ParallelDeciderEvaluator parallelDeciders = new ParallelDeciderEvaluator(Settings.EMPTY, 4);
+        try {
+            final RoutingAllocation sequential = newAllocation(state, deciders, false);
+            final RoutingAllocation parallel = newAllocation(state, deciders, false);
+            newBalancer(sequential, null).moveShards();
+            newBalancer(parallel, parallelDeciders).moveShards();
+            final List<ShardRouting> sequentialMoves = sequential.routingNodes().shardsWithState(ShardRoutingState.RELOCATING);
+            assertFalse(sequentialMoves.isEmpty());
+            assertEquals(sequentialMoves, parallel.routingNodes().shardsWithState(ShardRoutingState.RELOCATING));
+        } finally {
+            parallelDeciders.close();
+        }
+    }
+
+    public void testClosingTheAllocatorShutsDownTheParallelDeciders() {
+        final BalancedShardsAllocator sequential = new BalancedShardsAllocator(Settings.EMPTY);
+        assertNull(sequential.getParallelDeciders());
+        sequential.close();
+
+        final BalancedShardsAllocator allocator = new BalancedShardsAllocator(
+            Settings.builder().put(BalancedShardsAllocator.PARALLEL_DECIDER_THREADS_SETTING.getKey(), 2).build()
+        );
+        final ParallelDeciderEvaluator parallelDeciders = allocator.getParallelDeciders();
+        assertNotNull(parallelDeciders);
+        assertFalse(parallelDeciders.isClosed());
+        allocator.close();
+        assertTrue(parallelDeciders.isClosed());
+    }
+
+    private ClusterState startedClusterWithUnassignedIndex() {
+        final Metadata metadata = Metadata.builder()
+            .put(IndexMetadata.builder("started_0").settings(settings(Version.CURRENT)).numberOfShards(4).numberOfReplicas(1))
+            .put(IndexMetadata.builder("started_1").settings(settings(Version.CURRENT)).numberOfShards(3).numberOfReplicas(2))
+            .build();
+        ClusterState state = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(buildRoutingTable(metadata))
+            .nodes(DiscoveryNodes.builder().add(node1).add(node2).add(node3).add(node4).add(node5).add(node6))
+            .build();
+        final AllocationService allocationService = createAllocationService(Settings.EMPTY);
+        state = allocationService.reroute(state, "reroute");
+        state = applyStartedShardsUntilNoChange(state, allocationService);
+
+        final Metadata withUnassigned = Metadata.builder(state.metadata())
+            .put(IndexMetadata.builder("unassigned").settings(settings(Version.CURRENT)).numberOfShards(2).numberOfReplicas(1))
+            .build();
+        return ClusterState.builder(state)
+            .metadata(withUnassigned)
+            .routingTable(RoutingTable.builder(state.routingTable()).addAsNew(withUnassigned.index("unassigned")).build())
+            .build();
+    }
+
+    private RoutingAllocation newAllocation(ClusterState state, AllocationDeciders deciders, boolean explain) {
+        final RoutingAllocation allocation = new RoutingAllocation(
+            deciders,
+            new RoutingNodes(state, false),
+            state,
+            ClusterInfo.EMPTY,
+            null,
+            System.nanoTime()
+        );
+        allocation.debugDecision(explain);
+        return allocation;
+    }
+
+    private LocalShardsBalancer newBalancer(RoutingAllocation allocation, ParallelDeciderEvaluator parallelDeciders) {
+        return new LocalShardsBalancer(
+            logger,
+            allocation,
+            ShardMovementStrategy.NO_PREFERENCE,
+            new BalancedShardsAllocator.WeightFunction(0.55f, 0.45f, 0.10f, 10L, false, false),
+            1.0f,
+            false,
+            false,
+            false,
+            () -> false,
+            parallelDeciders
+        );
+    }
+
+    /**
+     * {@link NodeAllocationResult} has no equals, so that the node decisions are compared field by field.
+     */
+    private static void assertSameDecision(AbstractAllocationDecision expected, AbstractAllocationDecision actual) {
+        assertEquals(expected.isDecisionTaken(), actual.isDecisionTaken());
+        assertEquals(expected.getTargetNode(), actual.getTargetNode());
+        assertEquals(expected.getExplanation(), actual.getExplanation());
+        if (expected.getNodeDecisions() == null) {
+            assertNull(actual.getNodeDecisions());
+            assertEquals(expected, actual);
+            return;
+        }
+        assertEquals(expected.getNodeDecisions().size(), actual.getNodeDecisions().size());
+        for (int i = 0; i < expected.getNodeDecisions().size(); i++) {
+            final NodeAllocationResult expectedNode = expected.getNodeDecisions().get(i);
+            final NodeAllocationResult actualNode = actual.getNodeDecisions().get(i);
+            assertEquals(expectedNode.getNode(), actualNode.getNode());
+            assertEquals(expectedNode.getNodeDecision(), actualNode.getNodeDecision());
+            assertEquals(expectedNode.getCanAllocateDecision(), actualNode.getCanAllocateDecision());
+            assertEquals(expectedNode.getWeightRanking(), actualNode.getWeightRanking());
+        }
+    }
+
     private RoutingTable buildRoutingTable(Metadata metadata) {
         RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
         for (Map.Entry<String, IndexMetadata> entry : metadata.getIndices().entrySet()) {
@@ -47,8 +47,11 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 public class AllocationDecidersTests extends OpenSearchTestCase {
 
@@ -141,6 +144,73 @@ public class AllocationDecidersTests extends OpenSearchTestCase {
         verify(deciders.canAllocateAnyShardToNode(routingNode, allocation), matcher);
     }
 
+    public void testDeciderTimings() {
+        AllocationDeciders deciders = new AllocationDeciders(Arrays.asList(new FirstTimedDecider(), new SecondTimedDecider()));
+        ClusterState clusterState = ClusterState.builder(new ClusterName("test")).build();
+        final RoutingAllocation allocation = new RoutingAllocation(deciders, clusterState.getRoutingNodes(), clusterState, null, null, 0L);
+        final ShardRouting shardRouting = ShardRouting.newUnassigned(
+            new ShardId("test", "testUUID", 0),
+            true,
+            RecoverySource.ExistingStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "_message")
+        );
+        RoutingNode routingNode = new RoutingNode("testNode", null);
+
+        final AllocationDeciderTimings timings = deciders.newTimings();
+        deciders.canAllocate(shardRouting, routingNode, allocation);
+        final Map<String, Long> untimed = new HashMap<>();
+        timings.forEach(untimed::put);
+        assertThat(untimed, Matchers.anEmptyMap());
+
+        allocation.setDeciderTimings(timings);
+        assertThat(deciders.canAllocate(shardRouting, routingNode, allocation).type(), Matchers.equalTo(Decision.Type.NO));
+        final Map<String, Long> afterCanAllocate = new HashMap<>();
+        timings.forEach(afterCanAllocate::put);
+        assertThat(afterCanAllocate.keySet(), Matchers.containsInAnyOrder("FirstTimedDecider", "SecondTimedDecider"));
+
+        // the first decider does not let the shard remain, so that the second one is not asked
+        assertThat(deciders.canRemain(shardRouting, routingNode, allocation).type(), Matchers.equalTo(Decision.Type.NO));
+        final Map<String, Long> afterCanRemain = new HashMap<>();
+        timings.forEach(afterCanRemain::put);
+        assertThat(afterCanRemain.get("FirstTimedDecider"), Matchers.greaterThan(afterCanAllocate.get("FirstTimedDecider")));
+        assertThat(afterCanRemain.get("SecondTimedDecider"), Matchers.equalTo(afterCanAllocate.get("SecondTimedDecider")));
+    }
+
+    /**
+     * Spins until the clock moves, so that every call is timed above zero.
+     */
+    private static Decision spin(Decision decision) {
+        final long start = System.nanoTime();
+        while (System.nanoTime() == start) {
+            Thread.onSpinWait();
+        }
+        return decision;
+    }
+
+    private static class FirstTimedDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return spin(Decision.YES);
+        }
+
+        @Override
+        public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return spin(Decision.NO);
+        }
+    }
+
+    private static class SecondTimedDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return spin(Decision.NO);
+        }
+
+        @Override
+        public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return spin(Decision.YES);
+        }
+    }
+
     private void verify(Decision decision, Matcher<Collection<? extends Decision>> matcher) {
         assertThat(decision.type(), Matchers.equalTo(Decision.Type.YES));
         assertThat(decision, Matchers.instanceOf(Decision.Multi.class));
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+
+import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+
+public class OffHeapBigArraysTests extends OpenSearchTestCase {
+
+    private HierarchyCircuitBreakerService breakerService() {
+        return new HierarchyCircuitBreakerService(
+            Settings.builder()
+                .put(REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), 1, ByteSizeUnit.GB)
+                .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+                .build(),
+            Collections.emptyList(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+    }
+
+    public void testLongArrayGrowth() {
+        final HierarchyCircuitBreakerService hcbs = breakerService();
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(0, null, hcbs, CircuitBreaker.REQUEST).withCircuitBreaking();
+        final int totalLen = randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 100_000);
+        final long[] ref = new long[totalLen];
+        LongArray array = bigArrays.newLongArray(PageCacheRecycler.LONG_PAGE_SIZE + 1, randomBoolean());
+        assertThat(array, instanceOf(OffHeapBigLongArray.class));
+        for (int i = 0; i < totalLen; ++i) {
+            ref[i] = randomLong();
+            array = bigArrays.grow(array, i + 1);
+            array.set(i, ref[i]);
+        }
+        for (int i = 0; i < totalLen; ++i) {
+            assertEquals(ref[i], array.get(i));
+        }
+        final int index = randomIntBetween(0, totalLen - 1);
+        assertEquals(ref[index] + 42, array.increment(index, 42));
+        array.close();
+        assertThat(hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed(), equalTo(0L));
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+    }
+
+    public void testDoubleAndIntArrays() {
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(0, null, breakerService(), CircuitBreaker.REQUEST);
+        final int len = randomIntBetween(PageCacheRecycler.INT_PAGE_SIZE + 1, 100_000);
+        try (DoubleArray doubles = bigArrays.newDoubleArray(len); IntArray ints = bigArrays.newIntArray(len)) {
+            assertThat(doubles, instanceOf(OffHeapBigDoubleArray.class));
+            assertThat(ints, instanceOf(OffHeapBigIntArray.class));
+            final int from = randomIntBetween(0, len - 1);
+            final int to = randomIntBetween(from, len);
+            doubles.fill(from, to, 1.5);
+            ints.fill(from, to, 7);
+            for (int i = 0; i < len; ++i) {
+                final boolean filled = i >= from && i < to;
+                assertEquals(filled ? 1.5 : 0, doubles.get(i), 0);
+                assertEquals(filled ? 7 : 0, ints.get(i));
+            }
+        }
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+    }
+
+    public void testSmallArraysStayOnHeap() {
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(0, null, breakerService(), CircuitBreaker.REQUEST);
+        try (LongArray array = bigArrays.newLongArray(randomIntBetween(1, PageCacheRecycler.LONG_PAGE_SIZE))) {
+            assertThat(array, not(instanceOf(OffHeapBigLongArray.class)));
+            assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+        }
+    }
+
+    public void testResizeReleasesPages() {
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(ByteSizeUnit.MB.toBytes(1), null, breakerService(), CircuitBreaker.REQUEST);
+        final int pageSize = PageCacheRecycler.LONG_PAGE_SIZE;
+        LongArray array = bigArrays.newLongArray(4 * pageSize);
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(4L * OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+        array.set(pageSize - 1, 42);
+        array = bigArrays.resize(array, pageSize);
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo((long) OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+        assertThat(bigArrays.offHeapBytesPooled(), equalTo(3L * OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+        assertEquals(42, array.get(pageSize - 1));
+        array.close();
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+        assertThat(bigArrays.offHeapBytesPooled(), equalTo(4L * OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+    }
+
+    public void testPooledPagesAreClearedOnReuse() {
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(ByteSizeUnit.MB.toBytes(1), null, breakerService(), CircuitBreaker.REQUEST);
+        final int len = 2 * PageCacheRecycler.LONG_PAGE_SIZE;
+        try (LongArray array = bigArrays.newLongArray(len)) {
+            array.fill(0, len, randomLongBetween(1, Long.MAX_VALUE));
+        }
+        try (LongArray array = bigArrays.newLongArray(len, true)) {
+            for (int i = 0; i < len; ++i) {
+                assertEquals(0, array.get(i));
+            }
+        }
+        assertThat(bigArrays.offHeapBytesPooled(), equalTo(2L * OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+    }
+
+    public void testPoolLimit() {
+        final long maxPooledBytes = OffHeapPagePool.PAGE_SIZE_IN_BYTES;
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(maxPooledBytes, null, breakerService(), CircuitBreaker.REQUEST);
+        bigArrays.newLongArray(3 * PageCacheRecycler.LONG_PAGE_SIZE).close();
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+        assertThat(bigArrays.offHeapBytesPooled(), equalTo((long) OffHeapPagePool.PAGE_SIZE_IN_BYTES));
+    }
+
+    public void testArenaReleasesLeakedArrays() {
+        final HierarchyCircuitBreakerService hcbs = breakerService();
+        final OffHeapBigArrays bigArrays = new OffHeapBigArrays(0, null, hcbs, CircuitBreaker.REQUEST);
+        final OffHeapBigArrays arena = bigArrays.newArena();
+        assertSame(arena, arena.withCircuitBreaking());
+        final LongArray leaked = arena.newLongArray(randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 100_000));
+        final DoubleArray released = arena.newDoubleArray(randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 100_000));
+        released.close();
+        assertThat(hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed(), equalTo(leaked.ramBytesUsed()));
+        arena.close();
+        assertThat(hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed(), equalTo(0L));
+        assertThat(bigArrays.offHeapBytesUsed(), equalTo(0L));
+        // closing the leaked array again is a no-op
+        leaked.close();
+        assertThat(hcbs.getBreaker(CircuitBreaker.REQUEST).getUsed(), equalTo(0L));
+    }
+}
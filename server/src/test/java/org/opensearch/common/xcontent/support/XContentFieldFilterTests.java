@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class XContentFieldFilterTests extends OpenSearchTestCase {
+
+    private static final String[] FIELD_NAMES = new String[] { "a", "b", "ab", "a.b", "c", "Foo" };
+
+    public void testMatchesMapFiltering() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> source = randomObject(0);
+            String[] includes = randomPatterns();
+            String[] excludes = randomPatterns();
+            boolean caseSensitive = randomBoolean();
+            XContentType xContentType = randomFrom(XContentType.JSON, XContentType.SMILE, XContentType.CBOR, XContentType.YAML);
+            BytesReference bytes = BytesReference.bytes(MediaTypeRegistry.contentBuilder(xContentType).map(source));
+
+            Map<String, Object> expected = XContentMapValues.filter(
+                XContentHelper.convertToMap(bytes, false, xContentType).v2(),
+                includes,
+                excludes,
+                caseSensitive
+            );
+            BytesReference filtered = XContentFieldFilter.newFieldFilter(includes, excludes, caseSensitive)
+                .apply(bytes, randomBoolean() ? xContentType : null);
+            assertThat(
+                "includes " + String.join(",", includes) + " excludes " + String.join(",", excludes),
+                XContentHelper.convertToMap(filtered, false, xContentType).v2(),
+                equalTo(expected)
+            );
+        }
+    }
+
+    public void testPreservesFieldOrder() throws IOException {
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON)
+            .startObject()
+            .field("z", 1)
+            .field("excluded", 2)
+            .startObject("m")
+            .field("y", 3)
+            .field("b", 4)
+            .endObject()
+            .field("a", 5)
+            .endObject();
+        BytesReference filtered = XContentFieldFilter.newFieldFilter(Strings.EMPTY_ARRAY, new String[] { "excluded", "m.b" }, true)
+            .apply(BytesReference.bytes(builder), XContentType.JSON);
+        Map<String, Object> map = XContentHelper.convertToMap(filtered, true, XContentType.JSON).v2();
+        assertThat(map.keySet(), contains("z", "m", "a"));
+        assertEquals("{\"z\":1,\"m\":{\"y\":3},\"a\":5}", filtered.utf8ToString());
+    }
+
+    public void testDropsEmptyObjectsAndArrays() throws IOException {
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON)
+            .startObject()
+            .startObject("obj")
+            .field("other", 1)
+            .endObject()
+            .startArray("arr")
+            .startObject()
+            .field("other", 2)
+            .endObject()
+            .endArray()
+            .endObject();
+        BytesReference filtered = XContentFieldFilter.newFieldFilter(new String[] { "obj.field", "arr.field" }, Strings.EMPTY_ARRAY, true)
+            .apply(BytesReference.bytes(builder), XContentType.JSON);
+        assertEquals("{}", filtered.utf8ToString());
+
+        filtered = XContentFieldFilter.newFieldFilter(new String[] { "obj", "arr" }, new String[] { "*.other" }, true)
+            .apply(BytesReference.bytes(builder), XContentType.JSON);
+        assertEquals("{\"obj\":{},\"arr\":[]}", filtered.utf8ToString());
+    }
+
+    private Map<String, Object> randomObject(int depth) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        int numFields = randomIntBetween(0, 4);
+        for (int i = 0; i < numFields; i++) {
+            map.put(randomFrom(FIELD_NAMES), randomValue(depth));
+        }
+        return map;
+    }
+
+    private Object randomValue(int depth) {
+        switch (depth < 3 ? randomIntBetween(0, 3) : randomIntBetween(0, 1)) {
+            case 0:
+                return randomAlphaOfLength(5);
+            case 1:
+                return randomInt();
+            case 2:
+                return randomObject(depth + 1);
+            default:
+                int size = randomIntBetween(0, 3);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(randomValue(depth + 1));
+                }
+                return list;
+        }
+    }
+
+    private String[] randomPatterns() {
+        if (randomBoolean()) {
+            return Strings.EMPTY_ARRAY;
+        }
+        int size = randomIntBetween(1, 3);
+        List<String> patterns = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String pattern = randomFrom(FIELD_NAMES);
+            if (randomBoolean()) {
+                pattern += "." + randomFrom(FIELD_NAMES);
+            }
+            if (randomBoolean()) {
+                pattern = randomBoolean() ? pattern + "*" : "*" + pattern.substring(1);
+            }
+            patterns.add(randomBoolean() ? pattern : pattern.toLowerCase(Locale.ROOT));
+        }
+        Collections.shuffle(patterns, random());
+        return patterns.toArray(new String[0]);
+    }
+}
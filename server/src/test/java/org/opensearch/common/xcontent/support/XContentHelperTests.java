@@ -268,4 +268,28 @@ public class XContentHelperTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testWriteRawField() throws IOException {
+        XContentType sourceType = randomFrom(XContentType.JSON, XContentType.SMILE, XContentType.CBOR);
+        XContentBuilder sourceBuilder = MediaTypeRegistry.contentBuilder(sourceType)
+            .startObject()
+            .field("field", "value")
+            .startArray("array")
+            .value(1)
+            .endArray()
+            .endObject();
+        BytesReference source = BytesReference.bytes(sourceBuilder);
+        XContentType targetType = randomFrom(XContentType.JSON, sourceType);
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(targetType).startObject();
+        if (randomBoolean()) {
+            XContentHelper.writeRawField("_source", source, builder, ToXContent.EMPTY_PARAMS);
+        } else {
+            XContentHelper.writeRawField("_source", source, sourceType, builder, ToXContent.EMPTY_PARAMS);
+        }
+        builder.field("after", true).endObject();
+
+        Map<String, Object> map = XContentHelper.convertToMap(BytesReference.bytes(builder), true, targetType).v2();
+        assertEquals(getMap("field", "value", "array", getList(1)), map.get("_source"));
+        assertEquals(true, map.get("after"));
+    }
 }
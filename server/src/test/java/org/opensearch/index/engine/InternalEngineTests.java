@@ -44,6 +44,7 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.KeywordField;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
@@ -99,6 +100,7 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.TestShardRouting;
 import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.CheckedBiFunction;
 import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.SetOnce;
@@ -4769,6 +4771,115 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testIndexAppendOnlyBatch() throws IOException {
+        final int numDocs = randomIntBetween(2, 20);
+        final int failingDoc = randomBoolean() ? randomIntBetween(0, numDocs - 1) : -1;
+        final List<Engine.Index> operations = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            final ParseContext.Document document = testDocumentWithTextField();
+            if (i == failingDoc) {
+                // immense terms are rejected without aborting the index writer
+                document.add(new KeywordField("immense", randomAlphaOfLength(IndexWriter.MAX_TERM_LENGTH + 1), Field.Store.NO));
+            }
+            final ParsedDocument doc = testParsedDocument(Integer.toString(i), null, document, B_1, null);
+            operations.add(appendOnlyPrimary(doc, false, i));
+        }
+        final List<Engine.IndexResult> results = engine.indexAppendOnly(operations);
+        assertThat(results, hasSize(numDocs));
+        for (int i = 0; i < numDocs; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getSeqNo(), equalTo((long) i));
+            assertNotNull(result.getTranslogLocation());
+            if (i == failingDoc) {
+                assertThat(result.getFailure(), instanceOf(IllegalArgumentException.class));
+            } else {
+                assertNull(result.getFailure());
+                assertTrue(result.isCreated());
+            }
+        }
+        assertEquals(0, engine.getNumVersionLookups());
+        assertThat(engine.getProcessedLocalCheckpoint(), equalTo(numDocs - 1L));
+        try (Translog.Snapshot snapshot = getTranslog(engine).newSnapshot()) {
+            assertThat(snapshot.totalOperations(), equalTo(numDocs));
+            for (Translog.Operation operation : TestTranslog.drainSnapshot(snapshot, false)) {
+                final Translog.Operation.Type expectedType = operation.seqNo() == failingDoc
+                    ? Translog.Operation.Type.NO_OP
+                    : Translog.Operation.Type.INDEX;
+                assertThat(operation.opType(), equalTo(expectedType));
+            }
+        }
+        engine.refresh("test");
+        try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+            TopDocs topDocs = searcher.search(new MatchAllDocsQuery(), numDocs);
+            assertEquals(failingDoc == -1 ? numDocs : numDocs - 1, topDocs.totalHits.value());
+        }
+    }
+
+    public void testIndexAppendOnlyBatchKeepsNestedBlocksWithIndexSort() throws Exception {
+        final Sort indexSort = new Sort(new SortedSetSortField("foo", false));
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            "test",
+            Settings.builder().put(defaultSettings.getSettings()).put("index.sort.field", "foo").build()
+        );
+        final CheckedBiFunction<String, Integer, ParsedDocument, IOException> nestedDocFactory = nestedParsedDocFactory();
+        try (
+            Store store = createStore(indexSettings, newDirectory());
+            InternalEngine engine = createEngine(
+                indexSettings,
+                store,
+                createTempDir(),
+                NoMergePolicy.INSTANCE,
+                null,
+                null,
+                null,
+                indexSort,
+                null
+            )
+        ) {
+            assertTrue(store.shouldSetParentField());
+            final int numDocs = randomIntBetween(2, 20);
+            int numNestedDocs = 0;
+            final List<Engine.Index> operations = new ArrayList<>(numDocs);
+            for (int i = 0; i < numDocs; i++) {
+                final int nestedValues = randomIntBetween(0, 2);
+                final ParsedDocument doc = nestedDocFactory.apply(Integer.toString(i), nestedValues);
+                doc.rootDoc().add(new SortedSetDocValuesField("foo", new BytesRef(randomAlphaOfLength(5))));
+                numNestedDocs += doc.docs().size() - 1;
+                operations.add(appendOnlyPrimary(doc, false, i));
+            }
+            for (Engine.IndexResult result : engine.indexAppendOnly(operations)) {
+                assertNull(result.getFailure());
+            }
+            engine.refresh("test");
+            int roots = 0;
+            int children = 0;
+            try (Engine.Searcher searcher = engine.acquireSearcher("test")) {
+                for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                    // every root document, and only root documents, must close a block, with its own nested documents before it
+                    final NumericDocValues parents = leaf.reader().getNumericDocValues(Lucene.PARENT_FIELD);
+                    final NumericDocValues primaryTerms = leaf.reader().getNumericDocValues(SeqNoFieldMapper.PRIMARY_TERM_NAME);
+                    assertNotNull(parents);
+                    int childrenInBlock = 0;
+                    for (int docId = 0; docId < leaf.reader().maxDoc(); docId++) {
+                        final boolean isRoot = primaryTerms.advanceExact(docId);
+                        assertEquals("doc [" + docId + "] must be a parent iff it is a root", isRoot, parents.advanceExact(docId));
+                        if (isRoot) {
+                            assertThat(childrenInBlock, lessThanOrEqualTo(1));
+                            roots++;
+                            childrenInBlock = 0;
+                        } else {
+                            children++;
+                            childrenInBlock++;
+                        }
+                    }
+                    assertEquals("nested documents must not trail the last root", 0, childrenInBlock);
+                }
+            }
+            assertEquals(numDocs, roots);
+            assertEquals(numNestedDocs, children);
+        }
+    }
+
     public void testDoubleDeliveryReplicaAppendingAndDeleteOnly() throws IOException {
         final ParsedDocument doc = testParsedDocument(
             "1",
@@ -59,7 +59,7 @@ import static org.hamcrest.Matchers.nullValue;
 public class LiveVersionMapTests extends OpenSearchTestCase {
 
     public void testRamBytesUsed() throws Exception {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         for (int i = 0; i < 10000; ++i) {
             BytesRefBuilder uid = new BytesRefBuilder();
             uid.copyChars(TestUtil.randomSimpleString(random(), 10, 20));
@@ -97,7 +97,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshingBytes() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         BytesRefBuilder uid = new BytesRefBuilder();
         uid.copyChars(TestUtil.randomSimpleString(random(), 10, 20));
         try (Releasable r = map.acquireLock(uid.toBytesRef())) {
@@ -117,7 +117,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testBasics() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         try (Releasable r = map.acquireLock(uid("test"))) {
             Translog.Location tlogLoc = randomTranslogLocation();
             map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
@@ -149,7 +149,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         List<BytesRef> keyList = new ArrayList<>(keySet);
         ConcurrentHashMap<BytesRef, VersionValue> values = new ConcurrentHashMap<>();
         ConcurrentHashMap<BytesRef, DeleteVersionValue> deletes = new ConcurrentHashMap<>();
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         int numThreads = randomIntBetween(2, 5);
 
         Thread[] threads = new Thread[numThreads];
@@ -287,7 +287,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testCarryOnSafeAccess() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         assertFalse(map.isUnsafe());
         assertFalse(map.isSafeAccessRequired());
         map.enforceSafeAccess();
@@ -319,7 +319,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRefreshTransition() throws IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         try (Releasable r = map.acquireLock(uid("1"))) {
             map.maybePutIndexUnderLock(uid("1"), randomIndexVersionValue());
             assertTrue(map.isUnsafe());
@@ -347,7 +347,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testAddAndDeleteRefreshConcurrently() throws IOException, InterruptedException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         int numIters = randomIntBetween(1000, 5000);
         AtomicBoolean done = new AtomicBoolean(false);
         AtomicLong version = new AtomicLong();
@@ -404,7 +404,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testPruneTombstonesWhileLocked() throws InterruptedException, IOException {
-        LiveVersionMap map = new LiveVersionMap();
+        LiveVersionMap map = new LiveVersionMap(randomBoolean());
         BytesRef uid = uid("1");
 
         try (Releasable ignore = map.acquireLock(uid)) {
@@ -423,7 +423,7 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
     }
 
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
-        final LiveVersionMap versionMap = new LiveVersionMap();
+        final LiveVersionMap versionMap = new LiveVersionMap(randomBoolean());
         final BytesRef uid = uid("1");
         final long versions = between(10, 1000);
         VersionValue latestVersion = null;
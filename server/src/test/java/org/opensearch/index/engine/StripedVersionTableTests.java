@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class StripedVersionTableTests extends OpenSearchTestCase {
+
+    private static BytesRef uid(int id) {
+        return new BytesRef(Integer.toString(id));
+    }
+
+    public void testRandomOperations() {
+        final UidLockStripes stripes = new UidLockStripes(1 << randomIntBetween(0, 4));
+        final StripedVersionTable<VersionValue> table = new StripedVersionTable<>(stripes, randomIntBetween(0, 100));
+        final Map<BytesRef, VersionValue> reference = new HashMap<>();
+        final int numIds = randomIntBetween(1, 500);
+        for (int i = 0; i < 5000; i++) {
+            // a fresh BytesRef for every operation to make sure that keys are compared by content
+            final BytesRef uid = uid(randomInt(numIds));
+            try (Releasable ignored = stripes.acquire(uid)) {
+                switch (randomInt(2)) {
+                    case 0:
+                        final VersionValue value = new IndexVersionValue(null, randomNonNegativeLong(), i, 1);
+                        assertSame(reference.put(uid, value), table.put(uid, value));
+                        break;
+                    case 1:
+                        assertSame(reference.remove(uid), table.remove(uid));
+                        break;
+                    default:
+                        assertSame(reference.get(uid), table.get(uid));
+                        break;
+                }
+            }
+            assertEquals(reference.size(), table.size());
+            assertEquals(reference.isEmpty(), table.isEmpty());
+        }
+        for (int id = 0; id <= numIds; id++) {
+            final BytesRef uid = uid(id);
+            try (Releasable ignored = stripes.acquire(uid)) {
+                assertSame(reference.get(uid), table.get(uid));
+            }
+        }
+        assertEquals(reference, new HashMap<>(table));
+
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertEquals(0, table.entrySet().size());
+    }
+
+    public void testTryRemoveIfSkipsLockedStripes() throws InterruptedException {
+        final UidLockStripes stripes = new UidLockStripes(4);
+        final StripedVersionTable<DeleteVersionValue> table = new StripedVersionTable<>(stripes);
+        final List<BytesRef> uids = new ArrayList<>();
+        for (int id = 0; id < 100; id++) {
+            final BytesRef uid = uid(id);
+            uids.add(uid);
+            try (Releasable ignored = stripes.acquire(uid)) {
+                table.put(uid, new DeleteVersionValue(id, id, 1, id));
+            }
+        }
+        final BytesRef lockedUid = randomFrom(uids);
+        final int lockedStripe = stripes.stripe(lockedUid);
+        final Set<BytesRef> removed = new HashSet<>();
+        try (Releasable ignored = stripes.acquire(lockedUid)) {
+            final Thread thread = new Thread(() -> table.tryRemoveIf((uid, value) -> value.seqNo % 2 == 0, uid -> {
+                assertTrue(stripes.isHeldByCurrentThread(uid));
+                assertNotNull(table.remove(uid));
+                removed.add(uid);
+            }));
+            thread.start();
+            thread.join();
+        }
+        for (BytesRef uid : uids) {
+            final boolean even = Integer.parseInt(uid.utf8ToString()) % 2 == 0;
+            final boolean expectRemoved = even && stripes.stripe(uid) != lockedStripe;
+            assertEquals(uid.utf8ToString(), expectRemoved, removed.contains(uid));
+            try (Releasable ignored = stripes.acquire(uid)) {
+                assertEquals(expectRemoved, table.get(uid) == null);
+            }
+        }
+    }
+
+    public void testStripesMustBePowerOfTwo() {
+        expectThrows(IllegalArgumentException.class, () -> new UidLockStripes(0));
+        expectThrows(IllegalArgumentException.class, () -> new UidLockStripes(3));
+    }
+}
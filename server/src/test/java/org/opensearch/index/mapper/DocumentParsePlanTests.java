@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DocumentParsePlanTests extends MapperServiceTestCase {
+
+    public void testCompilesMappedFields() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("host");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("name").field("type", "keyword").endObject();
+                    b.startObject("os");
+                    {
+                        b.startObject("properties");
+                        b.startObject("version").field("type", "keyword").endObject();
+                        b.endObject();
+                    }
+                    b.endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("disabled").field("type", "object").field("enabled", false).endObject();
+            b.startObject("events");
+            {
+                b.field("type", "nested");
+                b.startObject("properties");
+                b.startObject("code").field("type", "long").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        DocumentParsePlan plan = mapper.parsePlan();
+        ObjectMapper root = mapper.root();
+        ObjectMapper host = mapper.objectMappers().get("host");
+
+        DocumentParsePlan.FieldDispatch dispatch = plan.resolve(root, "host.os.version");
+        assertNotNull(dispatch);
+        assertThat(dispatch.paths(), arrayContaining("host", "os", "version"));
+        assertThat(dispatch.mapper(), sameInstance(mapper.mappers().getMapper("host.os.version")));
+        assertThat(plan.resolve(root, "host").mapper(), sameInstance(host));
+        assertThat(plan.resolve(host, "os.version").mapper(), sameInstance(mapper.mappers().getMapper("host.os.version")));
+        assertThat(plan.resolve(host, "name").paths(), arrayContaining("name"));
+
+        // the nested object itself is compiled, its fields only below it
+        assertThat(plan.resolve(root, "events").mapper(), sameInstance(mapper.objectMappers().get("events")));
+        assertNull(plan.resolve(root, "events.code"));
+        assertNotNull(plan.resolve(mapper.objectMappers().get("events"), "code"));
+
+        // the content of disabled objects is skipped, unmapped fields go through dynamic mapping
+        assertNotNull(plan.resolve(root, "disabled"));
+        assertNull(plan.resolve(root, "disabled.anything"));
+        assertNull(plan.resolve(root, "host.unknown"));
+        assertNull(plan.resolve(root, "_id"));
+    }
+
+    public void testRebuiltOnMappingUpdate() throws Exception {
+        MapperService mapperService = createMapperService(mapping(b -> b.startObject("message").field("type", "text").endObject()));
+        DocumentMapper before = mapperService.documentMapper();
+        assertNull(before.parsePlan().resolve(before.root(), "level"));
+
+        merge(mapperService, mapping(b -> b.startObject("level").field("type", "keyword").endObject()));
+        DocumentMapper after = mapperService.documentMapper();
+        assertNotNull(after.parsePlan().resolve(after.root(), "message"));
+        assertThat(after.parsePlan().resolve(after.root(), "level").mapper(), sameInstance(after.mappers().getMapper("level")));
+    }
+
+    public void testParsesDottedAndObjectNamesTheSame() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("a");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("b");
+                    {
+                        b.startObject("properties");
+                        b.startObject("c").field("type", "long").endObject();
+                        b.endObject();
+                    }
+                    b.endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+        }));
+        ParsedDocument dotted = mapper.parse(source(b -> {
+            b.field("a.b.c", 1);
+            b.startObject("a").field("b.c", 2).endObject();
+            b.startObject("a.b").field("c", 3).endObject();
+        }));
+        assertNull(dotted.dynamicMappingsUpdate());
+        assertArrayEquals(new long[] { 1, 2, 3 }, pointValues(dotted, "a.b.c"));
+
+        ParsedDocument objects = mapper.parse(source(b -> b.startObject("a").startObject("b").field("c", 4).endObject().endObject()));
+        assertNull(objects.dynamicMappingsUpdate());
+        assertArrayEquals(new long[] { 4 }, pointValues(objects, "a.b.c"));
+    }
+
+    private static long[] pointValues(ParsedDocument doc, String field) {
+        return Arrays.stream(doc.rootDoc().getFields(field))
+            .filter(f -> f.fieldType().pointDimensionCount() > 0)
+            .mapToLong(f -> f.numericValue().longValue())
+            .toArray();
+    }
+}
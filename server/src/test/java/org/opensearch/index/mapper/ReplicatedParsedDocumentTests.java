@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ReplicatedParsedDocumentTests extends MapperServiceTestCase {
+
+    private static XContentBuilder testMapping() throws IOException {
+        return mapping(b -> {
+            b.startObject("message").field("type", "text").endObject();
+            b.startObject("level").field("type", "keyword").endObject();
+            b.startObject("count").field("type", "long").endObject();
+            b.startObject("ratio").field("type", "double").field("store", true).endObject();
+            b.startObject("host").field("type", "ip").endObject();
+            b.startObject("enabled").field("type", "boolean").endObject();
+            b.startObject("events");
+            {
+                b.field("type", "nested");
+                b.startObject("properties");
+                b.startObject("code").field("type", "integer").endObject();
+                b.endObject();
+            }
+            b.endObject();
+        });
+    }
+
+    public void testRoundTrip() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(testMapping());
+        SourceToParse primarySource = source(b -> {
+            b.field("message", "the quick brown fox");
+            b.field("level", "info");
+            b.field("count", 42);
+            b.field("ratio", 0.25);
+            b.field("host", "192.168.0.1");
+            b.field("enabled", true);
+            b.startArray("events");
+            b.startObject().field("code", 1).endObject();
+            b.startObject().field("code", 2).endObject();
+            b.endArray();
+        });
+        primarySource.captureReplicatedDocument();
+        ParsedDocument parsed = mapper.parse(primarySource);
+        ReplicatedParsedDocument replicated = primarySource.replicatedDocument();
+        assertNotNull(replicated);
+        assertThat(replicated.getMappingFingerprint(), equalTo(mapper.mappingFingerprint()));
+
+        SourceToParse replicaSource = new SourceToParse(
+            primarySource.index(),
+            primarySource.id(),
+            primarySource.source(),
+            primarySource.getMediaType(),
+            primarySource.routing()
+        );
+        replicaSource.replicatedDocument(copy(replicated));
+        ParsedDocument replayed = mapper.parse(replicaSource);
+
+        assertNull(replayed.dynamicMappingsUpdate());
+        assertThat(replayed.docs().size(), equalTo(parsed.docs().size()));
+        for (int i = 0; i < parsed.docs().size(); i++) {
+            ParseContext.Document expected = parsed.docs().get(i);
+            ParseContext.Document actual = replayed.docs().get(i);
+            assertThat(actual.getPath(), equalTo(expected.getPath()));
+            assertFieldsEqual(expected.getFields(), actual.getFields());
+            // the sequence number and version fields are shared between the root and the nested documents
+            assertTrue(actual.getFields().contains(replayed.version()));
+            assertTrue(actual.getFields().contains(replayed.seqID().seqNo));
+        }
+        replayed.updateSeqID(7, 2);
+        assertThat(replayed.rootDoc().getField(SeqNoFieldMapper.NAME).numericValue().longValue(), equalTo(7L));
+        assertThat(replayed.docs().get(0).getField(SeqNoFieldMapper.NAME).numericValue().longValue(), equalTo(7L));
+        assertThat(replayed.source(), sameInstance(replicaSource.source()));
+    }
+
+    public void testStaleMappingIsParsed() throws Exception {
+        MapperService mapperService = createMapperService(testMapping());
+        SourceToParse primarySource = source(b -> b.field("level", "warn").field("extra", "value"));
+        primarySource.captureReplicatedDocument();
+        // a document that updates the mapping is never replicated in parsed form
+        assertNotNull(mapperService.documentMapper().parse(primarySource).dynamicMappingsUpdate());
+        assertNull(primarySource.replicatedDocument());
+
+        primarySource = source(b -> b.field("level", "warn"));
+        primarySource.captureReplicatedDocument();
+        mapperService.documentMapper().parse(primarySource);
+        ReplicatedParsedDocument replicated = primarySource.replicatedDocument();
+        assertNotNull(replicated);
+
+        merge(mapperService, mapping(b -> b.startObject("service").field("type", "keyword").endObject()));
+        DocumentMapper updated = mapperService.documentMapper();
+        assertNotEquals(replicated.getMappingFingerprint(), updated.mappingFingerprint());
+
+        SourceToParse replicaSource = source(b -> b.field("level", "warn"));
+        replicaSource.replicatedDocument(replicated);
+        ParsedDocument parsed = updated.parse(replicaSource);
+        assertNull(replicaSource.replicatedDocument());
+        assertNotNull(parsed.rootDoc().getField("level"));
+        assertNull(parsed.dynamicMappingsUpdate());
+    }
+
+    public void testUnsupportedFieldsAreNotEncoded() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> b.startObject("location").field("type", "geo_point").endObject()));
+        SourceToParse source = source(b -> b.field("location", "41.12,-71.34"));
+        source.captureReplicatedDocument();
+        mapper.parse(source);
+        assertNull(source.replicatedDocument());
+    }
+
+    private static ReplicatedParsedDocument copy(ReplicatedParsedDocument replicated) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            replicated.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return new ReplicatedParsedDocument(in);
+            }
+        }
+    }
+
+    private static void assertFieldsEqual(List<IndexableField> expected, List<IndexableField> actual) {
+        assertThat(actual.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            IndexableField expectedField = expected.get(i);
+            IndexableField actualField = actual.get(i);
+            assertThat(actualField.name(), equalTo(expectedField.name()));
+            if (expectedField.stringValue() != null) {
+                assertThat(actualField.stringValue(), equalTo(expectedField.stringValue()));
+            } else {
+                assertThat(actualField.binaryValue(), equalTo(expectedField.binaryValue()));
+            }
+            assertFieldTypesEqual(expectedField.name(), expectedField.fieldType(), actualField.fieldType());
+        }
+    }
+
+    private static void assertFieldTypesEqual(String name, IndexableFieldType expected, IndexableFieldType actual) {
+        assertEquals(name, expected.stored(), actual.stored());
+        assertEquals(name, expected.tokenized(), actual.tokenized());
+        assertEquals(name, expected.omitNorms(), actual.omitNorms());
+        assertEquals(name, expected.indexOptions(), actual.indexOptions());
+        assertEquals(name, expected.docValuesType(), actual.docValuesType());
+        assertEquals(name, expected.pointDimensionCount(), actual.pointDimensionCount());
+        assertEquals(name, expected.pointNumBytes(), actual.pointNumBytes());
+    }
+}
@@ -83,7 +83,8 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
             .starTreeQueryCount(1)
             .starTreeQueryTimeInMillis(1)
             .starTreeQueryCurrent(1)
-            .starTreeQueryFailed(1);
+            .starTreeQueryFailed(1)
+            .queryCoalescedCount(1);
         groupStats2.put("group1", defaultStats.build());
         SearchStats searchStats1 = new SearchStats(defaultStats.build(), 0, groupStats1);
         SearchStats searchStats2 = new SearchStats(defaultStats.build(), 0, groupStats2);
@@ -148,6 +149,7 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
         assertEquals(equalTo, stats.getStarTreeQueryTimeInMillis());
         assertEquals(equalTo, stats.getStarTreeQueryCurrent());
         assertEquals(equalTo, stats.getStarTreeQueryFailed());
+        assertEquals(equalTo, stats.getQueryCoalescedCount());
         assertEquals(equalTo, stats.getFetchCount());
         assertEquals(equalTo, stats.getFetchTimeInMillis());
         assertEquals(equalTo, stats.getFetchCurrent());
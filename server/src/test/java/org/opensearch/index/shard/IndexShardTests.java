@@ -150,6 +150,7 @@ import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.translog.listener.TranslogEventListener;
 import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
@@ -4538,6 +4539,54 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testScheduledRefreshThroughRefreshScheduler() throws Exception {
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSettings.INDEX_SEARCH_IDLE_AFTER.getKey(), TimeValue.ZERO)
+            .build();
+        final IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("{ \"properties\": { \"foo\":  { \"type\": \"text\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1)
+            .build();
+        final IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        final Settings nodeSettings = Settings.builder()
+            .put(RefreshScheduler.ENABLED_SETTING.getKey(), true)
+            .put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "1h")
+            .build();
+        final ClusterSettings clusterSettings = new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final RefreshScheduler scheduler = new RefreshScheduler(nodeSettings, clusterSettings, primary.getThreadPool());
+        primary.setRefreshScheduler(scheduler);
+
+        // a search idle shard that is written to skips its refresh until the bound passed
+        indexDoc(primary, "_doc", "0", "{\"foo\" : \"bar\"}");
+        assertTrue(primary.isSearchIdle());
+        primary.triggerScheduledRefresh();
+        assertEquals(1L, scheduler.stats().getTotalDeferred());
+        assertTrue(primary.getIndexer().refreshNeeded());
+        assertTrue(primary.hasRefreshPending());
+
+        // once the bound passed the shard refreshes although it is still not searched
+        clusterSettings.applySettings(
+            Settings.builder().put(nodeSettings).put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "0s").build()
+        );
+        primary.triggerScheduledRefresh();
+        assertBusy(() -> assertFalse(primary.getIndexer().refreshNeeded()));
+        assertEquals(1L, scheduler.stats().getTotalDeferred());
+
+        // an inactive shard refreshes to free up segment memory, like it does while search idle
+        clusterSettings.applySettings(nodeSettings);
+        indexDoc(primary, "_doc", "1", "{\"foo\" : \"bar\"}");
+        primary.flushOnIdle(0);
+        primary.triggerScheduledRefresh();
+        assertBusy(() -> assertFalse(primary.getIndexer().refreshNeeded()));
+        assertEquals(1L, scheduler.stats().getTotalDeferred());
+        closeShards(primary);
+    }
+
     public void testRefreshIsNeededWithRefreshListeners() throws IOException, InterruptedException {
         Settings settings = Settings.builder()
             .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
@@ -5040,6 +5089,98 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testApplyAppendOnlyIndexOperationsOnPrimary() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final int numDocs = randomIntBetween(2, 10);
+        final List<IndexRequest> requests = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            requests.add(appendOnlyIndexRequest("{}"));
+        }
+        final List<Engine.IndexResult> results = shard.applyAppendOnlyIndexOperationsOnPrimary(requests);
+        assertThat(results, hasSize(numDocs));
+        Translog.Location previousLocation = null;
+        for (int i = 0; i < numDocs; i++) {
+            final Engine.IndexResult result = results.get(i);
+            assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+            assertThat(result.getSeqNo(), equalTo((long) i));
+            assertThat(result.getTerm(), equalTo(shard.getOperationPrimaryTerm()));
+            assertTrue(result.isCreated());
+            if (previousLocation != null) {
+                assertThat(result.getTranslogLocation().compareTo(previousLocation), greaterThan(0));
+            }
+            previousLocation = result.getTranslogLocation();
+        }
+        assertThat(shard.getLocalCheckpoint(), equalTo((long) numDocs - 1));
+        assertDocCount(shard, numDocs);
+        closeShards(shard);
+    }
+
+    public void testApplyAppendOnlyIndexOperationsOnPrimaryStopsAfterParseFailure() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final List<IndexRequest> requests = List.of(
+            appendOnlyIndexRequest("{}"),
+            appendOnlyIndexRequest("{}"),
+            appendOnlyIndexRequest("{\"foo\" : \"bar}"),
+            appendOnlyIndexRequest("{}")
+        );
+        final List<Engine.IndexResult> results = shard.applyAppendOnlyIndexOperationsOnPrimary(requests);
+        // the request that fails to parse is the last one handled, the one after it is left to the caller
+        assertThat(results, hasSize(3));
+        assertThat(results.get(0).getSeqNo(), equalTo(0L));
+        assertThat(results.get(1).getSeqNo(), equalTo(1L));
+        final Engine.IndexResult failure = results.get(2);
+        assertThat(failure.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+        assertThat(failure.getFailure(), instanceOf(MapperParsingException.class));
+        assertThat(failure.getSeqNo(), equalTo(UNASSIGNED_SEQ_NO));
+        assertThat(shard.getLocalCheckpoint(), equalTo(1L));
+
+        final List<Engine.IndexResult> rest = shard.applyAppendOnlyIndexOperationsOnPrimary(requests.subList(3, 4));
+        assertThat(rest, hasSize(1));
+        assertThat(rest.get(0).getSeqNo(), equalTo(2L));
+        assertDocCount(shard, 3);
+        closeShards(shard);
+    }
+
+    public void testApplyAppendOnlyIndexOperationsOnPrimaryStopsAtMappingUpdate() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final List<IndexRequest> requests = List.of(
+            appendOnlyIndexRequest("{}"),
+            appendOnlyIndexRequest("{}"),
+            appendOnlyIndexRequest("{\"foo\" : \"bar\"}"),
+            appendOnlyIndexRequest("{\"foo\" : \"baz\"}")
+        );
+        final List<Engine.IndexResult> results = shard.applyAppendOnlyIndexOperationsOnPrimary(requests);
+        // the request that needs a mapping update is left to the caller, together with everything after it
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).getSeqNo(), equalTo(0L));
+        assertThat(results.get(1).getSeqNo(), equalTo(1L));
+        assertThat(shard.getLocalCheckpoint(), equalTo(1L));
+        assertThat(shard.applyAppendOnlyIndexOperationsOnPrimary(requests.subList(2, 4)), hasSize(0));
+
+        updateMappings(
+            shard,
+            IndexMetadata.builder(shard.indexSettings().getIndexMetadata())
+                .putMapping("{ \"properties\": { \"foo\": { \"type\": \"text\"}}}")
+                .build()
+        );
+        final List<Engine.IndexResult> resumed = shard.applyAppendOnlyIndexOperationsOnPrimary(requests.subList(2, 4));
+        assertThat(resumed, hasSize(2));
+        assertThat(resumed.get(0).getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+        assertThat(resumed.get(0).getSeqNo(), equalTo(2L));
+        assertThat(resumed.get(1).getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+        assertThat(resumed.get(1).getSeqNo(), equalTo(3L));
+        assertThat(shard.getLocalCheckpoint(), equalTo(3L));
+        assertDocCount(shard, 4);
+        closeShards(shard);
+    }
+
+    private static IndexRequest appendOnlyIndexRequest(String source) {
+        final IndexRequest request = new IndexRequest("index").source(source, MediaTypeRegistry.JSON);
+        // assigns an auto-generated id and its timestamp
+        request.process(Version.CURRENT, null, "index");
+        return request;
+    }
+
     public void testConcurrentAcquireAllReplicaOperationsPermitsWithPrimaryTermUpdate() throws Exception {
         final IndexShard replica = newStartedShard(false);
         indexOnReplicaWithGaps(replica, between(0, 1000), Math.toIntExact(replica.getLocalCheckpoint()));
@@ -53,6 +53,7 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.translog.SnapshotMatchers;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.RefreshScheduler;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RecoveryTarget;
 import org.opensearch.indices.replication.CheckpointInfoResponse;
@@ -600,6 +601,36 @@ public class SegmentReplicationIndexShardTests extends OpenSearchIndexLevelRepli
         }
     }
 
+    public void testRefreshSchedulerDoesNotDeferShardIdle() throws Exception {
+        Settings updatedSettings = Settings.builder()
+            .put(getIndexSettings())
+            .put(IndexSettings.INDEX_SEARCH_IDLE_AFTER.getKey(), TimeValue.ZERO)
+            .build();
+        final Settings nodeSettings = Settings.builder()
+            .put(RefreshScheduler.ENABLED_SETTING.getKey(), true)
+            .put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "1h")
+            .build();
+        final RefreshScheduler scheduler = new RefreshScheduler(
+            nodeSettings,
+            new ClusterSettings(nodeSettings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        try (ReplicationGroup shards = createGroup(1, updatedSettings, new NRTReplicationEngineFactory())) {
+            shards.startAll();
+            final IndexShard primary = shards.getPrimary();
+            primary.setRefreshScheduler(scheduler);
+            shards.indexDocs(randomIntBetween(1, 10));
+            // ensure search idle conditions are met.
+            assertTrue(primary.isSearchIdle());
+
+            // the primary has to publish its segments to the replica, so the scheduler must not hold its refresh back
+            primary.triggerScheduledRefresh();
+            assertBusy(() -> assertFalse(primary.getIndexer().refreshNeeded()));
+            assertFalse(primary.hasRefreshPending());
+            assertEquals(0L, scheduler.stats().getTotalDeferred());
+        }
+    }
+
     public void testShardIdle_Docrep() throws Exception {
         Settings settings = Settings.builder()
             .put(IndexSettings.INDEX_SEARCH_IDLE_AFTER.getKey(), TimeValue.ZERO)
@@ -714,6 +714,32 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         assertNull(translog.readOperation(new Location(100, 0, 0)));
     }
 
+    public void testAddBatch() throws IOException {
+        final List<Translog.Operation> ops = new ArrayList<>();
+        final int numOps = randomIntBetween(1, 50);
+        for (int i = 0; i < numOps; i++) {
+            if (randomBoolean()) {
+                ops.add(new Translog.Index(Integer.toString(i), i, primaryTerm.get(), randomByteArrayOfLength(randomIntBetween(1, 64))));
+            } else {
+                ops.add(new Translog.Delete(Integer.toString(i), i, primaryTerm.get()));
+            }
+        }
+        final List<Translog.Location> locations = translog.add(ops);
+        assertThat(locations.size(), equalTo(numOps));
+        for (int i = 0; i < numOps; i++) {
+            assertThat(locations.get(i).generation, equalTo(translog.currentFileGeneration()));
+            if (i > 0) {
+                final Translog.Location previous = locations.get(i - 1);
+                assertThat(locations.get(i).translogLocation, equalTo(previous.translogLocation + previous.size));
+            }
+            assertEquals(ops.get(i), translog.readOperation(locations.get(i)));
+        }
+        try (Translog.Snapshot snapshot = translog.newSnapshot()) {
+            assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            assertThat(snapshot.totalOperations(), equalTo(numOps));
+        }
+    }
+
     public void testSnapshotWithNewTranslog() throws IOException {
         List<Closeable> toClose = new ArrayList<>();
         try {
@@ -3873,6 +3899,81 @@ public class LocalTranslogTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCompressedGenerations() throws Exception {
+        final Path tempDir = createTempDir();
+        final Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, org.opensearch.Version.CURRENT)
+            .put(IndexSettings.INDEX_TRANSLOG_COMPRESSION_ENABLED_SETTING.getKey(), true)
+            .build();
+        final TranslogConfig config = getTranslogConfig(tempDir, settings);
+        // the empty generation the translog is created with is not compressed
+        final String translogUUID = Translog.createEmptyTranslog(
+            config.getTranslogPath(),
+            SequenceNumbers.NO_OPS_PERFORMED,
+            shardId,
+            primaryTerm.get()
+        );
+        final List<Translog.Operation> ops = new ArrayList<>();
+        final List<Location> locations = new ArrayList<>();
+        try (Translog compressedTranslog = openTranslog(config, translogUUID)) {
+            assertTrue(compressedTranslog.getCurrent().header.isCompressed());
+            final int generations = randomIntBetween(1, 5);
+            for (int gen = 0; gen < generations; gen++) {
+                final int operations = randomIntBetween(1, 200);
+                for (int i = 0; i < operations; i++) {
+                    final byte[] source = randomAlphaOfLength(randomIntBetween(1, 256)).getBytes(StandardCharsets.UTF_8);
+                    final Translog.Index op = new Translog.Index(randomAlphaOfLength(10), ops.size(), primaryTerm.get(), source);
+                    locations.add(addToTranslogAndList(compressedTranslog, ops, op));
+                    if (rarely()) {
+                        compressedTranslog.sync();
+                    }
+                }
+                // operations of the current generation are read back whether they are still buffered or not
+                for (int i = ops.size() - operations; i < ops.size(); i++) {
+                    assertEquals(ops.get(i), compressedTranslog.readOperation(locations.get(i)));
+                }
+                compressedTranslog.rollGeneration();
+            }
+            for (int i = 0; i < ops.size(); i++) {
+                assertEquals(ops.get(i), compressedTranslog.readOperation(locations.get(i)));
+            }
+            try (Translog.Snapshot snapshot = compressedTranslog.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+        }
+
+        // recovery reads the compressed generations from disk
+        try (Translog recovered = openTranslog(config, translogUUID)) {
+            try (Translog.Snapshot snapshot = recovered.newSnapshot()) {
+                assertThat(snapshot, SnapshotMatchers.equalsTo(ops));
+            }
+            final int i = randomIntBetween(0, ops.size() - 1);
+            assertEquals(ops.get(i), recovered.readOperation(locations.get(i)));
+        }
+
+        // flip a bit in the first block of the first compressed generation
+        final int headerSize = TranslogHeader.headerSizeInBytes(translogUUID);
+        final Path firstCompressed = tempDir.resolve(Translog.getFilename(2));
+        try (FileChannel channel = FileChannel.open(firstCompressed, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer compressedLength = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(compressedLength, headerSize);
+            final long position = headerSize + TranslogBlocks.HEADER_SIZE + randomIntBetween(0, compressedLength.getInt(0) - 1);
+            final ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, position);
+            b.put(0, (byte) (b.get(0) ^ (1 << randomIntBetween(0, 7))));
+            channel.write(b.rewind(), position);
+        }
+        try (Translog corrupted = openTranslog(config, translogUUID)) {
+            expectThrows(TranslogCorruptedException.class, () -> {
+                try (Translog.Snapshot snapshot = corrupted.newSnapshot()) {
+                    while (snapshot.next() != null) {
+                        // exhaust the snapshot
+                    }
+                }
+            });
+        }
+    }
+
     public void testSnapshotReadOperationForward() throws Exception {
         Path tempDir = createTempDir();
         final Settings settings = Settings.builder()
@@ -38,6 +38,7 @@ import org.opensearch.common.SetOnce;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.EngineConfig;
@@ -60,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -84,6 +86,11 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         // Shards that are currently throttled
         final Set<IndexShard> throttled = new HashSet<>();
 
+        // Shard indexing pressure of each shard
+        final Map<IndexShard, Double> indexingPressure = new HashMap<>();
+
+        long nowNanos;
+
         MockController(Settings settings) {
             super(
                 Settings.builder()
@@ -125,6 +132,16 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
             return nativeMemoryUsed.getOrDefault(shard, 0L);
         }
 
+        @Override
+        protected double getShardIndexingPressure(IndexShard shard) {
+            return indexingPressure.getOrDefault(shard, 0.0);
+        }
+
+        @Override
+        protected long relativeTimeInNanos() {
+            return nowNanos;
+        }
+
         @Override
         protected void checkIdle(IndexShard shard, long inactiveTimeNS) {}
 
@@ -743,4 +760,106 @@ public class IndexingMemoryControllerTests extends IndexShardTestCase {
         assertEquals(500L, (long) controller.nativeMemoryUsed.get(shardB));
         closeShards(shardA, shardB);
     }
+
+    public void testWriteLoadAwareWritesShardsOverTheirShare() throws IOException {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "10mb")
+                .put(IndexingMemoryController.WRITE_LOAD_AWARE_SETTING.getKey(), true)
+                .build()
+        );
+        IndexShard busy = newShard(new ShardId("index", "_na_", 0), true);
+        IndexShard slow = newShard(new ShardId("index", "_na_", 1), true);
+        controller.recordShardBytes(busy.shardId(), 9 * 1024 * 1024);
+        controller.recordShardBytes(slow.shardId(), 1024 * 1024);
+        controller.nowNanos = TimeUnit.SECONDS.toNanos(1);
+
+        // the busy shard holds the larger buffer but stays within its share of the budget, the slow one does not
+        controller.indexBufferRAMBytesUsed.put(busy, 6L * 1024 * 1024);
+        controller.writingBytes.put(busy, 0L);
+        controller.indexBufferRAMBytesUsed.put(slow, 5L * 1024 * 1024);
+        controller.writingBytes.put(slow, 0L);
+        controller.forceCheck();
+
+        controller.assertBuffer(busy, 6);
+        controller.assertWriting(slow, 5);
+        final IndexingBufferStats stats = controller.stats();
+        assertTrue(stats.isWriteLoadAware());
+        assertThat(stats.getShards().size(), equalTo(2));
+        final IndexingBufferStats.ShardAllocation busyAllocation = stats.getShards().get(0);
+        assertThat(busyAllocation.getShardId(), equalTo(busy.shardId()));
+        assertEquals(9L * 1024 * 1024, busyAllocation.getAllocatedInBytes(), 1);
+        assertThat(busyAllocation.getUsedInBytes(), equalTo(6L * 1024 * 1024));
+        assertEquals(1024L * 1024, stats.getShards().get(1).getAllocatedInBytes(), 1);
+        closeShards(busy, slow);
+    }
+
+    public void testWriteLoadAwareIndexingPressureRaisesShare() throws IOException {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "8mb")
+                .put(IndexingMemoryController.WRITE_LOAD_AWARE_SETTING.getKey(), true)
+                .build()
+        );
+        IndexShard pressured = newShard(new ShardId("index", "_na_", 0), true);
+        IndexShard other = newShard(new ShardId("index", "_na_", 1), true);
+        // the pressured shard indexes half as fast but gets the same share
+        controller.recordShardBytes(pressured.shardId(), 1024 * 1024);
+        controller.recordShardBytes(other.shardId(), 2 * 1024 * 1024);
+        controller.indexingPressure.put(pressured, 1.0);
+        controller.nowNanos = TimeUnit.SECONDS.toNanos(1);
+        controller.indexBufferRAMBytesUsed.put(pressured, 0L);
+        controller.writingBytes.put(pressured, 0L);
+        controller.indexBufferRAMBytesUsed.put(other, 0L);
+        controller.writingBytes.put(other, 0L);
+        controller.forceCheck();
+
+        final IndexingBufferStats stats = controller.stats();
+        assertThat(stats.getShards().get(0).getIndexingPressure(), equalTo(1.0));
+        assertThat(stats.getShards().get(0).getAllocatedInBytes(), equalTo(4L * 1024 * 1024));
+        assertThat(stats.getShards().get(1).getAllocatedInBytes(), equalTo(4L * 1024 * 1024));
+        closeShards(pressured, other);
+    }
+
+    public void testWriteLoadAwareWritesIdleShards() throws IOException {
+        MockController controller = new MockController(
+            Settings.builder()
+                .put("indices.memory.index_buffer_size", "10mb")
+                .put(IndexingMemoryController.WRITE_LOAD_AWARE_SETTING.getKey(), true)
+                .put(IndexingMemoryController.WRITE_LOAD_AWARE_IDLE_TIME_SETTING.getKey(), "30s")
+                .build()
+        );
+        IndexShard shard = newShard(true);
+        controller.recordShardBytes(shard.shardId(), 2 * 1024 * 1024);
+        controller.indexBufferRAMBytesUsed.put(shard, 2L * 1024 * 1024);
+        controller.writingBytes.put(shard, 0L);
+        controller.nowNanos = TimeUnit.SECONDS.toNanos(10);
+        controller.forceCheck();
+        // well under budget and still indexing recently
+        controller.assertBuffer(shard, 2);
+
+        controller.nowNanos = TimeUnit.SECONDS.toNanos(41);
+        controller.forceCheck();
+        controller.assertBuffer(shard, 0);
+        controller.assertWriting(shard, 2);
+        assertThat(controller.stats().getTotalIdleWrites(), equalTo(1L));
+
+        // the buffer of an idle shard is only written once
+        controller.doneWriting(shard);
+        controller.nowNanos = TimeUnit.SECONDS.toNanos(90);
+        controller.forceCheck();
+        assertThat(controller.stats().getTotalIdleWrites(), equalTo(1L));
+        closeShards(shard);
+    }
+
+    public void testWriteLoadAwareDisabledByDefault() throws IOException {
+        MockController controller = new MockController(Settings.builder().put("indices.memory.index_buffer_size", "4mb").build());
+        IndexShard shard = newStartedShard();
+        controller.simulateIndexing(shard);
+        final IndexingBufferStats stats = controller.stats();
+        assertFalse(stats.isWriteLoadAware());
+        assertThat(stats.getBudgetInBytes(), equalTo(4L * 1024 * 1024));
+        assertTrue(stats.getShards().isEmpty());
+        closeShards(shard);
+    }
 }
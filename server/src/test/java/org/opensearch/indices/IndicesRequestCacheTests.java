@@ -38,6 +38,8 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TermQuery;
@@ -201,6 +203,64 @@ public class IndicesRequestCacheTests extends OpenSearchSingleNodeTestCase {
         assertEquals(0, cache.numRegisteredCloseListeners());
     }
 
+    public void testPerSegmentCacheSurvivesRefreshOfUnchangedSegments() throws Exception {
+        threadPool = getThreadPool();
+        cache = getIndicesRequestCache(Settings.EMPTY);
+        IOUtils.close(writer);
+        writer = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE));
+        writer.addDocument(newDoc(0, "foo"));
+        writer.addDocument(newDoc(2, "baz"));
+        DirectoryReader reader = getReader(writer, indexShard.shardId());
+        writer.addDocument(newDoc(1, "bar"));
+        DirectoryReader secondReader = getReader(writer, indexShard.shardId());
+        assertEquals(1, reader.leaves().size());
+        assertEquals(2, secondReader.leaves().size());
+
+        IndicesService.IndexShardCacheEntity entity = new IndicesService.IndexShardCacheEntity(indexShard);
+        ShardRequestCache requestCacheStats = entity.stats();
+        AtomicInteger loads = new AtomicInteger();
+        for (LeafReaderContext leaf : reader.leaves()) {
+            BytesReference value = cache.getOrComputeForLeaf(entity, getLeafLoader(leaf, loads), leaf, getTermBytes());
+            assertEquals(2, value.streamInput().readVInt());
+        }
+        assertEquals(1, loads.get());
+
+        // the segment of the first reader is unchanged, so only the new segment has to be computed
+        for (LeafReaderContext leaf : secondReader.leaves()) {
+            BytesReference value = cache.getOrComputeForLeaf(entity, getLeafLoader(leaf, loads), leaf, getTermBytes());
+            assertEquals(leaf.reader().numDocs(), value.streamInput().readVInt());
+        }
+        assertEquals(2, loads.get());
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(2, cache.count());
+
+        // deleting a document changes the identity of its segment
+        writer.deleteDocuments(new Term("id", "0"));
+        DirectoryReader thirdReader = getReader(writer, indexShard.shardId());
+        assertEquals(2, thirdReader.leaves().size());
+        for (LeafReaderContext leaf : thirdReader.leaves()) {
+            BytesReference value = cache.getOrComputeForLeaf(entity, getLeafLoader(leaf, loads), leaf, getTermBytes());
+            assertEquals(1, value.streamInput().readVInt());
+        }
+        assertEquals(3, loads.get());
+        assertEquals(2, requestCacheStats.stats().getHitCount());
+        assertEquals(3, requestCacheStats.stats().getMissCount());
+        assertEquals(3, cache.count());
+
+        IOUtils.close(reader, secondReader, thirdReader);
+    }
+
+    private CheckedSupplier<BytesReference, IOException> getLeafLoader(LeafReaderContext leaf, AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                out.writeVInt(leaf.reader().numDocs());
+                return out.bytes();
+            }
+        };
+    }
+
     public void testCacheDifferentReaders() throws Exception {
         threadPool = getThreadPool();
         cache = getIndicesRequestCache(Settings.EMPTY);
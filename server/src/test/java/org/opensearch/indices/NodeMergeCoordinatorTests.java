@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class NodeMergeCoordinatorTests extends OpenSearchTestCase {
+
+    private static NodeMergeCoordinator newCoordinator(Settings settings) {
+        return new NodeMergeCoordinator(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+    }
+
+    private static Settings maxConcurrentMerges(int max) {
+        return Settings.builder().put(NodeMergeCoordinator.MAX_CONCURRENT_MERGES_SETTING.getKey(), max).build();
+    }
+
+    public void testPriority() {
+        assertThat(NodeMergeCoordinator.priority(0, 1 << 20), greaterThan(NodeMergeCoordinator.priority(0, 1 << 30)));
+        assertThat(NodeMergeCoordinator.priority(100, 1 << 30), greaterThan(NodeMergeCoordinator.priority(0, 1 << 30)));
+    }
+
+    public void testUnlimitedByDefault() {
+        final NodeMergeCoordinator coordinator = newCoordinator(Settings.EMPTY);
+        final NodeMergeCoordinator.ShardHandle shard = coordinator.forShard(new ShardId("index", "_na_", 0), () -> 0);
+        final List<Releasable> merges = new ArrayList<>();
+        final int numMerges = randomIntBetween(1, 20);
+        for (int i = 0; i < numMerges; i++) {
+            merges.add(coordinator.admit(shard, randomNonNegativeLong(), () -> false));
+        }
+        NodeMergeCoordinatorStats stats = coordinator.stats();
+        assertThat(stats.getCurrent(), equalTo(numMerges));
+        assertThat(stats.getTotalAdmitted(), equalTo((long) numMerges));
+        assertThat(stats.getTotalQueued(), equalTo(0L));
+        merges.forEach(Releasable::close);
+        // closing twice must not release capacity twice
+        merges.forEach(Releasable::close);
+        assertThat(coordinator.stats().getCurrent(), equalTo(0));
+    }
+
+    public void testWaitingMergesAreAdmittedByRank() throws Exception {
+        final NodeMergeCoordinator coordinator = newCoordinator(maxConcurrentMerges(1));
+        final NodeMergeCoordinator.ShardHandle shard = coordinator.forShard(new ShardId("index", "_na_", 0), () -> 0);
+        final Releasable running = coordinator.admit(shard, 1, () -> false);
+
+        final int numWaiting = randomIntBetween(2, 6);
+        final List<Long> sizes = new ArrayList<>();
+        for (int i = 0; i < numWaiting; i++) {
+            sizes.add((i + 1) * 1024L * 1024L);
+        }
+        Collections.shuffle(sizes, random());
+        final List<Long> admitted = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (long size : sizes) {
+            final Thread thread = new Thread(() -> {
+                try (Releasable ignored = coordinator.admit(shard, size, () -> false)) {
+                    admitted.add(size);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+            // queue the merges one by one so that they are all waiting before the running merge finishes
+            final int expectedQueued = threads.size();
+            assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(expectedQueued)));
+        }
+        assertThat(coordinator.stats().getQueuedSizeInBytes(), equalTo(sizes.stream().mapToLong(Long::longValue).sum()));
+
+        running.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        final List<Long> expected = new ArrayList<>(sizes);
+        Collections.sort(expected);
+        assertThat(admitted, equalTo(expected));
+
+        NodeMergeCoordinatorStats stats = coordinator.stats();
+        assertThat(stats.getCurrent(), equalTo(0));
+        assertThat(stats.getQueued(), equalTo(0));
+        assertThat(stats.getQueuedSizeInBytes(), equalTo(0L));
+        assertThat(stats.getTotalAdmitted(), equalTo(sizes.size() + 1L));
+        assertThat(stats.getTotalQueued(), equalTo((long) sizes.size()));
+    }
+
+    public void testAbortedMergeStopsWaiting() throws Exception {
+        final NodeMergeCoordinator coordinator = newCoordinator(maxConcurrentMerges(1));
+        final NodeMergeCoordinator.ShardHandle shard = coordinator.forShard(new ShardId("index", "_na_", 0), () -> 0);
+        final Releasable running = coordinator.admit(shard, 1, () -> false);
+        final AtomicBoolean aborted = new AtomicBoolean();
+        final Thread thread = new Thread(() -> coordinator.admit(shard, 1, aborted::get).close());
+        thread.start();
+        assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(1)));
+        aborted.set(true);
+        thread.join();
+
+        NodeMergeCoordinatorStats stats = coordinator.stats();
+        assertThat(stats.getQueued(), equalTo(0));
+        assertThat(stats.getCurrent(), equalTo(1));
+        assertThat(stats.getTotalAdmitted(), equalTo(1L));
+        running.close();
+        assertThat(coordinator.stats().getCurrent(), equalTo(0));
+    }
+
+    public void testRaisingTheCapAdmitsWaitingMerges() throws Exception {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final NodeMergeCoordinator coordinator = new NodeMergeCoordinator(maxConcurrentMerges(1), clusterSettings);
+        final NodeMergeCoordinator.ShardHandle shard = coordinator.forShard(new ShardId("index", "_na_", 0), () -> 0);
+        final Releasable running = coordinator.admit(shard, 1, () -> false);
+        final Releasable[] waiting = new Releasable[1];
+        final Thread thread = new Thread(() -> waiting[0] = coordinator.admit(shard, 1, () -> false));
+        thread.start();
+        assertBusy(() -> assertThat(coordinator.stats().getQueued(), equalTo(1)));
+
+        clusterSettings.applySettings(maxConcurrentMerges(2));
+        thread.join();
+        assertThat(coordinator.stats().getCurrent(), equalTo(2));
+        assertThat(coordinator.stats().getMaxConcurrentMerges(), equalTo(2));
+        running.close();
+        waiting[0].close();
+        assertThat(coordinator.stats().getCurrent(), equalTo(0));
+    }
+
+    public void testWrapForMergeOnlyWithBudget() throws Exception {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final NodeMergeCoordinator coordinator = new NodeMergeCoordinator(Settings.EMPTY, clusterSettings);
+        try (Directory directory = newDirectory()) {
+            assertThat(coordinator.wrapForMerge(directory), sameInstance(directory));
+            clusterSettings.applySettings(
+                Settings.builder().put(NodeMergeCoordinator.MAX_BYTES_PER_SEC_SETTING.getKey(), "20mb").build()
+            );
+            assertThat(coordinator.wrapForMerge(directory), not(sameInstance(directory)));
+            assertThat(coordinator.stats().getMaxBytesPerSec(), equalTo(20L * 1024 * 1024));
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class RefreshSchedulerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("refresh_scheduler_test");
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
+
+    private RefreshScheduler newScheduler(Settings settings) {
+        return new RefreshScheduler(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
+    }
+
+    private static Settings.Builder enabled() {
+        return Settings.builder().put(RefreshScheduler.ENABLED_SETTING.getKey(), true);
+    }
+
+    public void testDisabledByDefault() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final RefreshScheduler scheduler = new RefreshScheduler(Settings.EMPTY, clusterSettings, threadPool);
+        assertFalse(scheduler.isEnabled());
+        clusterSettings.applySettings(enabled().build());
+        assertTrue(scheduler.isEnabled());
+        assertTrue(scheduler.stats().isEnabled());
+    }
+
+    public void testRefreshesRunByRank() throws Exception {
+        final RefreshScheduler scheduler = newScheduler(
+            enabled().put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1)
+                .put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "0s")
+                .build()
+        );
+        final List<String> refreshed = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final TestTarget blocking = new TestTarget(false, false) {
+            @Override
+            public void refresh() {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        };
+        scheduler.forShard(new ShardId("blocking", "_na_", 0), blocking).submit();
+        blocked.await();
+
+        final RefreshScheduler.ShardHandle writeOnly = scheduler.forShard(
+            new ShardId("write_only", "_na_", 0),
+            new RecordingTarget("write_only", false, true, refreshed)
+        );
+        final RefreshScheduler.ShardHandle searched = scheduler.forShard(
+            new ShardId("searched", "_na_", 0),
+            new RecordingTarget("searched", false, false, refreshed)
+        );
+        final RefreshScheduler.ShardHandle waiting = scheduler.forShard(
+            new ShardId("waiting", "_na_", 0),
+            new RecordingTarget("waiting", true, true, refreshed)
+        );
+        writeOnly.submit();
+        searched.submit();
+        waiting.submit();
+        // a shard that is already queued is not queued twice
+        searched.submit();
+        assertThat(scheduler.stats().getQueued(), equalTo(3));
+        assertThat(scheduler.stats().getCurrent(), equalTo(1));
+
+        release.countDown();
+        assertBusy(() -> assertThat(refreshed.size(), equalTo(3)));
+        assertThat(refreshed, equalTo(Arrays.asList("waiting", "searched", "write_only")));
+        assertBusy(() -> assertThat(scheduler.stats().getCurrent(), equalTo(0)));
+        final RefreshSchedulerStats stats = scheduler.stats();
+        assertThat(stats.getQueued(), equalTo(0));
+        assertThat(stats.getTotalScheduled(), equalTo(4L));
+        assertThat(stats.getTotalRefreshes(), equalTo(4L));
+        assertThat(stats.getTotalDeferred(), equalTo(0L));
+    }
+
+    public void testWriteOnlyShardsAreDeferredUpToTheBound() throws Exception {
+        final ClusterSettings clusterSettings = new ClusterSettings(enabled().build(), ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final RefreshScheduler scheduler = new RefreshScheduler(
+            enabled().put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "1h").build(),
+            clusterSettings,
+            threadPool
+        );
+        final TestTarget target = new TestTarget(false, true);
+        final RefreshScheduler.ShardHandle shard = scheduler.forShard(new ShardId("index", "_na_", 0), target);
+        final int numDeferred = randomIntBetween(1, 5);
+        for (int i = 0; i < numDeferred; i++) {
+            shard.submit();
+        }
+        assertThat(target.deferrals.get(), equalTo(numDeferred));
+        assertThat(target.refreshes.get(), equalTo(0));
+        assertThat(scheduler.stats().getTotalDeferred(), equalTo((long) numDeferred));
+
+        // a write only shard refreshes once the bound has passed, even though a regular scheduled refresh would skip it
+        clusterSettings.applySettings(enabled().put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "0s").build());
+        shard.submit();
+        assertBusy(() -> assertThat(target.forcedRefreshes.get(), equalTo(1)));
+        assertThat(target.refreshes.get(), equalTo(0));
+
+        // waiting refresh listeners are never deferred
+        clusterSettings.applySettings(enabled().put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "1h").build());
+        final TestTarget listening = new TestTarget(true, true);
+        scheduler.forShard(new ShardId("index", "_na_", 1), listening).submit();
+        assertBusy(() -> assertThat(listening.refreshes.get(), equalTo(1)));
+        assertThat(listening.deferrals.get(), equalTo(0));
+    }
+
+    public void testShardsThatMustRefreshAreNeverDeferred() throws Exception {
+        final RefreshScheduler scheduler = newScheduler(
+            enabled().put(RefreshScheduler.WRITE_ONLY_MAX_INTERVAL_SETTING.getKey(), "1h").build()
+        );
+        final TestTarget target = new TestTarget(false, true, false);
+        final RefreshScheduler.ShardHandle shard = scheduler.forShard(new ShardId("index", "_na_", 0), target);
+        final int numSubmits = randomIntBetween(1, 5);
+        for (int i = 0; i < numSubmits; i++) {
+            shard.submit();
+            final int expected = i + 1;
+            assertBusy(() -> assertThat(target.forcedRefreshes.get(), equalTo(expected)));
+        }
+        assertThat(target.deferrals.get(), equalTo(0));
+        assertThat(scheduler.stats().getTotalDeferred(), equalTo(0L));
+    }
+
+    public void testClosedShardReleasesItsSlot() throws Exception {
+        final RefreshScheduler scheduler = newScheduler(
+            enabled().put(RefreshScheduler.MAX_CONCURRENT_REFRESHES_SETTING.getKey(), 1).build()
+        );
+        final ShardId closedShardId = new ShardId("closed", "_na_", 0);
+        scheduler.forShard(closedShardId, new TestTarget(false, false) {
+            @Override
+            public void refresh() {
+                throw new IndexShardClosedException(closedShardId);
+            }
+        }).submit();
+        final TestTarget target = new TestTarget(false, false);
+        scheduler.forShard(new ShardId("index", "_na_", 0), target).submit();
+        assertBusy(() -> assertThat(target.refreshes.get(), equalTo(1)));
+        assertBusy(() -> assertThat(scheduler.stats().getCurrent(), equalTo(0)));
+    }
+
+    private static class TestTarget implements RefreshScheduler.RefreshTarget {
+        final AtomicInteger refreshes = new AtomicInteger();
+        final AtomicInteger forcedRefreshes = new AtomicInteger();
+        final AtomicInteger deferrals = new AtomicInteger();
+        private final boolean pendingListeners;
+        private final boolean searchIdle;
+        private final boolean canDefer;
+
+        TestTarget(boolean pendingListeners, boolean searchIdle) {
+            this(pendingListeners, searchIdle, true);
+        }
+
+        TestTarget(boolean pendingListeners, boolean searchIdle, boolean canDefer) {
+            this.pendingListeners = pendingListeners;
+            this.searchIdle = searchIdle;
+            this.canDefer = canDefer;
+        }
+
+        @Override
+        public boolean hasPendingRefreshListeners() {
+            return pendingListeners;
+        }
+
+        @Override
+        public boolean isSearchIdle() {
+            return searchIdle;
+        }
+
+        @Override
+        public boolean canDefer() {
+            return canDefer;
+        }
+
+        @Override
+        public void refresh() {
+            refreshes.incrementAndGet();
+        }
+
+        @Override
+        public void forceRefresh() {
+            forcedRefreshes.incrementAndGet();
+        }
+
+        @Override
+        public void defer() {
+            deferrals.incrementAndGet();
+        }
+    }
+
+    private static class RecordingTarget extends TestTarget {
+        private final String name;
+        private final List<String> refreshed;
+
+        RecordingTarget(String name, boolean pendingListeners, boolean searchIdle, List<String> refreshed) {
+            super(pendingListeners, searchIdle);
+            this.name = name;
+            this.refreshed = refreshed;
+        }
+
+        @Override
+        public void refresh() {
+            super.refresh();
+            refreshed.add(name);
+        }
+
+        @Override
+        public void forceRefresh() {
+            super.forceRefresh();
+            refreshed.add(name);
+        }
+    }
+}
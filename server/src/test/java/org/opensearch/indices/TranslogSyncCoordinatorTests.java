@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogSyncCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool("translog_sync_coordinator_test");
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
+
+    private TranslogSyncCoordinator newCoordinator(Settings settings) {
+        return new TranslogSyncCoordinator(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool);
+    }
+
+    public void testDisabledByDefault() {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final TranslogSyncCoordinator coordinator = new TranslogSyncCoordinator(Settings.EMPTY, clusterSettings, threadPool);
+        assertFalse(coordinator.isEnabled());
+        clusterSettings.applySettings(Settings.builder().put(TranslogSyncCoordinator.WINDOW_SETTING.getKey(), "5ms").build());
+        assertTrue(coordinator.isEnabled());
+        clusterSettings.applySettings(Settings.EMPTY);
+        assertFalse(coordinator.isEnabled());
+    }
+
+    public void testGroupsSyncsPerShardAndDataPath() throws Exception {
+        final TranslogSyncCoordinator coordinator = newCoordinator(
+            Settings.builder().put(TranslogSyncCoordinator.WINDOW_SETTING.getKey(), "20ms").build()
+        );
+        final Path dataPath = createTempDir();
+        final int numShards = randomIntBetween(1, 5);
+        final AtomicInteger concurrentSyncs = new AtomicInteger();
+        final AtomicInteger fsyncs = new AtomicInteger();
+        final List<Set<Translog.Location>> synced = new CopyOnWriteArrayList<>();
+        final TranslogSyncCoordinator.SyncTarget[] targets = new TranslogSyncCoordinator.SyncTarget[numShards];
+        for (int i = 0; i < numShards; i++) {
+            final Set<Translog.Location> locations = ConcurrentHashMap.newKeySet();
+            synced.add(locations);
+            targets[i] = batch -> {
+                assertThat("syncs on one data path must not overlap", concurrentSyncs.incrementAndGet(), equalTo(1));
+                fsyncs.incrementAndGet();
+                locations.addAll(batch.collect(Collectors.toList()));
+                concurrentSyncs.decrementAndGet();
+            };
+        }
+
+        final int numThreads = randomIntBetween(2, 6);
+        final int syncsPerThread = randomIntBetween(10, 100);
+        final CountDownLatch completed = new CountDownLatch(numThreads * syncsPerThread);
+        final List<Exception> failures = new CopyOnWriteArrayList<>();
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < syncsPerThread; i++) {
+                    final Translog.Location location = new Translog.Location(thread, i, 1);
+                    coordinator.sync(dataPath, targets[i % numShards], location, e -> {
+                        if (e != null) {
+                            failures.add(e);
+                        }
+                        completed.countDown();
+                    });
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertTrue(failures.isEmpty());
+
+        for (int i = 0; i < syncsPerThread; i++) {
+            for (int t = 0; t < numThreads; t++) {
+                assertTrue(synced.get(i % numShards).contains(new Translog.Location(t, i, 1)));
+            }
+        }
+
+        final TranslogSyncCoordinatorStats stats = coordinator.stats();
+        assertThat(stats.getRequestCount(), equalTo((long) numThreads * syncsPerThread));
+        assertThat(stats.getFsyncCount(), equalTo((long) fsyncs.get()));
+        assertThat(stats.getBatchCount(), greaterThanOrEqualTo(1L));
+        assertThat(stats.getFsyncCount(), lessThanOrEqualTo(stats.getBatchCount() * numShards));
+        assertThat(stats.getMaxBatchSize(), lessThanOrEqualTo(stats.getRequestCount()));
+        assertThat(stats.getMaxBatchSize() * stats.getBatchCount(), greaterThanOrEqualTo(stats.getRequestCount()));
+    }
+
+    public void testFailureOnlyFailsTheAffectedShard() throws Exception {
+        final TranslogSyncCoordinator coordinator = newCoordinator(
+            Settings.builder().put(TranslogSyncCoordinator.WINDOW_SETTING.getKey(), "10ms").build()
+        );
+        final Path dataPath = createTempDir();
+        final TranslogSyncCoordinator.SyncTarget failing = locations -> { throw new IOException("disk on fire"); };
+        final TranslogSyncCoordinator.SyncTarget healthy = locations -> {};
+
+        final CountDownLatch completed = new CountDownLatch(2);
+        final Exception[] results = new Exception[2];
+        coordinator.sync(dataPath, failing, new Translog.Location(1, 0, 1), e -> {
+            results[0] = e;
+            completed.countDown();
+        });
+        coordinator.sync(dataPath, healthy, new Translog.Location(1, 0, 1), e -> {
+            results[1] = e;
+            completed.countDown();
+        });
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertThat(results[0], instanceOf(IOException.class));
+        assertNull(results[1]);
+        assertThat(coordinator.stats().getRequestCount(), equalTo(2L));
+    }
+
+    public void testRejectedDrainFailsPendingSyncs() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        threadPool = new TestThreadPool(
+            "translog_sync_coordinator_test",
+            Settings.builder().put("thread_pool.translog_sync.size", 1).put("thread_pool.translog_sync.queue_size", 1).build()
+        );
+        final TranslogSyncCoordinator coordinator = newCoordinator(
+            Settings.builder().put(TranslogSyncCoordinator.WINDOW_SETTING.getKey(), "1ms").build()
+        );
+        final Path dataPath = createTempDir();
+
+        // occupy the only thread and the only queue slot of the pool so that the drain gets rejected
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        final CountDownLatch queuedTaskRan = new CountDownLatch(1);
+        threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(queuedTaskRan::countDown);
+
+        final CountDownLatch failed = new CountDownLatch(1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        coordinator.sync(dataPath, locations -> fail("must not sync"), new Translog.Location(1, 0, 1), e -> {
+            failure.set(e);
+            failed.countDown();
+        });
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        assertThat(failure.get(), instanceOf(OpenSearchRejectedExecutionException.class));
+        release.countDown();
+        assertTrue(queuedTaskRan.await(10, TimeUnit.SECONDS));
+
+        // the data path is not stuck, later syncs go through once the pool accepts the drain again
+        final CountDownLatch synced = new CountDownLatch(1);
+        final AtomicReference<Exception> result = new AtomicReference<>();
+        coordinator.sync(dataPath, locations -> {}, new Translog.Location(1, 1, 1), e -> {
+            result.set(e);
+            synced.countDown();
+        });
+        assertTrue(synced.await(10, TimeUnit.SECONDS));
+        assertNull(result.get());
+    }
+}
@@ -107,6 +107,7 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             mock(RepositoriesService.class),
             mock(AdmissionControlService.class),
             null, // cacheService
+            null, // indexNameExpressionResolver
             nativeAllocatorStatsSupplier
         );
     }
@@ -151,7 +152,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false, // cacheService
             false, // remoteStoreNodeStats
             false, // nativeAllocator
-            true   // nativeMemory
+            true,  // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNotNull(nodeStats.getAnalyticsBackendNativeMemoryStats());
@@ -198,7 +204,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false, // cacheService
             false, // remoteStoreNodeStats
             false, // nativeAllocator
-            true   // nativeMemory
+            true,  // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNull(nodeStats.getAnalyticsBackendNativeMemoryStats());
@@ -244,7 +255,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false, // cacheService
             false, // remoteStoreNodeStats
             false, // nativeAllocator
-            false  // nativeMemory
+            false, // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNull(nodeStats.getAnalyticsBackendNativeMemoryStats());
@@ -292,7 +308,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false,
             false,
             false, // nativeAllocator
-            true   // nativeMemory
+            true,  // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNotNull("nativeMemoryStats should be present", nodeStats.getAnalyticsBackendNativeMemoryStats());
@@ -361,7 +382,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false,
             false,
             false, // nativeAllocator
-            true   // nativeMemory
+            true,  // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNull("nativeMemoryStats should be null when supplier is null", nodeStats.getAnalyticsBackendNativeMemoryStats());
@@ -413,7 +439,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false,
             false,
             true,  // nativeAllocator
-            false  // nativeMemory
+            false, // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNotNull("nativeAllocatorStats should be present when supplier returns non-null", nodeStats.getNativeAllocatorStats());
@@ -459,7 +490,12 @@ public class NodeServiceNativeMemoryTests extends OpenSearchTestCase {
             false,
             false,
             true,  // nativeAllocator
-            false  // nativeMemory
+            false, // nativeMemory
+            false, // translogSyncCoordinator
+            false, // mergeCoordinator
+            false, // refreshScheduler
+            false, // indexingBuffer
+            false  // resolvedExpressionsCache
         );
 
         assertNull("nativeAllocatorStats should be null when no supplier registered", nodeStats.getNativeAllocatorStats());
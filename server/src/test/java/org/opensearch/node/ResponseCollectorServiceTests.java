@@ -37,6 +37,7 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -50,7 +51,10 @@ import org.junit.Before;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 
@@ -162,4 +166,91 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testResourceUsagePenalty() {
+        ResourceUsageCollectorService resourceUsageCollector = new ResourceUsageCollectorService(null, clusterService, threadpool);
+        ResponseCollectorService resourceAwareCollector = new ResponseCollectorService(clusterService, resourceUsageCollector);
+        resourceAwareCollector.addNodeStatistics("busy", 1, 100, 10);
+        resourceAwareCollector.addNodeStatistics("idle", 1, 100, 10);
+        resourceAwareCollector.addNodeResourceUsageStatistics(
+            new NodeResourceUsageStats("busy", System.currentTimeMillis(), 50, 90, new IoUsageStats(80), 0)
+        );
+        resourceAwareCollector.addNodeResourceUsageStatistics(
+            new NodeResourceUsageStats("idle", System.currentTimeMillis(), 10, 10, new IoUsageStats(10), 0)
+        );
+
+        // all weights default to 0 which keeps the plain adaptive replica selection rank
+        assertThat(resourceAwareCollector.resourceUsagePenalty("busy"), equalTo(0.0));
+        assertThat(
+            resourceAwareCollector.getNodeStatistics("busy").get().rank(1),
+            equalTo(resourceAwareCollector.getNodeStatistics("idle").get().rank(1))
+        );
+
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING.getKey(), 1.0)
+                    .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_MEMORY_WEIGHT_SETTING.getKey(), 0.5)
+                    .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_IO_WEIGHT_SETTING.getKey(), 2.0)
+                    .build()
+            );
+        assertThat(resourceAwareCollector.resourceUsagePenalty("busy"), closeTo(0.9 + 0.25 + 1.6, 0.0001));
+        assertThat(resourceAwareCollector.resourceUsagePenalty("idle"), closeTo(0.1 + 0.05 + 0.2, 0.0001));
+        assertThat(resourceAwareCollector.resourceUsagePenalty("unknown"), equalTo(0.0));
+        ResponseCollectorService.ComputedNodeStats busy = resourceAwareCollector.getNodeStatistics("busy").get();
+        ResponseCollectorService.ComputedNodeStats idle = resourceAwareCollector.getNodeStatistics("idle").get();
+        assertThat(busy.rank(1), greaterThan(idle.rank(1)));
+        assertThat(resourceAwareCollector.getAllNodeStatistics().get("busy").resourceUsagePenalty, equalTo(busy.resourceUsagePenalty));
+
+        // older statistics than the known ones are ignored
+        resourceAwareCollector.addNodeResourceUsageStatistics(new NodeResourceUsageStats("busy", 0, 0, 0, new IoUsageStats(0), 0));
+        assertThat(resourceAwareCollector.resourceUsagePenalty("busy"), closeTo(0.9 + 0.25 + 1.6, 0.0001));
+
+        // statistics that were not received with a response are ignored
+        resourceUsageCollector.collectNodeResourceUsageStats("stale", 0, 90, 90, new IoUsageStats(90), 0);
+        assertThat(resourceAwareCollector.resourceUsagePenalty("stale"), equalTo(0.0));
+    }
+
+    public void testResourceUsageStalenessUsesTheLocalClock() {
+        final AtomicLong relativeNanos = new AtomicLong(randomNonNegativeLong() / 2);
+        final ResourceUsageCollectorService resourceUsageCollector = new ResourceUsageCollectorService(null, clusterService, threadpool);
+        final ResponseCollectorService resourceAwareCollector = new ResponseCollectorService(
+            clusterService,
+            resourceUsageCollector,
+            relativeNanos::get
+        );
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_CPU_WEIGHT_SETTING.getKey(), 1.0)
+                    .put(OperationRouting.ADAPTIVE_REPLICA_SELECTION_RESOURCE_USAGE_STALE_AFTER_SETTING.getKey(), "10s")
+                    .build()
+            );
+
+        // the clock of the remote node is far behind or ahead of the local one, which does not matter for fresh statistics
+        final long remoteTimestamp = System.currentTimeMillis() + randomFrom(-1, 1) * TimeUnit.HOURS.toMillis(randomIntBetween(1, 24));
+        resourceAwareCollector.addNodeResourceUsageStatistics(
+            new NodeResourceUsageStats("node", remoteTimestamp, 10, 50, new IoUsageStats(10), 0)
+        );
+        assertThat(resourceAwareCollector.resourceUsagePenalty("node"), closeTo(0.5, 0.0001));
+
+        relativeNanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(resourceAwareCollector.resourceUsagePenalty("node"), closeTo(0.5, 0.0001));
+        relativeNanos.addAndGet(1);
+        assertThat(resourceAwareCollector.resourceUsagePenalty("node"), equalTo(0.0));
+
+        // newer statistics of the node make it fresh again
+        resourceAwareCollector.addNodeResourceUsageStatistics(
+            new NodeResourceUsageStats("node", remoteTimestamp + 1, 10, 70, new IoUsageStats(10), 0)
+        );
+        assertThat(resourceAwareCollector.resourceUsagePenalty("node"), closeTo(0.7, 0.0001));
+    }
+
+    public void testResourceUsageIgnoredWithoutCollector() {
+        collector.addNodeResourceUsageStatistics(
+            new NodeResourceUsageStats("node1", System.currentTimeMillis(), 90, 90, new IoUsageStats(90), 0)
+        );
+        assertTrue(collector.getNodeResourceUsageStatistics("node1").isEmpty());
+        assertThat(collector.resourceUsagePenalty("node1"), equalTo(0.0));
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.search.PitExportAction;
+import org.opensearch.action.search.PitExportRequest;
+import org.opensearch.action.search.PitExportResponse;
+import org.opensearch.common.SetOnce;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.fetch.PitExportChunk;
+import org.opensearch.tasks.Task;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+public class RestPitExportActionTests extends OpenSearchTestCase {
+
+    private NodeClient createMockNodeClient(SetOnce<ActionType<?>> capturedActionType, SetOnce<ActionRequest> capturedRequest) {
+        return new NoOpNodeClient(this.getTestName()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <Request extends ActionRequest, Response extends ActionResponse> Task executeLocally(
+                ActionType<Response> action,
+                Request request,
+                ActionListener<Response> listener
+            ) {
+                capturedActionType.set(action);
+                capturedRequest.set(request);
+                try {
+                    SearchHit[] hits = new SearchHit[] { new SearchHit(0, "1", null, null), new SearchHit(1, "2", null, null) };
+                    ((PitExportRequest) request).getChunkConsumer()
+                        .accept(
+                            new PitExportChunk(
+                                new ShardId("index", "_na_", 0),
+                                new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), Float.NaN)
+                            )
+                        );
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                    return null;
+                }
+                listener.onResponse((Response) new PitExportResponse(2, 5));
+                return new Task(1L, "test", action.name(), "test task", null, null);
+            }
+
+            @Override
+            public String getLocalNodeId() {
+                return "test-node";
+            }
+        };
+    }
+
+    public void testExportStreamsChunks() throws Exception {
+        SetOnce<ActionType<?>> capturedActionType = new SetOnce<>();
+        SetOnce<ActionRequest> capturedRequest = new SetOnce<>();
+        try (NodeClient nodeClient = createMockNodeClient(capturedActionType, capturedRequest)) {
+            String body = "{\"pit\":{\"id\":\"pit-id\",\"keep_alive\":\"1m\"},\"_source\":[\"field1\"]}";
+            Map<String, String> params = Map.of(
+                RestPitExportAction.BATCH_SIZE,
+                "10",
+                RestPitExportAction.MAX_CONCURRENT_SHARD_REQUESTS,
+                "2"
+            );
+            RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withParams(params)
+                .withContent(new BytesArray(body), MediaTypeRegistry.JSON)
+                .build();
+            FakeStreamingRestChannel channel = new FakeStreamingRestChannel(request, new BytesArray(body));
+
+            new RestPitExportAction().handleRequest(request, channel, nodeClient);
+
+            assertThat(capturedActionType.get(), equalTo(PitExportAction.INSTANCE));
+            PitExportRequest exportRequest = (PitExportRequest) capturedRequest.get();
+            assertThat(exportRequest.getPitId(), equalTo("pit-id"));
+            assertThat(exportRequest.getKeepAlive(), equalTo(TimeValue.timeValueMinutes(1)));
+            assertThat(exportRequest.getBatchSize(), equalTo(10));
+            assertThat(exportRequest.getMaxConcurrentShardRequests(), equalTo(2));
+            assertThat(exportRequest.source().pointInTimeBuilder(), nullValue());
+            assertThat(exportRequest.source().fetchSource().includes(), equalTo(new String[] { "field1" }));
+            assertNull(exportRequest.validate());
+
+            assertNull(channel.response);
+            assertThat(channel.status, equalTo(RestStatus.OK));
+            assertThat(channel.chunks, hasSize(3));
+            Map<String, Object> chunk = XContentHelper.convertToMap(channel.chunks.get(0).content(), false, MediaTypeRegistry.JSON).v2();
+            assertThat(chunk.get("shard"), equalTo(Map.of("index", "index", "id", 0)));
+            assertThat(((List<?>) chunk.get("hits")).size(), equalTo(2));
+            Map<String, Object> summary = XContentHelper.convertToMap(channel.chunks.get(1).content(), false, MediaTypeRegistry.JSON)
+                .v2();
+            assertThat(summary.get("exported_hits"), equalTo(2));
+            assertTrue(channel.chunks.get(2).isLast());
+        }
+    }
+
+    public void testExportRequiresPit() throws Exception {
+        try (NodeClient nodeClient = new NoOpNodeClient(this.getTestName())) {
+            BytesArray body = new BytesArray("{\"_source\":[\"field1\"]}");
+            RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withContent(body, MediaTypeRegistry.JSON).build();
+            FakeStreamingRestChannel channel = new FakeStreamingRestChannel(request, body);
+
+            new RestPitExportAction().handleRequest(request, channel, nodeClient);
+
+            assertThat(channel.response.status(), equalTo(RestStatus.BAD_REQUEST));
+            assertTrue(channel.response.content().utf8ToString().contains("[pit] is required to export a point in time"));
+            assertThat(channel.chunks, hasSize(0));
+        }
+    }
+
+    public void testExportRequiresStreamingChannel() throws Exception {
+        try (NodeClient nodeClient = new NoOpNodeClient(this.getTestName())) {
+            RestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withContent(
+                new BytesArray("{\"pit\":{\"id\":\"pit-id\"}}"),
+                MediaTypeRegistry.JSON
+            ).build();
+            FakeRestChannel channel = new FakeRestChannel(request, false, 1);
+
+            new RestPitExportAction().handleRequest(request, channel, nodeClient);
+
+            assertThat(channel.errors().get(), equalTo(1));
+            assertThat(channel.capturedResponse().status(), equalTo(RestStatus.BAD_REQUEST));
+        }
+    }
+
+    private static final class FakeStreamingRestChannel extends AbstractRestChannel implements StreamingRestChannel {
+        private final BytesReference body;
+        private final List<HttpChunk> chunks = new ArrayList<>();
+        private RestStatus status;
+        private RestResponse response;
+
+        FakeStreamingRestChannel(RestRequest request, BytesReference body) {
+            super(request, false);
+            this.body = body;
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk) {
+            chunks.add(chunk);
+        }
+
+        @Override
+        public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+            this.status = status;
+        }
+
+        @Override
+        public void sendResponse(RestResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public boolean isReadable() {
+            return true;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return true;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpChunk> subscriber) {
+            Flux.<HttpChunk>just(new HttpChunk() {
+                @Override
+                public boolean isLast() {
+                    return true;
+                }
+
+                @Override
+                public BytesReference content() {
+                    return body;
+                }
+
+                @Override
+                public void close() {}
+            }).subscribe(subscriber);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class QueryPhaseCoalescerTests extends OpenSearchTestCase {
+
+    private static QueryPhaseCoalescer.Key key(String request) {
+        return new QueryPhaseCoalescer.Key(new ShardId("index", "_na_", 0), 1, "reader", new BytesArray(request));
+    }
+
+    public void testSequentialExecutionsAreNotCoalesced() throws Exception {
+        QueryPhaseCoalescer coalescer = new QueryPhaseCoalescer();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger serializations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            QueryPhaseCoalescer.Role role = coalescer.execute(key("request"), executions::incrementAndGet, () -> {
+                serializations.incrementAndGet();
+                return new BytesArray("result");
+            }, result -> fail("should not follow"), () -> false);
+            assertEquals(QueryPhaseCoalescer.Role.LEADER, role);
+        }
+        assertEquals(3, executions.get());
+        // nobody waited for the results, so they were never serialized
+        assertEquals(0, serializations.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    public void testFollowerTakesOverLeaderResult() throws Exception {
+        QueryPhaseCoalescer coalescer = new QueryPhaseCoalescer();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicReference<QueryPhaseCoalescer.Role> leaderRole = new AtomicReference<>();
+        Thread leader = new Thread(() -> {
+            try {
+                leaderRole.set(coalescer.execute(key("request"), () -> {
+                    leaderStarted.countDown();
+                    releaseLeader.await();
+                }, () -> new BytesArray("result"), result -> fail("should not follow"), () -> false));
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        leader.start();
+        leaderStarted.await();
+
+        AtomicReference<BytesReference> followed = new AtomicReference<>();
+        AtomicReference<QueryPhaseCoalescer.Role> followerRole = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                followerRole.set(
+                    coalescer.execute(
+                        key("request"),
+                        () -> { throw new AssertionError("should not execute"); },
+                        () -> { throw new AssertionError("should not serialize"); },
+                        followed::set,
+                        () -> false
+                    )
+                );
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        follower.start();
+        // a different request is never coalesced with the in-flight one
+        assertEquals(
+            QueryPhaseCoalescer.Role.LEADER,
+            coalescer.execute(key("other"), () -> {}, () -> new BytesArray("other"), result -> fail("should not follow"), () -> false)
+        );
+        assertBusy(() -> assertEquals(Thread.State.TIMED_WAITING, follower.getState()));
+
+        releaseLeader.countDown();
+        leader.join();
+        follower.join();
+        assertEquals(QueryPhaseCoalescer.Role.LEADER, leaderRole.get());
+        assertEquals(QueryPhaseCoalescer.Role.FOLLOWER, followerRole.get());
+        assertEquals(new BytesArray("result"), followed.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    public void testFollowerRetriesWhenLeaderFails() throws Exception {
+        QueryPhaseCoalescer coalescer = new QueryPhaseCoalescer();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicBoolean leaderFailed = new AtomicBoolean();
+        Thread leader = new Thread(() -> {
+            try {
+                coalescer.execute(key("request"), () -> {
+                    leaderStarted.countDown();
+                    releaseLeader.await();
+                    throw new TaskCancelledException("leader cancelled");
+                }, () -> { throw new AssertionError("should not serialize"); }, result -> fail("should not follow"), () -> false);
+            } catch (TaskCancelledException e) {
+                leaderFailed.set(true);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        leader.start();
+        leaderStarted.await();
+
+        AtomicReference<QueryPhaseCoalescer.Role> followerRole = new AtomicReference<>();
+        Thread follower = new Thread(() -> {
+            try {
+                followerRole.set(
+                    coalescer.execute(
+                        key("request"),
+                        () -> { throw new AssertionError("should not execute"); },
+                        () -> { throw new AssertionError("should not serialize"); },
+                        result -> fail("should not follow"),
+                        () -> false
+                    )
+                );
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        follower.start();
+        assertBusy(() -> assertEquals(Thread.State.TIMED_WAITING, follower.getState()));
+
+        releaseLeader.countDown();
+        leader.join();
+        follower.join();
+        assertTrue(leaderFailed.get());
+        assertEquals(QueryPhaseCoalescer.Role.RETRY, followerRole.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    public void testCancelledFollowerStopsWaiting() throws Exception {
+        QueryPhaseCoalescer coalescer = new QueryPhaseCoalescer();
+        AtomicInteger serializations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        Thread leader = new Thread(() -> {
+            try {
+                coalescer.execute(key("request"), () -> {
+                    leaderStarted.countDown();
+                    releaseLeader.await();
+                }, () -> {
+                    serializations.incrementAndGet();
+                    return new BytesArray("result");
+                }, result -> fail("should not follow"), () -> false);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        leader.start();
+        leaderStarted.await();
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicBoolean followerCancelled = new AtomicBoolean();
+        Thread follower = new Thread(() -> {
+            try {
+                coalescer.execute(
+                    key("request"),
+                    () -> { throw new AssertionError("should not execute"); },
+                    () -> { throw new AssertionError("should not serialize"); },
+                    result -> { throw new AssertionError("should not follow"); },
+                    cancelled::get
+                );
+            } catch (TaskCancelledException e) {
+                followerCancelled.set(true);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        follower.start();
+        cancelled.set(true);
+        follower.join();
+        assertTrue(followerCancelled.get());
+
+        releaseLeader.countDown();
+        leader.join();
+        // the cancelled follower left, so the leader did not serialize its result for nobody
+        assertEquals(0, serializations.get());
+        assertEquals(0, coalescer.inFlightCount());
+    }
+}
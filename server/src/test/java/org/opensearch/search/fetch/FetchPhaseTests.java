@@ -32,18 +32,36 @@
 
 package org.opensearch.search.fetch;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskCancelledException;
 import org.opensearch.index.fieldvisitor.CustomFieldsVisitor;
 import org.opensearch.index.fieldvisitor.FieldsVisitor;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FetchSourcePhase;
+import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.lookup.SourceLookup;
+import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.TestSearchContext;
 
@@ -53,6 +71,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -77,6 +98,111 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testSequentialDocsInRange() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[] {
+            new FetchPhase.DocIdToIndex(1, 0),
+            new FetchPhase.DocIdToIndex(5, 1),
+            new FetchPhase.DocIdToIndex(6, 2),
+            new FetchPhase.DocIdToIndex(7, 3),
+            new FetchPhase.DocIdToIndex(9, 4) };
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 1, 4));
+        assertTrue(FetchPhase.hasSequentialDocs(docs, 4, 5));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 0, 2));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 1, 5));
+        assertFalse(FetchPhase.hasSequentialDocs(docs, 2, 2));
+    }
+
+    public void testConcurrentStoredFieldsLoading() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try (Directory dir = newDirectory()) {
+            int numDocs = 0;
+            try (IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                int numSegments = randomIntBetween(2, 5);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    int docsInSegment = randomIntBetween(1, 30);
+                    for (int i = 0; i < docsInSegment; i++) {
+                        Document doc = new Document();
+                        doc.add(new StoredField("_source", new BytesRef("{\"doc\":" + numDocs++ + "}")));
+                        w.addDocument(doc);
+                    }
+                    w.commit();
+                }
+            }
+            // the docs to fetch come in score order, not in doc id order
+            List<Integer> allDocIds = new ArrayList<>();
+            for (int i = 0; i < numDocs; i++) {
+                allDocIds.add(i);
+            }
+            Collections.shuffle(allDocIds, random());
+            int[] docIds = allDocIds.subList(0, randomIntBetween(2, numDocs)).stream().mapToInt(Integer::intValue).toArray();
+
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (boolean concurrent : new boolean[] { false, true }) {
+                    SearchContext context = mockFetchContext(reader, docIds, concurrent ? executor : null);
+                    when(context.concurrentFetchStoredFieldsEnabled()).thenReturn(concurrent);
+                    new FetchPhase(Collections.singletonList(new FetchSourcePhase())).execute(context);
+
+                    SearchHit[] hits = context.fetchResult().hits().getHits();
+                    assertEquals(docIds.length, hits.length);
+                    for (int i = 0; i < docIds.length; i++) {
+                        assertEquals(docIds[i], hits[i].docId());
+                        assertEquals("{\"doc\":" + docIds[i] + "}", hits[i].getSourceRef().utf8ToString());
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static SearchContext mockFetchContext(DirectoryReader reader, int[] docIds, ExecutorService executor) throws Exception {
+        SearchContext context = mock(SearchContext.class);
+        when(context.docIdsToLoadSize()).thenReturn(docIds.length);
+        when(context.docIdsToLoad()).thenReturn(docIds);
+        when(context.docIdsToLoadFrom()).thenReturn(0);
+        when(context.isCancelled()).thenReturn(false);
+        when(context.hasFetchSourceContext()).thenReturn(true);
+        when(context.sourceRequested()).thenReturn(true);
+        when(context.fetchSourceContext()).thenReturn(FetchSourceContext.FETCH_SOURCE);
+
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        SearchLookup searchLookup = mock(SearchLookup.class);
+        when(searchLookup.source()).thenReturn(new SourceLookup());
+        when(queryShardContext.newFetchLookup()).thenReturn(searchLookup);
+        when(context.getQueryShardContext()).thenReturn(queryShardContext);
+        MapperService mapperService = mock(MapperService.class);
+        when(mapperService.hasNested()).thenReturn(false);
+        when(context.mapperService()).thenReturn(mapperService);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(new ShardId("index", "_na_", 0));
+        when(context.indexShard()).thenReturn(indexShard);
+
+        QuerySearchResult queryResult = new QuerySearchResult();
+        ScoreDoc[] scoreDocs = new ScoreDoc[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            scoreDocs[i] = new ScoreDoc(docIds[i], 1.0f);
+        }
+        queryResult.topDocs(
+            new TopDocsAndMaxScore(new TopDocs(new TotalHits(docIds.length, TotalHits.Relation.EQUAL_TO), scoreDocs), 1.0f),
+            null
+        );
+        when(context.queryResult()).thenReturn(queryResult);
+        when(context.fetchResult()).thenReturn(new FetchSearchResult());
+
+        ContextIndexSearcher searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            true,
+            executor,
+            context
+        );
+        when(context.searcher()).thenReturn(searcher);
+        return context;
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PitExportDocIdIteratorTests extends OpenSearchTestCase {
+
+    public void testIteratesOverLiveMatchesInIndexOrder() throws IOException {
+        try (Directory dir = newDirectory(); IndexWriter w = new IndexWriter(dir, newIndexWriterConfig())) {
+            final int numDocs = randomIntBetween(0, 500);
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                doc.add(new StringField("color", randomFrom("red", "blue"), Field.Store.NO));
+                w.addDocument(doc);
+                if (rarely()) {
+                    w.commit();
+                }
+            }
+            for (int i = 0; i < numDocs; i++) {
+                if (rarely()) {
+                    w.deleteDocuments(new Term("id", Integer.toString(i)));
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(w)) {
+                IndexSearcher searcher = newSearcher(reader);
+                Query query = randomBoolean() ? new MatchAllDocsQuery() : new TermQuery(new Term("color", "red"));
+                List<Integer> expected = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(query, Math.max(1, numDocs), Sort.INDEXORDER).scoreDocs) {
+                    expected.add(scoreDoc.doc);
+                }
+
+                final int batchSize = randomIntBetween(1, 50);
+                PitExportDocIdIterator iterator = new PitExportDocIdIterator(searcher, query);
+                int[] docIds = new int[batchSize];
+                List<Integer> actual = new ArrayList<>();
+                int count;
+                while ((count = iterator.next(docIds)) > 0) {
+                    assertTrue(count <= batchSize);
+                    // every batch is full but the last one
+                    assertTrue(count == batchSize || actual.size() + count == expected.size());
+                    for (int i = 0; i < count; i++) {
+                        actual.add(docIds[i]);
+                    }
+                }
+                assertEquals(expected, actual);
+                assertEquals(0, iterator.next(docIds));
+            }
+        }
+    }
+}
@@ -84,6 +84,20 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
         assertEquals(Collections.singletonMap("field", "value"), hitContext.hit().getSourceAsMap());
     }
 
+    public void testFilteringKeepsFieldOrder() throws IOException {
+        XContentBuilder source = XContentFactory.jsonBuilder()
+            .startObject()
+            .field("field3", "value3")
+            .startObject("obj")
+            .field("field2", "value2")
+            .field("field1", "value1")
+            .endObject()
+            .field("field1", "value1")
+            .endObject();
+        HitContext hitContext = hitExecute(source, true, null, "obj.field1");
+        assertEquals("{\"field3\":\"value3\",\"obj\":{\"field2\":\"value2\"},\"field1\":\"value1\"}", hitContext.hit().getSourceAsString());
+    }
+
     public void testNestedSource() throws IOException {
         Map<String, Object> expectedNested = Collections.singletonMap("nested2", Collections.singletonMap("field", "value0"));
         XContentBuilder source = XContentFactory.jsonBuilder()
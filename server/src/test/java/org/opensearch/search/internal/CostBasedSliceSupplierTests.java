@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CostBasedSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testInvalidSliceCount() throws Exception {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostBasedSliceSupplier.getSlices(new ArrayList<>(), null, randomIntBetween(-3, 0), true, 100)
+        );
+    }
+
+    public void testEmptyLeaves() throws Exception {
+        CostBasedSliceSupplier.Plan plan = CostBasedSliceSupplier.getSlices(new ArrayList<>(), null, 4, true, 100);
+        assertEquals(0, plan.slices().length);
+        assertEquals(0, plan.estimatedCosts().length);
+    }
+
+    public void testLargeSegmentIsSplitOnCost() throws Exception {
+        try (Directory directory = newDirectory(); IndexWriter iw = newIndexWriter(directory)) {
+            addDocs(iw, "big", 1000);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Weight weight = weight(searcher, new MatchAllDocsQuery());
+                CostBasedSliceSupplier.Plan plan = CostBasedSliceSupplier.getSlices(reader.leaves(), weight, 4, true, 100);
+                assertEquals(4, plan.slices().length);
+                for (int i = 0; i < 4; i++) {
+                    assertEquals(1, plan.slices()[i].partitions.length);
+                    assertEquals(250, plan.slices()[i].getMaxDocs());
+                    assertEquals(250, plan.estimatedCosts()[i]);
+                }
+
+                // segments are never split without intra-segment search
+                plan = CostBasedSliceSupplier.getSlices(reader.leaves(), weight, 4, false, 100);
+                assertEquals(1, plan.slices().length);
+                assertEquals(1000, plan.estimatedCosts()[0]);
+            }
+        }
+    }
+
+    public void testSlicesAreBalancedOnCostRatherThanDocCount() throws Exception {
+        try (Directory directory = newDirectory(); IndexWriter iw = newIndexWriter(directory)) {
+            addDocs(iw, "big", 1000);
+            addDocs(iw, "small", 100);
+            addDocs(iw, "small", 100);
+            addDocs(iw, "small", 100);
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                List<LeafReaderContext> leaves = reader.leaves();
+                assertEquals(4, leaves.size());
+                IndexSearcher searcher = new IndexSearcher(reader);
+                Weight weight = weight(searcher, new TermQuery(new Term("field", "small")));
+                assertEquals(0, CostBasedSliceSupplier.estimateCost(weight, leaves.get(0)));
+                assertEquals(100, CostBasedSliceSupplier.estimateCost(weight, leaves.get(1)));
+
+                // the large segment does not match, so it is neither split nor considered when balancing slices
+                CostBasedSliceSupplier.Plan plan = CostBasedSliceSupplier.getSlices(leaves, weight, 2, true, 100);
+                assertEquals(2, plan.slices().length);
+                assertEquals(300, plan.estimatedCosts()[0] + plan.estimatedCosts()[1]);
+                assertEquals(100, Math.abs(plan.estimatedCosts()[0] - plan.estimatedCosts()[1]));
+                Set<Integer> segments = new HashSet<>();
+                int partitionCount = 0;
+                for (IndexSearcher.LeafSlice slice : plan.slices()) {
+                    for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                        segments.add(partition.ctx.ord);
+                        partitionCount++;
+                    }
+                }
+                assertEquals(4, segments.size());
+                assertEquals(4, partitionCount);
+
+                // balancing on doc count splits the large segment instead
+                IndexSearcher.LeafSlice[] slices = MaxTargetSliceSupplier.getSlicesWithAutoPartitioning(leaves, 2, 100);
+                int docCountPartitions = 0;
+                for (IndexSearcher.LeafSlice slice : slices) {
+                    docCountPartitions += slice.partitions.length;
+                }
+                assertEquals(5, docCountPartitions);
+            }
+        }
+    }
+
+    private static IndexWriter newIndexWriter(Directory directory) throws IOException {
+        return new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE));
+    }
+
+    private static void addDocs(IndexWriter iw, String value, int count) throws IOException {
+        for (int i = 0; i < count; ++i) {
+            Document document = new Document();
+            document.add(new StringField("field", value, Field.Store.NO));
+            iw.addDocument(document);
+        }
+        iw.commit();
+    }
+
+    private static Weight weight(IndexSearcher searcher, Query query) throws IOException {
+        searcher.setQueryCache(null);
+        return searcher.createWeight(searcher.rewrite(query), ScoreMode.COMPLETE_NO_SCORES, 1);
+    }
+}
@@ -61,7 +61,14 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        int sliceCount = randomBoolean() ? 0 : randomIntBetween(1, 5);
+        List<SliceResult> sliceResults = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            sliceResults.add(
+                new SliceResult(randomIntBetween(1, 10), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+            );
+        }
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector, sliceResults);
     }
 
     public void testFromXContent() throws IOException {
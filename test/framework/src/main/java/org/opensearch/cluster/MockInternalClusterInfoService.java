@@ -155,7 +155,12 @@ public class MockInternalClusterInfoService extends InternalClusterInfoService {
                 nodeStats.getRemoteStoreNodeStats(),
                 nodeStats.getNativeAllocatorStats(),
                 nodeStats.getAnalyticsBackendNativeMemoryStats(),
-                nodeStats.getTotalEstimatedNativeBytes()
+                nodeStats.getTotalEstimatedNativeBytes(),
+                nodeStats.getTranslogSyncCoordinatorStats(),
+                nodeStats.getMergeCoordinatorStats(),
+                nodeStats.getRefreshSchedulerStats(),
+                nodeStats.getIndexingBufferStats(),
+                nodeStats.getResolvedExpressionCacheStats()
             );
         }).collect(Collectors.toList());
     }
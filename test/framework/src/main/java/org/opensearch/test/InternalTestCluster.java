@@ -2710,6 +2710,11 @@ public final class InternalTestCluster extends TestCluster {
                     false,
                     false,
                     false,
+                    false,
+                    false,
+                    false,
+                    false,
+                    false,
                     false
                 );
                 assertThat(